@@ -0,0 +1,156 @@
+package com.flow.pms.config;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DB 연결 획득 벌크헤드
+ * 가상 스레드는 사실상 무제한으로 생기므로, 풀 크기만큼의 허가(permit)를 가진 쪽만 커넥션 풀에 접근
+ * 나머지는 공정 세마포어에서 도착 순서대로 대기하고, 대기자가 maxWaiting을 넘으면 즉시 거절
+ * 허가는 커넥션을 close할 때 반환
+ * 메트릭(db.bulkhead.*)은 MetricsConfig에서 등록 (허가 대기 시간은 Hikari 풀 대기 이전 구간)
+ */
+public class BulkheadDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final int maxWaiting;
+    private final long acquireTimeoutMs;
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private volatile Timer waitTimer;
+
+    public BulkheadDataSource(DataSource target, int maxConcurrent, int maxWaiting, long acquireTimeoutMs) {
+        super(target);
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.maxConcurrent = maxConcurrent;
+        this.maxWaiting = maxWaiting;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        return guarded(obtainTargetDataSource()::getConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        return guarded(() -> obtainTargetDataSource().getConnection(username, password));
+    }
+
+    public int getMaxConcurrent() {
+        return maxConcurrent;
+    }
+
+    public int getInUse() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    public int getWaiting() {
+        return waiting.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    public long getTimedOutCount() {
+        return timedOut.sum();
+    }
+
+    /**
+     * 벌크헤드 상태 메트릭 등록 (등록 이후의 허가 대기부터 db.bulkhead.wait에 기록)
+     */
+    public void registerMetrics(MeterRegistry registry) {
+        Gauge.builder("db.bulkhead.in.use", this, BulkheadDataSource::getInUse)
+                .description("커넥션 획득 허가를 가진 요청 수")
+                .register(registry);
+        Gauge.builder("db.bulkhead.waiting", this, BulkheadDataSource::getWaiting)
+                .description("허가를 기다리는 요청 수")
+                .register(registry);
+        FunctionCounter.builder("db.bulkhead.rejected", this, BulkheadDataSource::getRejectedCount)
+                .tag("reason", "queue-full")
+                .register(registry);
+        FunctionCounter.builder("db.bulkhead.rejected", this, BulkheadDataSource::getTimedOutCount)
+                .tag("reason", "timeout")
+                .register(registry);
+        this.waitTimer = Timer.builder("db.bulkhead.wait")
+                .description("커넥션 획득 허가 대기 시간")
+                .register(registry);
+    }
+
+    private void acquire() throws SQLException {
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            rejected.increment();
+            throw new SQLTransientConnectionException("DB 연결 대기열이 가득 찼습니다. (대기 " + maxWaiting + "건)");
+        }
+        long startedAt = System.nanoTime();
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                timedOut.increment();
+                throw new SQLTransientConnectionException("DB 연결 대기 시간이 초과되었습니다. (" + acquireTimeoutMs + "ms)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("DB 연결 대기 중 중단되었습니다.", e);
+        } finally {
+            waiting.decrementAndGet();
+            Timer timer = waitTimer;
+            if (timer != null) {
+                timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    // 커넥션 획득 실패 시 허가를 바로 반환하고, 성공 시 close에서 한 번만 반환하도록 감쌈
+    private Connection guarded(ConnectionSupplier supplier) throws SQLException {
+        Connection connection;
+        try {
+            connection = supplier.get();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(),
+                new Class<?>[] {Connection.class}, (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                        try {
+                            connection.close();
+                        } finally {
+                            permits.release();
+                        }
+                        return null;
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+}
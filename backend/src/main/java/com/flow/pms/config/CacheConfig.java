@@ -0,0 +1,62 @@
+package com.flow.pms.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.Caching;
+import javax.cache.spi.CachingProvider;
+import java.net.URI;
+import java.util.List;
+
+/**
+ * 조회 캐시 설정
+ * 사용자/프로젝트 단건 조회 결과를 Caffeine(W-TinyLFU) 캐시에 보관하고, 변경 이벤트로 키 단위 무효화
+ * 캐시는 기동 시 모두 등록해 두어야 Actuator가 적중/실패 지표(cache.gets)를 바인딩함
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    public static final String USERS = "users";
+    public static final String USERS_BY_USERNAME = "usersByUsername";
+    public static final String USER_LOGINS = "userLogins";
+    public static final String PROJECTS = "projects";
+
+    private static final List<String> CACHE_NAMES = List.of(USERS, USERS_BY_USERNAME, USER_LOGINS, PROJECTS);
+
+    // Hibernate 2차 캐시 영역 설정 (Caffeine이 classpath: 스킴을 직접 읽으므로 실행 JAR 안에서도 찾음)
+    private static final URI L2_CACHE_CONFIG = URI.create("classpath:caffeine-jcache.conf");
+
+    @Bean
+    public CacheManager cacheManager(CachingProperties cachingProperties) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // 등록되지 않은 이름으로 캐시가 생기지 않도록 동적 생성 금지
+        cacheManager.setCacheNames(List.of());
+        for (String name : CACHE_NAMES) {
+            cacheManager.registerCustomCache(name,
+                    Caffeine.from(cachingProperties.getSpec(name)).recordStats().build());
+        }
+        return cacheManager;
+    }
+
+    /**
+     * Hibernate 2차 캐시용 JCache CacheManager 지정
+     * hibernate.javax.cache.uri로 넘기면 Hibernate가 classpath:를 벗기지 못해 설정 파일을 찾지 못하고
+     * (classpath://만 처리) 기동에 실패하므로, Caffeine 프로바이더에서 직접 만든 CacheManager를 넘김
+     */
+    @Bean
+    public HibernatePropertiesCustomizer hibernateSecondLevelCacheCustomizer() {
+        return properties -> {
+            CachingProvider provider = Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+            properties.put(ConfigSettings.CACHE_MANAGER,
+                    provider.getCacheManager(L2_CACHE_CONFIG, CacheConfig.class.getClassLoader()));
+        };
+    }
+}
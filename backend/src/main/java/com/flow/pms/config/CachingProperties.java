@@ -0,0 +1,35 @@
+package com.flow.pms.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 조회 캐시 설정 (app.cache.*)
+ * 캐시 이름별 Caffeine 명세 문자열 (예: maximumSize=10000,expireAfterWrite=10m)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.cache")
+public class CachingProperties {
+
+    private static final String DEFAULT_SPEC = "maximumSize=10000,expireAfterWrite=10m";
+
+    private Map<String, String> specs = new LinkedHashMap<>();
+
+    /**
+     * 캐시별 명세 (미설정 시 기본값)
+     */
+    public String getSpec(String cacheName) {
+        return specs.getOrDefault(cacheName, DEFAULT_SPEC);
+    }
+
+    public Map<String, String> getSpecs() {
+        return specs;
+    }
+
+    public void setSpecs(Map<String, String> specs) {
+        this.specs = specs;
+    }
+}
@@ -0,0 +1,108 @@
+package com.flow.pms.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 채팅 설정 (app.chat.*)
+ * 채팅방 메모리 버퍼 크기와 메시지 일괄 저장 설정
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.chat")
+public class ChatProperties {
+
+    private int roomBufferSize = 200;
+    private int maxBufferedRooms = 10000;
+    private long roomIdleExpireMs = 1800000;
+    private int maxContentLength = 2000;
+    private int historyPageSize = 50;
+    private int nodeId = 0;
+    private final Writer writer = new Writer();
+
+    public int getRoomBufferSize() {
+        return roomBufferSize;
+    }
+
+    public void setRoomBufferSize(int roomBufferSize) {
+        this.roomBufferSize = roomBufferSize;
+    }
+
+    public int getMaxBufferedRooms() {
+        return maxBufferedRooms;
+    }
+
+    public void setMaxBufferedRooms(int maxBufferedRooms) {
+        this.maxBufferedRooms = maxBufferedRooms;
+    }
+
+    public long getRoomIdleExpireMs() {
+        return roomIdleExpireMs;
+    }
+
+    public void setRoomIdleExpireMs(long roomIdleExpireMs) {
+        this.roomIdleExpireMs = roomIdleExpireMs;
+    }
+
+    public int getMaxContentLength() {
+        return maxContentLength;
+    }
+
+    public void setMaxContentLength(int maxContentLength) {
+        this.maxContentLength = maxContentLength;
+    }
+
+    public int getHistoryPageSize() {
+        return historyPageSize;
+    }
+
+    public void setHistoryPageSize(int historyPageSize) {
+        this.historyPageSize = historyPageSize;
+    }
+
+    public int getNodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(int nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public Writer getWriter() {
+        return writer;
+    }
+
+    /**
+     * 메시지 일괄 저장 설정
+     * 전송 요청은 대기열에 넣고 바로 반환하며, 저장 스레드가 쌓인 메시지를 한 트랜잭션으로 저장
+     */
+    public static class Writer {
+
+        private int batchSize = 500;
+        private int queueCapacity = 100000;
+        private int maxRetries = 3;
+
+        public int getBatchSize() {
+            return batchSize;
+        }
+
+        public void setBatchSize(int batchSize) {
+            this.batchSize = batchSize;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getMaxRetries() {
+            return maxRetries;
+        }
+
+        public void setMaxRetries(int maxRetries) {
+            this.maxRetries = maxRetries;
+        }
+    }
+}
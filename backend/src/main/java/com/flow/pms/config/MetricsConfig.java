@@ -0,0 +1,81 @@
+package com.flow.pms.config;
+
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.config.MeterFilter;
+import io.micrometer.core.instrument.distribution.DistributionStatisticConfig;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * 애플리케이션 메트릭 설정 (Micrometer, /actuator/prometheus로 수집)
+ * - HTTP 요청: app.perf.http-histogram-uris 경로만 히스토그램/백분위수 기록
+ * - 리포지토리: 실행 시간은 Spring Boot 기본 메트릭, 행 수는 RepositoryRowMetrics
+ * - DB 연결: Hikari 풀 메트릭은 Spring Boot 기본 메트릭, 벌크헤드 사용 시 db.bulkhead.*
+ * 검색 출처별 시간(search.source)과 DTO 변환 건수(dto.mapped)는 각 클래스에서 기록
+ */
+@Configuration
+public class MetricsConfig {
+
+    private static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+
+    @Bean
+    public MeterFilter httpHistogramMeterFilter(PerfProperties perfProperties) {
+        double[] percentiles = perfProperties.getHttpPercentiles().stream().mapToDouble(Double::doubleValue).toArray();
+        return new MeterFilter() {
+            @Override
+            public DistributionStatisticConfig configure(Meter.Id id, DistributionStatisticConfig config) {
+                if (!HTTP_SERVER_REQUESTS.equals(id.getName()) || !perfProperties.isHistogramUri(id.getTag("uri"))) {
+                    return config;
+                }
+                return DistributionStatisticConfig.builder()
+                        .percentilesHistogram(true)
+                        .percentiles(percentiles)
+                        .build()
+                        .merge(config);
+            }
+        };
+    }
+
+    /**
+     * DB 연결 벌크헤드 메트릭 (app.threads.connection-bulkhead.enabled일 때만 DataSource가 벌크헤드)
+     * SQL 실행 감시 프록시에 감싸여 있을 수 있으므로 unwrap으로 찾음
+     */
+    @Bean
+    public MeterBinder connectionBulkheadMetrics(ObjectProvider<DataSource> dataSources) {
+        return registry -> dataSources.orderedStream().forEach(dataSource -> {
+            try {
+                if (dataSource.isWrapperFor(BulkheadDataSource.class)) {
+                    dataSource.unwrap(BulkheadDataSource.class).registerMetrics(registry);
+                }
+            } catch (SQLException e) {
+                throw new IllegalStateException("DB 연결 벌크헤드 메트릭 등록 실패", e);
+            }
+        });
+    }
+
+    /**
+     * 모든 리포지토리 프록시에 행 수 기록 인터셉터 추가 (리포지토리 생성 전에 팩토리에 등록)
+     */
+    @Bean
+    public static BeanPostProcessor repositoryRowMetricsPostProcessor(ObjectProvider<MeterRegistry> registry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, information) ->
+                                    proxyFactory.addAdvice(new RepositoryRowMetrics(registry, information))));
+                }
+                return bean;
+            }
+        };
+    }
+}
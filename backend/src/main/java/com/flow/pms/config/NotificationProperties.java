@@ -0,0 +1,118 @@
+package com.flow.pms.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 알림 설정 (app.notification.*)
+ * 알림 묶음 기간, 읽지 않은 알림 수 캐시, 알림함 페이지와 일괄 저장 설정
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.notification")
+public class NotificationProperties {
+
+    private long digestWindowMs = 600000;
+    private int unreadCacheSize = 100000;
+    private long unreadCacheExpireMs = 300000;
+    private int pageSize = 20;
+    private int maxPageSize = 100;
+    private final Writer writer = new Writer();
+
+    public long getDigestWindowMs() {
+        return digestWindowMs;
+    }
+
+    public void setDigestWindowMs(long digestWindowMs) {
+        this.digestWindowMs = digestWindowMs;
+    }
+
+    public int getUnreadCacheSize() {
+        return unreadCacheSize;
+    }
+
+    public void setUnreadCacheSize(int unreadCacheSize) {
+        this.unreadCacheSize = unreadCacheSize;
+    }
+
+    public long getUnreadCacheExpireMs() {
+        return unreadCacheExpireMs;
+    }
+
+    public void setUnreadCacheExpireMs(long unreadCacheExpireMs) {
+        this.unreadCacheExpireMs = unreadCacheExpireMs;
+    }
+
+    public int getPageSize() {
+        return pageSize;
+    }
+
+    public void setPageSize(int pageSize) {
+        this.pageSize = pageSize;
+    }
+
+    public int getMaxPageSize() {
+        return maxPageSize;
+    }
+
+    public void setMaxPageSize(int maxPageSize) {
+        this.maxPageSize = maxPageSize;
+    }
+
+    public Writer getWriter() {
+        return writer;
+    }
+
+    /**
+     * 알림 일괄 저장 설정
+     * 변경 요청 스레드는 대기열에 넣고 바로 반환하며, 저장 스레드가 flush 주기마다 모인 이벤트를
+     * 수신자로 펼쳐 한 트랜잭션(JDBC 배치)으로 저장 (group commit)
+     */
+    public static class Writer {
+
+        private long flushIntervalMs = 100;
+        private int maxEventsPerFlush = 1000;
+        private int insertBatchSize = 500;
+        private int queueCapacity = 10000;
+        private int maxRetries = 3;
+
+        public long getFlushIntervalMs() {
+            return flushIntervalMs;
+        }
+
+        public void setFlushIntervalMs(long flushIntervalMs) {
+            this.flushIntervalMs = flushIntervalMs;
+        }
+
+        public int getMaxEventsPerFlush() {
+            return maxEventsPerFlush;
+        }
+
+        public void setMaxEventsPerFlush(int maxEventsPerFlush) {
+            this.maxEventsPerFlush = maxEventsPerFlush;
+        }
+
+        public int getInsertBatchSize() {
+            return insertBatchSize;
+        }
+
+        public void setInsertBatchSize(int insertBatchSize) {
+            this.insertBatchSize = insertBatchSize;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public int getMaxRetries() {
+            return maxRetries;
+        }
+
+        public void setMaxRetries(int maxRetries) {
+            this.maxRetries = maxRetries;
+        }
+    }
+}
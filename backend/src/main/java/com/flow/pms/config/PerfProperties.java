@@ -0,0 +1,62 @@
+package com.flow.pms.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 성능 메트릭 설정 (app.perf.*)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.perf")
+public class PerfProperties {
+
+    private List<String> httpHistogramUris = new ArrayList<>(List.of("/api/projects", "/api/search"));
+    private List<Double> httpPercentiles = new ArrayList<>(List.of(0.5, 0.95, 0.99));
+    private int topRepositoryMethods = 20;
+
+    /**
+     * 지연 시간 히스토그램/백분위수를 기록하는 API 경로 접두사
+     * 그 밖의 경로는 횟수/합계/최대값만 기록 (경로마다 버킷 수십 개가 늘어나므로 필요한 곳만 지정)
+     */
+    public List<String> getHttpHistogramUris() {
+        return httpHistogramUris;
+    }
+
+    public void setHttpHistogramUris(List<String> httpHistogramUris) {
+        this.httpHistogramUris = httpHistogramUris;
+    }
+
+    public List<Double> getHttpPercentiles() {
+        return httpPercentiles;
+    }
+
+    public void setHttpPercentiles(List<Double> httpPercentiles) {
+        this.httpPercentiles = httpPercentiles;
+    }
+
+    /**
+     * /api/admin/perf 요약에 표시할 리포지토리 메서드 수 (누적 실행 시간순)
+     */
+    public int getTopRepositoryMethods() {
+        return topRepositoryMethods;
+    }
+
+    public void setTopRepositoryMethods(int topRepositoryMethods) {
+        this.topRepositoryMethods = topRepositoryMethods;
+    }
+
+    public boolean isHistogramUri(String uri) {
+        if (uri == null) {
+            return false;
+        }
+        for (String prefix : httpHistogramUris) {
+            if (uri.equals(prefix) || uri.startsWith(prefix + "/")) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
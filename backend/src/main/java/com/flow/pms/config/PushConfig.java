@@ -0,0 +1,28 @@
+package com.flow.pms.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 실시간 푸시 관련 빈 설정
+ * SSE 전송 전용 스레드 풀 (연결 수와 관계없이 고정 크기)
+ */
+@Configuration
+public class PushConfig {
+
+    public static final String PUSH_SENDER = "pushSender";
+
+    @Bean(name = PUSH_SENDER)
+    public ThreadPoolTaskExecutor pushSender(PushProperties pushProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pushProperties.getSenderThreads());
+        executor.setMaxPoolSize(pushProperties.getSenderThreads());
+        // 연결마다 대기 작업은 최대 하나이므로 최대 연결 수면 충분
+        executor.setQueueCapacity(pushProperties.getMaxConnections());
+        executor.setThreadNamePrefix("push-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,92 @@
+package com.flow.pms.config;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.repository.core.RepositoryInformation;
+
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 리포지토리 메서드별 행 수 메트릭 (repository.rows)
+ * 실행 시간은 Spring Boot가 spring.data.repository.invocations로 기록하고, 여기서는 같은 태그(repository, method)로
+ * 조회한 행 수(목록/Page/Slice/Optional/엔티티)와 @Modifying 쿼리가 변경한 행 수를 기록
+ * count/exists 등 행이 아닌 값을 반환하는 메서드와 Stream 반환은 기록하지 않음
+ */
+class RepositoryRowMetrics implements MethodInterceptor {
+
+    static final String METRIC_NAME = "repository.rows";
+
+    private final ObjectProvider<MeterRegistry> registry;
+    private final String repository;
+    private final Class<?> domainType;
+    private final Map<Method, Optional<DistributionSummary>> summaries = new ConcurrentHashMap<>();
+
+    RepositoryRowMetrics(ObjectProvider<MeterRegistry> registry, RepositoryInformation information) {
+        this.registry = registry;
+        this.repository = information.getRepositoryInterface().getSimpleName();
+        this.domainType = information.getDomainType();
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+        summaries.computeIfAbsent(invocation.getMethod(), this::summaryOf)
+                .ifPresent(summary -> summary.record(rowsOf(result)));
+        return result;
+    }
+
+    // 행 수를 기록하지 않는 메서드는 빈 Optional (메서드마다 한 번만 판별)
+    private Optional<DistributionSummary> summaryOf(Method method) {
+        MeterRegistry meterRegistry = registry.getIfAvailable();
+        if (meterRegistry == null || !returnsRows(method)) {
+            return Optional.empty();
+        }
+        return Optional.of(DistributionSummary.builder(METRIC_NAME)
+                .description("리포지토리 메서드가 조회/변경한 행 수")
+                .baseUnit("rows")
+                .tag("repository", repository)
+                .tag("method", method.getName())
+                .register(meterRegistry));
+    }
+
+    private boolean returnsRows(Method method) {
+        Class<?> type = method.getReturnType();
+        if (Iterable.class.isAssignableFrom(type) || Optional.class.equals(type) || domainType.isAssignableFrom(type)) {
+            return true;
+        }
+        return method.isAnnotationPresent(Modifying.class)
+                && (type == int.class || type == Integer.class || type == long.class || type == Long.class);
+    }
+
+    private static long rowsOf(Object result) {
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Number number) {
+            return number.longValue();
+        }
+        if (result instanceof Iterable<?> iterable) {
+            long count = 0;
+            for (Object ignored : iterable) {
+                count++;
+            }
+            return count;
+        }
+        return result != null ? 1 : 0;
+    }
+}
@@ -0,0 +1,43 @@
+package com.flow.pms.config;
+
+import com.flow.pms.service.sql.SqlRequestContext;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * 검색 관련 빈 설정
+ * 통합 검색 출처별 병렬 실행용 스레드 풀 (가상 스레드 모드에서는 동시 실행 수만 제한한 가상 스레드)
+ */
+@Configuration
+public class SearchConfig {
+
+    public static final String SEARCH_EXECUTOR = "searchExecutor";
+
+    @Bean(name = SEARCH_EXECUTOR)
+    public AsyncTaskExecutor searchExecutor(SearchProperties searchProperties, Environment environment) {
+        SearchProperties.FanOut fanOut = searchProperties.getFanOut();
+        if (Threading.VIRTUAL.isActive(environment)) {
+            // 플랫폼 스레드 풀 크기 대신 실행 중 + 대기 가능 수(pool-size + queue-capacity)를 동시 실행 한도로 사용
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("search-");
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(fanOut.getPoolSize() + fanOut.getQueueCapacity());
+            executor.setTaskDecorator(SqlRequestContext::wrap);
+            return executor;
+        }
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(fanOut.getPoolSize());
+        executor.setMaxPoolSize(fanOut.getPoolSize());
+        executor.setQueueCapacity(fanOut.getQueueCapacity());
+        executor.setThreadNamePrefix("search-");
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        // 출처별 검색의 SQL도 요청의 SQL 수/N+1 집계에 포함
+        executor.setTaskDecorator(SqlRequestContext::wrap);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,451 @@
+package com.flow.pms.config;
+
+import com.flow.pms.service.search.SearchSource;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 검색 설정 (app.search.*)
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.search")
+public class SearchProperties {
+
+    private Backend backend = Backend.MEMORY;
+    private final FanOut fanOut = new FanOut();
+    private final Ranking ranking = new Ranking();
+    private final FullText fullText = new FullText();
+    private final Analytics analytics = new Analytics();
+    private final Suggest suggest = new Suggest();
+    private final ResultCache resultCache = new ResultCache();
+
+    public Backend getBackend() {
+        return backend;
+    }
+
+    public void setBackend(Backend backend) {
+        this.backend = backend;
+    }
+
+    public FanOut getFanOut() {
+        return fanOut;
+    }
+
+    public Ranking getRanking() {
+        return ranking;
+    }
+
+    public FullText getFullText() {
+        return fullText;
+    }
+
+    public Analytics getAnalytics() {
+        return analytics;
+    }
+
+    public Suggest getSuggest() {
+        return suggest;
+    }
+
+    public ResultCache getResultCache() {
+        return resultCache;
+    }
+
+    /**
+     * 프로젝트/사용자 검색 구현
+     */
+    public enum Backend {
+        MEMORY,    // 인메모리 역색인 (SearchIndexService)
+        FULLTEXT   // MySQL FULLTEXT ngram 인덱스 (FullTextSearchService)
+    }
+
+    /**
+     * MySQL FULLTEXT 검색 설정 (backend=fulltext)
+     */
+    public static class FullText {
+
+        private int candidateLimit = 1000;
+        private int minTokenLength = 2;
+        private boolean verifyIndexes = true;
+
+        /**
+         * FULLTEXT 조회 한 번에 가져오는 최대 후보 수 (후보 안에서 부분 문자열 검증 후 정렬/점수 계산)
+         */
+        public int getCandidateLimit() {
+            return candidateLimit;
+        }
+
+        public void setCandidateLimit(int candidateLimit) {
+            this.candidateLimit = candidateLimit;
+        }
+
+        /**
+         * 서버의 ngram_token_size와 같게 설정 (이보다 짧은 단어가 있으면 LIKE 검색으로 대체)
+         */
+        public int getMinTokenLength() {
+            return minTokenLength;
+        }
+
+        public void setMinTokenLength(int minTokenLength) {
+            this.minTokenLength = minTokenLength;
+        }
+
+        /**
+         * 기동 시 FULLTEXT 인덱스 존재 확인 (없으면 기동 실패)
+         */
+        public boolean isVerifyIndexes() {
+            return verifyIndexes;
+        }
+
+        public void setVerifyIndexes(boolean verifyIndexes) {
+            this.verifyIndexes = verifyIndexes;
+        }
+    }
+
+    /**
+     * 검색 결과 캐시 설정
+     */
+    public static class ResultCache {
+
+        private boolean enabled = true;
+        private long maximumWeight = 200000;
+        private long ttlMs = 60000;
+        private long negativeTtlMs = 30000;
+
+        /**
+         * 검색 결과 캐시 사용 여부
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * 캐시에 보관할 최대 결과 항목 수 (항목당 가중치 = 결과 건수 + 1)
+         */
+        public long getMaximumWeight() {
+            return maximumWeight;
+        }
+
+        public void setMaximumWeight(long maximumWeight) {
+            this.maximumWeight = maximumWeight;
+        }
+
+        /**
+         * 결과가 있는 검색의 보관 시간 (변경은 세대 번호로 즉시 반영되므로 최신성 점수 오차의 상한)
+         */
+        public long getTtlMs() {
+            return ttlMs;
+        }
+
+        public void setTtlMs(long ttlMs) {
+            this.ttlMs = ttlMs;
+        }
+
+        /**
+         * 결과 없는 검색의 보관 시간
+         */
+        public long getNegativeTtlMs() {
+            return negativeTtlMs;
+        }
+
+        public void setNegativeTtlMs(long negativeTtlMs) {
+            this.negativeTtlMs = negativeTtlMs;
+        }
+    }
+
+    /**
+     * 검색어 집계 설정 (인기 검색어, 검색 통계)
+     */
+    public static class Analytics {
+
+        private int bufferCapacity = 16384;
+        private long flushIntervalMs = 300000;
+        private int sketchWidth = 1024;
+        private int sketchDepth = 4;
+        private int heavyHitters = 64;
+        private int popularSize = 10;
+        private int maxQueryLength = 50;
+
+        /**
+         * 집계 전 검색 기록 링 버퍼 크기 (가득 차면 기록을 버림)
+         */
+        public int getBufferCapacity() {
+            return bufferCapacity;
+        }
+
+        public void setBufferCapacity(int bufferCapacity) {
+            this.bufferCapacity = bufferCapacity;
+        }
+
+        /**
+         * 시간대별 인기 검색어 저장 주기
+         */
+        public long getFlushIntervalMs() {
+            return flushIntervalMs;
+        }
+
+        public void setFlushIntervalMs(long flushIntervalMs) {
+            this.flushIntervalMs = flushIntervalMs;
+        }
+
+        /**
+         * Count-Min Sketch 행당 카운터 수 (추정 오차는 전체 검색 수의 약 e/width)
+         */
+        public int getSketchWidth() {
+            return sketchWidth;
+        }
+
+        public void setSketchWidth(int sketchWidth) {
+            this.sketchWidth = sketchWidth;
+        }
+
+        public int getSketchDepth() {
+            return sketchDepth;
+        }
+
+        public void setSketchDepth(int sketchDepth) {
+            this.sketchDepth = sketchDepth;
+        }
+
+        /**
+         * 시간 버킷마다 추적하는 상위 검색어 후보 수 (Space-Saving 카운터 수)
+         */
+        public int getHeavyHitters() {
+            return heavyHitters;
+        }
+
+        public void setHeavyHitters(int heavyHitters) {
+            this.heavyHitters = heavyHitters;
+        }
+
+        /**
+         * 인기 검색어 기본 개수
+         */
+        public int getPopularSize() {
+            return popularSize;
+        }
+
+        public void setPopularSize(int popularSize) {
+            this.popularSize = popularSize;
+        }
+
+        /**
+         * 집계할 검색어 최대 길이 (정규화 후, 더 길면 건수만 집계)
+         */
+        public int getMaxQueryLength() {
+            return maxQueryLength;
+        }
+
+        public void setMaxQueryLength(int maxQueryLength) {
+            this.maxQueryLength = maxQueryLength;
+        }
+    }
+
+    /**
+     * 검색어 자동완성 설정 (실제 검색어를 후보로 올리는 기준)
+     */
+    public static class Suggest {
+
+        private long minQueryCount = 3;
+        private int maxTermLength = 30;
+
+        /**
+         * 자동완성 후보로 올릴 최소 검색 횟수 (최근 7일 집계 추정값, 결과가 있었던 검색만)
+         */
+        public long getMinQueryCount() {
+            return minQueryCount;
+        }
+
+        public void setMinQueryCount(long minQueryCount) {
+            this.minQueryCount = minQueryCount;
+        }
+
+        /**
+         * 자동완성 후보로 올릴 검색어 최대 길이 (정규화 후)
+         */
+        public int getMaxTermLength() {
+            return maxTermLength;
+        }
+
+        public void setMaxTermLength(int maxTermLength) {
+            this.maxTermLength = maxTermLength;
+        }
+    }
+
+    /**
+     * 통합 검색 병렬 실행 설정
+     */
+    public static class FanOut {
+
+        private static final long DEFAULT_TIMEOUT_MS = 300;
+
+        private int poolSize = 16;
+        private int queueCapacity = 500;
+        private Map<SearchSource, Long> timeoutsMs = new EnumMap<>(SearchSource.class);
+
+        /**
+         * 출처별 제한 시간 (미설정 시 기본값)
+         */
+        public long getTimeoutMs(SearchSource source) {
+            return timeoutsMs.getOrDefault(source, DEFAULT_TIMEOUT_MS);
+        }
+
+        public int getPoolSize() {
+            return poolSize;
+        }
+
+        public void setPoolSize(int poolSize) {
+            this.poolSize = poolSize;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        public Map<SearchSource, Long> getTimeoutsMs() {
+            return timeoutsMs;
+        }
+
+        public void setTimeoutsMs(Map<SearchSource, Long> timeoutsMs) {
+            this.timeoutsMs = timeoutsMs;
+        }
+    }
+
+    /**
+     * 통합 검색 관련도 점수 설정 (BM25F + 최신성/소유자 가중치)
+     */
+    public static class Ranking {
+
+        private double k1 = 1.2;
+        private double b = 0.75;
+        private final FieldBoosts fieldBoosts = new FieldBoosts();
+        private double recencyWeight = 0.5;
+        private double recencyHalfLifeDays = 30;
+        private double ownerBoost = 1.5;
+        private int defaultPageSize = 20;
+        private int maxPageSize = 100;
+
+        public double getK1() {
+            return k1;
+        }
+
+        public void setK1(double k1) {
+            this.k1 = k1;
+        }
+
+        public double getB() {
+            return b;
+        }
+
+        public void setB(double b) {
+            this.b = b;
+        }
+
+        public FieldBoosts getFieldBoosts() {
+            return fieldBoosts;
+        }
+
+        public double getRecencyWeight() {
+            return recencyWeight;
+        }
+
+        public void setRecencyWeight(double recencyWeight) {
+            this.recencyWeight = recencyWeight;
+        }
+
+        public double getRecencyHalfLifeDays() {
+            return recencyHalfLifeDays;
+        }
+
+        public void setRecencyHalfLifeDays(double recencyHalfLifeDays) {
+            this.recencyHalfLifeDays = recencyHalfLifeDays;
+        }
+
+        public double getOwnerBoost() {
+            return ownerBoost;
+        }
+
+        public void setOwnerBoost(double ownerBoost) {
+            this.ownerBoost = ownerBoost;
+        }
+
+        public int getDefaultPageSize() {
+            return defaultPageSize;
+        }
+
+        public void setDefaultPageSize(int defaultPageSize) {
+            this.defaultPageSize = defaultPageSize;
+        }
+
+        public int getMaxPageSize() {
+            return maxPageSize;
+        }
+
+        public void setMaxPageSize(int maxPageSize) {
+            this.maxPageSize = maxPageSize;
+        }
+    }
+
+    /**
+     * 필드별 가중치 (제목 > 설명, 사용자명 > 이메일)
+     */
+    public static class FieldBoosts {
+
+        private double title = 3.0;
+        private double description = 1.0;
+        private double username = 2.0;
+        private double displayName = 2.0;
+        private double email = 0.5;
+
+        public double getTitle() {
+            return title;
+        }
+
+        public void setTitle(double title) {
+            this.title = title;
+        }
+
+        public double getDescription() {
+            return description;
+        }
+
+        public void setDescription(double description) {
+            this.description = description;
+        }
+
+        public double getUsername() {
+            return username;
+        }
+
+        public void setUsername(double username) {
+            this.username = username;
+        }
+
+        public double getDisplayName() {
+            return displayName;
+        }
+
+        public void setDisplayName(double displayName) {
+            this.displayName = displayName;
+        }
+
+        public double getEmail() {
+            return email;
+        }
+
+        public void setEmail(double email) {
+            this.email = email;
+        }
+    }
+}
@@ -27,6 +27,7 @@ public class SecurityConfig {
                 .requestMatchers("/api/public/**").permitAll()
                 .requestMatchers("/api/**").permitAll() // 개발 단계에서는 모든 API 허용
                 .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
+                .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll() // 헬스 체크, 메트릭 수집
                 .anyRequest().authenticated()
             )
             .headers().frameOptions().disable(); // H2 콘솔 사용을 위해
@@ -0,0 +1,107 @@
+package com.flow.pms.config;
+
+import com.flow.pms.service.sql.SqlBudget;
+import com.flow.pms.service.sql.SqlRequestContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * API 요청별 SQL 수 집계 인터셉터
+ * 요청 시작 시 SqlRequestContext를 열고, 끝나면 N+1 반복과 예산(@SqlBudget) 초과를 경고 로그로 남김
+ * 메트릭: sql.statements (요청당 SQL 수), sql.repeated.statements (N+1 의심 요청 수), sql.budget.exceeded
+ */
+class SqlBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlBudgetInterceptor.class);
+
+    private final SqlMonitorProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    SqlBudgetInterceptor(SqlMonitorProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod handlerMethod) {
+            SqlRequestContext.start(request.getMethod() + " " + uriOf(request), budgetOf(handlerMethod));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        report(request, SqlRequestContext.finish());
+    }
+
+    // SSE 등 비동기 요청은 요청 스레드를 반환하는 시점까지 집계
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        report(request, SqlRequestContext.finish());
+    }
+
+    private void report(HttpServletRequest request, SqlRequestContext context) {
+        if (context == null) {
+            return;
+        }
+        int statements = context.getStatementCount();
+        List<Map.Entry<String, Integer>> repeated =
+                context.getRepeatedStatements(properties.getRepeatedStatementThreshold());
+
+        if (!repeated.isEmpty()) {
+            log.warn("N+1 의심 [{}] SQL {}건 중 같은 SQL 반복: {}", context.getEndpoint(), statements,
+                    repeated.stream()
+                            .map(entry -> entry.getValue() + "회 " + entry.getKey())
+                            .collect(Collectors.joining(" / ")));
+        }
+        if (context.isOverBudget()) {
+            log.warn("SQL 예산 초과 [{}] {}건 (예산 {}건, {}ms)", context.getEndpoint(), statements,
+                    context.getBudget(), context.getElapsedMs());
+        } else if (statements > 0 && log.isDebugEnabled()) {
+            log.debug("SQL {}건 {}ms [{}]", statements, context.getElapsedMs(), context.getEndpoint());
+        }
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return;
+        }
+        String method = request.getMethod();
+        String uri = uriOf(request);
+        registry.summary("sql.statements", "method", method, "uri", uri).record(statements);
+        if (!repeated.isEmpty()) {
+            registry.counter("sql.repeated.statements", "method", method, "uri", uri).increment();
+        }
+        if (context.isOverBudget()) {
+            registry.counter("sql.budget.exceeded", "method", method, "uri", uri).increment();
+        }
+    }
+
+    private int budgetOf(HandlerMethod handlerMethod) {
+        SqlBudget budget = handlerMethod.getMethodAnnotation(SqlBudget.class);
+        if (budget == null) {
+            budget = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), SqlBudget.class);
+        }
+        return budget != null ? budget.value() : properties.getDefaultBudget();
+    }
+
+    // 경로 변수가 들어간 실제 경로 대신 매핑 패턴 사용 (메트릭 태그 수 제한)
+    private static String uriOf(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
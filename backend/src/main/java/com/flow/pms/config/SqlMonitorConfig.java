@@ -0,0 +1,68 @@
+package com.flow.pms.config;
+
+import com.flow.pms.service.sql.SqlStatementListener;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+
+/**
+ * SQL 실행 감시 설정 (app.sql-monitor.enabled)
+ * DataSource를 datasource-proxy로 감싸 모든 SQL 실행을 SqlStatementListener에 전달하고,
+ * API 요청마다 SqlBudgetInterceptor가 실행 건수를 모아 N+1/예산 초과를 판단
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.sql-monitor", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SqlMonitorConfig implements WebMvcConfigurer {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlMonitorConfig.class);
+
+    private final SqlMonitorProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    @Autowired
+    public SqlMonitorConfig(SqlMonitorProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SqlBudgetInterceptor(properties, meterRegistry))
+                .addPathPatterns("/api/**");
+    }
+
+    /**
+     * DataSource를 SQL 실행 감시 프록시로 감쌈
+     * 벌크헤드(app.threads.connection-bulkhead)와 함께 쓰면 적용 순서와 관계없이 unwrap으로 Hikari 풀에 접근
+     */
+    @Bean
+    public static BeanPostProcessor sqlMonitorDataSourcePostProcessor(ObjectProvider<SqlMonitorProperties> properties,
+                                                                      ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ProxyDataSource) {
+                    return bean;
+                }
+                SqlMonitorProperties monitor = properties.getObject();
+                log.info("SQL 실행 감시 적용: {} (느린 SQL {}ms, N+1 반복 {}회)",
+                        beanName, monitor.getSlowQueryMs(), monitor.getRepeatedStatementThreshold());
+                return ProxyDataSourceBuilder.create(beanName, dataSource)
+                        .listener(new SqlStatementListener(monitor, meterRegistry))
+                        .build();
+            }
+        };
+    }
+}
@@ -0,0 +1,83 @@
+package com.flow.pms.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * SQL 실행 감시 설정 (app.sql-monitor.*)
+ * 요청별 SQL 수/N+1 반복 감지와 느린 SQL 로그
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.sql-monitor")
+public class SqlMonitorProperties {
+
+    private boolean enabled = true;
+    private long slowQueryMs = 200;
+    private int repeatedStatementThreshold = 5;
+    private int defaultBudget = 0;
+    private boolean failOnBudgetExceeded = false;
+    private int maxBindValueLength = 100;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    /**
+     * 이 시간(ms) 이상 걸린 SQL은 바인딩 값과 함께 경고 로그
+     */
+    public long getSlowQueryMs() {
+        return slowQueryMs;
+    }
+
+    public void setSlowQueryMs(long slowQueryMs) {
+        this.slowQueryMs = slowQueryMs;
+    }
+
+    /**
+     * 요청 하나에서 같은 SQL이 이 횟수 이상 실행되면 N+1로 경고 (0이면 감지하지 않음)
+     */
+    public int getRepeatedStatementThreshold() {
+        return repeatedStatementThreshold;
+    }
+
+    public void setRepeatedStatementThreshold(int repeatedStatementThreshold) {
+        this.repeatedStatementThreshold = repeatedStatementThreshold;
+    }
+
+    /**
+     * @SqlBudget이 없는 API의 요청당 최대 SQL 수 (0이면 제한 없음)
+     */
+    public int getDefaultBudget() {
+        return defaultBudget;
+    }
+
+    public void setDefaultBudget(int defaultBudget) {
+        this.defaultBudget = defaultBudget;
+    }
+
+    /**
+     * 예산을 넘는 SQL 실행을 예외로 막을지 여부 (통합 테스트용, false면 요청 종료 시 경고 로그만)
+     */
+    public boolean isFailOnBudgetExceeded() {
+        return failOnBudgetExceeded;
+    }
+
+    public void setFailOnBudgetExceeded(boolean failOnBudgetExceeded) {
+        this.failOnBudgetExceeded = failOnBudgetExceeded;
+    }
+
+    /**
+     * 로그에 남기는 바인딩 값의 최대 길이 (넘으면 잘라서 표시)
+     */
+    public int getMaxBindValueLength() {
+        return maxBindValueLength;
+    }
+
+    public void setMaxBindValueLength(int maxBindValueLength) {
+        this.maxBindValueLength = maxBindValueLength;
+    }
+}
@@ -0,0 +1,85 @@
+package com.flow.pms.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * 요청/비동기 작업 실행 스레드 설정
+ * spring.threads.virtual.enabled=true (Java 21, virtual-threads 프로필)이면 Tomcat 요청 처리와
+ * @Async 작업이 가상 스레드에서 실행되고, DB 연결 획득은 벌크헤드로 제한
+ */
+@Configuration
+@EnableAsync
+public class ThreadingConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(ThreadingConfig.class);
+
+    /**
+     * @Async 및 MVC 비동기 요청용 실행기
+     * searchExecutor 빈이 있으면 Boot 기본 applicationTaskExecutor가 만들어지지 않으므로 직접 등록
+     * (등록하지 않으면 @Async가 검색 전용 풀로 실행됨)
+     */
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public AsyncTaskExecutor applicationTaskExecutor(Environment environment,
+                                                     SimpleAsyncTaskExecutorBuilder simpleBuilder,
+                                                     ThreadPoolTaskExecutorBuilder poolBuilder) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            log.info("가상 스레드 실행 모드: Tomcat 요청 및 @Async 작업을 가상 스레드에서 실행");
+            return simpleBuilder.threadNamePrefix("async-").build();
+        }
+        return poolBuilder.threadNamePrefix("async-").build();
+    }
+
+    /**
+     * DataSource를 연결 획득 벌크헤드로 감쌈 (app.threads.connection-bulkhead.enabled)
+     * 동시 획득 수는 Hikari 최대 풀 크기와 같게 맞춤
+     */
+    @Bean
+    @ConditionalOnProperty(prefix = "app.threads.connection-bulkhead", name = "enabled", havingValue = "true")
+    public static BeanPostProcessor connectionBulkheadPostProcessor(ObjectProvider<ThreadingProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof BulkheadDataSource) {
+                    return bean;
+                }
+                ThreadingProperties.ConnectionBulkhead bulkhead = properties.getObject().getConnectionBulkhead();
+                int maxConcurrent = maximumPoolSize(dataSource);
+                log.info("DB 연결 벌크헤드 적용: {} (동시 {}개, 대기 최대 {}건)",
+                        beanName, maxConcurrent, bulkhead.getMaxWaiting());
+                return new BulkheadDataSource(dataSource, maxConcurrent,
+                        bulkhead.getMaxWaiting(), bulkhead.getAcquireTimeoutMs());
+            }
+        };
+    }
+
+    // SQL 실행 감시 프록시 등에 먼저 감싸였어도 Hikari 풀 크기를 찾음 (없으면 Hikari 기본값)
+    private static int maximumPoolSize(DataSource dataSource) {
+        try {
+            if (dataSource.isWrapperFor(HikariDataSource.class)) {
+                return dataSource.unwrap(HikariDataSource.class).getMaximumPoolSize();
+            }
+        } catch (SQLException e) {
+            log.debug("DataSource unwrap 실패: {}", e.getMessage());
+        }
+        return 10;
+    }
+}
@@ -0,0 +1,84 @@
+package com.flow.pms.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 스레드 실행 모드 설정 (app.threads.*)
+ * 가상 스레드 모드(spring.threads.virtual.enabled)와 함께 쓰는 DB 연결 벌크헤드, 고정(pinning) 진단
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.threads")
+public class ThreadingProperties {
+
+    private final ConnectionBulkhead connectionBulkhead = new ConnectionBulkhead();
+    private final PinningMonitor pinningMonitor = new PinningMonitor();
+
+    public ConnectionBulkhead getConnectionBulkhead() {
+        return connectionBulkhead;
+    }
+
+    public PinningMonitor getPinningMonitor() {
+        return pinningMonitor;
+    }
+
+    /**
+     * DB 연결 획득 벌크헤드
+     * 동시 획득은 커넥션 풀 크기로, 대기는 maxWaiting으로 제한해 풀 앞에 요청이 몰리지 않게 함
+     */
+    public static class ConnectionBulkhead {
+
+        private boolean enabled = false;
+        private int maxWaiting = 200;
+        private long acquireTimeoutMs = 20000;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getMaxWaiting() {
+            return maxWaiting;
+        }
+
+        public void setMaxWaiting(int maxWaiting) {
+            this.maxWaiting = maxWaiting;
+        }
+
+        public long getAcquireTimeoutMs() {
+            return acquireTimeoutMs;
+        }
+
+        public void setAcquireTimeoutMs(long acquireTimeoutMs) {
+            this.acquireTimeoutMs = acquireTimeoutMs;
+        }
+    }
+
+    /**
+     * 가상 스레드 고정 진단 (JFR jdk.VirtualThreadPinned 이벤트)
+     */
+    public static class PinningMonitor {
+
+        private boolean enabled = false;
+        private long thresholdMs = 20;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public long getThresholdMs() {
+            return thresholdMs;
+        }
+
+        public void setThresholdMs(long thresholdMs) {
+            this.thresholdMs = thresholdMs;
+        }
+    }
+}
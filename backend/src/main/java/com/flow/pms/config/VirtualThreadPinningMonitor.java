@@ -0,0 +1,118 @@
+package com.flow.pms.config;
+
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 가상 스레드 고정(pinning) 진단
+ * JFR jdk.VirtualThreadPinned 이벤트를 구독해 synchronized 블록 안에서 대기한 위치를 집계
+ * 위치별 첫 발생만 WARN으로 스택을 남기고, 이후는 건수만 누적 (Java 21 미만에서는 이벤트가 없어 집계 0)
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.threads.pinning-monitor", name = "enabled", havingValue = "true")
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final int LOGGED_FRAMES = 8;
+
+    private final ThreadingProperties.PinningMonitor settings;
+    private final Map<String, AtomicLong> pinnedBySite = new ConcurrentHashMap<>();
+
+    private volatile RecordingStream stream;
+
+    @Autowired
+    public VirtualThreadPinningMonitor(ThreadingProperties threadingProperties) {
+        this.settings = threadingProperties.getPinningMonitor();
+    }
+
+    @Override
+    public void start() {
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT)
+                .withThreshold(Duration.ofMillis(settings.getThresholdMs()))
+                .withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::record);
+        recording.startAsync();
+        stream = recording;
+        log.info("가상 스레드 고정 진단 시작 (임계값 {}ms)", settings.getThresholdMs());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream recording = stream;
+        stream = null;
+        if (recording != null) {
+            recording.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    /**
+     * 고정 발생 위치(애플리케이션 코드의 첫 프레임)별 건수
+     */
+    public Map<String, Long> getPinnedCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        pinnedBySite.forEach((site, count) -> counts.put(site, count.get()));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    private void record(RecordedEvent event) {
+        RecordedStackTrace stackTrace = event.getStackTrace();
+        String site = siteOf(stackTrace);
+        long count = pinnedBySite.computeIfAbsent(site, key -> new AtomicLong()).incrementAndGet();
+        if (count == 1) {
+            log.warn("가상 스레드 고정 {}ms at {}\n{}", event.getDuration().toMillis(), site, frames(stackTrace));
+        } else if (log.isDebugEnabled()) {
+            log.debug("가상 스레드 고정 {}ms at {}", event.getDuration().toMillis(), site);
+        }
+    }
+
+    // 애플리케이션 패키지의 첫 프레임, 없으면 최상단 프레임
+    private static String siteOf(RecordedStackTrace stackTrace) {
+        if (stackTrace == null || stackTrace.getFrames().isEmpty()) {
+            return "unknown";
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (frame.getMethod().getType().getName().startsWith("com.flow.pms.")) {
+                return describe(frame);
+            }
+        }
+        return describe(stackTrace.getFrames().get(0));
+    }
+
+    private static String frames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return "";
+        }
+        StringBuilder builder = new StringBuilder();
+        stackTrace.getFrames().stream().limit(LOGGED_FRAMES)
+                .forEach(frame -> builder.append("    at ").append(describe(frame)).append('\n'));
+        return builder.toString();
+    }
+
+    private static String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName()
+                + ":" + frame.getLineNumber();
+    }
+}
@@ -0,0 +1,170 @@
+package com.flow.pms.controller;
+
+import com.flow.pms.dto.ChatMessageDto;
+import com.flow.pms.service.ChatService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 프로젝트 채팅 REST API 컨트롤러
+ * 프로젝트별 채팅방 입장(SSE), 메시지 전송, 기록 조회 기능 제공
+ */
+@RestController
+@RequestMapping("/api/chat")
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+public class ChatController {
+
+    private final ChatService chatService;
+
+    @Autowired
+    public ChatController(ChatService chatService) {
+        this.chatService = chatService;
+    }
+
+    /**
+     * 채팅방 입장 (Server-Sent Events)
+     * GET /api/chat/rooms/{projectId}/stream?userId={userId}
+     */
+    @GetMapping(value = "/rooms/{projectId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter join(
+            @PathVariable Long projectId,
+            @RequestParam Long userId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return chatService.join(projectId, userId, lastEventId);
+    }
+
+    /**
+     * 채팅방 기록 조회 (오래된 순)
+     * GET /api/chat/rooms/{projectId}/messages?userId={userId}&before={messageId}&size={size}
+     */
+    @GetMapping("/rooms/{projectId}/messages")
+    public ResponseEntity<Map<String, Object>> getMessages(
+            @PathVariable Long projectId,
+            @RequestParam Long userId,
+            @RequestParam(value = "before", required = false) Long before,
+            @RequestParam(value = "size", required = false) Integer size) {
+        try {
+            List<ChatMessageDto> messages = chatService.getMessages(projectId, userId, before, size);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", messages);
+            response.put("message", "채팅 기록을 성공적으로 조회했습니다.");
+            response.put("count", messages.size());
+
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "채팅 기록 조회 중 오류가 발생했습니다: " + e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
+    /**
+     * 메시지 전송
+     * POST /api/chat/rooms/{projectId}/messages?userId={userId}
+     * 요청 본문: {"content": "..."}
+     */
+    @PostMapping("/rooms/{projectId}/messages")
+    public ResponseEntity<Map<String, Object>> sendMessage(
+            @PathVariable Long projectId,
+            @RequestParam Long userId,
+            @RequestBody Map<String, String> request) {
+        try {
+            ChatMessageDto sent = chatService.sendMessage(projectId, userId, request.get("content"));
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", sent);
+            response.put("message", "메시지를 전송했습니다.");
+
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.badRequest().body(errorResponse);
+        } catch (IllegalStateException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+        } catch (RuntimeException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "메시지 전송 중 오류가 발생했습니다: " + e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
+    /**
+     * 채팅 통계 조회
+     * GET /api/chat/stats
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        try {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", chatService.getStats());
+            response.put("message", "채팅 통계를 성공적으로 조회했습니다.");
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "채팅 통계 조회 중 오류가 발생했습니다: " + e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
+    /**
+     * 연결 한도 초과 (채팅방 입장)
+     */
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<Map<String, Object>> handleUnavailable(IllegalStateException e) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("success", false);
+        errorResponse.put("message", e.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .contentType(MediaType.APPLICATION_JSON).body(errorResponse);
+    }
+
+    /**
+     * 채팅방 접근 불가 (채팅방 입장)
+     */
+    @ExceptionHandler(RuntimeException.class)
+    public ResponseEntity<Map<String, Object>> handleForbidden(RuntimeException e) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("success", false);
+        errorResponse.put("message", e.getMessage());
+
+        return ResponseEntity.status(HttpStatus.FORBIDDEN)
+                .contentType(MediaType.APPLICATION_JSON).body(errorResponse);
+    }
+}
@@ -0,0 +1,107 @@
+package com.flow.pms.controller;
+
+import com.flow.pms.service.ExportService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 데이터 내보내기 REST API 컨트롤러
+ * 전체 프로젝트/사용자를 NDJSON 또는 CSV로 스트리밍 (BI 배치 등 대량 추출용)
+ */
+@RestController
+@RequestMapping("/api/export")
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+public class ExportController {
+
+    private static final DateTimeFormatter FILE_DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+    // gzip 내부 버퍼 크기 (기본 512바이트는 행 단위 쓰기에 너무 작음)
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+
+    private final ExportService exportService;
+
+    @Autowired
+    public ExportController(ExportService exportService) {
+        this.exportService = exportService;
+    }
+
+    /**
+     * 전체 프로젝트 내보내기
+     * GET /api/export/projects?format={ndjson|csv}&gzip={true|false}
+     */
+    @GetMapping("/projects")
+    public ResponseEntity<StreamingResponseBody> exportProjects(
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            @RequestParam(value = "gzip", defaultValue = "true") boolean gzip,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return export("projects", format, gzip, acceptEncoding, exportService::exportProjects);
+    }
+
+    /**
+     * 전체 사용자 내보내기
+     * GET /api/export/users?format={ndjson|csv}&gzip={true|false}
+     */
+    @GetMapping("/users")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            @RequestParam(value = "gzip", defaultValue = "true") boolean gzip,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return export("users", format, gzip, acceptEncoding, exportService::exportUsers);
+    }
+
+    private ResponseEntity<StreamingResponseBody> export(String name, String formatValue, boolean gzip,
+                                                         String acceptEncoding,
+                                                         BiConsumer<ExportService.Format, OutputStream> writer) {
+        ExportService.Format format = ExportService.Format.from(formatValue);
+
+        // 클라이언트가 gzip을 받을 수 있을 때만 압축
+        boolean compress = gzip && acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        String filename = name + "-" + LocalDate.now().format(FILE_DATE) + "." + format.getExtension();
+
+        StreamingResponseBody body = out -> {
+            if (!compress) {
+                writer.accept(format, out);
+                return;
+            }
+            GZIPOutputStream gzipOut = new GZIPOutputStream(out, GZIP_BUFFER_SIZE, true);
+            writer.accept(format, gzipOut);
+            gzipOut.finish();
+        };
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(new MediaType(MediaType.parseMediaType(format.getContentType()), StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (compress) {
+            response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+        return response.body(body);
+    }
+
+    /**
+     * 잘못된 내보내기 요청 (스트리밍 응답 대신 오류 JSON 반환)
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, Object>> handleBadRequest(IllegalArgumentException e) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("success", false);
+        errorResponse.put("message", e.getMessage());
+
+        return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON).body(errorResponse);
+    }
+}
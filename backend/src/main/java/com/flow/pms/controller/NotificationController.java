@@ -0,0 +1,199 @@
+package com.flow.pms.controller;
+
+import com.flow.pms.dto.NotificationDto;
+import com.flow.pms.service.NotificationService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 알림 관련 REST API 컨트롤러
+ * 알림함 조회, 읽지 않은 알림 수, 읽음 처리, 프로젝트 구독 기능 제공
+ * 실시간 알림은 /api/push/stream?topics=notifications 로 구독
+ */
+@RestController
+@RequestMapping("/api/notifications")
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+    @Autowired
+    public NotificationController(NotificationService notificationService) {
+        this.notificationService = notificationService;
+    }
+
+    /**
+     * 알림함 조회 (최신순)
+     * GET /api/notifications/user/{userId}?before={notificationId}&size={size}
+     */
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<Map<String, Object>> getNotifications(
+            @PathVariable Long userId,
+            @RequestParam(value = "before", required = false) Long before,
+            @RequestParam(value = "size", required = false) Integer size) {
+        try {
+            List<NotificationDto> notifications = notificationService.getNotifications(userId, before, size);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", notifications);
+            response.put("count", notifications.size());
+            response.put("unreadCount", notificationService.getUnreadCount(userId));
+            response.put("message", "알림을 성공적으로 조회했습니다.");
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "알림 조회 중 오류가 발생했습니다: " + e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
+    /**
+     * 읽지 않은 알림 수
+     * GET /api/notifications/user/{userId}/unread-count
+     */
+    @GetMapping("/user/{userId}/unread-count")
+    public ResponseEntity<Map<String, Object>> getUnreadCount(@PathVariable Long userId) {
+        try {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", notificationService.getUnreadCount(userId));
+            response.put("message", "읽지 않은 알림 수를 성공적으로 조회했습니다.");
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "읽지 않은 알림 수 조회 중 오류가 발생했습니다: " + e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
+    /**
+     * 알림 읽음 처리
+     * PATCH /api/notifications/{id}/read?userId={userId}
+     */
+    @PatchMapping("/{id}/read")
+    public ResponseEntity<Map<String, Object>> markRead(
+            @PathVariable Long id,
+            @RequestParam Long userId) {
+        try {
+            boolean changed = notificationService.markRead(id, userId);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", changed);
+            response.put("message", changed ? "알림을 읽음 처리했습니다." : "이미 읽었거나 없는 알림입니다.");
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "알림 읽음 처리 중 오류가 발생했습니다: " + e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
+    /**
+     * 모든 알림 읽음 처리
+     * PATCH /api/notifications/user/{userId}/read-all
+     */
+    @PatchMapping("/user/{userId}/read-all")
+    public ResponseEntity<Map<String, Object>> markAllRead(@PathVariable Long userId) {
+        try {
+            int changed = notificationService.markAllRead(userId);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("count", changed);
+            response.put("message", "모든 알림을 읽음 처리했습니다.");
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "알림 읽음 처리 중 오류가 발생했습니다: " + e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
+    /**
+     * 프로젝트 구독
+     * POST /api/notifications/projects/{projectId}/watchers?userId={userId}
+     */
+    @PostMapping("/projects/{projectId}/watchers")
+    public ResponseEntity<Map<String, Object>> watchProject(
+            @PathVariable Long projectId,
+            @RequestParam Long userId) {
+        try {
+            boolean created = notificationService.watchProject(projectId, userId);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", created);
+            response.put("count", notificationService.getWatcherCount(projectId));
+            response.put("message", created ? "프로젝트를 구독했습니다." : "이미 구독 중인 프로젝트입니다.");
+
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "프로젝트 구독 중 오류가 발생했습니다: " + e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
+    /**
+     * 프로젝트 구독 해제
+     * DELETE /api/notifications/projects/{projectId}/watchers?userId={userId}
+     */
+    @DeleteMapping("/projects/{projectId}/watchers")
+    public ResponseEntity<Map<String, Object>> unwatchProject(
+            @PathVariable Long projectId,
+            @RequestParam Long userId) {
+        try {
+            boolean removed = notificationService.unwatchProject(projectId, userId);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", removed);
+            response.put("message", removed ? "프로젝트 구독을 해제했습니다." : "구독 중인 프로젝트가 아닙니다.");
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "프로젝트 구독 해제 중 오류가 발생했습니다: " + e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
+    /**
+     * 알림 처리 통계
+     * GET /api/notifications/stats
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        Map<String, Object> response = new HashMap<>();
+        response.put("success", true);
+        response.put("data", notificationService.getStats());
+        response.put("message", "알림 통계를 성공적으로 조회했습니다.");
+
+        return ResponseEntity.ok(response);
+    }
+}
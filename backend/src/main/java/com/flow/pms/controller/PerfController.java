@@ -0,0 +1,49 @@
+package com.flow.pms.controller;
+
+import com.flow.pms.service.PerfSummaryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 성능 메트릭 요약 REST API 컨트롤러
+ * 전체 메트릭은 /actuator/prometheus로 수집
+ */
+@RestController
+@RequestMapping("/api/admin")
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+public class PerfController {
+
+    private final PerfSummaryService perfSummaryService;
+
+    @Autowired
+    public PerfController(PerfSummaryService perfSummaryService) {
+        this.perfSummaryService = perfSummaryService;
+    }
+
+    /**
+     * 성능 요약 조회 (API 지연 시간, 검색 출처별 시간, 리포지토리, 커넥션 풀, DTO 생성 건수)
+     * GET /api/admin/perf
+     */
+    @GetMapping("/perf")
+    public ResponseEntity<Map<String, Object>> getPerfSummary() {
+        try {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", perfSummaryService.getSummary());
+            response.put("message", "성능 요약을 조회했습니다.");
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "성능 요약 조회 중 오류가 발생했습니다: " + e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+}
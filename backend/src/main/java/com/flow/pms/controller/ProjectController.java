@@ -1,7 +1,10 @@
 package com.flow.pms.controller;
 
+import com.flow.pms.dto.CursorPage;
 import com.flow.pms.dto.ProjectDto;
 import com.flow.pms.service.ProjectService;
+import com.flow.pms.service.ProjectStatisticsService;
+import com.flow.pms.service.sql.SqlBudget;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -29,33 +32,30 @@ public class ProjectController {
     }
 
     /**
-     * 모든 프로젝트 조회
-     * GET /api/projects
+     * 모든 프로젝트 조회 (생성일 최신순, 커서 페이지)
+     * GET /api/projects?cursor={nextCursor}&size={size}
      */
+    @SqlBudget(2)
     @GetMapping
-    public ResponseEntity<Map<String, Object>> getAllProjects() {
+    public ResponseEntity<Map<String, Object>> getAllProjects(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
         try {
-            List<ProjectDto> projects = projectService.getAllProjects();
+            CursorPage<ProjectDto> page = projectService.getAllProjects(cursor, size);
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("data", projects);
+            response.put("data", page.getItems());
             response.put("message", "프로젝트 목록을 성공적으로 조회했습니다.");
-            response.put("count", projects.size());
+            response.put("count", page.getItems().size());
+            putPageInfo(response, page);
             
             return ResponseEntity.ok(response);
-        } catch (Exception e) {
+        } catch (IllegalArgumentException e) {
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("success", false);
-            errorResponse.put("message", "프로젝트 목록 조회 중 오류가 발생했습니다: " + e.getMessage());
-            
-            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
-        }
-    }
-}", projects);
-            response.put("message", "프로젝트 목록을 성공적으로 조회했습니다.");
-            response.put("count", projects.size());
+            errorResponse.put("message", e.getMessage());
             
-            return ResponseEntity.ok(response);
+            return ResponseEntity.badRequest().body(errorResponse);
         } catch (Exception e) {
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("success", false);
@@ -66,20 +66,30 @@ public class ProjectController {
     }
 
     /**
-     * 공개 프로젝트만 조회
-     * GET /api/projects/public
+     * 공개 프로젝트만 조회 (생성일 최신순, 커서 페이지)
+     * GET /api/projects/public?cursor={nextCursor}&size={size}
      */
+    @SqlBudget(2)
     @GetMapping("/public")
-    public ResponseEntity<Map<String, Object>> getPublicProjects() {
+    public ResponseEntity<Map<String, Object>> getPublicProjects(
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
         try {
-            List<ProjectDto> projects = projectService.getPublicProjects();
+            CursorPage<ProjectDto> page = projectService.getPublicProjects(cursor, size);
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("data", projects);
+            response.put("data", page.getItems());
             response.put("message", "공개 프로젝트 목록을 성공적으로 조회했습니다.");
-            response.put("count", projects.size());
+            response.put("count", page.getItems().size());
+            putPageInfo(response, page);
             
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+            
+            return ResponseEntity.badRequest().body(errorResponse);
         } catch (Exception e) {
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("success", false);
@@ -93,6 +103,7 @@ public class ProjectController {
      * 특정 프로젝트 조회
      * GET /api/projects/{id}
      */
+    @SqlBudget(2)
     @GetMapping("/{id}")
     public ResponseEntity<Map<String, Object>> getProjectById(@PathVariable Long id) {
         try {
@@ -119,20 +130,31 @@ public class ProjectController {
     }
 
     /**
-     * 사용자의 프로젝트 조회
-     * GET /api/projects/user/{userId}
+     * 사용자의 프로젝트 조회 (생성일 최신순, 커서 페이지)
+     * GET /api/projects/user/{userId}?cursor={nextCursor}&size={size}
      */
+    @SqlBudget(3)
     @GetMapping("/user/{userId}")
-    public ResponseEntity<Map<String, Object>> getUserProjects(@PathVariable Long userId) {
+    public ResponseEntity<Map<String, Object>> getUserProjects(
+            @PathVariable Long userId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
         try {
-            List<ProjectDto> projects = projectService.getUserProjects(userId);
+            CursorPage<ProjectDto> page = projectService.getUserProjects(userId, cursor, size);
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("data", projects);
+            response.put("data", page.getItems());
             response.put("message", "사용자 프로젝트를 성공적으로 조회했습니다.");
-            response.put("count", projects.size());
+            response.put("count", page.getItems().size());
+            putPageInfo(response, page);
             
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+            
+            return ResponseEntity.badRequest().body(errorResponse);
         } catch (Exception e) {
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("success", false);
@@ -184,6 +206,12 @@ public class ProjectController {
             response.put("message", "프로젝트가 성공적으로 업데이트되었습니다.");
             
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+            
+            return ResponseEntity.badRequest().body(errorResponse);
         } catch (RuntimeException e) {
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("success", false);
@@ -255,20 +283,31 @@ public class ProjectController {
     }
 
     /**
-     * 카테고리별 프로젝트 조회
-     * GET /api/projects/category/{category}
+     * 카테고리별 프로젝트 조회 (생성일 최신순, 커서 페이지)
+     * GET /api/projects/category/{category}?cursor={nextCursor}&size={size}
      */
+    @SqlBudget(2)
     @GetMapping("/category/{category}")
-    public ResponseEntity<Map<String, Object>> getProjectsByCategory(@PathVariable String category) {
+    public ResponseEntity<Map<String, Object>> getProjectsByCategory(
+            @PathVariable String category,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
         try {
-            List<ProjectDto> projects = projectService.getProjectsByCategory(category);
+            CursorPage<ProjectDto> page = projectService.getProjectsByCategory(category, cursor, size);
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("data", projects);
+            response.put("data", page.getItems());
             response.put("message", category + " 카테고리 프로젝트를 조회했습니다.");
-            response.put("count", projects.size());
+            response.put("count", page.getItems().size());
+            putPageInfo(response, page);
             
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+            
+            return ResponseEntity.badRequest().body(errorResponse);
         } catch (Exception e) {
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("success", false);
@@ -279,20 +318,31 @@ public class ProjectController {
     }
 
     /**
-     * 상태별 프로젝트 조회
-     * GET /api/projects/status/{status}
+     * 상태별 프로젝트 조회 (생성일 최신순, 커서 페이지)
+     * GET /api/projects/status/{status}?cursor={nextCursor}&size={size}
      */
+    @SqlBudget(2)
     @GetMapping("/status/{status}")
-    public ResponseEntity<Map<String, Object>> getProjectsByStatus(@PathVariable String status) {
+    public ResponseEntity<Map<String, Object>> getProjectsByStatus(
+            @PathVariable String status,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
         try {
-            List<ProjectDto> projects = projectService.getProjectsByStatus(status);
+            CursorPage<ProjectDto> page = projectService.getProjectsByStatus(status, cursor, size);
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("data", projects);
+            response.put("data", page.getItems());
             response.put("message", status + " 상태 프로젝트를 조회했습니다.");
-            response.put("count", projects.size());
+            response.put("count", page.getItems().size());
+            putPageInfo(response, page);
             
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+            
+            return ResponseEntity.badRequest().body(errorResponse);
         } catch (Exception e) {
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("success", false);
@@ -303,21 +353,31 @@ public class ProjectController {
     }
 
     /**
-     * 최근 업데이트된 프로젝트 조회
-     * GET /api/projects/recent?days={days}
+     * 최근 업데이트된 프로젝트 조회 (수정일 최신순, 커서 페이지)
+     * GET /api/projects/recent?days={days}&cursor={nextCursor}&size={size}
      */
+    @SqlBudget(2)
     @GetMapping("/recent")
     public ResponseEntity<Map<String, Object>> getRecentlyUpdatedProjects(
-            @RequestParam(defaultValue = "7") int days) {
+            @RequestParam(defaultValue = "7") int days,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
         try {
-            List<ProjectDto> projects = projectService.getRecentlyUpdatedProjects(days);
+            CursorPage<ProjectDto> page = projectService.getRecentlyUpdatedProjects(days, cursor, size);
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("data", projects);
+            response.put("data", page.getItems());
             response.put("message", "최근 " + days + "일간 업데이트된 프로젝트를 조회했습니다.");
-            response.put("count", projects.size());
+            response.put("count", page.getItems().size());
+            putPageInfo(response, page);
             
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+            
+            return ResponseEntity.badRequest().body(errorResponse);
         } catch (Exception e) {
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("success", false);
@@ -359,6 +419,97 @@ public class ProjectController {
         }
     }
 
+    /**
+     * 프로젝트 일괄 생성
+     * POST /api/projects/bulk?ownerId={ownerId}
+     */
+    @PostMapping("/bulk")
+    public ResponseEntity<Map<String, Object>> createProjects(
+            @RequestBody List<ProjectDto> projectDtos,
+            @RequestParam Long ownerId) {
+        try {
+            List<ProjectDto> createdProjects = projectService.createProjects(projectDtos, ownerId);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", createdProjects);
+            response.put("count", createdProjects.size());
+            response.put("message", createdProjects.size() + "개의 프로젝트가 생성되었습니다.");
+
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "프로젝트 일괄 생성 중 오류가 발생했습니다: " + e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(errorResponse);
+        }
+    }
+
+    /**
+     * 프로젝트 일괄 업데이트 (각 항목에 id 필수)
+     * PUT /api/projects/bulk?userId={userId}
+     */
+    @PutMapping("/bulk")
+    public ResponseEntity<Map<String, Object>> updateProjects(
+            @RequestBody List<ProjectDto> projectDtos,
+            @RequestParam Long userId) {
+        try {
+            List<ProjectDto> updatedProjects = projectService.updateProjects(projectDtos, userId);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", updatedProjects);
+            response.put("count", updatedProjects.size());
+            response.put("message", updatedProjects.size() + "개의 프로젝트가 업데이트되었습니다.");
+
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.badRequest().body(errorResponse);
+        } catch (RuntimeException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+        }
+    }
+
+    /**
+     * 프로젝트 상태 일괄 변경 (요청 본문은 프로젝트 ID 배열)
+     * PATCH /api/projects/bulk/status?status={status}&userId={userId}
+     */
+    @PatchMapping("/bulk/status")
+    public ResponseEntity<Map<String, Object>> changeProjectStatuses(
+            @RequestBody List<Long> projectIds,
+            @RequestParam String status,
+            @RequestParam Long userId) {
+        try {
+            List<ProjectDto> updatedProjects = projectService.changeProjectStatuses(projectIds, status, userId);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", updatedProjects);
+            response.put("count", updatedProjects.size());
+            response.put("message", updatedProjects.size() + "개 프로젝트의 상태가 " + status + "로 변경되었습니다.");
+
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.badRequest().body(errorResponse);
+        } catch (RuntimeException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+        }
+    }
+
     /**
      * 프로젝트 통계 정보
      * GET /api/projects/stats
@@ -366,13 +517,14 @@ public class ProjectController {
     @GetMapping("/stats")
     public ResponseEntity<Map<String, Object>> getProjectStats() {
         try {
-            long totalProjects = projectService.getAllProjects().size();
-            long publicProjects = projectService.getPublicProjectCount();
+            ProjectStatisticsService.ProjectStatistics statistics = projectService.getProjectStatistics();
             
             Map<String, Object> stats = new HashMap<>();
-            stats.put("totalProjects", totalProjects);
-            stats.put("publicProjects", publicProjects);
-            stats.put("privateProjects", totalProjects - publicProjects);
+            stats.put("totalProjects", statistics.getTotalCount());
+            stats.put("publicProjects", statistics.getPublicCount());
+            stats.put("privateProjects", statistics.getPrivateCount());
+            stats.put("categoryCounts", statistics.getCategoryCounts());
+            stats.put("statusCounts", statistics.getStatusCounts());
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -388,4 +540,10 @@ public class ProjectController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
         }
     }
-}
\ No newline at end of file
+
+    // 다음 페이지 커서
+    private void putPageInfo(Map<String, Object> response, CursorPage<ProjectDto> page) {
+        response.put("nextCursor", page.getNextCursor());
+        response.put("hasNext", page.hasNext());
+    }
+}
@@ -0,0 +1,90 @@
+package com.flow.pms.controller;
+
+import com.flow.pms.service.PushService;
+import com.flow.pms.service.push.PushTopic;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 실시간 푸시 REST API 컨트롤러
+ * 대시보드 위젯용 SSE 구독 (프로젝트/사용자 변경 알림)
+ */
+@RestController
+@RequestMapping("/api/push")
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+public class PushController {
+
+    private final PushService pushService;
+
+    @Autowired
+    public PushController(PushService pushService) {
+        this.pushService = pushService;
+    }
+
+    /**
+     * 변경 알림 구독 (Server-Sent Events)
+     * GET /api/push/stream?userId={userId}&topics={projects,users,notifications}
+     * 재연결 시 브라우저가 보내는 Last-Event-ID 이후 메시지를 먼저 전달
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribe(
+            @RequestParam(value = "userId", required = false) Long userId,
+            @RequestParam(value = "topics", required = false) String topics,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+        return pushService.subscribe(userId, PushTopic.parse(topics), lastEventId);
+    }
+
+    /**
+     * 푸시 연결 통계 조회
+     * GET /api/push/stats
+     */
+    @GetMapping("/stats")
+    public ResponseEntity<Map<String, Object>> getStats() {
+        try {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", pushService.getStats());
+            response.put("message", "푸시 통계를 성공적으로 조회했습니다.");
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "푸시 통계 조회 중 오류가 발생했습니다: " + e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
+    /**
+     * 잘못된 구독 요청
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<Map<String, Object>> handleBadRequest(IllegalArgumentException e) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("success", false);
+        errorResponse.put("message", e.getMessage());
+
+        return ResponseEntity.badRequest().contentType(MediaType.APPLICATION_JSON).body(errorResponse);
+    }
+
+    /**
+     * 연결 한도 초과
+     */
+    @ExceptionHandler(IllegalStateException.class)
+    public ResponseEntity<Map<String, Object>> handleUnavailable(IllegalStateException e) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("success", false);
+        errorResponse.put("message", e.getMessage());
+
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .contentType(MediaType.APPLICATION_JSON).body(errorResponse);
+    }
+}
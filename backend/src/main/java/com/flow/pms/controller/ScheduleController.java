@@ -0,0 +1,188 @@
+package com.flow.pms.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flow.pms.service.ScheduleService;
+import com.flow.pms.service.schedule.ScheduleItem;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일정(캘린더/간트차트) REST API 컨트롤러
+ * 기간과 겹치는 사용자/프로젝트 일정 조회, 간트차트용 일 단위 버킷 스트리밍 제공
+ */
+@RestController
+@RequestMapping("/api/schedule")
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+public class ScheduleController {
+
+    private final ScheduleService scheduleService;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public ScheduleController(ScheduleService scheduleService, ObjectMapper objectMapper) {
+        this.scheduleService = scheduleService;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 사용자 일정 조회 (소유 프로젝트 + 담당 업무)
+     * GET /api/schedule/user/{userId}?from={yyyy-MM-dd}&to={yyyy-MM-dd}
+     */
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<Map<String, Object>> getUserSchedule(
+            @PathVariable Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            List<ScheduleItem> items = scheduleService.getUserSchedule(userId, from, to);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", items);
+            response.put("count", items.size());
+            response.put("message", "사용자 일정을 성공적으로 조회했습니다.");
+
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.badRequest().body(errorResponse);
+        } catch (IllegalStateException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+        } catch (RuntimeException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "사용자 일정 조회 중 오류가 발생했습니다: " + e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
+    /**
+     * 프로젝트 일정 조회 (프로젝트 + 소속 업무)
+     * GET /api/schedule/project/{projectId}?userId={userId}&from={yyyy-MM-dd}&to={yyyy-MM-dd}
+     */
+    @GetMapping("/project/{projectId}")
+    public ResponseEntity<Map<String, Object>> getProjectSchedule(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            List<ScheduleItem> items = scheduleService.getProjectSchedule(projectId, userId, from, to);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", items);
+            response.put("count", items.size());
+            response.put("message", "프로젝트 일정을 성공적으로 조회했습니다.");
+
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.badRequest().body(errorResponse);
+        } catch (IllegalStateException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(errorResponse);
+        } catch (RuntimeException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "프로젝트 일정 조회 중 오류가 발생했습니다: " + e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
+    /**
+     * 사용자 간트차트 (일 단위 버킷)
+     * GET /api/schedule/user/{userId}/gantt?from={yyyy-MM-dd}&to={yyyy-MM-dd}
+     */
+    @GetMapping("/user/{userId}/gantt")
+    public ResponseEntity<StreamingResponseBody> getUserGantt(
+            @PathVariable Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            return gantt(scheduleService.getUserSchedule(userId, from, to), from, to);
+        } catch (IllegalArgumentException e) {
+            return ganttError(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (IllegalStateException e) {
+            return ganttError(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        } catch (RuntimeException e) {
+            return ganttError(HttpStatus.FORBIDDEN, e.getMessage());
+        } catch (Exception e) {
+            return ganttError(HttpStatus.INTERNAL_SERVER_ERROR, "사용자 간트차트 조회 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    /**
+     * 프로젝트 간트차트 (일 단위 버킷)
+     * GET /api/schedule/project/{projectId}/gantt?userId={userId}&from={yyyy-MM-dd}&to={yyyy-MM-dd}
+     */
+    @GetMapping("/project/{projectId}/gantt")
+    public ResponseEntity<StreamingResponseBody> getProjectGantt(
+            @PathVariable Long projectId,
+            @RequestParam(required = false) Long userId,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        try {
+            return gantt(scheduleService.getProjectSchedule(projectId, userId, from, to), from, to);
+        } catch (IllegalArgumentException e) {
+            return ganttError(HttpStatus.BAD_REQUEST, e.getMessage());
+        } catch (IllegalStateException e) {
+            return ganttError(HttpStatus.SERVICE_UNAVAILABLE, e.getMessage());
+        } catch (RuntimeException e) {
+            return ganttError(HttpStatus.FORBIDDEN, e.getMessage());
+        } catch (Exception e) {
+            return ganttError(HttpStatus.INTERNAL_SERVER_ERROR, "프로젝트 간트차트 조회 중 오류가 발생했습니다: " + e.getMessage());
+        }
+    }
+
+    // 조회/검증은 응답 전에 끝내고, 본문 작성만 스트리밍
+    private ResponseEntity<StreamingResponseBody> gantt(List<ScheduleItem> items, LocalDate from, LocalDate to) {
+        StreamingResponseBody body = out -> scheduleService.writeGantt(items, from, to, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
+    }
+
+    // 간트차트 오류 응답 (응답 타입이 스트리밍이므로 오류 JSON도 본문 작성기로 반환)
+    private ResponseEntity<StreamingResponseBody> ganttError(HttpStatus status, String message) {
+        Map<String, Object> errorResponse = new HashMap<>();
+        errorResponse.put("success", false);
+        errorResponse.put("message", message);
+
+        return ResponseEntity.status(status).contentType(MediaType.APPLICATION_JSON)
+                .body(out -> out.write(objectMapper.writeValueAsBytes(errorResponse)));
+    }
+}
@@ -1,7 +1,14 @@
 package com.flow.pms.controller;
 
 import com.flow.pms.dto.SearchResultDto;
+import com.flow.pms.service.SearchAnalyticsService;
 import com.flow.pms.service.SearchService;
+import com.flow.pms.service.SuggestionService;
+import com.flow.pms.service.search.FanOutResult;
+import com.flow.pms.service.search.QueryWindow;
+import com.flow.pms.service.search.QueryWindowSnapshot;
+import com.flow.pms.service.search.SearchPage;
+import com.flow.pms.service.search.SearchSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -10,6 +17,7 @@ import org.springframework.web.bind.annotation.*;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * 통합 검색 관련 REST API 컨트롤러
@@ -21,18 +29,26 @@ import java.util.Map;
 public class SearchController {
 
     private final SearchService searchService;
+    private final SuggestionService suggestionService;
+    private final SearchAnalyticsService searchAnalyticsService;
 
     @Autowired
-    public SearchController(SearchService searchService) {
+    public SearchController(SearchService searchService, SuggestionService suggestionService,
+                            SearchAnalyticsService searchAnalyticsService) {
         this.searchService = searchService;
+        this.suggestionService = suggestionService;
+        this.searchAnalyticsService = searchAnalyticsService;
     }
 
     /**
-     * 통합 검색 - 모든 항목 검색
-     * GET /api/search?q={query}
+     * 통합 검색 - 모든 항목을 관련도순으로 검색
+     * GET /api/search?q={query}&cursor={nextCursor}&size={size}
      */
     @GetMapping
-    public ResponseEntity<Map<String, Object>> searchAll(@RequestParam("q") String query) {
+    public ResponseEntity<Map<String, Object>> searchAll(
+            @RequestParam("q") String query,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
         try {
             if (query == null || query.trim().isEmpty()) {
                 Map<String, Object> response = new HashMap<>();
@@ -41,15 +57,27 @@ public class SearchController {
                 return ResponseEntity.badRequest().body(response);
             }
 
-            List<SearchResultDto> results = searchService.searchAll(query);
+            SearchPage<SearchResultDto> page = searchService.searchAll(query, cursor, size);
+            List<SearchResultDto> results = page.getItems();
+            if (!results.isEmpty() && cursor == null) {
+                suggestionService.recordQuery(query);
+            }
+
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("data", results);
             response.put("message", "검색을 완료했습니다.");
             response.put("query", query);
             response.put("count", results.size());
+            putPageInfo(response, page);
             
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+            
+            return ResponseEntity.badRequest().body(errorResponse);
         } catch (Exception e) {
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("success", false);
@@ -138,24 +166,33 @@ public class SearchController {
     }
 
     /**
-     * 사용자별 개인화된 검색
-     * GET /api/search/user/{userId}?q={query}
+     * 사용자별 개인화된 검색 (내 프로젝트 가중치 적용, 관련도순)
+     * GET /api/search/user/{userId}?q={query}&cursor={nextCursor}&size={size}
      */
     @GetMapping("/user/{userId}")
     public ResponseEntity<Map<String, Object>> searchForUser(
             @PathVariable Long userId,
-            @RequestParam("q") String query) {
+            @RequestParam("q") String query,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
         try {
-            List<SearchResultDto> results = searchService.searchForUser(query, userId);
+            SearchPage<SearchResultDto> page = searchService.searchForUser(query, userId, cursor, size);
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
-            response.put("data", results);
+            response.put("data", page.getItems());
             response.put("message", "개인화된 검색을 완료했습니다.");
             response.put("userId", userId);
             response.put("query", query);
-            response.put("count", results.size());
+            response.put("count", page.getItems().size());
+            putPageInfo(response, page);
             
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+            
+            return ResponseEntity.badRequest().body(errorResponse);
         } catch (Exception e) {
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("success", false);
@@ -191,20 +228,31 @@ public class SearchController {
     }
 
     /**
-     * 인기 검색어 조회
-     * GET /api/search/popular
+     * 인기 검색어 조회 (집계 기간: 1h, 24h, 7d)
+     * GET /api/search/popular?window={window}&limit={limit}
      */
     @GetMapping("/popular")
-    public ResponseEntity<Map<String, Object>> getPopularSearchTerms() {
+    public ResponseEntity<Map<String, Object>> getPopularSearchTerms(
+            @RequestParam(value = "window", defaultValue = "24h") String window,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
         try {
-            List<String> popularTerms = searchService.getPopularSearchTerms();
+            QueryWindow queryWindow = QueryWindow.fromLabel(window);
+            List<String> popularTerms = searchService.getPopularSearchTerms(queryWindow,
+                    Math.max(1, Math.min(limit, 50)));
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("data", popularTerms);
             response.put("message", "인기 검색어를 조회했습니다.");
+            response.put("window", queryWindow.getLabel());
             response.put("count", popularTerms.size());
             
             return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.badRequest().body(errorResponse);
         } catch (Exception e) {
             Map<String, Object> errorResponse = new HashMap<>();
             errorResponse.put("success", false);
@@ -214,6 +262,38 @@ public class SearchController {
         }
     }
 
+    /**
+     * 검색어 집계 조회 (검색 수, 결과 없는 검색 비율, 평균 처리 시간, 추정 횟수 포함 인기 검색어, 결과 캐시 통계)
+     * GET /api/search/analytics?window={window}
+     */
+    @GetMapping("/analytics")
+    public ResponseEntity<Map<String, Object>> getSearchAnalytics(
+            @RequestParam(value = "window", defaultValue = "24h") String window) {
+        try {
+            QueryWindowSnapshot snapshot = searchAnalyticsService.getSnapshot(QueryWindow.fromLabel(window));
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", snapshot);
+            response.put("pipeline", searchAnalyticsService.getStats());
+            response.put("resultCache", searchService.getResultCacheStats());
+            response.put("message", "검색어 집계를 조회했습니다.");
+
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.badRequest().body(errorResponse);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "검색어 집계 조회 중 오류가 발생했습니다: " + e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
     /**
      * 검색 통계 조회
      * GET /api/search/stats?q={query}
@@ -253,12 +333,8 @@ public class SearchController {
     @GetMapping("/suggest")
     public ResponseEntity<Map<String, Object>> getSuggestions(@RequestParam("q") String query) {
         try {
-            // 간단한 제안 로직 (실제로는 더 복잡한 알고리즘 사용)
-            List<String> suggestions = searchService.getPopularSearchTerms()
-                    .stream()
-                    .filter(term -> term.toLowerCase().contains(query.toLowerCase()))
-                    .limit(5)
-                    .toList();
+            // 가중치 트라이에서 접두어 상위 5개 조회
+            List<String> suggestions = suggestionService.suggest(query, 5);
             
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
@@ -284,37 +360,21 @@ public class SearchController {
     @GetMapping("/quick")
     public ResponseEntity<Map<String, Object>> quickSearch(@RequestParam("q") String query) {
         try {
-            List<SearchResultDto> allResults = searchService.searchAll(query);
-            
-            // 각 카테고리별로 상위 3개씩만 반환
+            // 각 카테고리별로 상위 3개씩만 조회
+            FanOutResult<SearchResultDto> fanOut = searchService.quickSearch(query, 3);
+
             Map<String, List<SearchResultDto>> quickResults = new HashMap<>();
-            
-            quickResults.put("프로젝트", allResults.stream()
-                    .filter(r -> "프로젝트".equals(r.getType()) || "내 프로젝트".equals(r.getType()))
-                    .limit(3)
-                    .toList());
-            
-            quickResults.put("메뉴", allResults.stream()
-                    .filter(r -> "메뉴".equals(r.getType()))
-                    .limit(3)
-                    .toList());
-            
-            quickResults.put("사용자", allResults.stream()
-                    .filter(r -> "사용자".equals(r.getType()))
-                    .limit(3)
-                    .toList());
-            
-            quickResults.put("블로그", allResults.stream()
-                    .filter(r -> "블로그".equals(r.getType()))
-                    .limit(3)
-                    .toList());
-            
+            for (SearchSource source : SearchSource.values()) {
+                quickResults.put(source.getLabel(), fanOut.getResults(source));
+            }
+
             Map<String, Object> response = new HashMap<>();
             response.put("success", true);
             response.put("data", quickResults);
             response.put("message", "빠른 검색을 완료했습니다.");
             response.put("query", query);
-            response.put("totalCount", allResults.size());
+            response.put("totalCount", fanOut.getTotalCount());
+            putPartialFlags(response, fanOut.getTimedOutSources(), fanOut.getFailedSources());
             
             return ResponseEntity.ok(response);
         } catch (Exception e) {
@@ -325,4 +385,24 @@ public class SearchController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
         }
     }
+
+    // 전체 일치 건수와 다음 페이지 커서
+    private void putPageInfo(Map<String, Object> response, SearchPage<SearchResultDto> page) {
+        response.put("totalCount", page.getTotalCount());
+        response.put("nextCursor", page.getNextCursor());
+        response.put("hasNext", page.hasNext());
+        putPartialFlags(response, page.getTimedOutSources(), page.getFailedSources());
+    }
+
+    // 제한 시간 초과/실패로 빠진 출처 표시
+    private void putPartialFlags(Map<String, Object> response,
+                                 Set<SearchSource> timedOutSources, Set<SearchSource> failedSources) {
+        response.put("partial", !timedOutSources.isEmpty() || !failedSources.isEmpty());
+        response.put("timedOutSources", timedOutSources.stream()
+                .map(SearchSource::getLabel)
+                .toList());
+        response.put("failedSources", failedSources.stream()
+                .map(SearchSource::getLabel)
+                .toList());
+    }
 }
\ No newline at end of file
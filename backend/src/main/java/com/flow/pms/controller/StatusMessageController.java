@@ -0,0 +1,151 @@
+package com.flow.pms.controller;
+
+import com.flow.pms.dto.StatusMessageDto;
+import com.flow.pms.dto.UserDto;
+import com.flow.pms.service.StatusMessageService;
+import com.flow.pms.service.UserService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 상태 메시지 관련 REST API 컨트롤러
+ * 상태 메시지 변경, 사용자별 기록, 여러 사용자의 현재 상태 메시지 조회 기능 제공
+ */
+@RestController
+@RequestMapping("/api/status-messages")
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+public class StatusMessageController {
+
+    private final StatusMessageService statusMessageService;
+    private final UserService userService;
+
+    @Autowired
+    public StatusMessageController(StatusMessageService statusMessageService, UserService userService) {
+        this.statusMessageService = statusMessageService;
+        this.userService = userService;
+    }
+
+    /**
+     * 상태 메시지 변경 (빈 메시지는 상태 메시지 해제)
+     * PUT /api/status-messages/user/{userId}
+     */
+    @PutMapping("/user/{userId}")
+    public ResponseEntity<Map<String, Object>> updateStatus(
+            @PathVariable Long userId,
+            @RequestBody StatusMessageDto statusMessageDto) {
+        try {
+            UserDto updatedUser = userService.updateUserStatus(userId, statusMessageDto.getIcon(),
+                    statusMessageDto.getMessage(), statusMessageDto.getLabel());
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", updatedUser);
+            response.put("message", "상태 메시지가 성공적으로 변경되었습니다.");
+
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.badRequest().body(errorResponse);
+        } catch (RuntimeException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "상태 메시지 변경 중 오류가 발생했습니다: " + e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
+    /**
+     * 사용자 상태 메시지 기록 (최신순)
+     * GET /api/status-messages/user/{userId}?size={size}
+     */
+    @GetMapping("/user/{userId}")
+    public ResponseEntity<Map<String, Object>> getHistory(
+            @PathVariable Long userId,
+            @RequestParam(value = "size", required = false) Integer size) {
+        try {
+            List<StatusMessageDto> history = statusMessageService.getHistory(userId, size);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", history);
+            response.put("count", history.size());
+            response.put("message", "상태 메시지 기록을 성공적으로 조회했습니다.");
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "상태 메시지 기록 조회 중 오류가 발생했습니다: " + e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
+    /**
+     * 여러 사용자의 현재 상태 메시지 (사용자 ID별, 상태 메시지가 없는 사용자는 제외)
+     * GET /api/status-messages/latest?userIds=1,2,3
+     */
+    @GetMapping("/latest")
+    public ResponseEntity<Map<String, Object>> getLatest(@RequestParam List<Long> userIds) {
+        try {
+            Map<Long, StatusMessageDto> latest = statusMessageService.getLatest(userIds);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", latest);
+            response.put("count", latest.size());
+            response.put("message", "현재 상태 메시지를 성공적으로 조회했습니다.");
+
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.badRequest().body(errorResponse);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "현재 상태 메시지 조회 중 오류가 발생했습니다: " + e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
+    /**
+     * 상태 메시지가 있는 사용자 (최근 설정순)
+     * GET /api/status-messages/users
+     */
+    @GetMapping("/users")
+    public ResponseEntity<Map<String, Object>> getUsersWithStatusMessage() {
+        try {
+            List<UserDto> users = userService.getUsersWithStatusMessage();
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", users);
+            response.put("count", users.size());
+            response.put("message", "상태 메시지가 있는 사용자를 성공적으로 조회했습니다.");
+
+            return ResponseEntity.ok(response);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "사용자 조회 중 오류가 발생했습니다: " + e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+}
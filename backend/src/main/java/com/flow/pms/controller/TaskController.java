@@ -0,0 +1,356 @@
+package com.flow.pms.controller;
+
+import com.flow.pms.dto.CursorPage;
+import com.flow.pms.dto.TaskDto;
+import com.flow.pms.service.TaskService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 업무 관련 REST API 컨트롤러
+ * 업무 CRUD, 내 업무/프로젝트 업무 보드/기한 지난 업무 조회 기능 제공
+ */
+@RestController
+@RequestMapping("/api/tasks")
+@CrossOrigin(origins = {"http://localhost:3000", "http://localhost:3001"})
+public class TaskController {
+
+    private final TaskService taskService;
+
+    @Autowired
+    public TaskController(TaskService taskService) {
+        this.taskService = taskService;
+    }
+
+    /**
+     * 특정 업무 조회
+     * GET /api/tasks/{id}
+     */
+    @GetMapping("/{id}")
+    public ResponseEntity<Map<String, Object>> getTaskById(@PathVariable Long id) {
+        try {
+            Optional<TaskDto> task = taskService.getTaskById(id);
+            Map<String, Object> response = new HashMap<>();
+
+            if (task.isPresent()) {
+                response.put("success", true);
+                response.put("data", task.get());
+                response.put("message", "업무를 성공적으로 조회했습니다.");
+                return ResponseEntity.ok(response);
+            } else {
+                response.put("success", false);
+                response.put("message", "업무를 찾을 수 없습니다.");
+                return ResponseEntity.status(HttpStatus.NOT_FOUND).body(response);
+            }
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "업무 조회 중 오류가 발생했습니다: " + e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
+    /**
+     * 새 업무 생성
+     * POST /api/tasks?userId={userId}
+     */
+    @PostMapping
+    public ResponseEntity<Map<String, Object>> createTask(
+            @RequestBody TaskDto taskDto,
+            @RequestParam Long userId) {
+        try {
+            TaskDto createdTask = taskService.createTask(taskDto, userId);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", createdTask);
+            response.put("message", "업무가 성공적으로 생성되었습니다.");
+
+            return ResponseEntity.status(HttpStatus.CREATED).body(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.badRequest().body(errorResponse);
+        } catch (RuntimeException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "업무 생성 중 오류가 발생했습니다: " + e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
+    /**
+     * 업무 수정
+     * PUT /api/tasks/{id}?userId={userId}
+     */
+    @PutMapping("/{id}")
+    public ResponseEntity<Map<String, Object>> updateTask(
+            @PathVariable Long id,
+            @RequestBody TaskDto taskDto,
+            @RequestParam Long userId) {
+        try {
+            TaskDto updatedTask = taskService.updateTask(id, taskDto, userId);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", updatedTask);
+            response.put("message", "업무가 성공적으로 수정되었습니다.");
+
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.badRequest().body(errorResponse);
+        } catch (RuntimeException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "업무 수정 중 오류가 발생했습니다: " + e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
+    /**
+     * 업무 상태 변경
+     * PATCH /api/tasks/{id}/status?status={status}&userId={userId}
+     */
+    @PatchMapping("/{id}/status")
+    public ResponseEntity<Map<String, Object>> changeTaskStatus(
+            @PathVariable Long id,
+            @RequestParam String status,
+            @RequestParam Long userId) {
+        try {
+            TaskDto updatedTask = taskService.changeTaskStatus(id, status, userId);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", updatedTask);
+            response.put("message", "업무 상태가 " + status + "로 변경되었습니다.");
+
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.badRequest().body(errorResponse);
+        } catch (RuntimeException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "업무 상태 변경 중 오류가 발생했습니다: " + e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
+    /**
+     * 업무 삭제
+     * DELETE /api/tasks/{id}?userId={userId}
+     */
+    @DeleteMapping("/{id}")
+    public ResponseEntity<Map<String, Object>> deleteTask(
+            @PathVariable Long id,
+            @RequestParam Long userId) {
+        try {
+            taskService.deleteTask(id, userId);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("message", "업무가 성공적으로 삭제되었습니다.");
+
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "업무 삭제 중 오류가 발생했습니다: " + e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
+    /**
+     * 내가 담당 중인 (완료되지 않은) 업무 (생성일 최신순, 커서 페이지)
+     * GET /api/tasks/user/{userId}/open?cursor={nextCursor}&size={size}
+     */
+    @GetMapping("/user/{userId}/open")
+    public ResponseEntity<Map<String, Object>> getOpenTasks(
+            @PathVariable Long userId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        try {
+            CursorPage<TaskDto> page = taskService.getOpenTasks(userId, cursor, size);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", page.getItems());
+            response.put("message", "담당 업무를 성공적으로 조회했습니다.");
+            response.put("count", page.getItems().size());
+            putPageInfo(response, page);
+
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.badRequest().body(errorResponse);
+        } catch (RuntimeException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "담당 업무 조회 중 오류가 발생했습니다: " + e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
+    /**
+     * 프로젝트 업무 보드 (상태별 업무 수와 상태별 첫 페이지)
+     * GET /api/tasks/project/{projectId}?userId={userId}&size={size}
+     */
+    @GetMapping("/project/{projectId}")
+    public ResponseEntity<Map<String, Object>> getProjectTaskBoard(
+            @PathVariable Long projectId,
+            @RequestParam Long userId,
+            @RequestParam(value = "size", required = false) Integer size) {
+        try {
+            TaskService.TaskBoard board = taskService.getProjectTaskBoard(projectId, userId, size);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", board);
+            response.put("message", "프로젝트 업무를 성공적으로 조회했습니다.");
+
+            return ResponseEntity.ok(response);
+        } catch (RuntimeException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "프로젝트 업무 조회 중 오류가 발생했습니다: " + e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
+    /**
+     * 프로젝트의 특정 상태 업무 (생성일 최신순, 커서 페이지)
+     * GET /api/tasks/project/{projectId}/status/{status}?userId={userId}&cursor={nextCursor}&size={size}
+     */
+    @GetMapping("/project/{projectId}/status/{status}")
+    public ResponseEntity<Map<String, Object>> getProjectTasks(
+            @PathVariable Long projectId,
+            @PathVariable String status,
+            @RequestParam Long userId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        try {
+            CursorPage<TaskDto> page = taskService.getProjectTasks(projectId, status, userId, cursor, size);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", page.getItems());
+            response.put("message", status + " 업무를 성공적으로 조회했습니다.");
+            response.put("count", page.getItems().size());
+            putPageInfo(response, page);
+
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.badRequest().body(errorResponse);
+        } catch (RuntimeException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).body(errorResponse);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "프로젝트 업무 조회 중 오류가 발생했습니다: " + e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
+    /**
+     * 기한 지난 업무 (마감일 최근순, 커서 페이지)
+     * GET /api/tasks/overdue?assigneeId={userId}&cursor={nextCursor}&size={size}
+     */
+    @GetMapping("/overdue")
+    public ResponseEntity<Map<String, Object>> getOverdueTasks(
+            @RequestParam(value = "assigneeId", required = false) Long assigneeId,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "size", required = false) Integer size) {
+        try {
+            CursorPage<TaskDto> page = taskService.getOverdueTasks(assigneeId, cursor, size);
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", page.getItems());
+            response.put("message", "기한 지난 업무를 성공적으로 조회했습니다.");
+            response.put("count", page.getItems().size());
+            putPageInfo(response, page);
+
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+
+            return ResponseEntity.badRequest().body(errorResponse);
+        } catch (Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", "기한 지난 업무 조회 중 오류가 발생했습니다: " + e.getMessage());
+
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+
+    // 다음 페이지 커서
+    private void putPageInfo(Map<String, Object> response, CursorPage<TaskDto> page) {
+        response.put("nextCursor", page.getNextCursor());
+        response.put("hasNext", page.hasNext());
+    }
+}
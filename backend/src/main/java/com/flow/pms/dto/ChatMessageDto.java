@@ -0,0 +1,97 @@
+package com.flow.pms.dto;
+
+import com.flow.pms.entity.ChatMessage;
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 메시지 데이터 전송 객체 (DTO)
+ * 채팅방 기록 조회, 메시지 전송 응답과 SSE 전달에 사용
+ */
+public class ChatMessageDto {
+
+    private Long id;
+    private Long projectId;
+    private Long senderId;
+    private String senderName;
+    private String content;
+    private LocalDateTime createdAt;
+
+    // 기본 생성자
+    public ChatMessageDto() {}
+
+    // 조회 쿼리 생성자 표현식용
+    public ChatMessageDto(Long id, Long projectId, Long senderId, String senderName, String content,
+                          LocalDateTime createdAt) {
+        this.id = id;
+        this.projectId = projectId;
+        this.senderId = senderId;
+        this.senderName = senderName;
+        this.content = content;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * 저장용 엔티티로 변환
+     */
+    public ChatMessage toEntity() {
+        return new ChatMessage(id, projectId, senderId, senderName, content, createdAt);
+    }
+
+    // Getter & Setter
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public Long getSenderId() {
+        return senderId;
+    }
+
+    public void setSenderId(Long senderId) {
+        this.senderId = senderId;
+    }
+
+    public String getSenderName() {
+        return senderName;
+    }
+
+    public void setSenderName(String senderName) {
+        this.senderName = senderName;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public void setContent(String content) {
+        this.content = content;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "ChatMessageDto{" +
+                "id=" + id +
+                ", projectId=" + projectId +
+                ", senderName='" + senderName + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,30 @@
+package com.flow.pms.dto;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답
+ * 한 페이지 분량의 항목과 다음 페이지 커서(마지막 페이지면 null)
+ */
+public class CursorPage<T> {
+
+    private final List<T> items;
+    private final String nextCursor;
+
+    public CursorPage(List<T> items, String nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
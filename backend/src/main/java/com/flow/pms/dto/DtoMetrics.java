@@ -0,0 +1,35 @@
+package com.flow.pms.dto;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * DTO 생성 건수 메트릭 (dto.mapped)
+ * - source=entity: 영속 엔티티를 읽어 변환 (엔티티와 지연 로딩 프록시까지 함께 만들어짐)
+ * - source=projection: 조회 쿼리 생성자 표현식으로 필요한 컬럼만 읽어 생성
+ * 요청 수 대비 건수로 목록 API가 만드는 객체 수와 엔티티 변환 경로가 남아 있는 곳을 확인
+ *
+ * DTO는 빈이 아니므로 전역 레지스트리에 등록 (Spring Boot가 자동 구성 레지스트리를 전역 레지스트리에 추가)
+ */
+public final class DtoMetrics {
+
+    private static final String METRIC_NAME = "dto.mapped";
+
+    private DtoMetrics() {}
+
+    public static Counter fromEntity(Class<?> type) {
+        return counter(type, "entity");
+    }
+
+    public static Counter fromProjection(Class<?> type) {
+        return counter(type, "projection");
+    }
+
+    private static Counter counter(Class<?> type, String source) {
+        return Counter.builder(METRIC_NAME)
+                .description("생성한 DTO 수")
+                .tag("type", type.getSimpleName())
+                .tag("source", source)
+                .register(Metrics.globalRegistry);
+    }
+}
@@ -0,0 +1,69 @@
+package com.flow.pms.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 키셋 페이지네이션 커서 (불투명 문자열)
+ * 마지막 행의 (정렬 시각, ID)를 담아 다음 페이지를 "그보다 뒤" 조건으로 조회하도록 함
+ * OFFSET과 달리 앞쪽에 새 행이 추가되어도 페이지 경계가 밀리지 않음
+ */
+public class KeysetCursor {
+
+    public static final String CREATED_AT = "createdAt";
+    public static final String UPDATED_AT = "updatedAt";
+    public static final String DUE_DATE = "dueDate";  // 날짜는 자정 시각으로 담음
+
+    // 첫 페이지는 모든 행보다 뒤인 가상의 위치에서 시작 (조회 쿼리를 하나로 유지)
+    private static final LocalDateTime FIRST_PAGE_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private final String key;
+    private final LocalDateTime at;
+    private final Long id;
+
+    public KeysetCursor(String key, LocalDateTime at, Long id) {
+        this.key = key;
+        this.at = at;
+        this.id = id;
+    }
+
+    /**
+     * 커서 문자열 해석 (비어 있으면 첫 페이지)
+     *
+     * @param key 정렬 기준 (다른 정렬의 커서는 거부)
+     * @throws IllegalArgumentException 형식이 잘못되었거나 정렬 기준이 다른 경우
+     */
+    public static KeysetCursor decode(String token, String key) {
+        if (token == null || token.isBlank()) {
+            return new KeysetCursor(key, FIRST_PAGE_AT, Long.MAX_VALUE);
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+            if (parts.length != 3 || !key.equals(parts[0])) {
+                throw new IllegalArgumentException(token);
+            }
+            return new KeysetCursor(key, LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 페이지 커서입니다.");
+        }
+    }
+
+    public String encode() {
+        String raw = key + "|" + at + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public LocalDateTime getAt() {
+        return at;
+    }
+
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,135 @@
+package com.flow.pms.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 데이터 전송 객체 (DTO)
+ * 알림함 조회 응답에 사용
+ */
+public class NotificationDto {
+
+    private Long id;
+    private String type;
+    private Long targetId;
+    private Long actorId;
+    private String title;
+    private String message;
+    private int eventCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime lastEventAt;
+    private LocalDateTime readAt;
+
+    // 기본 생성자
+    public NotificationDto() {}
+
+    // 조회 쿼리 생성자 표현식용
+    public NotificationDto(Long id, String type, Long targetId, Long actorId, String title, String message,
+                           int eventCount, LocalDateTime createdAt, LocalDateTime lastEventAt,
+                           LocalDateTime readAt) {
+        this.id = id;
+        this.type = type;
+        this.targetId = targetId;
+        this.actorId = actorId;
+        this.title = title;
+        this.message = message;
+        this.eventCount = eventCount;
+        this.createdAt = createdAt;
+        this.lastEventAt = lastEventAt;
+        this.readAt = readAt;
+    }
+
+    // Getter & Setter
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public Long getTargetId() {
+        return targetId;
+    }
+
+    public void setTargetId(Long targetId) {
+        this.targetId = targetId;
+    }
+
+    public Long getActorId() {
+        return actorId;
+    }
+
+    public void setActorId(Long actorId) {
+        this.actorId = actorId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    public void setEventCount(int eventCount) {
+        this.eventCount = eventCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getLastEventAt() {
+        return lastEventAt;
+    }
+
+    public void setLastEventAt(LocalDateTime lastEventAt) {
+        this.lastEventAt = lastEventAt;
+    }
+
+    public LocalDateTime getReadAt() {
+        return readAt;
+    }
+
+    public void setReadAt(LocalDateTime readAt) {
+        this.readAt = readAt;
+    }
+
+    public boolean isRead() {
+        return readAt != null;
+    }
+
+    @Override
+    public String toString() {
+        return "NotificationDto{" +
+                "id=" + id +
+                ", type='" + type + '\'' +
+                ", targetId=" + targetId +
+                ", eventCount=" + eventCount +
+                '}';
+    }
+}
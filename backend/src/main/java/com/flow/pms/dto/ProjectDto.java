@@ -1,6 +1,8 @@
 package com.flow.pms.dto;
 
 import com.flow.pms.entity.Project;
+import io.micrometer.core.instrument.Counter;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 /**
@@ -9,6 +11,9 @@ import java.time.LocalDateTime;
  */
 public class ProjectDto {
 
+    private static final Counter MAPPED_FROM_ENTITY = DtoMetrics.fromEntity(ProjectDto.class);
+    private static final Counter MAPPED_FROM_PROJECTION = DtoMetrics.fromProjection(ProjectDto.class);
+
     private Long id;
     private String title;
     private String category;
@@ -16,8 +21,13 @@ public class ProjectDto {
     private Boolean hasAdminAccess;
     private String status;
     private String description;
+    private LocalDate startDate;
+    private LocalDate dueDate;
     private Long ownerId;
     private String ownerName;
+    private Integer taskScheduledCount;
+    private Integer taskInProgressCount;
+    private Integer taskCompletedCount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -26,6 +36,7 @@ public class ProjectDto {
 
     // Entity로부터 DTO 생성하는 생성자
     public ProjectDto(Project project) {
+        MAPPED_FROM_ENTITY.increment();
         this.id = project.getId();
         this.title = project.getTitle();
         this.category = project.getCategory();
@@ -33,6 +44,11 @@ public class ProjectDto {
         this.hasAdminAccess = project.getHasAdminAccess();
         this.status = project.getStatus();
         this.description = project.getDescription();
+        this.startDate = project.getStartDate();
+        this.dueDate = project.getDueDate();
+        this.taskScheduledCount = project.getTaskScheduledCount();
+        this.taskInProgressCount = project.getTaskInProgressCount();
+        this.taskCompletedCount = project.getTaskCompletedCount();
         this.createdAt = project.getCreatedAt();
         this.updatedAt = project.getUpdatedAt();
         
@@ -54,6 +70,33 @@ public class ProjectDto {
         this.description = description;
     }
 
+    // 조회 쿼리 생성자 표현식용 (엔티티 대신 필요한 컬럼만 조회, 소유자 정보는 조인으로 함께 조회)
+    public ProjectDto(Long id, String title, String category, Boolean isPublic, Boolean hasAdminAccess,
+                      String status, String description, Long ownerId, String ownerName,
+                      LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, title, category, isPublic, hasAdminAccess, status, description);
+        MAPPED_FROM_PROJECTION.increment();
+        this.ownerId = ownerId;
+        this.ownerName = ownerName;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    // 조회 쿼리 생성자 표현식용 (일정, 상태별 업무 수 포함)
+    public ProjectDto(Long id, String title, String category, Boolean isPublic, Boolean hasAdminAccess,
+                      String status, String description, LocalDate startDate, LocalDate dueDate,
+                      Long ownerId, String ownerName,
+                      Integer taskScheduledCount, Integer taskInProgressCount, Integer taskCompletedCount,
+                      LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, title, category, isPublic, hasAdminAccess, status, description, ownerId, ownerName,
+                createdAt, updatedAt);
+        this.startDate = startDate;
+        this.dueDate = dueDate;
+        this.taskScheduledCount = taskScheduledCount;
+        this.taskInProgressCount = taskInProgressCount;
+        this.taskCompletedCount = taskCompletedCount;
+    }
+
     // 프로젝트 생성용 생성자
     public ProjectDto(String title, String category, Boolean isPublic, Boolean hasAdminAccess) {
         this.title = title;
@@ -119,6 +162,22 @@ public class ProjectDto {
         this.description = description;
     }
 
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDate dueDate) {
+        this.dueDate = dueDate;
+    }
+
     public Long getOwnerId() {
         return ownerId;
     }
@@ -135,6 +194,30 @@ public class ProjectDto {
         this.ownerName = ownerName;
     }
 
+    public Integer getTaskScheduledCount() {
+        return taskScheduledCount;
+    }
+
+    public void setTaskScheduledCount(Integer taskScheduledCount) {
+        this.taskScheduledCount = taskScheduledCount;
+    }
+
+    public Integer getTaskInProgressCount() {
+        return taskInProgressCount;
+    }
+
+    public void setTaskInProgressCount(Integer taskInProgressCount) {
+        this.taskInProgressCount = taskInProgressCount;
+    }
+
+    public Integer getTaskCompletedCount() {
+        return taskCompletedCount;
+    }
+
+    public void setTaskCompletedCount(Integer taskCompletedCount) {
+        this.taskCompletedCount = taskCompletedCount;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -50,6 +50,7 @@ public class SearchResultDto {
     private String getDefaultIcon(String type) {
         switch (type) {
             case "프로젝트":
+            case "내 프로젝트":
                 return "📋";
             case "메뉴":
                 return "📱";
@@ -0,0 +1,119 @@
+package com.flow.pms.dto;
+
+import com.flow.pms.entity.StatusMessage;
+import io.micrometer.core.instrument.Counter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상태 메시지 데이터 전송 객체 (DTO)
+ * 상태 메시지 기록 조회와 상태 메시지 변경 요청에 사용
+ */
+public class StatusMessageDto {
+
+    private static final Counter MAPPED_FROM_ENTITY = DtoMetrics.fromEntity(StatusMessageDto.class);
+    private static final Counter MAPPED_FROM_PROJECTION = DtoMetrics.fromProjection(StatusMessageDto.class);
+
+    private Long id;
+    private Long userId;
+    private String icon;
+    private String message;
+    private String label;
+    private Boolean isActive;
+    private LocalDateTime createdAt;
+
+    // 기본 생성자
+    public StatusMessageDto() {}
+
+    // 조회 쿼리 생성자 표현식용
+    public StatusMessageDto(Long id, Long userId, String icon, String message, String label, Boolean isActive,
+                            LocalDateTime createdAt) {
+        MAPPED_FROM_PROJECTION.increment();
+        this.id = id;
+        this.userId = userId;
+        this.icon = icon;
+        this.message = message;
+        this.label = label;
+        this.isActive = isActive;
+        this.createdAt = createdAt;
+    }
+
+    // Entity -> DTO 변환 생성자
+    public StatusMessageDto(StatusMessage statusMessage) {
+        MAPPED_FROM_ENTITY.increment();
+        this.id = statusMessage.getId();
+        this.userId = statusMessage.getUser().getId();
+        this.icon = statusMessage.getIcon();
+        this.message = statusMessage.getMessage();
+        this.label = statusMessage.getLabel();
+        this.isActive = statusMessage.getIsActive();
+        this.createdAt = statusMessage.getCreatedAt();
+    }
+
+    // Getter & Setter
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public void setUserId(Long userId) {
+        this.userId = userId;
+    }
+
+    public String getIcon() {
+        return icon;
+    }
+
+    public void setIcon(String icon) {
+        this.icon = icon;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public void setMessage(String message) {
+        this.message = message;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public void setLabel(String label) {
+        this.label = label;
+    }
+
+    public Boolean getIsActive() {
+        return isActive;
+    }
+
+    public void setIsActive(Boolean isActive) {
+        this.isActive = isActive;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "StatusMessageDto{" +
+                "id=" + id +
+                ", userId=" + userId +
+                ", message='" + message + '\'' +
+                ", isActive=" + isActive +
+                '}';
+    }
+}
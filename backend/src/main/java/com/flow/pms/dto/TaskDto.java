@@ -0,0 +1,181 @@
+package com.flow.pms.dto;
+
+import com.flow.pms.entity.Task;
+import io.micrometer.core.instrument.Counter;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * 업무 데이터 전송 객체 (DTO)
+ * API 요청/응답에서 사용되는 업무 데이터 구조
+ */
+public class TaskDto {
+
+    private static final Counter MAPPED_FROM_ENTITY = DtoMetrics.fromEntity(TaskDto.class);
+    private static final Counter MAPPED_FROM_PROJECTION = DtoMetrics.fromProjection(TaskDto.class);
+
+    private Long id;
+    private Long projectId;
+    private String projectTitle;
+    private String title;
+    private String description;
+    private String status;
+    private Long assigneeId;
+    private String assigneeName;
+    private LocalDate startDate;
+    private LocalDate dueDate;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // 기본 생성자
+    public TaskDto() {}
+
+    // Entity로부터 DTO 생성하는 생성자 (프로젝트/담당자는 지연 로딩이므로 트랜잭션 안에서 호출)
+    public TaskDto(Task task) {
+        MAPPED_FROM_ENTITY.increment();
+        this.id = task.getId();
+        this.title = task.getTitle();
+        this.description = task.getDescription();
+        this.status = task.getStatus();
+        this.startDate = task.getStartDate();
+        this.dueDate = task.getDueDate();
+        this.createdAt = task.getCreatedAt();
+        this.updatedAt = task.getUpdatedAt();
+
+        if (task.getProject() != null) {
+            this.projectId = task.getProject().getId();
+            this.projectTitle = task.getProject().getTitle();
+        }
+        if (task.getAssignee() != null) {
+            this.assigneeId = task.getAssignee().getId();
+            this.assigneeName = task.getAssignee().getDisplayName();
+        }
+    }
+
+    // 조회 쿼리 생성자 표현식용 (프로젝트 제목/담당자 표시명은 조인한 컬럼만 사용)
+    public TaskDto(Long id, Long projectId, String projectTitle, String title, String description, String status,
+                   Long assigneeId, String assigneeName, LocalDate startDate, LocalDate dueDate,
+                   LocalDateTime createdAt, LocalDateTime updatedAt) {
+        MAPPED_FROM_PROJECTION.increment();
+        this.id = id;
+        this.projectId = projectId;
+        this.projectTitle = projectTitle;
+        this.title = title;
+        this.description = description;
+        this.status = status;
+        this.assigneeId = assigneeId;
+        this.assigneeName = assigneeName;
+        this.startDate = startDate;
+        this.dueDate = dueDate;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    // Getter & Setter
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public String getProjectTitle() {
+        return projectTitle;
+    }
+
+    public void setProjectTitle(String projectTitle) {
+        this.projectTitle = projectTitle;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public Long getAssigneeId() {
+        return assigneeId;
+    }
+
+    public void setAssigneeId(Long assigneeId) {
+        this.assigneeId = assigneeId;
+    }
+
+    public String getAssigneeName() {
+        return assigneeName;
+    }
+
+    public void setAssigneeName(String assigneeName) {
+        this.assigneeName = assigneeName;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDate dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "TaskDto{" +
+                "id=" + id +
+                ", projectId=" + projectId +
+                ", title='" + title + '\'' +
+                ", status='" + status + '\'' +
+                ", assigneeName='" + assigneeName + '\'' +
+                '}';
+    }
+}
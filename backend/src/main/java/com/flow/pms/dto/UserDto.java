@@ -1,6 +1,9 @@
 package com.flow.pms.dto;
 
 import com.flow.pms.entity.User;
+import io.micrometer.core.instrument.Counter;
+import org.hibernate.Hibernate;
+
 import java.time.LocalDateTime;
 
 /**
@@ -9,6 +12,9 @@ import java.time.LocalDateTime;
  */
 public class UserDto {
 
+    private static final Counter MAPPED_FROM_ENTITY = DtoMetrics.fromEntity(UserDto.class);
+    private static final Counter MAPPED_FROM_PROJECTION = DtoMetrics.fromProjection(UserDto.class);
+
     private Long id;
     private String username;
     private String email;
@@ -26,6 +32,7 @@ public class UserDto {
 
     // Entity로부터 DTO 생성하는 생성자
     public UserDto(User user) {
+        MAPPED_FROM_ENTITY.increment();
         this.id = user.getId();
         this.username = user.getUsername();
         this.email = user.getEmail();
@@ -36,7 +43,33 @@ public class UserDto {
         this.isActive = user.getIsActive();
         this.createdAt = user.getCreatedAt();
         this.updatedAt = user.getUpdatedAt();
-        this.projectCount = user.getProjects().size();
+        // 지연 로딩 컬렉션을 초기화하지 않고 크기만 조회
+        this.projectCount = Hibernate.size(user.getProjects());
+    }
+
+    // 조회 쿼리 생성자 표현식용 (프로젝트 수 제외, 검색 인덱스 등)
+    public UserDto(Long id, String username, String email, String displayName, String profileIcon,
+                   String statusMessage, String role, Boolean isActive,
+                   LocalDateTime createdAt, LocalDateTime updatedAt) {
+        MAPPED_FROM_PROJECTION.increment();
+        this.id = id;
+        this.username = username;
+        this.email = email;
+        this.displayName = displayName;
+        this.profileIcon = profileIcon;
+        this.statusMessage = statusMessage;
+        this.role = role;
+        this.isActive = isActive;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+
+    // 조회 쿼리 생성자 표현식용 (프로젝트 수는 SIZE 서브쿼리로 함께 조회)
+    public UserDto(Long id, String username, String email, String displayName, String profileIcon,
+                   String statusMessage, String role, Boolean isActive,
+                   LocalDateTime createdAt, LocalDateTime updatedAt, Integer projectCount) {
+        this(id, username, email, displayName, profileIcon, statusMessage, role, isActive, createdAt, updatedAt);
+        this.projectCount = projectCount;
     }
 
     // 사용자 등록용 생성자
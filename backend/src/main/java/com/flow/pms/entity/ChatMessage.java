@@ -0,0 +1,87 @@
+package com.flow.pms.entity;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅 메시지 엔티티
+ * 프로젝트별 채팅방의 추가 전용(append-only) 기록으로, 저장 후 수정하지 않음
+ * 방/작성자는 ID로만 참조해 일괄 저장 시 연관 엔티티를 불러오지 않음
+ */
+@Entity
+@Immutable
+@Table(name = "chat_messages", indexes = {
+        // 방별 최신순 기록 조회 (id가 시간 순서를 따름)
+        @Index(name = "idx_chat_messages_project_id", columnList = "project_id, id")
+})
+public class ChatMessage {
+
+    // 애플리케이션에서 시간순 ID를 할당 (저장 전에 전달해야 하므로 DB 생성 키를 쓰지 않음)
+    @Id
+    private Long id;
+
+    @Column(name = "project_id", nullable = false)
+    private Long projectId;
+
+    @Column(name = "sender_id", nullable = false)
+    private Long senderId;
+
+    @Column(name = "sender_name", length = 100)
+    private String senderName;
+
+    @Column(nullable = false, length = 2000)
+    private String content;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    // 기본 생성자
+    public ChatMessage() {}
+
+    // 생성자
+    public ChatMessage(Long id, Long projectId, Long senderId, String senderName, String content,
+                       LocalDateTime createdAt) {
+        this.id = id;
+        this.projectId = projectId;
+        this.senderId = senderId;
+        this.senderName = senderName;
+        this.content = content;
+        this.createdAt = createdAt;
+    }
+
+    // Getter
+    public Long getId() {
+        return id;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public Long getSenderId() {
+        return senderId;
+    }
+
+    public String getSenderName() {
+        return senderName;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public String toString() {
+        return "ChatMessage{" +
+                "id=" + id +
+                ", projectId=" + projectId +
+                ", senderId=" + senderId +
+                '}';
+    }
+}
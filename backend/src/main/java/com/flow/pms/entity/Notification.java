@@ -0,0 +1,140 @@
+package com.flow.pms.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 엔티티 (사용자별 알림함)
+ * 알림 저장기가 수신자마다 한 행씩 일괄 저장하며, 수신자/대상은 ID로만 참조해 연관 엔티티를 불러오지 않음
+ * 읽지 않은 같은 대상의 알림이 묶음 기간 안에 있으면 새 행 대신 건수(eventCount)와 최근 내용만 갱신
+ */
+@Entity
+@Table(name = "notifications", indexes = {
+        // 알림함 최신순 조회
+        @Index(name = "idx_notifications_user_id", columnList = "user_id, id"),
+        // 읽지 않은 알림 수
+        @Index(name = "idx_notifications_user_read", columnList = "user_id, read_at"),
+        // 묶을 수 있는 기존 알림 조회 (대상 + 종류 + 수신자)
+        @Index(name = "idx_notifications_target_type_user", columnList = "target_id, type, user_id")
+})
+public class Notification {
+
+    public static final String TYPE_PROJECT_STATUS = "PROJECT_STATUS";    // 프로젝트 상태 변경
+    public static final String TYPE_PROJECT_UPDATED = "PROJECT_UPDATED";  // 프로젝트 내용 수정
+    public static final String TYPE_USER_STATUS = "USER_STATUS";          // 사용자 상태 메시지/아이콘 변경
+
+    // 시퀀스 + pooled-lo 할당 (수천 행을 한 번에 저장하므로 크게 할당)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notifications_seq")
+    @SequenceGenerator(name = "notifications_seq", sequenceName = "notifications_seq", allocationSize = 500)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(nullable = false, length = 30)
+    private String type;
+
+    // 알림 대상 (프로젝트 알림은 프로젝트 ID, 사용자 알림은 사용자 ID)
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Column(name = "actor_id")
+    private Long actorId;
+
+    @Column(nullable = false, length = 255)
+    private String title;
+
+    @Column(nullable = false, length = 500)
+    private String message;
+
+    // 이 알림으로 묶인 이벤트 수
+    @Column(name = "event_count", nullable = false)
+    private int eventCount = 1;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "last_event_at", nullable = false)
+    private LocalDateTime lastEventAt;
+
+    @Column(name = "read_at")
+    private LocalDateTime readAt;
+
+    // 기본 생성자
+    public Notification() {}
+
+    // 생성자
+    public Notification(Long userId, String type, Long targetId, Long actorId, String title, String message,
+                        int eventCount, LocalDateTime createdAt) {
+        this.userId = userId;
+        this.type = type;
+        this.targetId = targetId;
+        this.actorId = actorId;
+        this.title = title;
+        this.message = message;
+        this.eventCount = eventCount;
+        this.createdAt = createdAt;
+        this.lastEventAt = createdAt;
+    }
+
+    // Getter & Setter
+    public Long getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Long getTargetId() {
+        return targetId;
+    }
+
+    public Long getActorId() {
+        return actorId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getLastEventAt() {
+        return lastEventAt;
+    }
+
+    public LocalDateTime getReadAt() {
+        return readAt;
+    }
+
+    public void setReadAt(LocalDateTime readAt) {
+        this.readAt = readAt;
+    }
+
+    @Override
+    public String toString() {
+        return "Notification{" +
+                "id=" + id +
+                ", userId=" + userId +
+                ", type='" + type + '\'' +
+                ", targetId=" + targetId +
+                '}';
+    }
+}
@@ -1,10 +1,15 @@
 package com.flow.pms.entity;
 
+import com.flow.pms.util.HangulJamo;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 
 /**
@@ -12,17 +17,33 @@ import java.time.LocalDateTime;
  * Flow의 프로젝트 정보를 저장하는 데이터베이스 테이블
  */
 @Entity
-@Table(name = "projects")
+@Table(name = "projects", indexes = {
+        // 키셋 페이지네이션용 복합 인덱스 (조건 컬럼 + 정렬 시각 + id)
+        @Index(name = "idx_projects_created_id", columnList = "created_at, id"),
+        @Index(name = "idx_projects_public_created_id", columnList = "is_public, created_at, id"),
+        @Index(name = "idx_projects_owner_created_id", columnList = "owner_id, created_at, id"),
+        @Index(name = "idx_projects_category_created_id", columnList = "category, created_at, id"),
+        @Index(name = "idx_projects_status_created_id", columnList = "status, created_at, id"),
+        @Index(name = "idx_projects_updated_id", columnList = "updated_at, id")
+})
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "project-entities")  // 2차 캐시 (caffeine-jcache.conf)
 public class Project {
 
+    // 시퀀스 + pooled-lo 할당 (IDENTITY는 INSERT마다 키를 받아야 해서 JDBC 배치가 꺼짐)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "projects_seq")
+    @SequenceGenerator(name = "projects_seq", sequenceName = "projects_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 255)
     private String title;
 
+    // 제목 초성 문자열 (초성/입력 중인 음절 검색용, 저장 시 자동 계산, FULLTEXT ft_projects_initials)
+    @Column(name = "title_initials", length = 255)
+    private String titleInitials;
+
     @Column(length = 50)
     private String category;
 
@@ -38,10 +59,35 @@ public class Project {
     @Column(length = 1000)
     private String description;
 
+    // 설명 초성 문자열 (제목 초성과 함께 FULLTEXT ft_projects_initials, 저장 시 자동 계산)
+    @Column(name = "description_initials", length = 1000)
+    private String descriptionInitials;
+
+    // 일정 (캘린더/간트차트, 둘 중 하나만 있으면 그 날 하루짜리 일정)
+    @Column(name = "start_date")
+    private LocalDate startDate;
+
+    @Column(name = "due_date")
+    private LocalDate dueDate;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id")
     private User owner;
 
+    // 상태별 업무 수 (비정규화, 업무 변경과 같은 트랜잭션에서 증감해 목록 조회만으로 위젯을 그림)
+    // ProjectRepository.adjustTaskCounts로만 바뀜 (엔티티 flush가 읽어 둔 값으로 덮어쓰지 않도록 updatable = false)
+    @ColumnDefault("0")
+    @Column(name = "task_scheduled_count", nullable = false, updatable = false)
+    private Integer taskScheduledCount = 0;
+
+    @ColumnDefault("0")
+    @Column(name = "task_in_progress_count", nullable = false, updatable = false)
+    private Integer taskInProgressCount = 0;
+
+    @ColumnDefault("0")
+    @Column(name = "task_completed_count", nullable = false, updatable = false)
+    private Integer taskCompletedCount = 0;
+
     @CreatedDate
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
@@ -118,6 +164,22 @@ public class Project {
         this.description = description;
     }
 
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDate dueDate) {
+        this.dueDate = dueDate;
+    }
+
     public User getOwner() {
         return owner;
     }
@@ -126,6 +188,30 @@ public class Project {
         this.owner = owner;
     }
 
+    public Integer getTaskScheduledCount() {
+        return taskScheduledCount;
+    }
+
+    public void setTaskScheduledCount(Integer taskScheduledCount) {
+        this.taskScheduledCount = taskScheduledCount;
+    }
+
+    public Integer getTaskInProgressCount() {
+        return taskInProgressCount;
+    }
+
+    public void setTaskInProgressCount(Integer taskInProgressCount) {
+        this.taskInProgressCount = taskInProgressCount;
+    }
+
+    public Integer getTaskCompletedCount() {
+        return taskCompletedCount;
+    }
+
+    public void setTaskCompletedCount(Integer taskCompletedCount) {
+        this.taskCompletedCount = taskCompletedCount;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -142,6 +228,22 @@ public class Project {
         this.updatedAt = updatedAt;
     }
 
+    public String getTitleInitials() {
+        return titleInitials;
+    }
+
+    public String getDescriptionInitials() {
+        return descriptionInitials;
+    }
+
+    // 저장 직전에 제목/설명 초성 문자열 갱신
+    @PrePersist
+    @PreUpdate
+    void updateSearchInitials() {
+        this.titleInitials = HangulJamo.searchInitials(title);
+        this.descriptionInitials = HangulJamo.searchInitials(description);
+    }
+
     @Override
     public String toString() {
         return "Project{" +
@@ -0,0 +1,81 @@
+package com.flow.pms.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 프로젝트 구독자 엔티티
+ * 프로젝트의 상태 변경/수정 알림을 받는 사용자 (업무 담당자는 구독하지 않아도 알림을 받음)
+ */
+@Entity
+@Table(name = "project_watchers",
+        uniqueConstraints = @UniqueConstraint(name = "uk_project_watchers_project_user",
+                columnNames = {"project_id", "user_id"}),
+        indexes = {
+                // 사용자가 구독한 프로젝트 조회
+                @Index(name = "idx_project_watchers_user_id", columnList = "user_id")
+        })
+@EntityListeners(AuditingEntityListener.class)
+public class ProjectWatcher {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    @CreatedDate
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    // 기본 생성자
+    public ProjectWatcher() {}
+
+    // 생성자
+    public ProjectWatcher(Project project, User user) {
+        this.project = project;
+        this.user = user;
+    }
+
+    // Getter & Setter
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Project getProject() {
+        return project;
+    }
+
+    public void setProject(Project project) {
+        this.project = project;
+    }
+
+    public User getUser() {
+        return user;
+    }
+
+    public void setUser(User user) {
+        this.user = user;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,75 @@
+package com.flow.pms.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 시간대별 인기 검색어 집계 엔티티
+ * 검색어 집계기가 1시간 버킷마다 상위 검색어와 추정 검색 횟수를 주기적으로 저장 (버킷 단위로 교체)
+ * 기동 시 최근 7일분을 읽어 인기 검색어 집계를 복원
+ */
+@Entity
+@Table(name = "search_query_stats",
+        uniqueConstraints = @UniqueConstraint(name = "uk_search_query_stats_period_query",
+                columnNames = {"period_start", "query"}),
+        indexes = @Index(name = "idx_search_query_stats_period", columnList = "period_start"))
+public class SearchQueryStat {
+
+    // 시퀀스 + pooled-lo 할당 (버킷마다 수십 행을 한 번에 저장)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "search_query_stats_seq")
+    @SequenceGenerator(name = "search_query_stats_seq", sequenceName = "search_query_stats_seq", allocationSize = 100)
+    private Long id;
+
+    // 버킷 시작 시각 (정시)
+    @Column(name = "period_start", nullable = false)
+    private LocalDateTime periodStart;
+
+    // 정규화한 검색어
+    @Column(nullable = false, length = 100)
+    private String query;
+
+    // 버킷 안 추정 검색 횟수 (결과가 있었던 검색)
+    @Column(name = "query_count", nullable = false)
+    private long queryCount;
+
+    // 기본 생성자
+    public SearchQueryStat() {}
+
+    // 생성자
+    public SearchQueryStat(LocalDateTime periodStart, String query, long queryCount) {
+        this.periodStart = periodStart;
+        this.query = query;
+        this.queryCount = queryCount;
+    }
+
+    // Getter & Setter
+    public Long getId() {
+        return id;
+    }
+
+    public LocalDateTime getPeriodStart() {
+        return periodStart;
+    }
+
+    public void setPeriodStart(LocalDateTime periodStart) {
+        this.periodStart = periodStart;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public void setQuery(String query) {
+        this.query = query;
+    }
+
+    public long getQueryCount() {
+        return queryCount;
+    }
+
+    public void setQueryCount(long queryCount) {
+        this.queryCount = queryCount;
+    }
+}
@@ -9,9 +9,17 @@ import java.time.LocalDateTime;
 /**
  * 상태 메시지 엔티티
  * 사용자의 상태 메시지 히스토리를 저장하는 테이블
+ * 사용자마다 현재 상태 메시지 한 건만 isActive = true이며, 오래된 기록은 최근 K건만 남기고 정리
  */
 @Entity
-@Table(name = "status_messages")
+@Table(name = "status_messages", indexes = {
+        // 사용자별 기록 (최신순 조회, 오래된 기록 정리)
+        @Index(name = "idx_status_messages_user_id", columnList = "user_id, id"),
+        // 여러 사용자의 현재 상태 메시지
+        @Index(name = "idx_status_messages_user_active", columnList = "user_id, is_active"),
+        // 상태 메시지가 있는 사용자 (최근 설정순)
+        @Index(name = "idx_status_messages_active_created", columnList = "is_active, created_at")
+})
 @EntityListeners(AuditingEntityListener.class)
 public class StatusMessage {
 
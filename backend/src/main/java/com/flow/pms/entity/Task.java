@@ -0,0 +1,170 @@
+package com.flow.pms.entity;
+
+import jakarta.persistence.*;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 업무 엔티티
+ * 프로젝트에 속한 업무(할 일)와 담당자 정보를 저장하는 데이터베이스 테이블
+ * 상태별 업무 수는 Project에 비정규화해 두므로, 상태를 바꿀 때는 TaskService를 거쳐야 함
+ */
+@Entity
+@Table(name = "tasks", indexes = {
+        // 내 진행 중 업무 (담당자 + 상태, 생성일 최신순)
+        @Index(name = "idx_tasks_assignee_status_created_id", columnList = "assignee_id, status, created_at, id"),
+        // 프로젝트 상태별 업무 (프로젝트 + 상태, 생성일 최신순)
+        @Index(name = "idx_tasks_project_status_created_id", columnList = "project_id, status, created_at, id"),
+        // 기한 지난 업무 (상태 + 마감일)
+        @Index(name = "idx_tasks_status_due_id", columnList = "status, due_date, id"),
+        @Index(name = "idx_tasks_assignee_status_due_id", columnList = "assignee_id, status, due_date, id")
+})
+@EntityListeners(AuditingEntityListener.class)
+public class Task {
+
+    public static final String STATUS_SCHEDULED = "예정";
+    public static final String STATUS_IN_PROGRESS = "진행중";
+    public static final String STATUS_COMPLETED = "완료";
+
+    // 표시 순서
+    public static final List<String> STATUSES = List.of(STATUS_SCHEDULED, STATUS_IN_PROGRESS, STATUS_COMPLETED);
+    // 완료되지 않은 상태
+    public static final List<String> OPEN_STATUSES = List.of(STATUS_SCHEDULED, STATUS_IN_PROGRESS);
+
+    // 시퀀스 + pooled-lo 할당 (JDBC 배치 유지)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+    @SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "project_id", nullable = false)
+    private Project project;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "assignee_id")
+    private User assignee;
+
+    @Column(nullable = false, length = 255)
+    private String title;
+
+    @Column(length = 1000)
+    private String description;
+
+    @Column(nullable = false, length = 20)
+    private String status = STATUS_SCHEDULED;
+
+    // 일정 (시작일 없이 마감일만 있으면 마감일 하루짜리 일정)
+    @Column(name = "start_date")
+    private LocalDate startDate;
+
+    @Column(name = "due_date")
+    private LocalDate dueDate;
+
+    @CreatedDate
+    @Column(name = "created_at", updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    // 기본 생성자
+    public Task() {}
+
+    // Getter & Setter
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Project getProject() {
+        return project;
+    }
+
+    public void setProject(Project project) {
+        this.project = project;
+    }
+
+    public User getAssignee() {
+        return assignee;
+    }
+
+    public void setAssignee(User assignee) {
+        this.assignee = assignee;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public void setTitle(String title) {
+        this.title = title;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public void setStartDate(LocalDate startDate) {
+        this.startDate = startDate;
+    }
+
+    public LocalDate getDueDate() {
+        return dueDate;
+    }
+
+    public void setDueDate(LocalDate dueDate) {
+        this.dueDate = dueDate;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return "Task{" +
+                "id=" + id +
+                ", title='" + title + '\'' +
+                ", status='" + status + '\'' +
+                ", dueDate=" + dueDate +
+                '}';
+    }
+}
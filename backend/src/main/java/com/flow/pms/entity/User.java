@@ -1,6 +1,9 @@
 package com.flow.pms.entity;
 
+import com.flow.pms.util.HangulJamo;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -16,6 +19,8 @@ import java.util.List;
 @Entity
 @Table(name = "users")
 @EntityListeners(AuditingEntityListener.class)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user-entities")  // 2차 캐시 (caffeine-jcache.conf)
 public class User {
 
     @Id
@@ -37,6 +42,13 @@ public class User {
     @Column(length = 255)
     private String statusMessage;
 
+    // 표시명/상태 메시지 초성 문자열 (초성/입력 중인 음절 검색용, 저장 시 자동 계산)
+    @Column(name = "display_name_initials", length = 100)
+    private String displayNameInitials;
+
+    @Column(name = "status_message_initials", length = 255)
+    private String statusMessageInitials;
+
     @Column(length = 20)
     private String role = "USER";
 
@@ -153,6 +165,22 @@ public class User {
         this.updatedAt = updatedAt;
     }
 
+    public String getDisplayNameInitials() {
+        return displayNameInitials;
+    }
+
+    public String getStatusMessageInitials() {
+        return statusMessageInitials;
+    }
+
+    // 저장 직전에 초성 문자열 갱신
+    @PrePersist
+    @PreUpdate
+    void updateSearchInitials() {
+        this.displayNameInitials = HangulJamo.searchInitials(displayName);
+        this.statusMessageInitials = HangulJamo.searchInitials(statusMessage);
+    }
+
     // 편의 메서드
     public void addProject(Project project) {
         projects.add(project);
@@ -0,0 +1,11 @@
+package com.flow.pms.event;
+
+/**
+ * 엔티티 변경 유형
+ * 도메인 이벤트에서 어떤 종류의 변경이 일어났는지 표시
+ */
+public enum ChangeType {
+    CREATED,
+    UPDATED,
+    DELETED
+}
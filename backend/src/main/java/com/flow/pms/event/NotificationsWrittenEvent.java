@@ -0,0 +1,64 @@
+package com.flow.pms.event;
+
+import com.flow.pms.service.notification.NotificationRequest;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 알림 저장 완료 이벤트
+ * 알림 저장기가 한 번의 일괄 저장을 커밋한 뒤 발행하며, 읽지 않은 알림 수 캐시 무효화와 실시간 전달에 사용
+ */
+public class NotificationsWrittenEvent {
+
+    private final List<Delivery> deliveries;
+
+    public NotificationsWrittenEvent(List<Delivery> deliveries) {
+        this.deliveries = deliveries;
+    }
+
+    public List<Delivery> getDeliveries() {
+        return deliveries;
+    }
+
+    /**
+     * 요청 하나의 전달 결과 (새로 저장된 수신자 + 기존 알림에 묶인 수신자)
+     */
+    public static class Delivery {
+
+        private final NotificationRequest request;
+        private final Set<Long> recipients;
+        private final int inserted;
+        private final int digested;
+
+        public Delivery(NotificationRequest request, Set<Long> recipients, int inserted, int digested) {
+            this.request = request;
+            this.recipients = recipients;
+            this.inserted = inserted;
+            this.digested = digested;
+        }
+
+        public NotificationRequest getRequest() {
+            return request;
+        }
+
+        public Set<Long> getRecipients() {
+            return recipients;
+        }
+
+        public int getInserted() {
+            return inserted;
+        }
+
+        public int getDigested() {
+            return digested;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "NotificationsWrittenEvent{" +
+                "deliveries=" + deliveries.size() +
+                '}';
+    }
+}
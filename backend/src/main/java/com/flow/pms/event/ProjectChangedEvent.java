@@ -0,0 +1,58 @@
+package com.flow.pms.event;
+
+import com.flow.pms.dto.ProjectDto;
+
+/**
+ * 프로젝트 변경 이벤트
+ * ProjectService의 생성/수정/삭제 시 발행되며, 커밋 이후 검색 인덱스 등에서 사용
+ */
+public class ProjectChangedEvent {
+
+    private final ChangeType changeType;
+    private final Long projectId;
+    private final ProjectDto project;    // 변경 후 스냅샷 (삭제 시 삭제 직전 값)
+    private final ProjectDto previous;   // 변경 전 스냅샷 (생성 시 null)
+
+    public ProjectChangedEvent(ChangeType changeType, Long projectId, ProjectDto project, ProjectDto previous) {
+        this.changeType = changeType;
+        this.projectId = projectId;
+        this.project = project;
+        this.previous = previous;
+    }
+
+    public static ProjectChangedEvent created(ProjectDto project) {
+        return new ProjectChangedEvent(ChangeType.CREATED, project.getId(), project, null);
+    }
+
+    public static ProjectChangedEvent updated(ProjectDto project, ProjectDto previous) {
+        return new ProjectChangedEvent(ChangeType.UPDATED, project.getId(), project, previous);
+    }
+
+    public static ProjectChangedEvent deleted(ProjectDto project) {
+        return new ProjectChangedEvent(ChangeType.DELETED, project.getId(), project, project);
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public ProjectDto getProject() {
+        return project;
+    }
+
+    public ProjectDto getPrevious() {
+        return previous;
+    }
+
+    @Override
+    public String toString() {
+        return "ProjectChangedEvent{" +
+                "changeType=" + changeType +
+                ", projectId=" + projectId +
+                '}';
+    }
+}
@@ -0,0 +1,68 @@
+package com.flow.pms.event;
+
+import com.flow.pms.dto.TaskDto;
+
+import java.util.Objects;
+
+/**
+ * 업무 변경 이벤트
+ * TaskService의 생성/수정/삭제 시 발행되며, 커밋 이후 프로젝트 캐시(상태별 업무 수) 무효화 등에서 사용
+ */
+public class TaskChangedEvent {
+
+    private final ChangeType changeType;
+    private final Long taskId;
+    private final TaskDto task;      // 변경 후 스냅샷 (삭제 시 삭제 직전 값)
+    private final TaskDto previous;  // 변경 전 스냅샷 (생성 시 null)
+
+    public TaskChangedEvent(ChangeType changeType, Long taskId, TaskDto task, TaskDto previous) {
+        this.changeType = changeType;
+        this.taskId = taskId;
+        this.task = task;
+        this.previous = previous;
+    }
+
+    public static TaskChangedEvent created(TaskDto task) {
+        return new TaskChangedEvent(ChangeType.CREATED, task.getId(), task, null);
+    }
+
+    public static TaskChangedEvent updated(TaskDto task, TaskDto previous) {
+        return new TaskChangedEvent(ChangeType.UPDATED, task.getId(), task, previous);
+    }
+
+    public static TaskChangedEvent deleted(TaskDto task) {
+        return new TaskChangedEvent(ChangeType.DELETED, task.getId(), task, task);
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public Long getTaskId() {
+        return taskId;
+    }
+
+    public TaskDto getTask() {
+        return task;
+    }
+
+    public TaskDto getPrevious() {
+        return previous;
+    }
+
+    /**
+     * 프로젝트의 상태별 업무 수가 바뀌는 변경인지 (생성/삭제 또는 상태 변경)
+     */
+    public boolean changesStatusCounts() {
+        return changeType != ChangeType.UPDATED
+                || !Objects.equals(task.getStatus(), previous.getStatus());
+    }
+
+    @Override
+    public String toString() {
+        return "TaskChangedEvent{" +
+                "changeType=" + changeType +
+                ", taskId=" + taskId +
+                '}';
+    }
+}
@@ -0,0 +1,54 @@
+package com.flow.pms.event;
+
+import com.flow.pms.dto.UserDto;
+
+/**
+ * 사용자 변경 이벤트
+ * UserService의 생성/수정/상태 변경 시 발행되며, 커밋 이후 검색 인덱스 등에서 사용
+ */
+public class UserChangedEvent {
+
+    private final ChangeType changeType;
+    private final Long userId;
+    private final UserDto user;      // 변경 후 스냅샷
+    private final UserDto previous;  // 변경 전 스냅샷 (생성 시 null)
+
+    public UserChangedEvent(ChangeType changeType, Long userId, UserDto user, UserDto previous) {
+        this.changeType = changeType;
+        this.userId = userId;
+        this.user = user;
+        this.previous = previous;
+    }
+
+    public static UserChangedEvent created(UserDto user) {
+        return new UserChangedEvent(ChangeType.CREATED, user.getId(), user, null);
+    }
+
+    public static UserChangedEvent updated(UserDto user, UserDto previous) {
+        return new UserChangedEvent(ChangeType.UPDATED, user.getId(), user, previous);
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public UserDto getUser() {
+        return user;
+    }
+
+    public UserDto getPrevious() {
+        return previous;
+    }
+
+    @Override
+    public String toString() {
+        return "UserChangedEvent{" +
+                "changeType=" + changeType +
+                ", userId=" + userId +
+                '}';
+    }
+}
@@ -0,0 +1,27 @@
+package com.flow.pms.repository;
+
+import com.flow.pms.dto.ChatMessageDto;
+import com.flow.pms.entity.ChatMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 채팅 메시지 데이터 액세스 레이어
+ * 저장은 ChatMessageWriter가 일괄로 수행하고, 여기서는 기록 조회만 담당
+ */
+@Repository
+public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
+
+    // 채팅방 기록 조회 (beforeId보다 이전 메시지, 최신순)
+    @Query("SELECT new com.flow.pms.dto.ChatMessageDto(m.id, m.projectId, m.senderId, m.senderName, " +
+            "m.content, m.createdAt) FROM ChatMessage m " +
+            "WHERE m.projectId = :projectId AND m.id < :beforeId ORDER BY m.id DESC")
+    List<ChatMessageDto> findHistory(@Param("projectId") Long projectId,
+                                     @Param("beforeId") Long beforeId,
+                                     Pageable pageable);
+}
@@ -0,0 +1,56 @@
+package com.flow.pms.repository;
+
+import com.flow.pms.dto.NotificationDto;
+import com.flow.pms.entity.Notification;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 알림 데이터 액세스 레이어
+ */
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+
+    // 알림함 조회 (id 최신순, beforeId 이전) - idx_notifications_user_id
+    @Query("SELECT new com.flow.pms.dto.NotificationDto(n.id, n.type, n.targetId, n.actorId, n.title, n.message, " +
+           "n.eventCount, n.createdAt, n.lastEventAt, n.readAt) FROM Notification n " +
+           "WHERE n.userId = :userId AND n.id < :beforeId ORDER BY n.id DESC")
+    List<NotificationDto> findInbox(@Param("userId") Long userId, @Param("beforeId") Long beforeId,
+                                    Pageable pageable);
+
+    // 읽지 않은 알림 수 - idx_notifications_user_read
+    @Query("SELECT COUNT(n) FROM Notification n WHERE n.userId = :userId AND n.readAt IS NULL")
+    long countUnread(@Param("userId") Long userId);
+
+    // 묶을 수 있는 기존 알림 (읽지 않았고 묶음 기간 안에 생성됨): [알림 ID, 수신자 ID]
+    @Query("SELECT n.id, n.userId FROM Notification n " +
+           "WHERE n.targetId = :targetId AND n.type = :type AND n.userId IN :userIds " +
+           "AND n.readAt IS NULL AND n.createdAt >= :since")
+    List<Object[]> findDigestable(@Param("type") String type, @Param("targetId") Long targetId,
+                                  @Param("userIds") Collection<Long> userIds, @Param("since") LocalDateTime since);
+
+    // 기존 알림에 이벤트 묶기 (건수 증가, 최근 내용으로 교체)
+    @Modifying
+    @Query("UPDATE Notification n SET n.eventCount = n.eventCount + :count, n.title = :title, " +
+           "n.message = :message, n.actorId = :actorId, n.lastEventAt = :at WHERE n.id IN :ids")
+    int digest(@Param("ids") Collection<Long> ids, @Param("count") int count, @Param("title") String title,
+               @Param("message") String message, @Param("actorId") Long actorId, @Param("at") LocalDateTime at);
+
+    // 알림 하나 읽음 처리 (본인 알림만)
+    @Modifying
+    @Query("UPDATE Notification n SET n.readAt = :at WHERE n.id = :id AND n.userId = :userId AND n.readAt IS NULL")
+    int markRead(@Param("id") Long id, @Param("userId") Long userId, @Param("at") LocalDateTime at);
+
+    // 모든 알림 읽음 처리
+    @Modifying
+    @Query("UPDATE Notification n SET n.readAt = :at WHERE n.userId = :userId AND n.readAt IS NULL")
+    int markAllRead(@Param("userId") Long userId, @Param("at") LocalDateTime at);
+}
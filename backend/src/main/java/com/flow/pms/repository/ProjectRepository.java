@@ -1,25 +1,46 @@
 package com.flow.pms.repository;
 
+import com.flow.pms.dto.ProjectDto;
 import com.flow.pms.entity.Project;
 import com.flow.pms.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 프로젝트 데이터 액세스 레이어
  * JPA Repository를 통한 데이터베이스 작업
+ * 조회 전용 경로는 엔티티 대신 ProjectDto 생성자 표현식으로 필요한 컬럼만 조회 (소유자 지연 로딩 N+1 방지)
  */
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, Long> {
 
+    // ProjectDto 조회용 SELECT 절 (소유자 ID/표시명은 조인한 컬럼만 사용)
+    String PROJECT_DTO_SELECT = "SELECT new com.flow.pms.dto.ProjectDto(p.id, p.title, p.category, p.isPublic, " +
+            "p.hasAdminAccess, p.status, p.description, p.startDate, p.dueDate, o.id, o.displayName, " +
+            "p.taskScheduledCount, p.taskInProgressCount, p.taskCompletedCount, p.createdAt, p.updatedAt) " +
+            "FROM Project p LEFT JOIN p.owner o ";
+
+    // 내보내기 스트림의 JDBC fetch size
+    String EXPORT_FETCH_SIZE = "500";
+
+    // 프로젝트 단건 조회 (DTO)
+    @Query(PROJECT_DTO_SELECT + "WHERE p.id = :id")
+    Optional<ProjectDto> findDtoById(@Param("id") Long id);
+
     // 사용자별 프로젝트 조회
     List<Project> findByOwnerOrderByCreatedAtDesc(User owner);
 
@@ -43,9 +64,16 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     List<Project> findByTitleContainingIgnoreCase(@Param("title") String title);
 
     // 제목 또는 설명으로 프로젝트 검색
-    @Query("SELECT p FROM Project p WHERE LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+    @Query(PROJECT_DTO_SELECT + "WHERE LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
            "OR LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY p.createdAt DESC")
-    List<Project> searchByTitleOrDescription(@Param("keyword") String keyword);
+    List<ProjectDto> searchByTitleOrDescription(@Param("keyword") String keyword);
+
+    // 제목 또는 설명으로 프로젝트 검색 (상위 N개만 조회)
+    @Query(value = PROJECT_DTO_SELECT + "WHERE LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+           "OR LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%')) ORDER BY p.createdAt DESC",
+           countQuery = "SELECT COUNT(p) FROM Project p WHERE LOWER(p.title) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+           "OR LOWER(p.description) LIKE LOWER(CONCAT('%', :keyword, '%'))")
+    Page<ProjectDto> searchByTitleOrDescription(@Param("keyword") String keyword, Pageable pageable);
 
     // 사용자의 특정 카테고리 프로젝트 조회
     List<Project> findByOwnerAndCategoryOrderByCreatedAtDesc(User owner, String category);
@@ -69,6 +97,22 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     // ID와 소유자로 프로젝트 조회 (권한 체크용)
     Optional<Project> findByIdAndOwner(Long id, User owner);
 
+    // 일괄 수정 권한 체크용 (ID 묶음당 쿼리 한 번, 소유하지 않은 ID는 결과에서 빠짐)
+    @Query("SELECT p FROM Project p JOIN FETCH p.owner o WHERE p.id IN :ids AND o.id = :ownerId")
+    List<Project> findOwnedByIds(@Param("ids") Collection<Long> ids, @Param("ownerId") Long ownerId);
+
+    // 상태별 업무 수 증감 (행 잠금으로 원자적으로 반영, updatedAt은 바꾸지 않음)
+    // 쿼리 공간을 실제 테이블(projects)로 지정해 Hibernate가 project-entities 2차 캐시 영역을 무효화하도록 함
+    // (캐시된 엔티티가 이전 업무 수를 돌려주지 않도록, 영역 전체가 비워지는 비용은 업무 상태 변경 때만 발생)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "projects"))
+    @Query(value = "UPDATE projects SET task_scheduled_count = task_scheduled_count + :scheduled, " +
+                   "task_in_progress_count = task_in_progress_count + :inProgress, " +
+                   "task_completed_count = task_completed_count + :completed WHERE id = :id",
+           nativeQuery = true)
+    int adjustTaskCounts(@Param("id") Long id, @Param("scheduled") int scheduled,
+                         @Param("inProgress") int inProgress, @Param("completed") int completed);
+
     // 최근 N일 동안 생성된 프로젝트
     @Query("SELECT p FROM Project p WHERE p.createdAt >= :startDate ORDER BY p.createdAt DESC")
     List<Project> findProjectsCreatedSince(@Param("startDate") LocalDateTime startDate);
@@ -76,4 +120,120 @@ public interface ProjectRepository extends JpaRepository<Project, Long> {
     // 사용자의 프로젝트 중 가장 최근 업데이트
     @Query("SELECT p FROM Project p WHERE p.owner = :owner ORDER BY p.updatedAt DESC")
     List<Project> findTopByOwnerOrderByUpdatedAtDesc(@Param("owner") User owner, Pageable pageable);
-}
\ No newline at end of file
+
+    // 카테고리별 프로젝트 수 (통계 카운터 대조용)
+    @Query("SELECT p.category, COUNT(p) FROM Project p GROUP BY p.category")
+    List<Object[]> countProjectsByCategory();
+
+    // 상태별 프로젝트 수 (통계 카운터 대조용)
+    @Query("SELECT p.status, COUNT(p) FROM Project p GROUP BY p.status")
+    List<Object[]> countProjectsByStatus();
+
+    // 소유자별 프로젝트 수 (통계 카운터 대조용)
+    @Query("SELECT o.id, COUNT(p) FROM Project p LEFT JOIN p.owner o GROUP BY o.id")
+    List<Object[]> countProjectsByOwner();
+
+    // 제목별 프로젝트 수 (자동완성 가중치용)
+    @Query("SELECT p.title, COUNT(p) FROM Project p GROUP BY p.title")
+    List<Object[]> countProjectsByTitle();
+
+    // 검색 인덱스 구축용 ID 기준 배치 조회
+    @Query(PROJECT_DTO_SELECT + "WHERE p.id > :afterId ORDER BY p.id")
+    List<ProjectDto> findIndexBatch(@Param("afterId") Long afterId, Pageable pageable);
+
+    // ---- 키셋 페이지네이션 (createdAt DESC, id DESC / updatedAt DESC, id DESC) ----
+    // (정렬 시각, id)가 커서보다 뒤인 행만 LIMIT 만큼 조회
+
+    @Query(PROJECT_DTO_SELECT +
+           "WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProjectDto> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                   Pageable pageable);
+
+    @Query(PROJECT_DTO_SELECT + "WHERE p.isPublic = true " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProjectDto> findPublicPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                         Pageable pageable);
+
+    @Query(PROJECT_DTO_SELECT + "WHERE o.id = :ownerId " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProjectDto> findOwnerPageAfter(@Param("ownerId") Long ownerId,
+                                        @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                        Pageable pageable);
+
+    @Query(PROJECT_DTO_SELECT + "WHERE p.category = :category " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProjectDto> findCategoryPageAfter(@Param("category") String category,
+                                           @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                           Pageable pageable);
+
+    @Query(PROJECT_DTO_SELECT + "WHERE p.status = :status " +
+           "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<ProjectDto> findStatusPageAfter(@Param("status") String status,
+                                         @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                         Pageable pageable);
+
+    @Query(PROJECT_DTO_SELECT + "WHERE p.updatedAt >= :since " +
+           "AND (p.updatedAt < :updatedAt OR (p.updatedAt = :updatedAt AND p.id < :id)) " +
+           "ORDER BY p.updatedAt DESC, p.id DESC")
+    List<ProjectDto> findRecentlyUpdatedPageAfter(@Param("since") LocalDateTime since,
+                                                  @Param("updatedAt") LocalDateTime updatedAt, @Param("id") Long id,
+                                                  Pageable pageable);
+
+    // 내보내기용 전체 스트림 (ID순, 전방 전용 커서로 fetch size만큼씩 읽음, 트랜잭션 안에서 소비 후 close 필요)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(PROJECT_DTO_SELECT + "ORDER BY p.id")
+    Stream<ProjectDto> streamAllForExport();
+
+    // ---- MySQL FULLTEXT 검색 (app.search.backend=fulltext, ft_projects_title_description) ----
+
+    // 검색어(BOOLEAN MODE)에 일치하는 프로젝트 ID (생성일 최신순, 최대 limit건)
+    @Query(value = "SELECT p.id FROM projects p " +
+                   "WHERE MATCH(p.title, p.description) AGAINST (:query IN BOOLEAN MODE) " +
+                   "ORDER BY p.created_at DESC, p.id DESC LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsByFullText(@Param("query") String query, @Param("limit") int limit);
+
+    // 검색어(BOOLEAN MODE)에 일치하는 프로젝트 ID (FULLTEXT 관련도순, 최대 limit건)
+    @Query(value = "SELECT p.id FROM projects p " +
+                   "WHERE MATCH(p.title, p.description) AGAINST (:query IN BOOLEAN MODE) " +
+                   "ORDER BY MATCH(p.title, p.description) AGAINST (:query IN BOOLEAN MODE) DESC, p.id DESC " +
+                   "LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsByFullTextRelevance(@Param("query") String query, @Param("limit") int limit);
+
+    // 제목/설명 초성 문자열(BOOLEAN MODE)에 일치하는 프로젝트 ID (생성일 최신순, 최대 limit건) - ft_projects_initials
+    @Query(value = "SELECT p.id FROM projects p " +
+                   "WHERE MATCH(p.title_initials, p.description_initials) AGAINST (:query IN BOOLEAN MODE) " +
+                   "ORDER BY p.created_at DESC, p.id DESC LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsByInitialsFullText(@Param("query") String query, @Param("limit") int limit);
+
+    // 제목/설명 초성 문자열이 key를 포함하는 프로젝트 ID (ngram 토큰보다 짧은 초성 검색어용)
+    @Query("SELECT p.id FROM Project p WHERE p.titleInitials LIKE CONCAT('%', :key, '%') " +
+           "OR p.descriptionInitials LIKE CONCAT('%', :key, '%') " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Long> findIdsByInitialsContaining(@Param("key") String key, Pageable pageable);
+
+    // 초성 문자열이 비어 있는 프로젝트 (id, 제목, 설명) - 기존 행 보정용, id 순
+    @Query("SELECT p.id, p.title, p.description FROM Project p " +
+           "WHERE (p.titleInitials IS NULL OR (p.descriptionInitials IS NULL AND p.description IS NOT NULL)) " +
+           "AND p.id > :afterId ORDER BY p.id")
+    List<Object[]> findTextsWithoutInitials(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 초성 문자열만 갱신 (수정 시각 유지)
+    @Modifying
+    @Query("UPDATE Project p SET p.titleInitials = :titleInitials, " +
+           "p.descriptionInitials = :descriptionInitials WHERE p.id = :id")
+    int updateSearchInitials(@Param("id") Long id,
+                             @Param("titleInitials") String titleInitials,
+                             @Param("descriptionInitials") String descriptionInitials);
+
+    // ID 목록으로 프로젝트 조회 (DTO, 순서 보장 없음)
+    @Query(PROJECT_DTO_SELECT + "WHERE p.id IN :ids")
+    List<ProjectDto> findDtosByIdIn(@Param("ids") Collection<Long> ids);
+}
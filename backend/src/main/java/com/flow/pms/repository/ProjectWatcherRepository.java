@@ -0,0 +1,40 @@
+package com.flow.pms.repository;
+
+import com.flow.pms.entity.ProjectWatcher;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 프로젝트 구독자 데이터 액세스 레이어
+ * 알림 수신자 조회는 사용자 ID만 읽음 (엔티티를 불러오지 않음)
+ */
+@Repository
+public interface ProjectWatcherRepository extends JpaRepository<ProjectWatcher, Long> {
+
+    boolean existsByProjectIdAndUserId(Long projectId, Long userId);
+
+    long countByProjectId(Long projectId);
+
+    // 프로젝트 구독자 ID
+    @Query("SELECT w.user.id FROM ProjectWatcher w WHERE w.project.id = :projectId")
+    List<Long> findUserIdsByProjectId(@Param("projectId") Long projectId);
+
+    // 사용자가 소유한 프로젝트들의 구독자 ID
+    @Query("SELECT DISTINCT w.user.id FROM ProjectWatcher w WHERE w.project.owner.id = :ownerId")
+    List<Long> findUserIdsByProjectOwnerId(@Param("ownerId") Long ownerId);
+
+    // 구독 해제
+    @Modifying
+    @Query("DELETE FROM ProjectWatcher w WHERE w.project.id = :projectId AND w.user.id = :userId")
+    int deleteByProjectIdAndUserId(@Param("projectId") Long projectId, @Param("userId") Long userId);
+
+    // 프로젝트 삭제 시 구독 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM ProjectWatcher w WHERE w.project.id = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+}
@@ -0,0 +1,32 @@
+package com.flow.pms.repository;
+
+import com.flow.pms.entity.SearchQueryStat;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 시간대별 인기 검색어 집계 데이터 액세스 레이어
+ */
+@Repository
+public interface SearchQueryStatRepository extends JpaRepository<SearchQueryStat, Long> {
+
+    // 집계 복원용 (버킷 시작 시각, 검색어, 횟수) - idx_search_query_stats_period
+    @Query("SELECT s.periodStart, s.query, s.queryCount FROM SearchQueryStat s WHERE s.periodStart >= :since")
+    List<Object[]> findSince(@Param("since") LocalDateTime since);
+
+    // 버킷 교체 전 기존 행 삭제
+    @Modifying
+    @Query("DELETE FROM SearchQueryStat s WHERE s.periodStart = :periodStart")
+    int deleteByPeriodStart(@Param("periodStart") LocalDateTime periodStart);
+
+    // 보관 기간이 지난 버킷 삭제
+    @Modifying
+    @Query("DELETE FROM SearchQueryStat s WHERE s.periodStart < :cutoff")
+    int deleteOlderThan(@Param("cutoff") LocalDateTime cutoff);
+}
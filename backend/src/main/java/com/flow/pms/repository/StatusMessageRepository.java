@@ -0,0 +1,65 @@
+package com.flow.pms.repository;
+
+import com.flow.pms.dto.StatusMessageDto;
+import com.flow.pms.entity.StatusMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 상태 메시지 기록 데이터 액세스 레이어
+ */
+@Repository
+public interface StatusMessageRepository extends JpaRepository<StatusMessage, Long> {
+
+    // StatusMessageDto 조회용 SELECT 절 (사용자는 FK 컬럼만 사용, 조인 없음)
+    String STATUS_MESSAGE_DTO_SELECT = "SELECT new com.flow.pms.dto.StatusMessageDto(s.id, s.user.id, s.icon, " +
+            "s.message, s.label, s.isActive, s.createdAt) FROM StatusMessage s ";
+
+    // 사용자 기록 (최신순) - idx_status_messages_user_id
+    @Query(STATUS_MESSAGE_DTO_SELECT + "WHERE s.user.id = :userId ORDER BY s.id DESC")
+    List<StatusMessageDto> findHistory(@Param("userId") Long userId, Pageable pageable);
+
+    // 여러 사용자의 현재 상태 메시지 - idx_status_messages_user_active
+    @Query(STATUS_MESSAGE_DTO_SELECT + "WHERE s.user.id IN :userIds AND s.isActive = true")
+    List<StatusMessageDto> findActiveByUserIds(@Param("userIds") Collection<Long> userIds);
+
+    // 현재 상태 메시지 비활성화 (새 메시지 기록 전, 메시지 삭제 시)
+    @Modifying
+    @Query("UPDATE StatusMessage s SET s.isActive = false WHERE s.user.id = :userId AND s.isActive = true")
+    int deactivateByUserId(@Param("userId") Long userId);
+
+    // 상태 메시지는 있는데 현재 기록이 없는 사용자 보정 (기록 기능 도입 전 데이터)
+    @Modifying
+    @Query("INSERT INTO StatusMessage (user, icon, message, isActive, createdAt) " +
+           "SELECT u, COALESCE(u.profileIcon, '😊'), u.statusMessage, true, COALESCE(u.updatedAt, CURRENT_TIMESTAMP) " +
+           "FROM User u WHERE u.statusMessage IS NOT NULL AND u.statusMessage <> '' " +
+           "AND NOT EXISTS (SELECT 1 FROM StatusMessage s WHERE s.user = u AND s.isActive = true)")
+    int backfillActive();
+
+    // ---- 오래된 기록 정리 ----
+
+    // 기록이 limit건을 넘는 사용자 (전체 점검)
+    @Query("SELECT s.user.id FROM StatusMessage s GROUP BY s.user.id HAVING COUNT(s) > :limit")
+    List<Long> findUserIdsOverLimit(@Param("limit") long limit);
+
+    // 기록이 limit건을 넘는 사용자 (지정한 사용자 중)
+    @Query("SELECT s.user.id FROM StatusMessage s WHERE s.user.id IN :userIds " +
+           "GROUP BY s.user.id HAVING COUNT(s) > :limit")
+    List<Long> findUserIdsOverLimit(@Param("userIds") Collection<Long> userIds, @Param("limit") long limit);
+
+    // 사용자 기록 ID (최신순) - offset을 보관 건수로 주면 지울 첫 기록을 찾음
+    @Query("SELECT s.id FROM StatusMessage s WHERE s.user.id = :userId ORDER BY s.id DESC")
+    List<Long> findIdsByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 기준 ID 이하 기록 삭제
+    @Modifying
+    @Query("DELETE FROM StatusMessage s WHERE s.user.id = :userId AND s.id <= :maxId")
+    int deleteByUserIdUpTo(@Param("userId") Long userId, @Param("maxId") Long maxId);
+}
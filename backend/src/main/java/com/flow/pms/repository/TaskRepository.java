@@ -0,0 +1,87 @@
+package com.flow.pms.repository;
+
+import com.flow.pms.dto.TaskDto;
+import com.flow.pms.entity.Task;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 업무 데이터 액세스 레이어
+ * 목록 조회는 상태 하나씩 (조건 컬럼 + 상태 + 정렬 컬럼 + id) 인덱스 범위만 읽도록 작성하고,
+ * 여러 상태를 합친 결과는 TaskService에서 병합 (IN 조건은 인덱스 순서를 쓰지 못해 정렬이 생김)
+ */
+@Repository
+public interface TaskRepository extends JpaRepository<Task, Long> {
+
+    // TaskDto 조회용 SELECT 절 (프로젝트 제목/담당자 표시명은 조인한 컬럼만 사용)
+    String TASK_DTO_SELECT = "SELECT new com.flow.pms.dto.TaskDto(t.id, p.id, p.title, t.title, t.description, " +
+            "t.status, a.id, a.displayName, t.startDate, t.dueDate, t.createdAt, t.updatedAt) " +
+            "FROM Task t JOIN t.project p LEFT JOIN t.assignee a ";
+
+    // 업무 단건 조회 (DTO)
+    @Query(TASK_DTO_SELECT + "WHERE t.id = :id")
+    Optional<TaskDto> findDtoById(@Param("id") Long id);
+
+    // 수정/삭제 권한 체크용 (프로젝트 소유자까지 함께 조회)
+    @Query("SELECT t FROM Task t JOIN FETCH t.project p LEFT JOIN FETCH p.owner LEFT JOIN FETCH t.assignee " +
+           "WHERE t.id = :id")
+    Optional<Task> findWithProjectById(@Param("id") Long id);
+
+    // 프로젝트 삭제 시 업무 일괄 삭제
+    @Modifying
+    @Query("DELETE FROM Task t WHERE t.project.id = :projectId")
+    int deleteByProjectId(@Param("projectId") Long projectId);
+
+    // 프로젝트 업무 담당자 ID (알림 수신자)
+    @Query("SELECT DISTINCT t.assignee.id FROM Task t WHERE t.project.id = :projectId AND t.assignee IS NOT NULL")
+    List<Long> findAssigneeIdsByProjectId(@Param("projectId") Long projectId);
+
+    // 일정 인덱스 구축용 ID 기준 배치 조회 (시작일이나 마감일이 있는 업무만)
+    @Query(TASK_DTO_SELECT + "WHERE t.id > :afterId AND (t.startDate IS NOT NULL OR t.dueDate IS NOT NULL) " +
+           "ORDER BY t.id")
+    List<TaskDto> findScheduleBatch(@Param("afterId") Long afterId, Pageable pageable);
+
+    // ---- 키셋 페이지네이션 ----
+
+    // 담당자의 특정 상태 업무 (createdAt DESC, id DESC) - idx_tasks_assignee_status_created_id
+    @Query(TASK_DTO_SELECT + "WHERE t.assignee.id = :assigneeId AND t.status = :status " +
+           "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TaskDto> findAssigneePageAfter(@Param("assigneeId") Long assigneeId, @Param("status") String status,
+                                        @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                        Pageable pageable);
+
+    // 프로젝트의 특정 상태 업무 (createdAt DESC, id DESC) - idx_tasks_project_status_created_id
+    @Query(TASK_DTO_SELECT + "WHERE t.project.id = :projectId AND t.status = :status " +
+           "AND (t.createdAt < :createdAt OR (t.createdAt = :createdAt AND t.id < :id)) " +
+           "ORDER BY t.createdAt DESC, t.id DESC")
+    List<TaskDto> findProjectPageAfter(@Param("projectId") Long projectId, @Param("status") String status,
+                                       @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                       Pageable pageable);
+
+    // 특정 상태의 기한 지난 업무 (dueDate DESC, id DESC) - idx_tasks_status_due_id
+    @Query(TASK_DTO_SELECT + "WHERE t.status = :status AND t.dueDate < :today " +
+           "AND (t.dueDate < :dueDate OR (t.dueDate = :dueDate AND t.id < :id)) " +
+           "ORDER BY t.dueDate DESC, t.id DESC")
+    List<TaskDto> findOverduePageAfter(@Param("status") String status, @Param("today") LocalDate today,
+                                       @Param("dueDate") LocalDate dueDate, @Param("id") Long id,
+                                       Pageable pageable);
+
+    // 담당자의 특정 상태 기한 지난 업무 (dueDate DESC, id DESC) - idx_tasks_assignee_status_due_id
+    @Query(TASK_DTO_SELECT + "WHERE t.assignee.id = :assigneeId AND t.status = :status AND t.dueDate < :today " +
+           "AND (t.dueDate < :dueDate OR (t.dueDate = :dueDate AND t.id < :id)) " +
+           "ORDER BY t.dueDate DESC, t.id DESC")
+    List<TaskDto> findAssigneeOverduePageAfter(@Param("assigneeId") Long assigneeId, @Param("status") String status,
+                                               @Param("today") LocalDate today,
+                                               @Param("dueDate") LocalDate dueDate, @Param("id") Long id,
+                                               Pageable pageable);
+}
@@ -1,24 +1,57 @@
 package com.flow.pms.repository;
 
+import com.flow.pms.dto.UserDto;
 import com.flow.pms.entity.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * 사용자 데이터 액세스 레이어
  * JPA Repository를 통한 사용자 관련 데이터베이스 작업
+ * 조회 전용 경로는 엔티티 대신 UserDto 생성자 표현식으로 필요한 컬럼만 조회 (프로젝트 컬렉션 로딩 방지)
  */
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    // UserDto 조회용 SELECT 절 (프로젝트 수는 컬렉션 대신 SIZE 서브쿼리로 계산)
+    String USER_DTO_SELECT = "SELECT new com.flow.pms.dto.UserDto(u.id, u.username, u.email, u.displayName, " +
+            "u.profileIcon, u.statusMessage, u.role, u.isActive, u.createdAt, u.updatedAt, SIZE(u.projects)) " +
+            "FROM User u ";
+
+    // 프로젝트 수가 필요 없는 검색 경로용 SELECT 절
+    String USER_SUMMARY_SELECT = "SELECT new com.flow.pms.dto.UserDto(u.id, u.username, u.email, u.displayName, " +
+            "u.profileIcon, u.statusMessage, u.role, u.isActive, u.createdAt, u.updatedAt) " +
+            "FROM User u ";
+
+    // 내보내기 스트림의 JDBC fetch size
+    String EXPORT_FETCH_SIZE = "500";
+
+    // 사용자 단건 조회 (DTO)
+    @Query(USER_DTO_SELECT + "WHERE u.id = :id")
+    Optional<UserDto> findDtoById(@Param("id") Long id);
+
+    // 사용자명으로 사용자 조회 (DTO)
+    @Query(USER_DTO_SELECT + "WHERE u.username = :username")
+    Optional<UserDto> findDtoByUsername(@Param("username") String username);
+
+    // 이메일로 사용자 조회 (DTO)
+    @Query(USER_DTO_SELECT + "WHERE u.email = :email")
+    Optional<UserDto> findDtoByEmail(@Param("email") String email);
+
     // 사용자명으로 사용자 찾기
     Optional<User> findByUsername(String username);
 
@@ -26,48 +59,74 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
 
     // 사용자명 또는 이메일로 사용자 찾기
-    @Query("SELECT u FROM User u WHERE u.username = :identifier OR u.email = :identifier")
-    Optional<User> findByUsernameOrEmail(@Param("identifier") String identifier);
+    @Query(USER_DTO_SELECT + "WHERE u.username = :identifier OR u.email = :identifier")
+    Optional<UserDto> findByUsernameOrEmail(@Param("identifier") String identifier);
 
     // 활성 사용자만 조회
-    List<User> findByIsActiveTrueOrderByCreatedAtDesc();
+    @Query(USER_DTO_SELECT + "WHERE u.isActive = true ORDER BY u.createdAt DESC")
+    List<UserDto> findByIsActiveTrueOrderByCreatedAtDesc();
 
     // 활성 사용자 페이징 조회
     Page<User> findByIsActiveTrueOrderByCreatedAtDesc(Pageable pageable);
 
     // 표시명으로 사용자 검색 (대소문자 구분 없음)
-    @Query("SELECT u FROM User u WHERE LOWER(u.displayName) LIKE LOWER(CONCAT('%', :displayName, '%')) " +
+    @Query(USER_DTO_SELECT + "WHERE LOWER(u.displayName) LIKE LOWER(CONCAT('%', :displayName, '%')) " +
            "AND u.isActive = true ORDER BY u.displayName")
-    List<User> findByDisplayNameContainingIgnoreCase(@Param("displayName") String displayName);
+    List<UserDto> findByDisplayNameContainingIgnoreCase(@Param("displayName") String displayName);
 
     // 사용자명, 표시명, 이메일로 통합 검색
-    @Query("SELECT u FROM User u WHERE " +
+    @Query(USER_DTO_SELECT + "WHERE " +
            "(LOWER(u.username) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
            "OR LOWER(u.displayName) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
            "OR LOWER(u.email) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
            "AND u.isActive = true ORDER BY u.displayName")
-    List<User> searchUsers(@Param("keyword") String keyword);
+    List<UserDto> searchUsers(@Param("keyword") String keyword);
+
+    // 사용자명, 표시명, 이메일로 통합 검색 (상위 N개만 조회)
+    @Query(value = USER_SUMMARY_SELECT + "WHERE " +
+           "(LOWER(u.username) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+           "OR LOWER(u.displayName) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+           "OR LOWER(u.email) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+           "AND u.isActive = true ORDER BY u.displayName",
+           countQuery = "SELECT COUNT(u) FROM User u WHERE " +
+           "(LOWER(u.username) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+           "OR LOWER(u.displayName) LIKE LOWER(CONCAT('%', :keyword, '%')) " +
+           "OR LOWER(u.email) LIKE LOWER(CONCAT('%', :keyword, '%'))) " +
+           "AND u.isActive = true")
+    Page<UserDto> searchUsers(@Param("keyword") String keyword, Pageable pageable);
 
     // 역할별 사용자 조회
-    List<User> findByRoleAndIsActiveTrueOrderByCreatedAtDesc(String role);
+    @Query(USER_DTO_SELECT + "WHERE u.role = :role AND u.isActive = true ORDER BY u.createdAt DESC")
+    List<UserDto> findByRoleAndIsActiveTrueOrderByCreatedAtDesc(@Param("role") String role);
 
-    // 상태 메시지가 있는 사용자 조회
-    @Query("SELECT u FROM User u WHERE u.statusMessage IS NOT NULL AND u.statusMessage != '' " +
-           "AND u.isActive = true ORDER BY u.updatedAt DESC")
-    List<User> findUsersWithStatusMessage();
+    // 상태 메시지가 있는 사용자 조회 (최근 설정순)
+    // 사용자 테이블 대신 현재 상태 메시지 기록(idx_status_messages_active_created)에서 시작해 PK로 조인
+    @Query("SELECT new com.flow.pms.dto.UserDto(u.id, u.username, u.email, u.displayName, " +
+           "u.profileIcon, u.statusMessage, u.role, u.isActive, u.createdAt, u.updatedAt, SIZE(u.projects)) " +
+           "FROM StatusMessage s JOIN s.user u WHERE s.isActive = true AND u.isActive = true " +
+           "ORDER BY s.createdAt DESC")
+    List<UserDto> findUsersWithStatusMessage();
 
     // 특정 상태 메시지를 가진 사용자 검색
-    @Query("SELECT u FROM User u WHERE LOWER(u.statusMessage) LIKE LOWER(CONCAT('%', :message, '%')) " +
+    @Query(USER_DTO_SELECT + "WHERE LOWER(u.statusMessage) LIKE LOWER(CONCAT('%', :message, '%')) " +
            "AND u.isActive = true ORDER BY u.updatedAt DESC")
-    List<User> findByStatusMessageContainingIgnoreCase(@Param("message") String message);
+    List<UserDto> findByStatusMessageContainingIgnoreCase(@Param("message") String message);
+
+    // 특정 상태 메시지를 가진 사용자 검색 (상위 N개만 조회)
+    @Query(value = USER_SUMMARY_SELECT + "WHERE LOWER(u.statusMessage) LIKE LOWER(CONCAT('%', :message, '%')) " +
+           "AND u.isActive = true ORDER BY u.updatedAt DESC",
+           countQuery = "SELECT COUNT(u) FROM User u WHERE LOWER(u.statusMessage) LIKE LOWER(CONCAT('%', :message, '%')) " +
+           "AND u.isActive = true")
+    Page<UserDto> findByStatusMessageContainingIgnoreCase(@Param("message") String message, Pageable pageable);
 
     // 최근 활동한 사용자 (최근 업데이트 기준)
-    @Query("SELECT u FROM User u WHERE u.updatedAt >= :since AND u.isActive = true ORDER BY u.updatedAt DESC")
-    List<User> findRecentlyActive(@Param("since") LocalDateTime since);
+    @Query(USER_DTO_SELECT + "WHERE u.updatedAt >= :since AND u.isActive = true ORDER BY u.updatedAt DESC")
+    List<UserDto> findRecentlyActive(@Param("since") LocalDateTime since);
 
     // 프로젝트를 가진 사용자 조회
-    @Query("SELECT DISTINCT u FROM User u JOIN u.projects p WHERE u.isActive = true ORDER BY u.displayName")
-    List<User> findUsersWithProjects();
+    @Query(USER_DTO_SELECT + "WHERE u.isActive = true " +
+           "AND EXISTS (SELECT 1 FROM Project p WHERE p.owner = u) ORDER BY u.displayName")
+    List<UserDto> findUsersWithProjects();
 
     // 특정 개수 이상의 프로젝트를 가진 사용자
     @Query("SELECT u FROM User u WHERE u.isActive = true AND SIZE(u.projects) >= :minProjectCount ORDER BY SIZE(u.projects) DESC")
@@ -94,10 +153,88 @@ public interface UserRepository extends JpaRepository<User, Long> {
     long countByRoleAndIsActiveTrue(String role);
 
     // 최근 N일 동안 가입한 사용자
-    @Query("SELECT u FROM User u WHERE u.createdAt >= :startDate AND u.isActive = true ORDER BY u.createdAt DESC")
-    List<User> findUsersRegisteredSince(@Param("startDate") LocalDateTime startDate);
+    @Query(USER_DTO_SELECT + "WHERE u.createdAt >= :startDate AND u.isActive = true ORDER BY u.createdAt DESC")
+    List<UserDto> findUsersRegisteredSince(@Param("startDate") LocalDateTime startDate);
 
     // 프로필 아이콘별 사용자 조회 (통계용)
     @Query("SELECT u.profileIcon, COUNT(u) FROM User u WHERE u.isActive = true GROUP BY u.profileIcon")
     List<Object[]> countUsersByProfileIcon();
-}
\ No newline at end of file
+
+    // 활성 사용자 표시명 목록 (자동완성용)
+    @Query("SELECT u.displayName FROM User u WHERE u.isActive = true AND u.displayName IS NOT NULL")
+    List<String> findActiveDisplayNames();
+
+    // 검색 인덱스 구축용 ID 기준 배치 조회 (활성 사용자)
+    @Query(USER_SUMMARY_SELECT + "WHERE u.id > :afterId AND u.isActive = true ORDER BY u.id")
+    List<UserDto> findIndexBatch(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 내보내기용 전체 스트림 (ID순, 전방 전용 커서로 fetch size만큼씩 읽음, 트랜잭션 안에서 소비 후 close 필요)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(USER_SUMMARY_SELECT + "ORDER BY u.id")
+    Stream<UserDto> streamAllForExport();
+
+    // ---- MySQL FULLTEXT 검색 (app.search.backend=fulltext) ----
+
+    // 사용자명/표시명/이메일이 검색어(BOOLEAN MODE)에 일치하는 활성 사용자 ID (표시명순) - ft_users_name
+    @Query(value = "SELECT u.id FROM users u " +
+                   "WHERE MATCH(u.username, u.display_name, u.email) AGAINST (:query IN BOOLEAN MODE) " +
+                   "AND u.is_active = true ORDER BY u.display_name, u.id LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsByNameFullText(@Param("query") String query, @Param("limit") int limit);
+
+    // 사용자명/표시명/이메일이 검색어(BOOLEAN MODE)에 일치하는 활성 사용자 ID (FULLTEXT 관련도순) - ft_users_name
+    @Query(value = "SELECT u.id FROM users u " +
+                   "WHERE MATCH(u.username, u.display_name, u.email) AGAINST (:query IN BOOLEAN MODE) " +
+                   "AND u.is_active = true " +
+                   "ORDER BY MATCH(u.username, u.display_name, u.email) AGAINST (:query IN BOOLEAN MODE) DESC, u.id " +
+                   "LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsByNameFullTextRelevance(@Param("query") String query, @Param("limit") int limit);
+
+    // 상태 메시지가 검색어(BOOLEAN MODE)에 일치하는 활성 사용자 ID (표시명순) - ft_users_status_message
+    @Query(value = "SELECT u.id FROM users u " +
+                   "WHERE MATCH(u.status_message) AGAINST (:query IN BOOLEAN MODE) " +
+                   "AND u.is_active = true ORDER BY u.display_name, u.id LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsByStatusMessageFullText(@Param("query") String query, @Param("limit") int limit);
+
+    // 표시명 초성 문자열(BOOLEAN MODE)에 일치하는 활성 사용자 ID (표시명순) - ft_users_display_name_initials
+    @Query(value = "SELECT u.id FROM users u " +
+                   "WHERE MATCH(u.display_name_initials) AGAINST (:query IN BOOLEAN MODE) " +
+                   "AND u.is_active = true ORDER BY u.display_name, u.id LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsByDisplayNameInitialsFullText(@Param("query") String query, @Param("limit") int limit);
+
+    // 상태 메시지 초성 문자열(BOOLEAN MODE)에 일치하는 활성 사용자 ID (표시명순) - ft_users_status_message_initials
+    @Query(value = "SELECT u.id FROM users u " +
+                   "WHERE MATCH(u.status_message_initials) AGAINST (:query IN BOOLEAN MODE) " +
+                   "AND u.is_active = true ORDER BY u.display_name, u.id LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsByStatusMessageInitialsFullText(@Param("query") String query, @Param("limit") int limit);
+
+    // 표시명 초성 문자열이 key를 포함하는 활성 사용자 ID (ngram 토큰보다 짧은 초성 검색어용)
+    @Query("SELECT u.id FROM User u WHERE u.displayNameInitials LIKE CONCAT('%', :key, '%') " +
+           "AND u.isActive = true ORDER BY u.displayName, u.id")
+    List<Long> findIdsByDisplayNameInitialsContaining(@Param("key") String key, Pageable pageable);
+
+    // 상태 메시지 초성 문자열이 key를 포함하는 활성 사용자 ID
+    @Query("SELECT u.id FROM User u WHERE u.statusMessageInitials LIKE CONCAT('%', :key, '%') " +
+           "AND u.isActive = true ORDER BY u.displayName, u.id")
+    List<Long> findIdsByStatusMessageInitialsContaining(@Param("key") String key, Pageable pageable);
+
+    // 초성 문자열이 비어 있는 사용자 (id, 표시명, 상태 메시지) - 기존 행 보정용, id 순
+    @Query("SELECT u.id, u.displayName, u.statusMessage FROM User u " +
+           "WHERE ((u.displayNameInitials IS NULL AND u.displayName IS NOT NULL) " +
+           "OR (u.statusMessageInitials IS NULL AND u.statusMessage IS NOT NULL)) AND u.id > :afterId ORDER BY u.id")
+    List<Object[]> findNamesWithoutInitials(@Param("afterId") Long afterId, Pageable pageable);
+
+    // 초성 문자열만 갱신 (수정 시각 유지)
+    @Modifying
+    @Query("UPDATE User u SET u.displayNameInitials = :displayNameInitials, " +
+           "u.statusMessageInitials = :statusMessageInitials WHERE u.id = :id")
+    int updateSearchInitials(@Param("id") Long id,
+                             @Param("displayNameInitials") String displayNameInitials,
+                             @Param("statusMessageInitials") String statusMessageInitials);
+
+    // ID 목록으로 사용자 조회 (프로젝트 수 제외, 순서 보장 없음)
+    @Query(USER_SUMMARY_SELECT + "WHERE u.id IN :ids")
+    List<UserDto> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+}
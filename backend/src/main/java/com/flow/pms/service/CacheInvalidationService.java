@@ -0,0 +1,121 @@
+package com.flow.pms.service;
+
+import com.flow.pms.config.CacheConfig;
+import com.flow.pms.dto.ProjectDto;
+import com.flow.pms.dto.UserDto;
+import com.flow.pms.event.ProjectChangedEvent;
+import com.flow.pms.event.TaskChangedEvent;
+import com.flow.pms.event.UserChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * 조회 캐시 무효화 서비스
+ * 커밋된 변경 이벤트를 받아 바뀐 항목의 키만 제거 (캐시 전체를 비우지 않음)
+ * 커밋 직전에 다른 요청이 이전 값을 다시 채우는 경합은 캐시 TTL로 상한을 둠
+ */
+@Service
+public class CacheInvalidationService {
+
+    private final CacheManager cacheManager;
+
+    @Autowired
+    public CacheInvalidationService(CacheManager cacheManager) {
+        this.cacheManager = cacheManager;
+    }
+
+    /**
+     * 프로젝트 변경 반영 (커밋 이후)
+     * 생성/삭제/소유자 변경 시 소유자의 프로젝트 수가 바뀌므로 해당 사용자 항목도 제거
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        evict(CacheConfig.PROJECTS, event.getProjectId());
+
+        Long ownerId = ownerIdOf(event.getProject());
+        Long previousOwnerId = ownerIdOf(event.getPrevious());
+        switch (event.getChangeType()) {
+            case CREATED, DELETED -> evictUser(ownerId);
+            case UPDATED -> {
+                if (!Objects.equals(ownerId, previousOwnerId)) {
+                    evictUser(ownerId);
+                    evictUser(previousOwnerId);
+                }
+            }
+        }
+    }
+
+    /**
+     * 사용자 변경 반영 (커밋 이후)
+     * 이전/현재 사용자명과 이메일 키를 모두 제거하고, 표시 이름이 바뀌면 소유 프로젝트 항목도 제거
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        UserDto user = event.getUser();
+        UserDto previous = event.getPrevious();
+
+        evict(CacheConfig.USERS, event.getUserId());
+        for (UserDto snapshot : new UserDto[] {previous, user}) {
+            if (snapshot == null) {
+                continue;
+            }
+            evict(CacheConfig.USERS_BY_USERNAME, snapshot.getUsername());
+            evict(CacheConfig.USER_LOGINS, snapshot.getUsername());
+            evict(CacheConfig.USER_LOGINS, snapshot.getEmail());
+        }
+
+        if (previous != null && user != null
+                && !Objects.equals(previous.getDisplayName(), user.getDisplayName())) {
+            evictWhere(CacheConfig.PROJECTS, value ->
+                    value instanceof ProjectDto project && Objects.equals(project.getOwnerId(), event.getUserId()));
+        }
+    }
+
+    /**
+     * 업무 변경 반영 (커밋 이후)
+     * 생성/삭제/상태 변경 시 프로젝트의 상태별 업무 수가 바뀌므로 프로젝트 항목을 제거
+     * (2차 캐시 project-entities는 업무 수 UPDATE의 쿼리 공간으로 Hibernate가 무효화)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        if (event.changesStatusCounts()) {
+            evict(CacheConfig.PROJECTS, event.getTask().getProjectId());
+        }
+    }
+
+    // 사용자명/이메일 키는 알 수 없으므로 값의 ID로 찾아 제거
+    private void evictUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        evict(CacheConfig.USERS, userId);
+        Predicate<Object> sameUser = value -> value instanceof UserDto user && userId.equals(user.getId());
+        evictWhere(CacheConfig.USERS_BY_USERNAME, sameUser);
+        evictWhere(CacheConfig.USER_LOGINS, sameUser);
+    }
+
+    private void evict(String cacheName, Object key) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && key != null) {
+            cache.evict(key);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void evictWhere(String cacheName, Predicate<Object> condition) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache != null && cache.getNativeCache() instanceof com.github.benmanes.caffeine.cache.Cache<?, ?> nativeCache) {
+            ((com.github.benmanes.caffeine.cache.Cache<Object, Object>) nativeCache).asMap().values().removeIf(condition);
+        }
+    }
+
+    private static Long ownerIdOf(ProjectDto project) {
+        return project != null ? project.getOwnerId() : null;
+    }
+}
@@ -0,0 +1,161 @@
+package com.flow.pms.service;
+
+import com.flow.pms.config.ChatProperties;
+import com.flow.pms.entity.ChatMessage;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채팅 메시지 일괄 저장기
+ * 전송 요청 스레드는 제한된 대기열에 넣기만 하고, 전용 스레드가 쌓인 메시지를 한 트랜잭션(JDBC 배치)으로 저장
+ * 부하가 높을수록 한 번에 저장하는 건수가 늘어 INSERT당 비용이 줄어듦
+ */
+@Component
+public class ChatMessageWriter implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(ChatMessageWriter.class);
+
+    // 대기열이 비었을 때 종료 여부를 확인하는 주기
+    private static final long POLL_TIMEOUT_MS = 200;
+    private static final long RETRY_BACKOFF_MS = 100;
+
+    private final ChatProperties.Writer settings;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transaction;
+    private final BlockingQueue<ChatMessage> queue;
+
+    private final AtomicLong written = new AtomicLong();
+    private final AtomicLong batches = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile boolean running;
+    private volatile Thread worker;
+
+    @Autowired
+    public ChatMessageWriter(ChatProperties chatProperties,
+                             EntityManager entityManager,
+                             PlatformTransactionManager transactionManager) {
+        this.settings = chatProperties.getWriter();
+        this.entityManager = entityManager;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(settings.getQueueCapacity());
+    }
+
+    /**
+     * 저장 대기열에 추가
+     *
+     * @return 대기열이 가득 차 추가하지 못하면 false
+     */
+    public boolean enqueue(ChatMessage message) {
+        return running && queue.offer(message);
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this::run, "chat-writer");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    /**
+     * 종료 시 대기열에 남은 메시지를 모두 저장한 뒤 멈춤
+     */
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = worker;
+        if (thread == null) {
+            return;
+        }
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        worker = null;
+        if (!queue.isEmpty()) {
+            log.warn("채팅 메시지 {}건을 저장하지 못하고 종료합니다", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return worker != null;
+    }
+
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    public long getWrittenCount() {
+        return written.get();
+    }
+
+    public long getBatchCount() {
+        return batches.get();
+    }
+
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    private void run() {
+        List<ChatMessage> batch = new ArrayList<>(settings.getBatchSize());
+        while (running || !queue.isEmpty()) {
+            try {
+                ChatMessage first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, settings.getBatchSize() - 1);
+                write(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void write(List<ChatMessage> batch) throws InterruptedException {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                transaction.executeWithoutResult(status -> {
+                    for (ChatMessage message : batch) {
+                        entityManager.persist(message);
+                    }
+                    entityManager.flush();
+                    entityManager.clear();
+                });
+                written.addAndGet(batch.size());
+                batches.incrementAndGet();
+                return;
+            } catch (RuntimeException e) {
+                if (attempt > settings.getMaxRetries()) {
+                    failed.addAndGet(batch.size());
+                    log.error("채팅 메시지 {}건 저장 실패 (재시도 {}회 초과)", batch.size(), settings.getMaxRetries(), e);
+                    return;
+                }
+                log.warn("채팅 메시지 저장 재시도 {}/{}: {}", attempt, settings.getMaxRetries(), e.getMessage());
+                Thread.sleep(RETRY_BACKOFF_MS * attempt);
+            }
+        }
+    }
+}
@@ -0,0 +1,234 @@
+package com.flow.pms.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flow.pms.config.ChatProperties;
+import com.flow.pms.dto.ChatMessageDto;
+import com.flow.pms.dto.ProjectDto;
+import com.flow.pms.dto.UserDto;
+import com.flow.pms.event.ChangeType;
+import com.flow.pms.event.ProjectChangedEvent;
+import com.flow.pms.repository.ChatMessageRepository;
+import com.flow.pms.service.chat.ChatMessageIdGenerator;
+import com.flow.pms.service.chat.ChatRoomBuffer;
+import com.flow.pms.service.push.PushConnection;
+import com.flow.pms.service.push.PushMessage;
+import com.flow.pms.service.push.PushTopic;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로젝트 채팅 서비스
+ * 채팅방은 프로젝트 ID 단위이며, 메시지는 방별 링 버퍼에 넣고 구독자에게 바로 전달한 뒤 비동기로 일괄 저장
+ * 입장/재연결과 최근 기록 조회는 버퍼에서 처리하고, 버퍼보다 오래된 기록만 DB에서 조회
+ */
+@Service
+public class ChatService {
+
+    private static final String MESSAGE_EVENT = "chat.message";
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageWriter chatMessageWriter;
+    private final ProjectService projectService;
+    private final UserService userService;
+    private final PushService pushService;
+    private final ChatProperties chatProperties;
+    private final ObjectMapper objectMapper;
+    private final ChatMessageIdGenerator idGenerator;
+
+    // 방별 최근 메시지 (오래 쓰이지 않은 방은 버퍼를 내리고, 다시 열리면 DB에서 한 번 불러옴)
+    private final Cache<Long, ChatRoomBuffer> rooms;
+    // 방별 구독 연결
+    private final Map<Long, Set<PushConnection>> members = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ChatService(ChatMessageRepository chatMessageRepository,
+                       ChatMessageWriter chatMessageWriter,
+                       ProjectService projectService,
+                       UserService userService,
+                       PushService pushService,
+                       ChatProperties chatProperties,
+                       ObjectMapper objectMapper) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.chatMessageWriter = chatMessageWriter;
+        this.projectService = projectService;
+        this.userService = userService;
+        this.pushService = pushService;
+        this.chatProperties = chatProperties;
+        this.objectMapper = objectMapper;
+        this.idGenerator = new ChatMessageIdGenerator(chatProperties.getNodeId());
+        this.rooms = Caffeine.newBuilder()
+                .maximumSize(chatProperties.getMaxBufferedRooms())
+                .expireAfterAccess(Duration.ofMillis(chatProperties.getRoomIdleExpireMs()))
+                .build();
+    }
+
+    /**
+     * 채팅방 입장 (SSE 구독)
+     * 재연결 시 Last-Event-ID 이후 메시지를 버퍼에서 먼저 전달
+     */
+    public SseEmitter join(Long projectId, Long userId, Long lastEventId) {
+        checkAccess(projectId, userId);
+        ChatRoomBuffer room = room(projectId);
+
+        PushConnection connection = pushService.open(userId, EnumSet.of(PushTopic.CHAT),
+                closed -> leave(projectId, closed));
+
+        // 버퍼 잠금 안에서 등록해, 놓친 메시지 전달과 새 메시지 전달 사이에 빠지는 메시지가 없도록 함
+        synchronized (room) {
+            if (lastEventId != null) {
+                for (ChatMessageDto message : room.after(lastEventId)) {
+                    connection.offer(toPushMessage(message));
+                }
+            }
+            members.compute(projectId, (id, roomMembers) -> {
+                Set<PushConnection> joined = roomMembers != null ? roomMembers : ConcurrentHashMap.newKeySet();
+                joined.add(connection);
+                return joined;
+            });
+        }
+        connection.offer(PushMessage.heartbeat());
+        return connection.getEmitter();
+    }
+
+    /**
+     * 메시지 전송
+     * 버퍼 추가와 구독자 전달까지 마친 뒤 반환하며, DB 저장은 ChatMessageWriter가 일괄로 수행
+     */
+    public ChatMessageDto sendMessage(Long projectId, Long userId, String content) {
+        if (content == null || content.isBlank()) {
+            throw new IllegalArgumentException("메시지 내용을 입력해주세요.");
+        }
+        if (content.length() > chatProperties.getMaxContentLength()) {
+            throw new IllegalArgumentException("메시지는 " + chatProperties.getMaxContentLength() + "자 이하로 입력해주세요.");
+        }
+        checkAccess(projectId, userId);
+        UserDto sender = userService.getUserById(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
+        ChatRoomBuffer room = room(projectId);
+
+        ChatMessageDto message;
+        synchronized (room) {
+            message = new ChatMessageDto(idGenerator.next(), projectId, userId, sender.getDisplayName(),
+                    content, LocalDateTime.now());
+            if (!chatMessageWriter.enqueue(message.toEntity())) {
+                throw new IllegalStateException("채팅 메시지가 몰려 잠시 전송할 수 없습니다. 잠시 후 다시 시도해주세요.");
+            }
+            room.add(message);
+
+            PushMessage pushMessage = toPushMessage(message);
+            for (PushConnection connection : members.getOrDefault(projectId, Collections.emptySet())) {
+                connection.offer(pushMessage);
+            }
+        }
+        return message;
+    }
+
+    /**
+     * 채팅방 기록 조회 (ID 오름차순)
+     *
+     * @param beforeId 이 ID보다 이전 메시지만 조회 (null이면 최신 메시지부터)
+     */
+    public List<ChatMessageDto> getMessages(Long projectId, Long userId, Long beforeId, Integer size) {
+        checkAccess(projectId, userId);
+        int limit = size == null || size <= 0 ? chatProperties.getHistoryPageSize()
+                : Math.min(size, chatProperties.getRoomBufferSize());
+        ChatRoomBuffer room = room(projectId);
+
+        List<ChatMessageDto> recent = room.before(beforeId, limit);
+        if (recent.size() >= limit || room.isComplete()) {
+            return recent;
+        }
+
+        // 버퍼보다 오래된 부분만 DB에서 조회
+        Long olderThan = recent.isEmpty() ? beforeId : recent.get(0).getId();
+        List<ChatMessageDto> older = new ArrayList<>(chatMessageRepository.findHistory(projectId,
+                olderThan != null ? olderThan : Long.MAX_VALUE, PageRequest.of(0, limit - recent.size())));
+        Collections.reverse(older);
+        older.addAll(recent);
+        return older;
+    }
+
+    /**
+     * 채팅 통계 (버퍼된 방 수, 구독 연결 수, 저장 대기/완료/실패 건수)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("bufferedRooms", rooms.estimatedSize());
+        stats.put("activeRooms", members.size());
+        stats.put("members", members.values().stream().mapToInt(Set::size).sum());
+        stats.put("writeQueued", chatMessageWriter.getQueuedCount());
+        stats.put("written", chatMessageWriter.getWrittenCount());
+        stats.put("writeBatches", chatMessageWriter.getBatchCount());
+        stats.put("writeFailed", chatMessageWriter.getFailedCount());
+        return stats;
+    }
+
+    /**
+     * 프로젝트 삭제 시 채팅방 연결 종료 (커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        if (event.getChangeType() != ChangeType.DELETED) {
+            return;
+        }
+        Set<PushConnection> roomMembers = members.remove(event.getProjectId());
+        if (roomMembers != null) {
+            for (PushConnection connection : new ArrayList<>(roomMembers)) {
+                connection.close(null);
+            }
+        }
+        rooms.invalidate(event.getProjectId());
+    }
+
+    private ChatRoomBuffer room(Long projectId) {
+        return rooms.get(projectId, id -> {
+            List<ChatMessageDto> latest = new ArrayList<>(chatMessageRepository.findHistory(id, Long.MAX_VALUE,
+                    PageRequest.of(0, chatProperties.getRoomBufferSize())));
+            Collections.reverse(latest);
+            return new ChatRoomBuffer(chatProperties.getRoomBufferSize(), latest);
+        });
+    }
+
+    // 공개 프로젝트는 누구나, 비공개 프로젝트는 소유자만 참여
+    private void checkAccess(Long projectId, Long userId) {
+        ProjectDto project = projectService.getProjectById(projectId)
+                .orElseThrow(() -> new RuntimeException("프로젝트를 찾을 수 없습니다: " + projectId));
+        if (!Boolean.TRUE.equals(project.getIsPublic()) && !Objects.equals(project.getOwnerId(), userId)) {
+            throw new RuntimeException("비공개 프로젝트의 채팅방에 참여할 권한이 없습니다.");
+        }
+    }
+
+    private void leave(Long projectId, PushConnection connection) {
+        members.computeIfPresent(projectId, (id, roomMembers) -> {
+            roomMembers.remove(connection);
+            return roomMembers.isEmpty() ? null : roomMembers;
+        });
+    }
+
+    private PushMessage toPushMessage(ChatMessageDto message) {
+        try {
+            return new PushMessage(message.getId(), PushTopic.CHAT, MESSAGE_EVENT,
+                    objectMapper.writeValueAsString(message), null);
+        } catch (JsonProcessingException e) {
+            throw new RuntimeException("채팅 메시지 직렬화에 실패했습니다.", e);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package com.flow.pms.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.flow.pms.dto.ProjectDto;
+import com.flow.pms.dto.UserDto;
+import com.flow.pms.repository.ProjectRepository;
+import com.flow.pms.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * 데이터 내보내기 서비스
+ * DB 커서에서 한 행씩 읽어 바로 출력 스트림에 쓰므로, 전체 행 수와 관계없이 메모리 사용량이 일정함
+ * 스트림은 읽기 전용 트랜잭션 안에서 소비되며, 내보내기 동안 DB 연결 하나를 점유
+ */
+@Service
+public class ExportService {
+
+    private static final Logger log = LoggerFactory.getLogger(ExportService.class);
+
+    // 이 행 수마다 출력 버퍼를 비워 클라이언트가 도중에도 데이터를 받도록 함
+    private static final int FLUSH_EVERY_ROWS = 1000;
+
+    private static final List<Column<ProjectDto>> PROJECT_COLUMNS = List.of(
+            new Column<>("id", ProjectDto::getId),
+            new Column<>("title", ProjectDto::getTitle),
+            new Column<>("category", ProjectDto::getCategory),
+            new Column<>("isPublic", ProjectDto::getIsPublic),
+            new Column<>("hasAdminAccess", ProjectDto::getHasAdminAccess),
+            new Column<>("status", ProjectDto::getStatus),
+            new Column<>("description", ProjectDto::getDescription),
+            new Column<>("ownerId", ProjectDto::getOwnerId),
+            new Column<>("ownerName", ProjectDto::getOwnerName),
+            new Column<>("createdAt", ProjectDto::getCreatedAt),
+            new Column<>("updatedAt", ProjectDto::getUpdatedAt));
+
+    private static final List<Column<UserDto>> USER_COLUMNS = List.of(
+            new Column<>("id", UserDto::getId),
+            new Column<>("username", UserDto::getUsername),
+            new Column<>("email", UserDto::getEmail),
+            new Column<>("displayName", UserDto::getDisplayName),
+            new Column<>("profileIcon", UserDto::getProfileIcon),
+            new Column<>("statusMessage", UserDto::getStatusMessage),
+            new Column<>("role", UserDto::getRole),
+            new Column<>("isActive", UserDto::getIsActive),
+            new Column<>("createdAt", UserDto::getCreatedAt),
+            new Column<>("updatedAt", UserDto::getUpdatedAt));
+
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public ExportService(ProjectRepository projectRepository,
+                         UserRepository userRepository,
+                         PlatformTransactionManager transactionManager,
+                         ObjectMapper objectMapper) {
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 내보내기 형식
+     */
+    public enum Format {
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public static Format from(String value) {
+            try {
+                return Format.valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("지원하지 않는 내보내기 형식입니다: " + value + " (ndjson, csv)");
+            }
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    /**
+     * 전체 프로젝트 내보내기 (ID순)
+     *
+     * @return 내보낸 행 수
+     */
+    public long exportProjects(Format format, OutputStream out) {
+        return export(format, out, projectRepository::streamAllForExport, ProjectDto.class, PROJECT_COLUMNS);
+    }
+
+    /**
+     * 전체 사용자 내보내기 (ID순, 비활성 사용자 포함)
+     *
+     * @return 내보낸 행 수
+     */
+    public long exportUsers(Format format, OutputStream out) {
+        return export(format, out, userRepository::streamAllForExport, UserDto.class, USER_COLUMNS);
+    }
+
+    private <T> long export(Format format, OutputStream out, Supplier<Stream<T>> source,
+                            Class<T> type, List<Column<T>> columns) {
+        long startedAt = System.currentTimeMillis();
+        Long rows = readOnlyTransaction.execute(status -> {
+            try (Stream<T> stream = source.get()) {
+                Iterator<T> iterator = stream.iterator();
+                return format == Format.CSV
+                        ? writeCsv(iterator, columns, out)
+                        : writeNdjson(iterator, type, out);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        log.info("{} 내보내기 완료: {}건 ({}ms)", type.getSimpleName(), rows, System.currentTimeMillis() - startedAt);
+        return rows != null ? rows : 0;
+    }
+
+    // 한 줄에 JSON 객체 하나 (행마다 flush하지 않음)
+    private <T> long writeNdjson(Iterator<T> rows, Class<T> type, OutputStream out) throws IOException {
+        ObjectWriter writer = objectMapper.writerFor(type).without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long count = 0;
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null); // 값 사이 기본 공백 대신 줄바꿈만 사용
+            while (rows.hasNext()) {
+                writer.writeValue(generator, rows.next());
+                generator.writeRaw('\n');
+                if (++count % FLUSH_EVERY_ROWS == 0) {
+                    generator.flush();
+                }
+            }
+            generator.flush();
+        }
+        return count;
+    }
+
+    // 첫 줄은 헤더, 값은 RFC 4180 규칙으로 인용
+    private <T> long writeCsv(Iterator<T> rows, List<Column<T>> columns, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(columns.get(i).name);
+        }
+        writer.write("\r\n");
+
+        long count = 0;
+        while (rows.hasNext()) {
+            T row = rows.next();
+            for (int i = 0; i < columns.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                Object value = columns.get(i).extractor.apply(row);
+                if (value != null) {
+                    writeCsvValue(writer, value.toString());
+                }
+            }
+            writer.write("\r\n");
+            if (++count % FLUSH_EVERY_ROWS == 0) {
+                writer.flush();
+            }
+        }
+        writer.flush();
+        return count;
+    }
+
+    private static void writeCsvValue(Writer writer, String value) throws IOException {
+        boolean quote = false;
+        for (int i = 0; i < value.length() && !quote; i++) {
+            char c = value.charAt(i);
+            quote = c == ',' || c == '"' || c == '\n' || c == '\r';
+        }
+        if (!quote) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    // CSV 열 이름과 값 추출 함수
+    private static class Column<T> {
+
+        private final String name;
+        private final Function<T, Object> extractor;
+
+        private Column(String name, Function<T, Object> extractor) {
+            this.name = name;
+            this.extractor = extractor;
+        }
+    }
+}
@@ -0,0 +1,359 @@
+package com.flow.pms.service;
+
+import com.flow.pms.config.SearchProperties;
+import com.flow.pms.dto.ProjectDto;
+import com.flow.pms.dto.UserDto;
+import com.flow.pms.repository.ProjectRepository;
+import com.flow.pms.repository.UserRepository;
+import com.flow.pms.service.search.InvertedIndex;
+import com.flow.pms.service.search.NgramTokenizer;
+import com.flow.pms.service.search.RelevanceScorer;
+import com.flow.pms.service.search.ScoredHit;
+import com.flow.pms.service.search.SearchBackend;
+import com.flow.pms.service.search.SearchCursor;
+import com.flow.pms.service.search.SearchSource;
+import com.flow.pms.service.search.TextQuery;
+import com.flow.pms.service.search.TopHits;
+import com.flow.pms.util.HangulJamo;
+import jakarta.persistence.EntityManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * MySQL FULLTEXT 검색 서비스 (app.search.backend=fulltext, 운영 프로필)
+ * ngram 파서 FULLTEXT 인덱스로 후보 ID를 찾고(최대 candidate-limit건), 후보만 임시 역색인에 넣어
+ * 인메모리 구현(SearchIndexService)과 같은 부분 문자열 검증, 정렬, 관련도 점수를 적용
+ * 애플리케이션 메모리에 전체 인덱스를 두지 않으므로 기동 시 구축/변경 이벤트 반영이 없음
+ *
+ * 검색어 단어가 ngram 토큰보다 짧으면 FULLTEXT로 찾을 수 없으므로 LIKE 검색(최대 candidate-limit건)으로 대체
+ * 관련도 점수의 문서 빈도/평균 길이는 후보 집합 기준 (인덱스 구축 전 대체 경로와 같은 방식)
+ *
+ * 초성 검색("ㅎㅇㅌ")과 입력 중인 음절 검색("협ㅇ", 원문 결과가 없을 때)은 저장 시 계산해 둔
+ * 초성 컬럼(프로젝트 제목/설명, 표시명, 상태 메시지)의 FULLTEXT 인덱스로 후보를 찾음 (인메모리 구현과 같은 필드)
+ * 인덱스 생성 스크립트: db/mysql/search-fulltext-indexes.sql, db/mysql/search-initials.sql
+ */
+@Service
+@ConditionalOnProperty(prefix = "app.search", name = "backend", havingValue = "fulltext")
+public class FullTextSearchService implements SearchBackend {
+
+    private static final Logger log = LoggerFactory.getLogger(FullTextSearchService.class);
+
+    // 검색에 사용하는 FULLTEXT 인덱스 (MATCH 컬럼 목록과 인덱스 컬럼 목록이 같아야 함)
+    private static final List<String> FULLTEXT_INDEXES = List.of(
+            "ft_projects_title_description", "ft_users_name", "ft_users_status_message",
+            "ft_projects_initials", "ft_users_display_name_initials", "ft_users_status_message_initials");
+
+    private static final int BACKFILL_BATCH_SIZE = 1000;
+
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transaction;
+    private final TransactionTemplate readOnlyTransaction;
+    private final RelevanceScorer projectScorer;
+    private final RelevanceScorer userScorer;
+    private final int candidateLimit;
+    private final int minTokenLength;
+    private final boolean verifyIndexes;
+
+    @Autowired
+    public FullTextSearchService(ProjectRepository projectRepository,
+                                 UserRepository userRepository,
+                                 EntityManager entityManager,
+                                 PlatformTransactionManager transactionManager,
+                                 SearchProperties searchProperties) {
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.entityManager = entityManager;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.projectScorer = SearchIndexService.projectScorer(searchProperties.getRanking());
+        this.userScorer = SearchIndexService.userScorer(searchProperties.getRanking());
+
+        SearchProperties.FullText fullText = searchProperties.getFullText();
+        this.candidateLimit = Math.max(1, fullText.getCandidateLimit());
+        this.minTokenLength = Math.max(1, fullText.getMinTokenLength());
+        this.verifyIndexes = fullText.isVerifyIndexes();
+    }
+
+    /**
+     * 기동 시 FULLTEXT 인덱스 확인 (없으면 모든 검색이 실패하므로 기동 중단)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void verifyIndexes() {
+        if (!verifyIndexes) {
+            return;
+        }
+        List<?> existing = readOnlyTransaction.execute(status -> entityManager.createNativeQuery(
+                        "SELECT DISTINCT INDEX_NAME FROM information_schema.STATISTICS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND INDEX_TYPE = 'FULLTEXT'")
+                .getResultList());
+        List<String> missing = new ArrayList<>();
+        for (String index : FULLTEXT_INDEXES) {
+            if (existing == null || !existing.contains(index)) {
+                missing.add(index);
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException("FULLTEXT 검색 인덱스가 없습니다: " + missing
+                    + " (db/mysql/search-fulltext-indexes.sql, db/mysql/search-initials.sql 적용 필요)");
+        }
+        log.info("FULLTEXT 검색 사용: 인덱스 {}, 후보 최대 {}건", FULLTEXT_INDEXES, candidateLimit);
+    }
+
+    /**
+     * 초성 컬럼이 비어 있는 기존 행 보정 (컬럼 추가 이전에 저장된 행, 배치 단위 UPDATE로 수정 시각은 유지)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillInitials() {
+        int projects = 0;
+        List<Object[]> rows;
+        long lastId = 0;
+        do {
+            long afterId = lastId;
+            rows = transaction.execute(status -> {
+                List<Object[]> batch = projectRepository.findTextsWithoutInitials(afterId,
+                        PageRequest.of(0, BACKFILL_BATCH_SIZE));
+                for (Object[] row : batch) {
+                    projectRepository.updateSearchInitials((Long) row[0],
+                            HangulJamo.searchInitials((String) row[1]), HangulJamo.searchInitials((String) row[2]));
+                }
+                return batch;
+            });
+            projects += rows.size();
+            lastId = rows.isEmpty() ? lastId : (Long) rows.get(rows.size() - 1)[0];
+        } while (rows.size() == BACKFILL_BATCH_SIZE);
+
+        int users = 0;
+        lastId = 0;
+        do {
+            long afterId = lastId;
+            rows = transaction.execute(status -> {
+                List<Object[]> batch = userRepository.findNamesWithoutInitials(afterId,
+                        PageRequest.of(0, BACKFILL_BATCH_SIZE));
+                for (Object[] row : batch) {
+                    userRepository.updateSearchInitials((Long) row[0],
+                            HangulJamo.searchInitials((String) row[1]), HangulJamo.searchInitials((String) row[2]));
+                }
+                return batch;
+            });
+            users += rows.size();
+            lastId = rows.isEmpty() ? lastId : (Long) rows.get(rows.size() - 1)[0];
+        } while (rows.size() == BACKFILL_BATCH_SIZE);
+
+        if (projects > 0 || users > 0) {
+            log.info("초성 검색 컬럼 보정: 프로젝트 {}건, 사용자 {}건", projects, users);
+        }
+    }
+
+    @Override
+    public TopHits<ProjectDto> searchProjects(String keyword, Predicate<ProjectDto> filter, int limit) {
+        String normalizedQuery = NgramTokenizer.normalize(keyword);
+        if (normalizedQuery.isEmpty()) {
+            return TopHits.empty();
+        }
+        return searchCandidates(normalizedQuery,
+                query -> projectCandidates(query, false), this::projectInitialsCandidates,
+                index -> index.search(normalizedQuery, SearchIndexService.PROJECT_SEARCH_FIELDS, filter, limit));
+    }
+
+    @Override
+    public TopHits<ProjectDto> searchProjects(String keyword, int limit) {
+        return searchProjects(keyword, project -> true, limit);
+    }
+
+    @Override
+    public TopHits<UserDto> searchUsers(String keyword, int limit) {
+        String normalizedQuery = NgramTokenizer.normalize(keyword);
+        if (normalizedQuery.isEmpty()) {
+            return TopHits.empty();
+        }
+        return searchCandidates(normalizedQuery,
+                query -> userCandidates(query, false), this::userInitialsCandidates,
+                index -> index.search(normalizedQuery, SearchIndexService.USER_SEARCH_FIELDS, user -> true, limit));
+    }
+
+    @Override
+    public TopHits<UserDto> searchStatusMessages(String keyword, int limit) {
+        String normalizedQuery = NgramTokenizer.normalize(keyword);
+        if (normalizedQuery.isEmpty()) {
+            return TopHits.empty();
+        }
+        return searchCandidates(normalizedQuery,
+                this::statusMessageCandidates, this::statusMessageInitialsCandidates,
+                index -> index.search(normalizedQuery, SearchIndexService.STATUS_SEARCH_FIELDS, user -> true, limit));
+    }
+
+    @Override
+    public TopHits<ScoredHit<ProjectDto>> rankProjects(String keyword, Predicate<ProjectDto> filter,
+                                                       ToDoubleFunction<ProjectDto> boost,
+                                                       SearchCursor after, int limit) {
+        String normalizedQuery = NgramTokenizer.normalize(keyword);
+        if (normalizedQuery.isEmpty()) {
+            return TopHits.empty();
+        }
+        return searchCandidates(normalizedQuery,
+                query -> projectCandidates(query, true), this::projectInitialsCandidates,
+                index -> index.rank(normalizedQuery, projectScorer, filter, boost, SearchSource.PROJECT, after, limit));
+    }
+
+    @Override
+    public TopHits<ScoredHit<UserDto>> rankUsers(String keyword, SearchCursor after, int limit) {
+        String normalizedQuery = NgramTokenizer.normalize(keyword);
+        if (normalizedQuery.isEmpty()) {
+            return TopHits.empty();
+        }
+        return searchCandidates(normalizedQuery,
+                query -> userCandidates(query, true), this::userInitialsCandidates,
+                index -> index.rank(normalizedQuery, userScorer, user -> true, user -> 1.0,
+                        SearchSource.USER, after, limit));
+    }
+
+    /**
+     * 검색어 종류에 맞는 후보로 임시 인덱스를 만들어 검색
+     * 초성 검색이면 초성 컬럼 후보, 그 외에는 원문 후보로 검색하고 결과가 없으면 입력 중인 음절로 보고
+     * 초성 컬럼 후보로 다시 검색 (임시 인덱스가 같은 순서로 일치 방식을 적용)
+     */
+    private <T, R> TopHits<R> searchCandidates(String normalizedQuery,
+                                               Function<String, InvertedIndex<T>> textCandidates,
+                                               Function<String, InvertedIndex<T>> initialsCandidates,
+                                               Function<InvertedIndex<T>, TopHits<R>> search) {
+        TextQuery textQuery = TextQuery.parse(normalizedQuery);
+        if (textQuery.usesInitials()) {
+            return search.apply(initialsCandidates.apply(textQuery.getInitialsKey()));
+        }
+        TopHits<R> hits = search.apply(textCandidates.apply(normalizedQuery));
+        TextQuery fallback = textQuery.partialFallback();
+        if (hits.getTotalCount() == 0 && fallback != null) {
+            return search.apply(initialsCandidates.apply(fallback.getInitialsKey()));
+        }
+        return hits;
+    }
+
+    // 후보 프로젝트 임시 인덱스 (순위 검색이면 FULLTEXT 관련도순 후보, 아니면 생성일 최신순 후보)
+    private InvertedIndex<ProjectDto> projectCandidates(String normalizedQuery, boolean byRelevance) {
+        String booleanQuery = booleanQuery(normalizedQuery);
+        List<ProjectDto> projects = readOnlyTransaction.execute(status -> {
+            if (booleanQuery == null) {
+                return projectRepository.searchByTitleOrDescription(normalizedQuery,
+                        PageRequest.of(0, candidateLimit)).getContent();
+            }
+            List<Long> ids = byRelevance
+                    ? projectRepository.findIdsByFullTextRelevance(booleanQuery, candidateLimit)
+                    : projectRepository.findIdsByFullText(booleanQuery, candidateLimit);
+            return ids.isEmpty() ? List.<ProjectDto>of() : projectRepository.findDtosByIdIn(ids);
+        });
+        return projectIndex(projects);
+    }
+
+    // 후보 사용자 임시 인덱스 (사용자명, 표시명, 이메일)
+    private InvertedIndex<UserDto> userCandidates(String normalizedQuery, boolean byRelevance) {
+        String booleanQuery = booleanQuery(normalizedQuery);
+        List<UserDto> users = readOnlyTransaction.execute(status -> {
+            if (booleanQuery == null) {
+                return userRepository.searchUsers(normalizedQuery, PageRequest.of(0, candidateLimit)).getContent();
+            }
+            return findUsers(byRelevance
+                    ? userRepository.findIdsByNameFullTextRelevance(booleanQuery, candidateLimit)
+                    : userRepository.findIdsByNameFullText(booleanQuery, candidateLimit));
+        });
+        return userIndex(users);
+    }
+
+    // 후보 사용자 임시 인덱스 (상태 메시지)
+    private InvertedIndex<UserDto> statusMessageCandidates(String normalizedQuery) {
+        String booleanQuery = booleanQuery(normalizedQuery);
+        return userIndex(readOnlyTransaction.execute(status -> booleanQuery == null
+                ? userRepository.findByStatusMessageContainingIgnoreCase(normalizedQuery,
+                        PageRequest.of(0, candidateLimit)).getContent()
+                : findUsers(userRepository.findIdsByStatusMessageFullText(booleanQuery, candidateLimit))));
+    }
+
+    // 제목/설명 초성 문자열이 initialsKey를 포함하는 후보 프로젝트 (생성일 최신순)
+    private InvertedIndex<ProjectDto> projectInitialsCandidates(String initialsKey) {
+        List<Long> ids = initialsIds(initialsKey, projectRepository::findIdsByInitialsFullText,
+                projectRepository::findIdsByInitialsContaining);
+        return projectIndex(ids.isEmpty() ? List.of()
+                : readOnlyTransaction.execute(status -> projectRepository.findDtosByIdIn(ids)));
+    }
+
+    private InvertedIndex<UserDto> userInitialsCandidates(String initialsKey) {
+        return userIndex(findUsers(initialsIds(initialsKey, userRepository::findIdsByDisplayNameInitialsFullText,
+                userRepository::findIdsByDisplayNameInitialsContaining)));
+    }
+
+    private InvertedIndex<UserDto> statusMessageInitialsCandidates(String initialsKey) {
+        return userIndex(findUsers(initialsIds(initialsKey, userRepository::findIdsByStatusMessageInitialsFullText,
+                userRepository::findIdsByStatusMessageInitialsContaining)));
+    }
+
+    // 초성 컬럼 후보 ID (ngram 토큰보다 짧은 단어가 있으면 LIKE, 최대 candidate-limit건)
+    private List<Long> initialsIds(String initialsKey,
+                                   BiFunction<String, Integer, List<Long>> fullText,
+                                   BiFunction<String, Pageable, List<Long>> like) {
+        if (initialsKey == null || initialsKey.isBlank()) {
+            return List.of();
+        }
+        String booleanQuery = booleanQuery(initialsKey);
+        return readOnlyTransaction.execute(status -> booleanQuery == null
+                ? like.apply(initialsKey, PageRequest.of(0, candidateLimit))
+                : fullText.apply(booleanQuery, candidateLimit));
+    }
+
+    private List<UserDto> findUsers(List<Long> ids) {
+        return ids.isEmpty() ? List.of() : userRepository.findSummariesByIdIn(ids);
+    }
+
+    private static InvertedIndex<ProjectDto> projectIndex(List<ProjectDto> projects) {
+        InvertedIndex<ProjectDto> index = new InvertedIndex<>(SearchIndexService.PROJECT_ORDER);
+        for (ProjectDto project : projects) {
+            SearchIndexService.putProject(index, project);
+        }
+        return index;
+    }
+
+    private static InvertedIndex<UserDto> userIndex(List<UserDto> users) {
+        InvertedIndex<UserDto> index = new InvertedIndex<>(SearchIndexService.USER_ORDER);
+        for (UserDto user : users) {
+            SearchIndexService.putUser(index, user);
+        }
+        return index;
+    }
+
+    /**
+     * 정규화한 검색어를 BOOLEAN MODE 검색식으로 변환 ("협업툴 개발" → +"협업툴" +"개발")
+     * ngram 파서는 구문 안의 단어를 연속 토큰으로 찾으므로 단어별 부분 문자열 검색이 됨
+     *
+     * @return FULLTEXT로 찾을 수 없는 검색어(ngram 토큰보다 짧은 단어, 따옴표 포함)면 null
+     */
+    private String booleanQuery(String normalizedQuery) {
+        StringBuilder query = new StringBuilder();
+        for (String word : normalizedQuery.split(" ")) {
+            if (word.length() < minTokenLength || word.indexOf('"') >= 0) {
+                return null;
+            }
+            if (query.length() > 0) {
+                query.append(' ');
+            }
+            query.append("+\"").append(word).append('"');
+        }
+        return query.length() > 0 ? query.toString() : null;
+    }
+}
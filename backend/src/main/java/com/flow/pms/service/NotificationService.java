@@ -0,0 +1,269 @@
+package com.flow.pms.service;
+
+import com.flow.pms.config.NotificationProperties;
+import com.flow.pms.dto.NotificationDto;
+import com.flow.pms.dto.ProjectDto;
+import com.flow.pms.dto.UserDto;
+import com.flow.pms.entity.Notification;
+import com.flow.pms.entity.ProjectWatcher;
+import com.flow.pms.event.ChangeType;
+import com.flow.pms.event.NotificationsWrittenEvent;
+import com.flow.pms.event.ProjectChangedEvent;
+import com.flow.pms.event.UserChangedEvent;
+import com.flow.pms.repository.NotificationRepository;
+import com.flow.pms.repository.ProjectRepository;
+import com.flow.pms.repository.ProjectWatcherRepository;
+import com.flow.pms.repository.UserRepository;
+import com.flow.pms.service.notification.NotificationRequest;
+import com.flow.pms.service.push.PushTopic;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 알림 서비스
+ * 프로젝트 상태 변경/수정, 사용자 상태 메시지 변경 이벤트를 알림 요청으로 바꿔 저장기 대기열에 넣고 (DB 작업 없음),
+ * 알림함 조회/읽음 처리와 프로젝트 구독을 담당
+ *
+ * 읽지 않은 알림 수는 사용자별로 캐시하며, 알림 저장/읽음 처리 후에는 값을 고치지 않고 무효화함
+ * (캐시를 채우는 조회와 저장이 겹쳐도 잘못된 값이 남지 않도록)
+ */
+@Service
+public class NotificationService {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationService.class);
+
+    private final NotificationRepository notificationRepository;
+    private final ProjectWatcherRepository projectWatcherRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final NotificationWriter notificationWriter;
+    private final ProjectService projectService;
+    private final PushService pushService;
+    private final NotificationProperties notificationProperties;
+    private final Cache<Long, Long> unreadCounts;
+
+    @Autowired
+    public NotificationService(NotificationRepository notificationRepository,
+                               ProjectWatcherRepository projectWatcherRepository,
+                               ProjectRepository projectRepository,
+                               UserRepository userRepository,
+                               NotificationWriter notificationWriter,
+                               ProjectService projectService,
+                               PushService pushService,
+                               NotificationProperties notificationProperties) {
+        this.notificationRepository = notificationRepository;
+        this.projectWatcherRepository = projectWatcherRepository;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.notificationWriter = notificationWriter;
+        this.projectService = projectService;
+        this.pushService = pushService;
+        this.notificationProperties = notificationProperties;
+        this.unreadCounts = Caffeine.newBuilder()
+                .maximumSize(notificationProperties.getUnreadCacheSize())
+                .expireAfterWrite(Duration.ofMillis(notificationProperties.getUnreadCacheExpireMs()))
+                .build();
+    }
+
+    /**
+     * 프로젝트 상태 변경/수정 알림 (커밋 이후, 대기열 추가만 함)
+     * 상태가 바뀌었으면 상태 변경 알림, 그 외 내용이 바뀌었으면 수정 알림
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        ProjectDto project = event.getProject();
+        ProjectDto previous = event.getPrevious();
+        if (event.getChangeType() != ChangeType.UPDATED || project == null || previous == null) {
+            return;
+        }
+
+        boolean restricted = !Boolean.TRUE.equals(project.getIsPublic());
+        if (!Objects.equals(project.getStatus(), previous.getStatus())) {
+            enqueue(NotificationRequest.of(Notification.TYPE_PROJECT_STATUS, project.getId(), project.getOwnerId(),
+                    "프로젝트 상태 변경",
+                    "프로젝트 \"" + project.getTitle() + "\"의 상태가 '" + previous.getStatus() + "'에서 '"
+                            + project.getStatus() + "'(으)로 변경되었습니다.",
+                    restricted));
+        } else if (isContentChanged(project, previous)) {
+            enqueue(NotificationRequest.of(Notification.TYPE_PROJECT_UPDATED, project.getId(), project.getOwnerId(),
+                    "프로젝트 업데이트",
+                    "프로젝트 \"" + project.getTitle() + "\"가 수정되었습니다.",
+                    restricted));
+        }
+    }
+
+    /**
+     * 사용자 상태 메시지/프로필 아이콘 변경 알림 (커밋 이후, 대기열 추가만 함)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        UserDto user = event.getUser();
+        UserDto previous = event.getPrevious();
+        if (event.getChangeType() != ChangeType.UPDATED || user == null || previous == null) {
+            return;
+        }
+
+        String message;
+        if (!Objects.equals(user.getStatusMessage(), previous.getStatusMessage())) {
+            message = user.getStatusMessage() == null || user.getStatusMessage().isBlank()
+                    ? user.getDisplayName() + "님이 상태 메시지를 지웠습니다."
+                    : user.getDisplayName() + "님이 상태 메시지를 \"" + user.getStatusMessage() + "\"(으)로 변경했습니다.";
+        } else if (!Objects.equals(user.getProfileIcon(), previous.getProfileIcon())) {
+            message = user.getDisplayName() + "님이 프로필 아이콘을 변경했습니다.";
+        } else {
+            return;
+        }
+        enqueue(NotificationRequest.of(Notification.TYPE_USER_STATUS, user.getId(), user.getId(),
+                "상태 변경", message, false));
+    }
+
+    /**
+     * 알림 저장 완료 반영: 읽지 않은 알림 수 무효화, 수신자에게 실시간 전달
+     */
+    @EventListener
+    public void onNotificationsWritten(NotificationsWrittenEvent event) {
+        for (NotificationsWrittenEvent.Delivery delivery : event.getDeliveries()) {
+            unreadCounts.invalidateAll(delivery.getRecipients());
+
+            NotificationRequest request = delivery.getRequest();
+            Map<String, Object> payload = new HashMap<>();
+            payload.put("type", request.getType());
+            payload.put("targetId", request.getTargetId());
+            payload.put("title", request.getTitle());
+            payload.put("message", request.getMessage());
+            payload.put("eventCount", request.getEventCount());
+            pushService.publish(PushTopic.NOTIFICATIONS, "notification.created", payload, delivery.getRecipients());
+        }
+    }
+
+    /**
+     * 알림함 조회 (최신순, before 알림 ID 이전)
+     */
+    @Transactional(readOnly = true)
+    public List<NotificationDto> getNotifications(Long userId, Long before, Integer size) {
+        int limit = size == null || size <= 0 ? notificationProperties.getPageSize()
+                : Math.min(size, notificationProperties.getMaxPageSize());
+        return notificationRepository.findInbox(userId, before != null ? before : Long.MAX_VALUE,
+                PageRequest.of(0, limit));
+    }
+
+    /**
+     * 읽지 않은 알림 수 (캐시)
+     */
+    public long getUnreadCount(Long userId) {
+        return unreadCounts.get(userId, notificationRepository::countUnread);
+    }
+
+    /**
+     * 알림 하나 읽음 처리 (본인 알림만)
+     *
+     * @return 새로 읽음 처리되었으면 true (이미 읽었거나 없는 알림이면 false)
+     */
+    @Transactional
+    public boolean markRead(Long notificationId, Long userId) {
+        boolean changed = notificationRepository.markRead(notificationId, userId, LocalDateTime.now()) > 0;
+        if (changed) {
+            unreadCounts.invalidate(userId);
+        }
+        return changed;
+    }
+
+    /**
+     * 모든 알림 읽음 처리
+     *
+     * @return 읽음 처리된 알림 수
+     */
+    @Transactional
+    public int markAllRead(Long userId) {
+        int changed = notificationRepository.markAllRead(userId, LocalDateTime.now());
+        unreadCounts.invalidate(userId);
+        return changed;
+    }
+
+    /**
+     * 프로젝트 구독 (공개 프로젝트 또는 본인 프로젝트만)
+     *
+     * @return 새로 구독했으면 true (이미 구독 중이면 false)
+     */
+    @Transactional
+    public boolean watchProject(Long projectId, Long userId) {
+        ProjectDto project = projectService.getProjectById(projectId)
+                .orElseThrow(() -> new RuntimeException("프로젝트를 찾을 수 없습니다: " + projectId));
+        if (!Boolean.TRUE.equals(project.getIsPublic()) && !Objects.equals(project.getOwnerId(), userId)) {
+            throw new RuntimeException("비공개 프로젝트는 구독할 수 없습니다.");
+        }
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다: " + userId);
+        }
+        if (projectWatcherRepository.existsByProjectIdAndUserId(projectId, userId)) {
+            return false;
+        }
+        projectWatcherRepository.save(new ProjectWatcher(projectRepository.getReferenceById(projectId),
+                userRepository.getReferenceById(userId)));
+        return true;
+    }
+
+    /**
+     * 프로젝트 구독 해제
+     *
+     * @return 구독 중이었으면 true
+     */
+    @Transactional
+    public boolean unwatchProject(Long projectId, Long userId) {
+        return projectWatcherRepository.deleteByProjectIdAndUserId(projectId, userId) > 0;
+    }
+
+    /**
+     * 프로젝트 구독자 수
+     */
+    @Transactional(readOnly = true)
+    public long getWatcherCount(Long projectId) {
+        return projectWatcherRepository.countByProjectId(projectId);
+    }
+
+    /**
+     * 알림 통계 (저장 대기/저장/묶음/거절/실패 건수, 캐시된 사용자 수)
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("queued", notificationWriter.getQueuedCount());
+        stats.put("inserted", notificationWriter.getInsertedCount());
+        stats.put("digested", notificationWriter.getDigestedCount());
+        stats.put("flushes", notificationWriter.getFlushCount());
+        stats.put("rejected", notificationWriter.getRejectedCount());
+        stats.put("failed", notificationWriter.getFailedCount());
+        stats.put("cachedUnreadCounts", unreadCounts.estimatedSize());
+        return stats;
+    }
+
+    private void enqueue(NotificationRequest request) {
+        if (!notificationWriter.enqueue(request)) {
+            log.warn("알림 대기열이 가득 차 알림을 보내지 못했습니다: {}", request);
+        }
+    }
+
+    // 상태 외 알림 대상 내용 (제목, 설명, 카테고리, 공개 여부, 일정)
+    private static boolean isContentChanged(ProjectDto project, ProjectDto previous) {
+        return !Objects.equals(project.getTitle(), previous.getTitle())
+                || !Objects.equals(project.getDescription(), previous.getDescription())
+                || !Objects.equals(project.getCategory(), previous.getCategory())
+                || !Objects.equals(project.getIsPublic(), previous.getIsPublic())
+                || !Objects.equals(project.getStartDate(), previous.getStartDate())
+                || !Objects.equals(project.getDueDate(), previous.getDueDate());
+    }
+}
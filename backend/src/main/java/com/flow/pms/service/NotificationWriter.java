@@ -0,0 +1,306 @@
+package com.flow.pms.service;
+
+import com.flow.pms.config.NotificationProperties;
+import com.flow.pms.entity.Notification;
+import com.flow.pms.event.NotificationsWrittenEvent;
+import com.flow.pms.repository.NotificationRepository;
+import com.flow.pms.repository.ProjectWatcherRepository;
+import com.flow.pms.repository.TaskRepository;
+import com.flow.pms.service.notification.NotificationRequest;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 알림 일괄 저장기 (group commit)
+ * 변경 요청 스레드는 대기열에 넣기만 하고, 전용 스레드가 flush 주기 동안 모인 요청을
+ * 같은 대상끼리 묶고 → 수신자로 펼친 뒤 → 기존 알림에 묶거나 JDBC 배치로 INSERT하는 과정을 한 트랜잭션으로 처리
+ * 구독자 2천 명인 프로젝트의 상태 변경도 요청 스레드에서는 대기열 추가 한 번이며, DB에는 배치 몇 번으로 저장됨
+ */
+@Component
+public class NotificationWriter implements SmartLifecycle {
+
+    private static final Logger log = LoggerFactory.getLogger(NotificationWriter.class);
+
+    // 대기열이 비었을 때 종료 여부를 확인하는 주기
+    private static final long POLL_TIMEOUT_MS = 200;
+    private static final long RETRY_BACKOFF_MS = 100;
+    // IN 조건 한 번에 넣는 최대 ID 수
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    private final NotificationProperties notificationProperties;
+    private final NotificationProperties.Writer settings;
+    private final NotificationRepository notificationRepository;
+    private final ProjectWatcherRepository projectWatcherRepository;
+    private final TaskRepository taskRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transaction;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BlockingQueue<NotificationRequest> queue;
+
+    private final AtomicLong inserted = new AtomicLong();
+    private final AtomicLong digested = new AtomicLong();
+    private final AtomicLong flushes = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+
+    private volatile boolean running;
+    private volatile Thread worker;
+
+    @Autowired
+    public NotificationWriter(NotificationProperties notificationProperties,
+                              NotificationRepository notificationRepository,
+                              ProjectWatcherRepository projectWatcherRepository,
+                              TaskRepository taskRepository,
+                              EntityManager entityManager,
+                              PlatformTransactionManager transactionManager,
+                              ApplicationEventPublisher eventPublisher) {
+        this.notificationProperties = notificationProperties;
+        this.settings = notificationProperties.getWriter();
+        this.notificationRepository = notificationRepository;
+        this.projectWatcherRepository = projectWatcherRepository;
+        this.taskRepository = taskRepository;
+        this.entityManager = entityManager;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.queue = new ArrayBlockingQueue<>(settings.getQueueCapacity());
+    }
+
+    /**
+     * 발송 대기열에 추가
+     *
+     * @return 대기열이 가득 차 추가하지 못하면 false
+     */
+    public boolean enqueue(NotificationRequest request) {
+        if (running && queue.offer(request)) {
+            return true;
+        }
+        rejected.incrementAndGet();
+        return false;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        Thread thread = new Thread(this::run, "notification-writer");
+        thread.setDaemon(true);
+        worker = thread;
+        thread.start();
+    }
+
+    /**
+     * 종료 시 대기열에 남은 요청을 모두 저장한 뒤 멈춤
+     */
+    @Override
+    public void stop() {
+        running = false;
+        Thread thread = worker;
+        if (thread == null) {
+            return;
+        }
+        try {
+            thread.join(TimeUnit.SECONDS.toMillis(30));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        worker = null;
+        if (!queue.isEmpty()) {
+            log.warn("알림 요청 {}건을 저장하지 못하고 종료합니다", queue.size());
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return worker != null;
+    }
+
+    public int getQueuedCount() {
+        return queue.size();
+    }
+
+    public long getInsertedCount() {
+        return inserted.get();
+    }
+
+    public long getDigestedCount() {
+        return digested.get();
+    }
+
+    public long getFlushCount() {
+        return flushes.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    public long getFailedCount() {
+        return failed.get();
+    }
+
+    private void run() {
+        int maxEvents = settings.getMaxEventsPerFlush();
+        long flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(settings.getFlushIntervalMs());
+        List<NotificationRequest> batch = new ArrayList<>(maxEvents);
+        while (running || !queue.isEmpty()) {
+            try {
+                NotificationRequest first = queue.poll(POLL_TIMEOUT_MS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                // 첫 요청부터 flush 주기 동안 (또는 최대 건수까지) 모아서 한 번에 저장
+                batch.add(first);
+                long deadline = System.nanoTime() + flushIntervalNanos;
+                while (batch.size() < maxEvents) {
+                    long remaining = deadline - System.nanoTime();
+                    NotificationRequest next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, maxEvents - batch.size());
+                }
+                flush(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<NotificationRequest> batch) throws InterruptedException {
+        // 같은 대상의 요청은 하나로 묶음 (순서 유지)
+        Map<String, NotificationRequest> merged = new LinkedHashMap<>();
+        for (NotificationRequest request : batch) {
+            merged.merge(request.getDigestKey(), request, NotificationRequest::merge);
+        }
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                List<NotificationsWrittenEvent.Delivery> deliveries =
+                        transaction.execute(status -> write(merged.values()));
+                flushes.incrementAndGet();
+                if (deliveries != null && !deliveries.isEmpty()) {
+                    eventPublisher.publishEvent(new NotificationsWrittenEvent(deliveries));
+                }
+                return;
+            } catch (RuntimeException e) {
+                if (attempt > settings.getMaxRetries()) {
+                    failed.addAndGet(batch.size());
+                    log.error("알림 요청 {}건 저장 실패 (재시도 {}회 초과)", batch.size(), settings.getMaxRetries(), e);
+                    return;
+                }
+                log.warn("알림 저장 재시도 {}/{}: {}", attempt, settings.getMaxRetries(), e.getMessage());
+                Thread.sleep(RETRY_BACKOFF_MS * attempt);
+            }
+        }
+    }
+
+    private List<NotificationsWrittenEvent.Delivery> write(Iterable<NotificationRequest> requests) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(settings.getInsertBatchSize());
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime digestSince = now.minusNanos(TimeUnit.MILLISECONDS.toNanos(notificationProperties.getDigestWindowMs()));
+
+        List<NotificationsWrittenEvent.Delivery> deliveries = new ArrayList<>();
+        long insertedRows = 0;
+        long digestedRows = 0;
+        int pending = 0;
+        for (NotificationRequest request : requests) {
+            Set<Long> recipients = resolveRecipients(request);
+            if (recipients.isEmpty()) {
+                continue;
+            }
+
+            Set<Long> digestedUsers = digest(request, recipients, digestSince, now);
+            int insertedForRequest = 0;
+            for (Long userId : recipients) {
+                if (digestedUsers.contains(userId)) {
+                    continue;
+                }
+                entityManager.persist(new Notification(userId, request.getType(), request.getTargetId(),
+                        request.getActorId(), request.getTitle(), request.getMessage(), request.getEventCount(), now));
+                insertedForRequest++;
+                if (++pending % settings.getInsertBatchSize() == 0) {
+                    entityManager.flush();
+                    entityManager.clear();
+                }
+            }
+            insertedRows += insertedForRequest;
+            digestedRows += digestedUsers.size();
+            deliveries.add(new NotificationsWrittenEvent.Delivery(request, recipients, insertedForRequest,
+                    digestedUsers.size()));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        inserted.addAndGet(insertedRows);
+        digested.addAndGet(digestedRows);
+        return deliveries;
+    }
+
+    // 수신자: 프로젝트 알림은 구독자(공개 프로젝트만) + 업무 담당자, 사용자 알림은 그 사용자 프로젝트의 구독자
+    // (변경한 사람 제외)
+    private Set<Long> resolveRecipients(NotificationRequest request) {
+        Set<Long> recipients = new LinkedHashSet<>();
+        if (request.isProjectNotification()) {
+            if (!request.isRestricted()) {
+                recipients.addAll(projectWatcherRepository.findUserIdsByProjectId(request.getTargetId()));
+            }
+            recipients.addAll(taskRepository.findAssigneeIdsByProjectId(request.getTargetId()));
+        } else {
+            recipients.addAll(projectWatcherRepository.findUserIdsByProjectOwnerId(request.getTargetId()));
+        }
+        recipients.remove(request.getActorId());
+        return recipients;
+    }
+
+    // 읽지 않은 같은 대상 알림이 묶음 기간 안에 있는 수신자는 새 행 대신 기존 알림을 갱신
+    private Set<Long> digest(NotificationRequest request, Set<Long> recipients,
+                             LocalDateTime since, LocalDateTime now) {
+        Set<Long> digestedUsers = new HashSet<>();
+        List<Long> notificationIds = new ArrayList<>();
+        for (List<Long> userIds : chunks(new ArrayList<>(recipients))) {
+            for (Object[] row : notificationRepository.findDigestable(request.getType(), request.getTargetId(),
+                    userIds, since)) {
+                if (digestedUsers.add((Long) row[1])) {
+                    notificationIds.add((Long) row[0]);
+                }
+            }
+        }
+        for (List<Long> ids : chunks(notificationIds)) {
+            notificationRepository.digest(ids, request.getEventCount(), request.getTitle(), request.getMessage(),
+                    request.getActorId(), now);
+        }
+        return digestedUsers;
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += IN_CHUNK_SIZE) {
+            chunks.add(ids.subList(from, Math.min(ids.size(), from + IN_CHUNK_SIZE)));
+        }
+        return chunks;
+    }
+}
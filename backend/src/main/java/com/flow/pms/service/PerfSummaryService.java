@@ -0,0 +1,263 @@
+package com.flow.pms.service;
+
+import com.flow.pms.config.PerfProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+import io.micrometer.core.instrument.search.Search;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 성능 메트릭 요약 서비스 (/api/admin/perf)
+ * Prometheus 없이도 바로 볼 수 있도록 레지스트리의 주요 메트릭을 밀리초 단위로 모아 반환
+ * - API 지연 시간 (app.perf.http-histogram-uris 경로, 누적 시간순)
+ * - 통합 검색 출처별 시간과 결과 캐시
+ * - 리포지토리 메서드별 실행 시간/행 수 (누적 시간 상위 N개)
+ * - DB 커넥션 풀 대기 시간과 사용량
+ * - API별 요청당 SQL 수와 N+1 의심/예산 초과 요청 수 (SQL 실행 감시 사용 시)
+ * - DTO 생성 건수
+ * 백분위수는 앱 내부 계산 값이고, 최대값은 최근 구간(기본 2분)의 값
+ */
+@Service
+public class PerfSummaryService {
+
+    private static final String HTTP_SERVER_REQUESTS = "http.server.requests";
+    private static final String REPOSITORY_INVOCATIONS = "spring.data.repository.invocations";
+
+    private final MeterRegistry meterRegistry;
+    private final PerfProperties perfProperties;
+
+    @Autowired
+    public PerfSummaryService(MeterRegistry meterRegistry, PerfProperties perfProperties) {
+        this.meterRegistry = meterRegistry;
+        this.perfProperties = perfProperties;
+    }
+
+    public Map<String, Object> getSummary() {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("endpoints", getEndpoints());
+        summary.put("searchSources", getSearchSources());
+        summary.put("searchResultCache", getSearchResultCache());
+        summary.put("repositories", getRepositories());
+        summary.put("connectionPool", getConnectionPool());
+        summary.put("sqlPerRequest", getSqlPerRequest());
+        summary.put("dtoMapped", getDtoMapped());
+        return summary;
+    }
+
+    private List<Map<String, Object>> getEndpoints() {
+        List<Timer> timers = new ArrayList<>();
+        for (Timer timer : Search.in(meterRegistry).name(HTTP_SERVER_REQUESTS).timers()) {
+            if (perfProperties.isHistogramUri(timer.getId().getTag("uri"))) {
+                timers.add(timer);
+            }
+        }
+        timers.sort(byTotalTime());
+
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        for (Timer timer : timers) {
+            Map<String, Object> endpoint = new LinkedHashMap<>();
+            endpoint.put("method", timer.getId().getTag("method"));
+            endpoint.put("uri", timer.getId().getTag("uri"));
+            endpoint.put("status", timer.getId().getTag("status"));
+            endpoint.putAll(timing(timer));
+            endpoints.add(endpoint);
+        }
+        return endpoints;
+    }
+
+    private List<Map<String, Object>> getSearchSources() {
+        List<Timer> timers = new ArrayList<>(Search.in(meterRegistry).name("search.source").timers());
+        timers.sort(Comparator.comparing((Timer timer) -> timer.getId().getTag("source"))
+                .thenComparing(timer -> timer.getId().getTag("outcome")));
+
+        List<Map<String, Object>> sources = new ArrayList<>();
+        for (Timer timer : timers) {
+            Map<String, Object> source = new LinkedHashMap<>();
+            source.put("source", timer.getId().getTag("source"));
+            source.put("outcome", timer.getId().getTag("outcome"));
+            source.putAll(timing(timer));
+            sources.add(source);
+        }
+        return sources;
+    }
+
+    private Map<String, Object> getSearchResultCache() {
+        Map<String, Object> cache = new LinkedHashMap<>();
+        for (FunctionCounter counter : Search.in(meterRegistry).name("search.result.cache.requests").functionCounters()) {
+            cache.put("hit".equals(counter.getId().getTag("result")) ? "hits" : "misses", (long) counter.count());
+        }
+        putFunctionCounter(cache, "coalesced", "search.result.cache.coalesced");
+        putFunctionCounter(cache, "discarded", "search.result.cache.discarded");
+        putGauge(cache, "size", Search.in(meterRegistry).name("search.result.cache.size"));
+        return cache;
+    }
+
+    private List<Map<String, Object>> getRepositories() {
+        List<Timer> timers = new ArrayList<>(Search.in(meterRegistry).name(REPOSITORY_INVOCATIONS).timers());
+        timers.sort(byTotalTime());
+
+        List<Map<String, Object>> repositories = new ArrayList<>();
+        for (Timer timer : timers.subList(0, Math.min(timers.size(), perfProperties.getTopRepositoryMethods()))) {
+            String repository = timer.getId().getTag("repository");
+            String method = timer.getId().getTag("method");
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("repository", repository);
+            entry.put("method", method);
+            entry.put("state", timer.getId().getTag("state"));
+            entry.putAll(timing(timer));
+
+            DistributionSummary rows = Search.in(meterRegistry).name("repository.rows")
+                    .tag("repository", repository)
+                    .tag("method", method)
+                    .summary();
+            if (rows != null) {
+                Map<String, Object> rowStats = new LinkedHashMap<>();
+                rowStats.put("total", (long) rows.totalAmount());
+                rowStats.put("mean", round(rows.mean()));
+                rowStats.put("max", (long) rows.max());
+                rowStats.putAll(percentiles(rows.takeSnapshot(), null));
+                entry.put("rows", rowStats);
+            }
+            repositories.add(entry);
+        }
+        return repositories;
+    }
+
+    private Map<String, Object> getConnectionPool() {
+        Map<String, Object> pool = new LinkedHashMap<>();
+        Timer acquire = Search.in(meterRegistry).name("hikaricp.connections.acquire").timer();
+        if (acquire != null) {
+            pool.put("pool", acquire.getId().getTag("pool"));
+            pool.put("acquire", timing(acquire));
+        }
+        putGauge(pool, "active", Search.in(meterRegistry).name("hikaricp.connections.active"));
+        putGauge(pool, "idle", Search.in(meterRegistry).name("hikaricp.connections.idle"));
+        putGauge(pool, "pending", Search.in(meterRegistry).name("hikaricp.connections.pending"));
+        putGauge(pool, "max", Search.in(meterRegistry).name("hikaricp.connections.max"));
+        Counter timeouts = Search.in(meterRegistry).name("hikaricp.connections.timeout").counter();
+        if (timeouts != null) {
+            pool.put("timeouts", (long) timeouts.count());
+        }
+
+        // 가상 스레드 모드의 연결 획득 벌크헤드 (Hikari 풀 대기 이전 구간)
+        Timer bulkheadWait = Search.in(meterRegistry).name("db.bulkhead.wait").timer();
+        if (bulkheadWait != null) {
+            Map<String, Object> bulkhead = new LinkedHashMap<>();
+            bulkhead.put("wait", timing(bulkheadWait));
+            putGauge(bulkhead, "inUse", Search.in(meterRegistry).name("db.bulkhead.in.use"));
+            putGauge(bulkhead, "waiting", Search.in(meterRegistry).name("db.bulkhead.waiting"));
+            for (FunctionCounter counter : Search.in(meterRegistry).name("db.bulkhead.rejected").functionCounters()) {
+                bulkhead.put("rejected." + counter.getId().getTag("reason"), (long) counter.count());
+            }
+            pool.put("bulkhead", bulkhead);
+        }
+        return pool;
+    }
+
+    private List<Map<String, Object>> getSqlPerRequest() {
+        List<DistributionSummary> summaries = new ArrayList<>(Search.in(meterRegistry).name("sql.statements").summaries());
+        summaries.sort(Comparator.comparingDouble(DistributionSummary::totalAmount).reversed());
+
+        List<Map<String, Object>> endpoints = new ArrayList<>();
+        for (DistributionSummary summary : summaries) {
+            String method = summary.getId().getTag("method");
+            String uri = summary.getId().getTag("uri");
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("method", method);
+            entry.put("uri", uri);
+            entry.put("requests", summary.count());
+            entry.put("statements", (long) summary.totalAmount());
+            entry.put("meanStatements", round(summary.mean()));
+            entry.put("maxStatements", (long) summary.max());
+            entry.put("repeatedStatementRequests", countOf("sql.repeated.statements", method, uri));
+            entry.put("overBudgetRequests", countOf("sql.budget.exceeded", method, uri));
+            endpoints.add(entry);
+        }
+        return endpoints;
+    }
+
+    private long countOf(String name, String method, String uri) {
+        Counter counter = Search.in(meterRegistry).name(name).tag("method", method).tag("uri", uri).counter();
+        return counter != null ? (long) counter.count() : 0;
+    }
+
+    private List<Map<String, Object>> getDtoMapped() {
+        List<Counter> counters = new ArrayList<>(Search.in(meterRegistry).name("dto.mapped").counters());
+        counters.sort(Comparator.comparingDouble(Counter::count).reversed());
+
+        List<Map<String, Object>> mapped = new ArrayList<>();
+        for (Counter counter : counters) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("type", counter.getId().getTag("type"));
+            entry.put("source", counter.getId().getTag("source"));
+            entry.put("count", (long) counter.count());
+            mapped.add(entry);
+        }
+        return mapped;
+    }
+
+    private static Comparator<Timer> byTotalTime() {
+        return Comparator.comparingDouble((Timer timer) -> timer.totalTime(TimeUnit.NANOSECONDS)).reversed();
+    }
+
+    // 타이머 요약 (밀리초)
+    private static Map<String, Object> timing(Timer timer) {
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        Map<String, Object> timing = new LinkedHashMap<>();
+        timing.put("count", snapshot.count());
+        timing.put("totalMs", round(snapshot.total(TimeUnit.MILLISECONDS)));
+        timing.put("meanMs", round(snapshot.mean(TimeUnit.MILLISECONDS)));
+        timing.put("maxMs", round(snapshot.max(TimeUnit.MILLISECONDS)));
+        timing.putAll(percentiles(snapshot, TimeUnit.MILLISECONDS));
+        return timing;
+    }
+
+    // 설정된 백분위수만 포함 (0.95 → p95Ms, 0.999 → p99.9Ms), 시간 단위가 없으면 값 그대로
+    private static Map<String, Object> percentiles(HistogramSnapshot snapshot, TimeUnit unit) {
+        Map<String, Object> values = new LinkedHashMap<>();
+        for (ValueAtPercentile percentile : snapshot.percentileValues()) {
+            String label = "p" + BigDecimal.valueOf(percentile.percentile() * 100)
+                    .setScale(3, RoundingMode.HALF_UP).stripTrailingZeros().toPlainString();
+            if (unit != null) {
+                values.put(label + "Ms", round(percentile.value(unit)));
+            } else {
+                values.put(label, round(percentile.value()));
+            }
+        }
+        return values;
+    }
+
+    private void putFunctionCounter(Map<String, Object> target, String key, String name) {
+        FunctionCounter counter = Search.in(meterRegistry).name(name).functionCounter();
+        if (counter != null) {
+            target.put(key, (long) counter.count());
+        }
+    }
+
+    private static void putGauge(Map<String, Object> target, String key, Search search) {
+        Gauge gauge = search.gauge();
+        if (gauge != null) {
+            target.put(key, (long) gauge.value());
+        }
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
@@ -1,56 +1,456 @@
 package com.flow.pms.service;
 
+import com.flow.pms.config.CacheConfig;
+import com.flow.pms.dto.CursorPage;
+import com.flow.pms.dto.KeysetCursor;
 import com.flow.pms.dto.ProjectDto;
-import com.flow.pms.dto.SearchResultDto;
-import com.flow.pms.dto.UserDto;
+import com.flow.pms.entity.Project;
+import com.flow.pms.entity.User;
+import com.flow.pms.event.ProjectChangedEvent;
+import com.flow.pms.repository.ProjectRepository;
+import com.flow.pms.repository.ProjectWatcherRepository;
+import com.flow.pms.repository.TaskRepository;
+import com.flow.pms.repository.UserRepository;
+import com.flow.pms.service.search.SearchBackend;
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
- * 통합 검색 서비스
- * 프로젝트, 사용자, 메뉴 등을 통합 검색하는 비즈니스 로직
+ * 프로젝트 비즈니스 로직 서비스
+ * 프로젝트 관련 모든 비즈니스 로직을 처리
  */
 @Service
-@Transactional(readOnly = true)
-public class SearchService {
+@Transactional
+public class ProjectService {
 
-    private final ProjectService projectService;
-    private final UserService userService;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectWatcherRepository projectWatcherRepository;
+    private final SearchBackend searchBackend;
+    private final ProjectStatisticsService statisticsService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+    private final int bulkMaxItems;
 
-    // 기본 메뉴 아이템들
-    private static final List<SearchResultDto> DEFAULT_MENU_ITEMS = List.of(
-        new SearchResultDto("메뉴", "대시보드", "/dashboard"),
-        new SearchResultDto("메뉴", "내 프로젝트", "/projects
-        package com.flow.pms.service;
+    // 일괄 처리 묶음 크기: 권한 체크 쿼리 한 번, flush/clear 한 번의 단위 (JDBC 배치는 hibernate.jdbc.batch_size)
+    private static final int BULK_CHUNK_SIZE = 1000;
 
-import com.flow.pms.dto.ProjectDto;
-import com.flow.pms.dto.SearchResultDto;
-import com.flow.pms.dto.UserDto;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+    @Autowired
+    public ProjectService(ProjectRepository projectRepository,
+                          UserRepository userRepository,
+                          TaskRepository taskRepository,
+                          ProjectWatcherRepository projectWatcherRepository,
+                          SearchBackend searchBackend,
+                          ProjectStatisticsService statisticsService,
+                          ApplicationEventPublisher eventPublisher,
+                          EntityManager entityManager,
+                          @Value("${app.pagination.default-size:20}") int defaultPageSize,
+                          @Value("${app.pagination.max-size:100}") int maxPageSize,
+                          @Value("${app.bulk.max-items:50000}") int bulkMaxItems) {
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.taskRepository = taskRepository;
+        this.projectWatcherRepository = projectWatcherRepository;
+        this.searchBackend = searchBackend;
+        this.statisticsService = statisticsService;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+        this.bulkMaxItems = bulkMaxItems;
+    }
 
-import java.util.ArrayList;
-import java.util.List;
-import java.util.stream.Collectors;
+    /**
+     * 모든 프로젝트 조회 (생성일 최신순, 커서 페이지)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기 (null이면 기본값, 최대값으로 제한)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ProjectDto> getAllProjects(String cursor, Integer size) {
+        KeysetCursor after = KeysetCursor.decode(cursor, KeysetCursor.CREATED_AT);
+        int pageSize = pageSize(size);
+        return toPage(projectRepository.findPageAfter(after.getAt(), after.getId(), limitOf(pageSize)),
+                pageSize, after.getKey(), ProjectDto::getCreatedAt);
+    }
 
-/**
- * 통합 검색 서비스
- * 프로젝트, 사용자, 메뉴 등을 통합 검색하는 비즈니스 로직
- */
-@Service
-@Transactional(readOnly = true)
-public class SearchService {
+    /**
+     * 공개 프로젝트 조회 (생성일 최신순, 커서 페이지)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ProjectDto> getPublicProjects(String cursor, Integer size) {
+        KeysetCursor after = KeysetCursor.decode(cursor, KeysetCursor.CREATED_AT);
+        int pageSize = pageSize(size);
+        return toPage(projectRepository.findPublicPageAfter(after.getAt(), after.getId(), limitOf(pageSize)),
+                pageSize, after.getKey(), ProjectDto::getCreatedAt);
+    }
+
+    /**
+     * 프로젝트 ID로 조회
+     */
+    @Cacheable(cacheNames = CacheConfig.PROJECTS, key = "#projectId", unless = "#result == null")
+    @Transactional(readOnly = true)
+    public Optional<ProjectDto> getProjectById(Long projectId) {
+        return projectRepository.findDtoById(projectId);
+    }
+
+    /**
+     * 사용자의 프로젝트 조회 (생성일 최신순, 커서 페이지)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ProjectDto> getUserProjects(Long userId, String cursor, Integer size) {
+        KeysetCursor after = KeysetCursor.decode(cursor, KeysetCursor.CREATED_AT);
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다: " + userId);
+        }
+        int pageSize = pageSize(size);
+        return toPage(projectRepository.findOwnerPageAfter(userId, after.getAt(), after.getId(), limitOf(pageSize)),
+                pageSize, after.getKey(), ProjectDto::getCreatedAt);
+    }
+
+    /**
+     * 새 프로젝트 생성
+     */
+    public ProjectDto createProject(ProjectDto projectDto, Long ownerId) {
+        User owner = findUser(ownerId);
+
+        Project project = newProject(projectDto);
+        owner.addProject(project);
+
+        Project savedProject = projectRepository.save(project);
+        ProjectDto created = new ProjectDto(savedProject);
+        eventPublisher.publishEvent(ProjectChangedEvent.created(created));
+        return created;
+    }
+
+    /**
+     * 프로젝트 업데이트 (소유자만 가능)
+     */
+    public ProjectDto updateProject(Long projectId, ProjectDto projectDto, Long userId) {
+        Project project = findOwnedProject(projectId, userId);
+        ProjectDto previous = new ProjectDto(project);
+
+        applyChanges(project, projectDto);
+
+        Project updatedProject = projectRepository.saveAndFlush(project);
+        ProjectDto updated = new ProjectDto(updatedProject);
+        eventPublisher.publishEvent(ProjectChangedEvent.updated(updated, previous));
+        return updated;
+    }
+
+    /**
+     * 프로젝트 삭제 (소유자만 가능)
+     */
+    public void deleteProject(Long projectId, Long userId) {
+        Project project = findOwnedProject(projectId, userId);
+        ProjectDto deleted = new ProjectDto(project);
+
+        taskRepository.deleteByProjectId(projectId);
+        projectWatcherRepository.deleteByProjectId(projectId);
+        project.getOwner().removeProject(project);
+        projectRepository.delete(project);
+        eventPublisher.publishEvent(ProjectChangedEvent.deleted(deleted));
+    }
+
+    /**
+     * 프로젝트 검색 (제목, 설명)
+     */
+    @Transactional(readOnly = true)
+    public List<ProjectDto> searchProjects(String keyword) {
+        return searchBackend.searchProjects(keyword);
+    }
+
+    /**
+     * 카테고리별 프로젝트 조회 (생성일 최신순, 커서 페이지)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ProjectDto> getProjectsByCategory(String category, String cursor, Integer size) {
+        KeysetCursor after = KeysetCursor.decode(cursor, KeysetCursor.CREATED_AT);
+        int pageSize = pageSize(size);
+        return toPage(projectRepository.findCategoryPageAfter(category, after.getAt(), after.getId(), limitOf(pageSize)),
+                pageSize, after.getKey(), ProjectDto::getCreatedAt);
+    }
+
+    /**
+     * 상태별 프로젝트 조회 (생성일 최신순, 커서 페이지)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ProjectDto> getProjectsByStatus(String status, String cursor, Integer size) {
+        KeysetCursor after = KeysetCursor.decode(cursor, KeysetCursor.CREATED_AT);
+        int pageSize = pageSize(size);
+        return toPage(projectRepository.findStatusPageAfter(status, after.getAt(), after.getId(), limitOf(pageSize)),
+                pageSize, after.getKey(), ProjectDto::getCreatedAt);
+    }
+
+    /**
+     * 최근 업데이트된 프로젝트 조회 (수정일 최신순, 커서 페이지)
+     * 페이지를 넘기는 사이에 수정된 프로젝트는 앞쪽으로 이동하므로 이후 페이지에는 다시 나오지 않음
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<ProjectDto> getRecentlyUpdatedProjects(int days, String cursor, Integer size) {
+        KeysetCursor after = KeysetCursor.decode(cursor, KeysetCursor.UPDATED_AT);
+        LocalDateTime since = LocalDateTime.now().minusDays(days);
+        int pageSize = pageSize(size);
+        return toPage(projectRepository.findRecentlyUpdatedPageAfter(since, after.getAt(), after.getId(), limitOf(pageSize)),
+                pageSize, after.getKey(), ProjectDto::getUpdatedAt);
+    }
+
+    /**
+     * 프로젝트 상태 변경 (소유자만 가능)
+     */
+    public ProjectDto changeProjectStatus(Long projectId, String status, Long userId) {
+        Project project = findOwnedProject(projectId, userId);
+        ProjectDto previous = new ProjectDto(project);
+
+        project.setStatus(status);
+        Project updatedProject = projectRepository.saveAndFlush(project);
+        ProjectDto updated = new ProjectDto(updatedProject);
+        eventPublisher.publishEvent(ProjectChangedEvent.updated(updated, previous));
+        return updated;
+    }
+
+    /**
+     * 프로젝트 일괄 생성
+     * 묶음마다 INSERT를 JDBC 배치로 보내고 영속성 컨텍스트를 비움 (소유자의 프로젝트 컬렉션은 로딩하지 않음)
+     * 한 트랜잭션으로 처리되어 하나라도 실패하면 전체 취소
+     */
+    public List<ProjectDto> createProjects(List<ProjectDto> projectDtos, Long ownerId) {
+        checkBulkSize(projectDtos);
+        findUser(ownerId);
+
+        List<ProjectDto> created = new ArrayList<>(projectDtos.size());
+        for (int from = 0; from < projectDtos.size(); from += BULK_CHUNK_SIZE) {
+            List<ProjectDto> chunk = projectDtos.subList(from, Math.min(from + BULK_CHUNK_SIZE, projectDtos.size()));
+            User owner = entityManager.getReference(User.class, ownerId);
+            List<Project> projects = new ArrayList<>(chunk.size());
+            for (ProjectDto projectDto : chunk) {
+                Project project = newProject(projectDto);
+                project.setOwner(owner);
+                entityManager.persist(project);
+                projects.add(project);
+            }
+            entityManager.flush();
+
+            for (Project project : projects) {
+                ProjectDto dto = new ProjectDto(project);
+                created.add(dto);
+                eventPublisher.publishEvent(ProjectChangedEvent.created(dto));
+            }
+            entityManager.clear();
+        }
+        return created;
+    }
+
+    /**
+     * 프로젝트 일괄 수정 (소유자만 가능, 같은 ID가 여러 번 오면 마지막 값 적용)
+     * 권한 체크는 묶음당 IN 쿼리 한 번, UPDATE는 JDBC 배치
+     */
+    public List<ProjectDto> updateProjects(List<ProjectDto> projectDtos, Long userId) {
+        checkBulkSize(projectDtos);
+        Map<Long, ProjectDto> changes = new LinkedHashMap<>();
+        for (ProjectDto projectDto : projectDtos) {
+            if (projectDto.getId() == null) {
+                throw new IllegalArgumentException("프로젝트 ID가 없는 항목이 있습니다.");
+            }
+            changes.put(projectDto.getId(), projectDto);
+        }
+        return updateOwnedProjects(changes.keySet(), userId,
+                project -> applyChanges(project, changes.get(project.getId())));
+    }
+
+    /**
+     * 프로젝트 상태 일괄 변경 (소유자만 가능)
+     */
+    public List<ProjectDto> changeProjectStatuses(List<Long> projectIds, String status, Long userId) {
+        checkBulkSize(projectIds);
+        return updateOwnedProjects(new LinkedHashSet<>(projectIds), userId, project -> project.setStatus(status));
+    }
+
+    /**
+     * 프로젝트 통계 (전체, 공개/비공개, 카테고리별, 상태별)
+     * 통계/개수 조회는 메모리 카운터만 읽으므로 트랜잭션(DB 연결)을 열지 않음
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ProjectStatisticsService.ProjectStatistics getProjectStatistics() {
+        return statisticsService.getProjectStatistics();
+    }
+
+    /**
+     * 전체 프로젝트 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long getProjectCount() {
+        return statisticsService.getProjectStatistics().getTotalCount();
+    }
+
+    /**
+     * 공개 프로젝트 수
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long getPublicProjectCount() {
+        return statisticsService.getProjectStatistics().getPublicCount();
+    }
+
+    /**
+     * 사용자의 프로젝트 수 (존재 확인은 리포지토리의 읽기 전용 트랜잭션으로 실행)
+     */
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public long getUserProjectCount(Long userId) {
+        // 카운터에 없는 사용자는 0이 되므로 존재 여부는 따로 확인
+        if (!userRepository.existsById(userId)) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다: " + userId);
+        }
+        return statisticsService.getOwnerProjectCount(userId);
+    }
+
+    private int pageSize(Integer size) {
+        return Math.max(1, Math.min(size != null ? size : defaultPageSize, maxPageSize));
+    }
+
+    // 다음 페이지 존재 여부를 알기 위해 한 행 더 조회
+    private Pageable limitOf(int pageSize) {
+        return PageRequest.of(0, pageSize + 1);
+    }
+
+    private CursorPage<ProjectDto> toPage(List<ProjectDto> rows, int pageSize, String key,
+                                          Function<ProjectDto, LocalDateTime> sortValue) {
+        boolean hasNext = rows.size() > pageSize;
+        List<ProjectDto> items = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            ProjectDto last = rows.get(pageSize - 1);
+            nextCursor = new KeysetCursor(key, sortValue.apply(last), last.getId()).encode();
+        }
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    // 프로젝트 생성 시 기본값 적용
+    private Project newProject(ProjectDto projectDto) {
+        Project project = new Project();
+        project.setTitle(projectDto.getTitle());
+        project.setCategory(projectDto.getCategory());
+        project.setIsPublic(projectDto.getIsPublic() != null ? projectDto.getIsPublic() : true);
+        project.setHasAdminAccess(projectDto.getHasAdminAccess() != null ? projectDto.getHasAdminAccess() : true);
+        project.setStatus(projectDto.getStatus() != null ? projectDto.getStatus() : "진행중");
+        project.setDescription(projectDto.getDescription());
+        project.setStartDate(projectDto.getStartDate());
+        project.setDueDate(projectDto.getDueDate());
+        validateSchedule(project);
+        return project;
+    }
+
+    // null이 아닌 필드만 반영
+    private void applyChanges(Project project, ProjectDto projectDto) {
+        if (projectDto.getTitle() != null) {
+            project.setTitle(projectDto.getTitle());
+        }
+        if (projectDto.getCategory() != null) {
+            project.setCategory(projectDto.getCategory());
+        }
+        if (projectDto.getIsPublic() != null) {
+            project.setIsPublic(projectDto.getIsPublic());
+        }
+        if (projectDto.getHasAdminAccess() != null) {
+            project.setHasAdminAccess(projectDto.getHasAdminAccess());
+        }
+        if (projectDto.getStatus() != null) {
+            project.setStatus(projectDto.getStatus());
+        }
+        if (projectDto.getDescription() != null) {
+            project.setDescription(projectDto.getDescription());
+        }
+        if (projectDto.getStartDate() != null) {
+            project.setStartDate(projectDto.getStartDate());
+        }
+        if (projectDto.getDueDate() != null) {
+            project.setDueDate(projectDto.getDueDate());
+        }
+        validateSchedule(project);
+    }
+
+    private void validateSchedule(Project project) {
+        if (project.getStartDate() != null && project.getDueDate() != null
+                && project.getStartDate().isAfter(project.getDueDate())) {
+            throw new IllegalArgumentException("프로젝트 시작일은 마감일보다 늦을 수 없습니다.");
+        }
+    }
+
+    // 소유 프로젝트를 묶음 단위로 조회해 변경하고 flush/clear
+    private List<ProjectDto> updateOwnedProjects(Collection<Long> projectIds, Long userId, Consumer<Project> change) {
+        findUser(userId);
+        List<Long> ids = new ArrayList<>(projectIds);
+        List<ProjectDto> updated = new ArrayList<>(ids.size());
+        for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + BULK_CHUNK_SIZE, ids.size()));
+            Map<Long, Project> owned = new HashMap<>();
+            for (Project project : projectRepository.findOwnedByIds(chunk, userId)) {
+                owned.put(project.getId(), project);
+            }
+            if (owned.size() != chunk.size()) {
+                List<Long> missing = chunk.stream().filter(id -> !owned.containsKey(id)).collect(Collectors.toList());
+                throw new RuntimeException("프로젝트를 찾을 수 없거나 권한이 없습니다: " + missing);
+            }
+
+            Map<Long, ProjectDto> previous = new HashMap<>();
+            for (Long id : chunk) {
+                Project project = owned.get(id);
+                previous.put(id, new ProjectDto(project));
+                change.accept(project);
+            }
+            entityManager.flush();
+
+            for (Long id : chunk) {
+                ProjectDto dto = new ProjectDto(owned.get(id));
+                updated.add(dto);
+                eventPublisher.publishEvent(ProjectChangedEvent.updated(dto, previous.get(id)));
+            }
+            entityManager.clear();
+        }
+        return updated;
+    }
+
+    private void checkBulkSize(List<?> items) {
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("처리할 프로젝트가 없습니다.");
+        }
+        if (items.size() > bulkMaxItems) {
+            throw new IllegalArgumentException("한 번에 처리할 수 있는 프로젝트는 최대 " + bulkMaxItems + "건입니다.");
+        }
+    }
 
-    private final ProjectService projectService;
-    private final UserService userService;
+    private User findUser(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
+    }
 
-    // 기본 메뉴 아이템들
-    private static final List<SearchResultDto> DEFAULT_MENU_ITEMS = List.of(
-        new SearchResultDto("메뉴", "대시보드", "/dashboard"),
-        new SearchResultDto("메뉴", "내 프로젝트", "/projects
\ No newline at end of file
+    // 권한 체크: 소유자가 아니면 찾을 수 없는 것으로 처리
+    private Project findOwnedProject(Long projectId, Long userId) {
+        User user = findUser(userId);
+        return projectRepository.findByIdAndOwner(projectId, user)
+                .orElseThrow(() -> new RuntimeException("프로젝트를 찾을 수 없거나 권한이 없습니다: " + projectId));
+    }
+}
@@ -0,0 +1,318 @@
+package com.flow.pms.service;
+
+import com.flow.pms.dto.ProjectDto;
+import com.flow.pms.dto.UserDto;
+import com.flow.pms.event.ProjectChangedEvent;
+import com.flow.pms.event.UserChangedEvent;
+import com.flow.pms.repository.ProjectRepository;
+import com.flow.pms.repository.UserRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 프로젝트/사용자 통계 서비스
+ * 전체, 공개/비공개, 카테고리별, 상태별, 소유자별 프로젝트 수와 프로필 아이콘별 사용자 수를
+ * 메모리 카운터로 유지하여 통계 조회를 테이블 스캔 없이 O(1)로 처리
+ *
+ * 카운터는 커밋된 변경 이벤트로만 갱신되며(롤백된 변경은 반영되지 않음),
+ * 주기적으로 집계 쿼리 결과와 대조하여 새 카운터로 교체
+ * 커밋 직전부터 카운터 반영까지의 변경은 대기 중으로 세어, 그동안은 교체하지 않음 (같은 변경을 두 번 세지 않도록)
+ */
+@Service
+public class ProjectStatisticsService {
+
+    private static final Logger log = LoggerFactory.getLogger(ProjectStatisticsService.class);
+
+    // 카테고리/상태/아이콘이 비어 있는 경우의 집계 키
+    public static final String UNSPECIFIED = "미지정";
+
+    private static final int MAX_RECONCILE_ATTEMPTS = 3;
+
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    // 증분 갱신끼리는 동시에 실행되고, 대조 후 카운터 교체만 배타적으로 실행
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final AtomicLong appliedChanges = new AtomicLong();
+    private final AtomicLong pendingChanges = new AtomicLong();
+
+    private volatile Counters counters = new Counters();
+
+    @Autowired
+    public ProjectStatisticsService(ProjectRepository projectRepository,
+                                    UserRepository userRepository,
+                                    PlatformTransactionManager transactionManager) {
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * 프로젝트 통계 조회 (메모리 카운터)
+     */
+    public ProjectStatistics getProjectStatistics() {
+        Counters current = counters;
+        return new ProjectStatistics(current.total.sum(), current.publicCount.sum(),
+                snapshot(current.byCategory), snapshot(current.byStatus));
+    }
+
+    /**
+     * 소유자별 프로젝트 수 (메모리 카운터)
+     */
+    public long getOwnerProjectCount(Long ownerId) {
+        LongAdder count = counters.byOwner.get(ownerId);
+        return count != null ? count.sum() : 0;
+    }
+
+    /**
+     * 프로필 아이콘별 활성 사용자 수 (메모리 카운터)
+     */
+    public Map<String, Long> getProfileIconCounts() {
+        return snapshot(counters.byProfileIcon);
+    }
+
+    /**
+     * 프로젝트 변경 반영 (커밋 이후)
+     * 수정은 이전 스냅샷을 빼고 새 스냅샷을 더함
+     */
+    @EventListener
+    public void onProjectChanged(ProjectChangedEvent event) {
+        applyAfterCommit(current -> {
+            switch (event.getChangeType()) {
+                case CREATED -> current.addProject(event.getProject(), 1);
+                case UPDATED -> {
+                    current.addProject(event.getPrevious(), -1);
+                    current.addProject(event.getProject(), 1);
+                }
+                case DELETED -> current.addProject(event.getPrevious(), -1);
+            }
+        });
+    }
+
+    /**
+     * 사용자 변경 반영 (커밋 이후, 활성 사용자만 집계)
+     */
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        UserDto previous = event.getPrevious();
+        UserDto user = event.getUser();
+        if (previous != null && user != null && isActive(previous) == isActive(user)
+                && Objects.equals(previous.getProfileIcon(), user.getProfileIcon())) {
+            return;
+        }
+        applyAfterCommit(current -> {
+            if (previous != null && isActive(previous)) {
+                current.add(current.byProfileIcon, previous.getProfileIcon(), -1);
+            }
+            if (user != null && isActive(user)) {
+                current.add(current.byProfileIcon, user.getProfileIcon(), 1);
+            }
+        });
+    }
+
+    /**
+     * 집계 쿼리와 대조 (기동 시 및 주기적으로 수행)
+     * 집계 중 증분 갱신이 들어오거나, 커밋됐지만 아직 반영되지 않은 변경이 있으면
+     * 쿼리 결과에 그 변경이 포함됐는지 알 수 없으므로 다시 집계
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.stats.reconcile-interval-ms:300000}",
+               fixedDelayString = "${app.stats.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        for (int attempt = 1; attempt <= MAX_RECONCILE_ATTEMPTS; attempt++) {
+            long changesBefore = appliedChanges.get();
+            Counters fresh = readOnlyTransaction.execute(status -> loadCounters());
+
+            swapLock.writeLock().lock();
+            try {
+                if (appliedChanges.get() == changesBefore && pendingChanges.get() == 0) {
+                    long drift = fresh.total.sum() - counters.total.sum();
+                    if (drift != 0) {
+                        log.warn("프로젝트 통계 카운터 보정: 전체 수 차이 {}", drift);
+                    }
+                    counters = fresh;
+                    return;
+                }
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+        }
+        log.debug("프로젝트 통계 대조 보류: 변경이 계속 발생하여 다음 주기에 재시도");
+    }
+
+    /**
+     * 트랜잭션이 커밋된 뒤 카운터에 반영 (트랜잭션 밖의 변경은 바로 반영)
+     * 커밋 직전(beforeCommit)부터 반영 후(afterCompletion)까지 대기 중으로 세므로,
+     * 커밋은 됐지만 반영 전인 변경이 있는 동안 대조가 카운터를 교체하지 않음 (교체 후 반영되면 두 번 셈)
+     */
+    private void applyAfterCommit(Consumer<Counters> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            apply(change);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean pending;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                pendingChanges.incrementAndGet();
+                pending = true;
+            }
+
+            @Override
+            public void afterCommit() {
+                apply(change);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (pending) {
+                    pendingChanges.decrementAndGet();
+                }
+            }
+        });
+    }
+
+    private void apply(Consumer<Counters> change) {
+        swapLock.readLock().lock();
+        try {
+            change.accept(counters);
+            appliedChanges.incrementAndGet();
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    private Counters loadCounters() {
+        Counters fresh = new Counters();
+        fresh.total.add(projectRepository.count());
+        fresh.publicCount.add(projectRepository.countByIsPublicTrue());
+        load(fresh, fresh.byCategory, projectRepository.countProjectsByCategory());
+        load(fresh, fresh.byStatus, projectRepository.countProjectsByStatus());
+        for (Object[] row : projectRepository.countProjectsByOwner()) {
+            if (row[0] != null) {
+                fresh.byOwner.computeIfAbsent((Long) row[0], key -> new LongAdder()).add((Long) row[1]);
+            }
+        }
+        load(fresh, fresh.byProfileIcon, userRepository.countUsersByProfileIcon());
+        return fresh;
+    }
+
+    private void load(Counters target, Map<String, LongAdder> counts, List<Object[]> rows) {
+        for (Object[] row : rows) {
+            target.add(counts, (String) row[0], (Long) row[1]);
+        }
+    }
+
+    private static boolean isActive(UserDto user) {
+        return Boolean.TRUE.equals(user.getIsActive());
+    }
+
+    // 0건 항목을 제외한 정렬된 복사본
+    private static Map<String, Long> snapshot(Map<String, LongAdder> counts) {
+        Map<String, Long> result = new TreeMap<>();
+        counts.forEach((key, count) -> {
+            long value = count.sum();
+            if (value != 0) {
+                result.put(key, value);
+            }
+        });
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * 통계 카운터 묶음 (대조 시 통째로 교체)
+     */
+    private static class Counters {
+
+        private final LongAdder total = new LongAdder();
+        private final LongAdder publicCount = new LongAdder();
+        private final Map<String, LongAdder> byCategory = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> byStatus = new ConcurrentHashMap<>();
+        private final Map<Long, LongAdder> byOwner = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> byProfileIcon = new ConcurrentHashMap<>();
+
+        void addProject(ProjectDto project, int sign) {
+            if (project == null) {
+                return;
+            }
+            total.add(sign);
+            if (Boolean.TRUE.equals(project.getIsPublic())) {
+                publicCount.add(sign);
+            }
+            add(byCategory, project.getCategory(), sign);
+            add(byStatus, project.getStatus(), sign);
+            if (project.getOwnerId() != null) {
+                byOwner.computeIfAbsent(project.getOwnerId(), key -> new LongAdder()).add(sign);
+            }
+        }
+
+        void add(Map<String, LongAdder> counts, String key, long delta) {
+            String normalizedKey = key == null || key.isBlank() ? UNSPECIFIED : key;
+            counts.computeIfAbsent(normalizedKey, k -> new LongAdder()).add(delta);
+        }
+    }
+
+    /**
+     * 프로젝트 통계 정보
+     */
+    public static class ProjectStatistics {
+
+        private final long totalCount;
+        private final long publicCount;
+        private final Map<String, Long> categoryCounts;
+        private final Map<String, Long> statusCounts;
+
+        public ProjectStatistics(long totalCount, long publicCount,
+                                 Map<String, Long> categoryCounts, Map<String, Long> statusCounts) {
+            this.totalCount = totalCount;
+            this.publicCount = publicCount;
+            this.categoryCounts = categoryCounts;
+            this.statusCounts = statusCounts;
+        }
+
+        public long getTotalCount() {
+            return totalCount;
+        }
+
+        public long getPublicCount() {
+            return publicCount;
+        }
+
+        public long getPrivateCount() {
+            return totalCount - publicCount;
+        }
+
+        public Map<String, Long> getCategoryCounts() {
+            return categoryCounts;
+        }
+
+        public Map<String, Long> getStatusCounts() {
+            return statusCounts;
+        }
+    }
+}
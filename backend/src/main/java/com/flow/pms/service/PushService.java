@@ -0,0 +1,249 @@
+package com.flow.pms.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flow.pms.config.PushConfig;
+import com.flow.pms.config.PushProperties;
+import com.flow.pms.dto.ProjectDto;
+import com.flow.pms.event.ProjectChangedEvent;
+import com.flow.pms.event.UserChangedEvent;
+import com.flow.pms.service.push.PushConnection;
+import com.flow.pms.service.push.PushMessage;
+import com.flow.pms.service.push.PushTopic;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 실시간 푸시 서비스 (SSE)
+ * 커밋된 프로젝트/사용자 변경 이벤트를 구독 중인 대시보드 연결에 전달
+ * 최근 메시지는 제한된 버퍼에 보관해, 재연결한 클라이언트가 Last-Event-ID 이후 메시지를 다시 받을 수 있음
+ */
+@Service
+public class PushService {
+
+    private static final Logger log = LoggerFactory.getLogger(PushService.class);
+
+    private final PushProperties pushProperties;
+    private final Executor sender;
+    private final ObjectMapper objectMapper;
+
+    private final Map<String, PushConnection> connections = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final ArrayDeque<PushMessage> replayBuffer = new ArrayDeque<>();
+
+    // 재시작 후에도 이전 ID보다 커지도록 기동 시각에서 시작
+    private final AtomicLong nextMessageId = new AtomicLong(System.currentTimeMillis());
+    private final AtomicLong publishedCount = new AtomicLong();
+    private final AtomicLong closedSent = new AtomicLong();
+    private final AtomicLong closedDropped = new AtomicLong();
+
+    @Autowired
+    public PushService(PushProperties pushProperties,
+                       @Qualifier(PushConfig.PUSH_SENDER) Executor sender,
+                       ObjectMapper objectMapper) {
+        this.pushProperties = pushProperties;
+        this.sender = sender;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 구독 연결 생성
+     *
+     * @param userId      로그인 사용자 ID (비공개 프로젝트 알림 수신용, 없으면 공개 알림만)
+     * @param topics      구독 주제
+     * @param lastEventId 재연결 시 마지막으로 받은 메시지 ID (없으면 null)
+     */
+    public SseEmitter subscribe(Long userId, Set<PushTopic> topics, Long lastEventId) {
+        PushConnection connection = open(userId, topics, null);
+        if (lastEventId != null) {
+            for (PushMessage message : replaySince(lastEventId)) {
+                connection.offer(message);
+            }
+        }
+        // 응답 헤더를 바로 보내 클라이언트가 연결 성공을 알 수 있도록 함
+        connection.offer(PushMessage.heartbeat());
+
+        log.debug("푸시 구독: connection={}, userId={}, topics={}", connection.getId(), userId, topics);
+        return connection.getEmitter();
+    }
+
+    /**
+     * SSE 연결 생성 및 등록
+     * 연결 한도, 연결 유지 신호, 종료 정리는 모든 SSE 연결(채팅방 포함)에 공통으로 적용
+     *
+     * @param onClose 연결 종료 시 추가로 호출할 콜백 (없으면 null)
+     */
+    public PushConnection open(Long userId, Set<PushTopic> topics, Consumer<PushConnection> onClose) {
+        if (connectionCount.incrementAndGet() > pushProperties.getMaxConnections()) {
+            connectionCount.decrementAndGet();
+            throw new IllegalStateException("실시간 알림 연결 수가 한도에 도달했습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        SseEmitter emitter = new SseEmitter(pushProperties.getConnectionTimeoutMs());
+        PushConnection connection = new PushConnection(UUID.randomUUID().toString(), userId, topics, emitter,
+                pushProperties.getQueueCapacity(), pushProperties.getOverflowPolicy(), sender,
+                closed -> {
+                    remove(closed);
+                    if (onClose != null) {
+                        onClose.accept(closed);
+                    }
+                });
+        connections.put(connection.getId(), connection);
+
+        emitter.onCompletion(connection::markClosed);
+        emitter.onTimeout(() -> connection.close(null));
+        emitter.onError(error -> connection.markClosed());
+        return connection;
+    }
+
+    /**
+     * 메시지 발행 (구독 중인 모든 연결의 대기열에 추가)
+     */
+    public void publish(PushTopic topic, String name, Object payload, Set<Long> audience) {
+        String data;
+        try {
+            data = objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            log.warn("푸시 메시지 직렬화 실패: {}", name, e);
+            return;
+        }
+
+        PushMessage message = new PushMessage(nextMessageId.incrementAndGet(), topic, name, data, audience);
+        synchronized (replayBuffer) {
+            if (replayBuffer.size() >= pushProperties.getReplayCapacity()) {
+                replayBuffer.pollFirst();
+            }
+            replayBuffer.addLast(message);
+        }
+        publishedCount.incrementAndGet();
+
+        for (PushConnection connection : connections.values()) {
+            connection.offer(message);
+        }
+    }
+
+    /**
+     * 프로젝트 변경 전달 (커밋 이후)
+     * 비공개 프로젝트는 소유자(소유자 변경 시 이전 소유자 포함)에게만 전달
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        ProjectDto project = event.getProject();
+        ProjectDto previous = event.getPrevious();
+
+        Set<Long> audience = null;
+        if (!isPublic(project) && !isPublic(previous)) {
+            audience = new HashSet<>();
+            addOwner(audience, project);
+            addOwner(audience, previous);
+        }
+        publish(PushTopic.PROJECTS, "project." + event.getChangeType().name().toLowerCase(Locale.ROOT),
+                project, audience);
+    }
+
+    /**
+     * 사용자 변경 전달 (커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        publish(PushTopic.USERS, "user." + event.getChangeType().name().toLowerCase(Locale.ROOT),
+                event.getUser(), null);
+    }
+
+    /**
+     * 연결 유지 신호 전송
+     * 프록시의 유휴 연결 종료를 막고, 응답 없이 끊긴 연결을 정리
+     */
+    @Scheduled(initialDelayString = "${app.push.heartbeat-interval-ms:25000}",
+               fixedDelayString = "${app.push.heartbeat-interval-ms:25000}")
+    public void heartbeat() {
+        PushMessage heartbeat = PushMessage.heartbeat();
+        for (PushConnection connection : connections.values()) {
+            connection.offer(heartbeat);
+        }
+    }
+
+    /**
+     * 푸시 통계 (연결 수, 대기/전송/유실 메시지 수)
+     */
+    public Map<String, Object> getStats() {
+        long queued = 0;
+        long sent = closedSent.get();
+        long dropped = closedDropped.get();
+        for (PushConnection connection : connections.values()) {
+            queued += connection.getQueuedCount();
+            sent += connection.getSentCount();
+            dropped += connection.getDroppedCount();
+        }
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("connections", connections.size());
+        stats.put("maxConnections", pushProperties.getMaxConnections());
+        stats.put("published", publishedCount.get());
+        stats.put("queued", queued);
+        stats.put("sent", sent);
+        stats.put("dropped", dropped);
+        stats.put("overflowPolicy", pushProperties.getOverflowPolicy());
+        return stats;
+    }
+
+    @PreDestroy
+    public void closeAll() {
+        for (PushConnection connection : new ArrayList<>(connections.values())) {
+            connection.close(null);
+        }
+    }
+
+    private List<PushMessage> replaySince(long lastEventId) {
+        List<PushMessage> messages = new ArrayList<>();
+        synchronized (replayBuffer) {
+            for (PushMessage message : replayBuffer) {
+                if (message.getId() > lastEventId) {
+                    messages.add(message);
+                }
+            }
+        }
+        return messages;
+    }
+
+    private void remove(PushConnection connection) {
+        if (connections.remove(connection.getId()) != null) {
+            connectionCount.decrementAndGet();
+            closedSent.addAndGet(connection.getSentCount());
+            closedDropped.addAndGet(connection.getDroppedCount());
+            log.debug("푸시 연결 종료: connection={}", connection.getId());
+        }
+    }
+
+    private static boolean isPublic(ProjectDto project) {
+        return project != null && Boolean.TRUE.equals(project.getIsPublic());
+    }
+
+    private static void addOwner(Set<Long> audience, ProjectDto project) {
+        if (project != null && project.getOwnerId() != null) {
+            audience.add(project.getOwnerId());
+        }
+    }
+}
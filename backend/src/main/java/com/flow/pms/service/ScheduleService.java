@@ -0,0 +1,292 @@
+package com.flow.pms.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.flow.pms.dto.ProjectDto;
+import com.flow.pms.dto.TaskDto;
+import com.flow.pms.event.ChangeType;
+import com.flow.pms.event.ProjectChangedEvent;
+import com.flow.pms.event.TaskChangedEvent;
+import com.flow.pms.repository.ProjectRepository;
+import com.flow.pms.repository.TaskRepository;
+import com.flow.pms.service.schedule.IntervalTree;
+import com.flow.pms.service.schedule.ScheduleItem;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 일정(캘린더/간트차트) 서비스
+ * 프로젝트/업무 일정을 사용자별, 프로젝트별 구간 트리로 유지해 "이 기간과 겹치는 일정"을 테이블 스캔 없이 조회
+ * 기동 시 ID 배치로 구축하고, 커밋된 변경 이벤트로 증분 갱신
+ *
+ * 사용자 일정: 소유한 프로젝트 + 담당 업무 / 프로젝트 일정: 프로젝트 자신 + 소속 업무
+ */
+@Service
+public class ScheduleService {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduleService.class);
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final ProjectRepository projectRepository;
+    private final TaskRepository taskRepository;
+    private final ProjectService projectService;
+    private final ObjectMapper objectMapper;
+    private final int maxRangeDays;
+
+    private final Map<Long, IntervalTree<ScheduleItem>> byUser = new ConcurrentHashMap<>();
+    private final Map<Long, IntervalTree<ScheduleItem>> byProject = new ConcurrentHashMap<>();
+    // 현재 색인된 항목 (변경/삭제 시 이전 위치를 찾기 위함)
+    private final Map<Long, ScheduleItem> projectItems = new ConcurrentHashMap<>();
+    private final Map<Long, ScheduleItem> taskItems = new ConcurrentHashMap<>();
+    // 색인 변경끼리는 직렬화 (조회는 트리별 잠금만 사용)
+    private final Object writeLock = new Object();
+
+    private volatile boolean ready = false;
+
+    @Autowired
+    public ScheduleService(ProjectRepository projectRepository,
+                           TaskRepository taskRepository,
+                           ProjectService projectService,
+                           ObjectMapper objectMapper,
+                           @Value("${app.schedule.max-range-days:366}") int maxRangeDays) {
+        this.projectRepository = projectRepository;
+        this.taskRepository = taskRepository;
+        this.projectService = projectService;
+        this.objectMapper = objectMapper;
+        this.maxRangeDays = maxRangeDays;
+    }
+
+    /**
+     * 전체 일정 인덱스 재구축 (일정이 있는 프로젝트/업무만)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        synchronized (writeLock) {
+            ready = false;
+            byUser.clear();
+            byProject.clear();
+            projectItems.clear();
+            taskItems.clear();
+
+            Long lastId = 0L;
+            List<ProjectDto> projects;
+            do {
+                projects = projectRepository.findIndexBatch(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                for (ProjectDto project : projects) {
+                    put(projectItems, project.getId(), ScheduleItem.of(project));
+                    lastId = project.getId();
+                }
+            } while (projects.size() == REBUILD_BATCH_SIZE);
+
+            lastId = 0L;
+            List<TaskDto> tasks;
+            do {
+                tasks = taskRepository.findScheduleBatch(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                for (TaskDto task : tasks) {
+                    put(taskItems, task.getId(), ScheduleItem.of(task));
+                    lastId = task.getId();
+                }
+            } while (tasks.size() == REBUILD_BATCH_SIZE);
+
+            ready = true;
+        }
+        log.info("일정 인덱스 구축 완료: 프로젝트 {}건, 업무 {}건 ({}ms)",
+                projectItems.size(), taskItems.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 프로젝트 변경 반영 (커밋 이후)
+     * 삭제 시 함께 삭제된 소속 업무도 인덱스에서 제거
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        synchronized (writeLock) {
+            if (event.getChangeType() != ChangeType.DELETED) {
+                put(projectItems, event.getProjectId(), ScheduleItem.of(event.getProject()));
+                return;
+            }
+            remove(projectItems, event.getProjectId());
+            IntervalTree<ScheduleItem> projectTree = byProject.get(event.getProjectId());
+            if (projectTree != null) {
+                for (ScheduleItem item : projectTree.overlapping(Long.MIN_VALUE, Long.MAX_VALUE)) {
+                    if (ScheduleItem.TYPE_TASK.equals(item.getType())) {
+                        remove(taskItems, item.getId());
+                    }
+                }
+            }
+            byProject.remove(event.getProjectId());
+        }
+    }
+
+    /**
+     * 업무 변경 반영 (커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTaskChanged(TaskChangedEvent event) {
+        synchronized (writeLock) {
+            if (event.getChangeType() == ChangeType.DELETED) {
+                remove(taskItems, event.getTaskId());
+            } else {
+                put(taskItems, event.getTaskId(), ScheduleItem.of(event.getTask()));
+            }
+        }
+    }
+
+    /**
+     * 사용자 일정 중 기간과 겹치는 항목 (시작일순)
+     */
+    public List<ScheduleItem> getUserSchedule(Long userId, LocalDate from, LocalDate to) {
+        checkRange(from, to);
+        return overlapping(byUser.get(userId), from, to);
+    }
+
+    /**
+     * 프로젝트 일정 중 기간과 겹치는 항목 (시작일순, 공개 프로젝트는 누구나, 비공개 프로젝트는 소유자만)
+     */
+    public List<ScheduleItem> getProjectSchedule(Long projectId, Long userId, LocalDate from, LocalDate to) {
+        checkRange(from, to);
+        ProjectDto project = projectService.getProjectById(projectId)
+                .orElseThrow(() -> new RuntimeException("프로젝트를 찾을 수 없습니다: " + projectId));
+        if (!Boolean.TRUE.equals(project.getIsPublic()) && !Objects.equals(project.getOwnerId(), userId)) {
+            throw new RuntimeException("비공개 프로젝트의 일정을 조회할 권한이 없습니다.");
+        }
+        return overlapping(byProject.get(projectId), from, to);
+    }
+
+    /**
+     * 간트차트용 일 단위 버킷 JSON 작성
+     * 항목 목록은 한 번만 쓰고(시작/끝은 from 기준 일 오프셋), 날짜마다 그 날 진행 중인 항목 번호 배열을 씀
+     * {"from":..,"to":..,"days":n,"items":[{..,"start":s,"end":e}],"buckets":[[0,2],[0],..]}
+     */
+    public void writeGantt(List<ScheduleItem> items, LocalDate from, LocalDate to, OutputStream out)
+            throws IOException {
+        int days = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        int[] offsets = new int[items.size() * 2];
+        int[] perDay = new int[days];
+        for (int i = 0; i < items.size(); i++) {
+            ScheduleItem item = items.get(i);
+            int start = (int) ChronoUnit.DAYS.between(from, item.getStartDate());
+            int end = (int) ChronoUnit.DAYS.between(from, item.getEndDate());
+            offsets[i * 2] = start;
+            offsets[i * 2 + 1] = end;
+            for (int day = Math.max(0, start); day <= Math.min(days - 1, end); day++) {
+                perDay[day]++;
+            }
+        }
+        int[][] buckets = new int[days][];
+        for (int day = 0; day < days; day++) {
+            buckets[day] = new int[perDay[day]];
+            perDay[day] = 0;
+        }
+        for (int i = 0; i < items.size(); i++) {
+            for (int day = Math.max(0, offsets[i * 2]); day <= Math.min(days - 1, offsets[i * 2 + 1]); day++) {
+                buckets[day][perDay[day]++] = i;
+            }
+        }
+
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartObject();
+            generator.writeStringField("from", from.toString());
+            generator.writeStringField("to", to.toString());
+            generator.writeNumberField("days", days);
+            generator.writeArrayFieldStart("items");
+            for (int i = 0; i < items.size(); i++) {
+                ScheduleItem item = items.get(i);
+                generator.writeStartObject();
+                generator.writeStringField("type", item.getType());
+                generator.writeNumberField("id", item.getId());
+                generator.writeNumberField("projectId", item.getProjectId());
+                generator.writeStringField("title", item.getTitle());
+                generator.writeStringField("status", item.getStatus());
+                generator.writeNumberField("start", offsets[i * 2]);
+                generator.writeNumberField("end", offsets[i * 2 + 1]);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+            generator.writeArrayFieldStart("buckets");
+            for (int[] bucket : buckets) {
+                generator.writeArray(bucket, 0, bucket.length);
+            }
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.flush();
+        }
+    }
+
+    private List<ScheduleItem> overlapping(IntervalTree<ScheduleItem> tree, LocalDate from, LocalDate to) {
+        if (!ready) {
+            throw new IllegalStateException("일정 인덱스를 준비하고 있습니다. 잠시 후 다시 시도해주세요.");
+        }
+        return tree != null ? tree.overlapping(from.toEpochDay(), to.toEpochDay()) : List.of();
+    }
+
+    private void checkRange(LocalDate from, LocalDate to) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("조회 기간(from, to)을 입력해주세요.");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("조회 종료일은 시작일보다 앞설 수 없습니다.");
+        }
+        if (ChronoUnit.DAYS.between(from, to) + 1 > maxRangeDays) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 기간은 최대 " + maxRangeDays + "일입니다.");
+        }
+    }
+
+    // 이전 위치에서 빼고 새 위치에 넣음 (일정이 없어졌으면 빼기만 함)
+    private void put(Map<Long, ScheduleItem> items, Long id, ScheduleItem item) {
+        remove(items, id);
+        if (item == null) {
+            return;
+        }
+        items.put(id, item);
+        long start = item.getStartDate().toEpochDay();
+        long end = item.getEndDate().toEpochDay();
+        if (item.getUserId() != null) {
+            byUser.computeIfAbsent(item.getUserId(), key -> new IntervalTree<>())
+                    .insert(start, end, item.getTreeId(), item);
+        }
+        byProject.computeIfAbsent(item.getProjectId(), key -> new IntervalTree<>())
+                .insert(start, end, item.getTreeId(), item);
+    }
+
+    private void remove(Map<Long, ScheduleItem> items, Long id) {
+        ScheduleItem previous = items.remove(id);
+        if (previous == null) {
+            return;
+        }
+        long start = previous.getStartDate().toEpochDay();
+        if (previous.getUserId() != null) {
+            removeFrom(byUser, previous.getUserId(), start, previous.getTreeId());
+        }
+        removeFrom(byProject, previous.getProjectId(), start, previous.getTreeId());
+    }
+
+    // 비게 된 트리는 맵에서 제거
+    private void removeFrom(Map<Long, IntervalTree<ScheduleItem>> trees, Long key, long start, long treeId) {
+        trees.computeIfPresent(key, (k, tree) -> {
+            tree.remove(start, treeId);
+            return tree.isEmpty() ? null : tree;
+        });
+    }
+}
@@ -0,0 +1,201 @@
+package com.flow.pms.service;
+
+import com.flow.pms.config.SearchProperties;
+import com.flow.pms.entity.SearchQueryStat;
+import com.flow.pms.repository.SearchQueryStatRepository;
+import com.flow.pms.service.search.NgramTokenizer;
+import com.flow.pms.service.search.PopularTerm;
+import com.flow.pms.service.search.QueryLogEntry;
+import com.flow.pms.service.search.QueryWindow;
+import com.flow.pms.service.search.QueryWindowSnapshot;
+import com.flow.pms.service.search.SlidingQueryStats;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.ContextClosedEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색어 집계 서비스
+ * SearchQueryLog 링 버퍼를 주기적으로 비워 1시간/24시간/7일 슬라이딩 윈도우에 반영하고
+ * (Count-Min Sketch + Space-Saving), 윈도우별 요약을 SearchQueryLog에 게시
+ * 24시간 윈도우의 1시간 버킷별 상위 검색어는 주기적으로 search_query_stats에 저장하고, 기동 시 최근 7일분을 복원
+ *
+ * 윈도우는 동기화하지 않는 구조이므로 모든 접근은 이 객체의 잠금 안에서 수행 (사실상 스케줄러 스레드 하나)
+ */
+@Service
+public class SearchAnalyticsService {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchAnalyticsService.class);
+
+    // 한 번의 집계에서 처리할 최대 기록 수 (나머지는 다음 주기)
+    private static final int MAX_DRAIN = 100_000;
+
+    // 저장 대상 윈도우 (1시간 버킷)
+    private static final QueryWindow PERSISTED_WINDOW = QueryWindow.DAY;
+
+    private final SearchQueryLog queryLog;
+    private final SearchQueryStatRepository searchQueryStatRepository;
+    private final TransactionTemplate transaction;
+    private final SearchProperties.Analytics properties;
+    private final Map<QueryWindow, SlidingQueryStats> windows = new EnumMap<>(QueryWindow.class);
+    private final ZoneId zone = ZoneId.systemDefault();
+
+    private long nextFlushAt;
+    private long aggregated;
+    private long ignored;
+
+    @Autowired
+    public SearchAnalyticsService(SearchQueryLog queryLog,
+                                  SearchQueryStatRepository searchQueryStatRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  SearchProperties searchProperties) {
+        this.queryLog = queryLog;
+        this.searchQueryStatRepository = searchQueryStatRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.properties = searchProperties.getAnalytics();
+        for (QueryWindow window : QueryWindow.values()) {
+            windows.put(window, new SlidingQueryStats(window, properties.getSketchWidth(),
+                    properties.getSketchDepth(), properties.getHeavyHitters()));
+        }
+        this.nextFlushAt = System.currentTimeMillis() + properties.getFlushIntervalMs();
+    }
+
+    /**
+     * 저장된 시간대별 인기 검색어 복원 (최근 7일, 24시간/7일 윈도우)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        long now = System.currentTimeMillis();
+        LocalDateTime since = toDateTime(now - QueryWindow.WEEK.getLengthMillis());
+        List<Object[]> rows = transaction.execute(status -> searchQueryStatRepository.findSince(since));
+        if (rows == null || rows.isEmpty()) {
+            return;
+        }
+        synchronized (this) {
+            for (Object[] row : rows) {
+                long periodStart = ((LocalDateTime) row[0]).atZone(zone).toInstant().toEpochMilli();
+                for (QueryWindow window : List.of(QueryWindow.DAY, QueryWindow.WEEK)) {
+                    windows.get(window).restore((String) row[1], (Long) row[2], periodStart);
+                }
+            }
+            publish(now);
+        }
+        log.info("인기 검색어 집계 복원: {}건", rows.size());
+    }
+
+    /**
+     * 검색 기록 집계 및 요약 게시 (저장 주기가 되면 시간대별 상위 검색어 저장)
+     */
+    @Scheduled(fixedDelayString = "${app.search.analytics.aggregate-interval-ms:1000}")
+    public synchronized void aggregate() {
+        long now = System.currentTimeMillis();
+        queryLog.getBuffer().drain(this::apply, MAX_DRAIN);
+        publish(now);
+        if (now >= nextFlushAt) {
+            nextFlushAt = now + properties.getFlushIntervalMs();
+            flush(now);
+        }
+    }
+
+    /**
+     * 종료 시 마지막 집계 저장
+     */
+    @EventListener(ContextClosedEvent.class)
+    public synchronized void onShutdown() {
+        long now = System.currentTimeMillis();
+        queryLog.getBuffer().drain(this::apply, MAX_DRAIN);
+        flush(now);
+    }
+
+    /**
+     * 윈도우 요약 (마지막 집계 결과, DB 조회 없음)
+     */
+    public QueryWindowSnapshot getSnapshot(QueryWindow window) {
+        return queryLog.getSnapshot(window);
+    }
+
+    /**
+     * 집계 처리 통계
+     */
+    public synchronized Map<String, Object> getStats() {
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("recorded", queryLog.getRecordedCount());
+        stats.put("dropped", queryLog.getDroppedCount());
+        stats.put("pending", queryLog.getPendingCount());
+        stats.put("aggregated", aggregated);
+        stats.put("ignored", ignored);
+        return stats;
+    }
+
+    private void apply(QueryLogEntry entry) {
+        String term = NgramTokenizer.normalize(entry.getQuery());
+        if (term.isEmpty()) {
+            ignored++;
+            return;
+        }
+        boolean zeroResult = entry.getResultCount() == 0;
+        // 결과가 있었던 검색만 인기 검색어 후보 (오타/없는 검색어 제외), 너무 긴 검색어는 건수만 집계
+        String popularTerm = zeroResult || term.length() > properties.getMaxQueryLength() ? null : term;
+        for (SlidingQueryStats window : windows.values()) {
+            window.record(popularTerm, zeroResult, entry.getLatencyMicros(), entry.getRecordedAt());
+        }
+        aggregated++;
+    }
+
+    private void publish(long now) {
+        Map<QueryWindow, QueryWindowSnapshot> snapshots = new EnumMap<>(QueryWindow.class);
+        for (SlidingQueryStats window : windows.values()) {
+            window.advance(now);
+            // 자동완성 가중치에도 쓰이므로 인기 검색어 개수가 아니라 추적 후보 수만큼 게시
+            snapshots.put(window.getWindow(), window.snapshot(properties.getHeavyHitters()));
+        }
+        queryLog.publish(snapshots);
+    }
+
+    // 바뀐 1시간 버킷을 버킷 단위로 교체 저장, 보관 기간(7일)이 지난 행 삭제
+    private void flush(long now) {
+        SlidingQueryStats persisted = windows.get(PERSISTED_WINDOW);
+        Map<Long, List<PopularTerm>> dirty = persisted.drainDirty();
+        if (dirty.isEmpty()) {
+            return;
+        }
+        try {
+            transaction.executeWithoutResult(status -> {
+                for (Map.Entry<Long, List<PopularTerm>> bucket : dirty.entrySet()) {
+                    LocalDateTime periodStart = toDateTime(bucket.getKey());
+                    searchQueryStatRepository.deleteByPeriodStart(periodStart);
+                    List<SearchQueryStat> rows = new ArrayList<>(bucket.getValue().size());
+                    for (PopularTerm term : bucket.getValue()) {
+                        rows.add(new SearchQueryStat(periodStart, term.getTerm(), term.getCount()));
+                    }
+                    searchQueryStatRepository.saveAll(rows);
+                }
+                searchQueryStatRepository.deleteOlderThan(toDateTime(now - QueryWindow.WEEK.getLengthMillis()));
+            });
+            log.debug("인기 검색어 집계 저장: 버킷 {}개", dirty.size());
+        } catch (Exception e) {
+            // 다음 주기에 다시 저장
+            persisted.markDirty(dirty.keySet());
+            log.warn("인기 검색어 집계 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), zone);
+    }
+}
@@ -0,0 +1,123 @@
+package com.flow.pms.service;
+
+import com.flow.pms.config.SearchConfig;
+import com.flow.pms.config.SearchProperties;
+import com.flow.pms.service.search.FanOutResult;
+import com.flow.pms.service.search.SearchSource;
+import com.flow.pms.service.search.TopHits;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 통합 검색 병렬 실행기
+ * 출처별 검색을 동시에 실행하고, 각 출처의 제한 시간이 지나면 해당 출처만 제외한 부분 결과를 반환
+ * 전체 응답 시간은 출처별 시간의 합이 아니라 가장 긴 제한 시간으로 묶임
+ *
+ * 출처별 시간은 search.source 타이머에 결과(outcome)별로 기록
+ * - success/failure: 작업 스레드에서 실제 검색에 걸린 시간 (풀 대기 제외)
+ * - timeout: 병렬 실행 시작부터 제한 시간까지 기다린 시간
+ * - rejected: 풀이 포화되어 실행하지 못한 건수 (시간 0)
+ */
+@Component
+public class SearchFanOutExecutor {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchFanOutExecutor.class);
+
+    private final AsyncTaskExecutor executor;
+    private final SearchProperties searchProperties;
+    private final MeterRegistry meterRegistry;
+
+    @Autowired
+    public SearchFanOutExecutor(@Qualifier(SearchConfig.SEARCH_EXECUTOR) AsyncTaskExecutor executor,
+                                SearchProperties searchProperties, MeterRegistry meterRegistry) {
+        this.executor = executor;
+        this.searchProperties = searchProperties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 출처별 작업 병렬 실행
+     *
+     * @param tasks 출처별 검색 작업 (출처 순서대로 결과 병합)
+     */
+    public <T> FanOutResult<T> execute(Map<SearchSource, Callable<TopHits<T>>> tasks) {
+        long startedAt = System.nanoTime();
+        FanOutResult<T> result = new FanOutResult<>();
+
+        Map<SearchSource, Future<TopHits<T>>> futures = new EnumMap<>(SearchSource.class);
+        Map<SearchSource, AtomicLong> elapsed = new EnumMap<>(SearchSource.class);
+        tasks.forEach((source, task) -> {
+            AtomicLong taskNanos = new AtomicLong();
+            try {
+                futures.put(source, executor.submit(timed(task, taskNanos)));
+                elapsed.put(source, taskNanos);
+            } catch (TaskRejectedException e) {
+                log.warn("검색 출처 {} 실행 거부 (풀 포화)", source);
+                record(source, "rejected", 0);
+                result.fail(source);
+            }
+        });
+
+        // 각 출처의 마감 시각은 병렬 실행 시작 시점 기준
+        futures.forEach((source, future) -> {
+            long deadline = startedAt + TimeUnit.MILLISECONDS.toNanos(
+                    searchProperties.getFanOut().getTimeoutMs(source));
+            try {
+                long remaining = Math.max(0, deadline - System.nanoTime());
+                result.complete(source, future.get(remaining, TimeUnit.NANOSECONDS));
+                record(source, "success", elapsed.get(source).get());
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                log.warn("검색 출처 {} 제한 시간 초과", source);
+                record(source, "timeout", System.nanoTime() - startedAt);
+                result.timeout(source);
+            } catch (ExecutionException e) {
+                log.warn("검색 출처 {} 실패: {}", source, e.getCause().getMessage());
+                record(source, "failure", elapsed.get(source).get());
+                result.fail(source);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                future.cancel(true);
+                result.fail(source);
+            }
+        });
+        return result;
+    }
+
+    // 작업 스레드에서 실제 실행 시간을 잼 (future.get 이후에 읽으므로 값이 보임)
+    private static <V> Callable<V> timed(Callable<V> task, AtomicLong nanos) {
+        return () -> {
+            long startedAt = System.nanoTime();
+            try {
+                return task.call();
+            } finally {
+                nanos.set(System.nanoTime() - startedAt);
+            }
+        };
+    }
+
+    private void record(SearchSource source, String outcome, long nanos) {
+        Timer.builder("search.source")
+                .description("통합 검색 출처별 검색 시간")
+                .tag("source", source.name().toLowerCase())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(nanos, TimeUnit.NANOSECONDS);
+    }
+}
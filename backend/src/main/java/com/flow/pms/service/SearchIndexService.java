@@ -0,0 +1,389 @@
+package com.flow.pms.service;
+
+import com.flow.pms.config.SearchProperties;
+import com.flow.pms.dto.ProjectDto;
+import com.flow.pms.dto.UserDto;
+import com.flow.pms.event.ChangeType;
+import com.flow.pms.event.ProjectChangedEvent;
+import com.flow.pms.event.UserChangedEvent;
+import com.flow.pms.repository.ProjectRepository;
+import com.flow.pms.repository.UserRepository;
+import com.flow.pms.service.search.InvertedIndex;
+import com.flow.pms.service.search.RelevanceScorer;
+import com.flow.pms.service.search.ScoredHit;
+import com.flow.pms.service.search.SearchBackend;
+import com.flow.pms.service.search.SearchCursor;
+import com.flow.pms.service.search.SearchSource;
+import com.flow.pms.service.search.TopHits;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 검색 인덱스 관리 서비스 (app.search.backend=memory, 기본값)
+ * 프로젝트/사용자 역색인을 기동 시 구축하고, 커밋된 변경 이벤트로 증분 갱신
+ * 인덱스 구축이 끝나기 전에는 기존 LIKE 검색 쿼리로 대체
+ */
+@Service
+@ConditionalOnProperty(prefix = "app.search", name = "backend", havingValue = "memory", matchIfMissing = true)
+public class SearchIndexService implements SearchBackend {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexService.class);
+
+    // 색인 필드 이름
+    public static final String FIELD_TITLE = "title";
+    public static final String FIELD_DESCRIPTION = "description";
+    public static final String FIELD_CATEGORY = "category";
+    public static final String FIELD_USERNAME = "username";
+    public static final String FIELD_DISPLAY_NAME = "displayName";
+    public static final String FIELD_EMAIL = "email";
+    public static final String FIELD_STATUS_MESSAGE = "statusMessage";
+
+    static final List<String> PROJECT_SEARCH_FIELDS = List.of(FIELD_TITLE, FIELD_DESCRIPTION);
+    static final List<String> USER_SEARCH_FIELDS = List.of(FIELD_USERNAME, FIELD_DISPLAY_NAME, FIELD_EMAIL);
+    static final List<String> STATUS_SEARCH_FIELDS = List.of(FIELD_STATUS_MESSAGE);
+
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final RelevanceScorer projectScorer;
+    private final RelevanceScorer userScorer;
+
+    // 프로젝트: 생성일 최신순, 사용자: 표시명순 (기존 쿼리의 ORDER BY와 동일)
+    static final Comparator<ProjectDto> PROJECT_ORDER = Comparator
+            .comparing(ProjectDto::getCreatedAt, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+            .thenComparing(ProjectDto::getId, Comparator.reverseOrder());
+    static final Comparator<UserDto> USER_ORDER = Comparator
+            .comparing(UserDto::getDisplayName, Comparator.nullsLast(Comparator.<String>naturalOrder()))
+            .thenComparing(UserDto::getId);
+
+    // 재구축은 새 인덱스에 만든 뒤 교체 (구축 중에는 이전 인덱스로 검색)
+    private volatile InvertedIndex<ProjectDto> projectIndex = new InvertedIndex<>(PROJECT_ORDER);
+    private volatile InvertedIndex<UserDto> userIndex = new InvertedIndex<>(USER_ORDER);
+
+    // 변경 반영끼리는 동시에 실행되고, 재구축 시작과 교체만 배타적으로 실행
+    private final ReadWriteLock swapLock = new ReentrantReadWriteLock();
+    private final Lock rebuildLock = new ReentrantLock();
+
+    // 재구축 중 반영된 변경 (ID별 마지막 이벤트, 교체 직전에 새 인덱스에 다시 적용, 재구축 중이 아니면 null)
+    private Map<Long, ProjectChangedEvent> projectChangesDuringRebuild;
+    private Map<Long, UserChangedEvent> userChangesDuringRebuild;
+
+    private volatile boolean ready = false;
+
+    @Autowired
+    public SearchIndexService(ProjectRepository projectRepository,
+                              UserRepository userRepository,
+                              PlatformTransactionManager transactionManager,
+                              SearchProperties searchProperties) {
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.projectScorer = projectScorer(searchProperties.getRanking());
+        this.userScorer = userScorer(searchProperties.getRanking());
+    }
+
+    /**
+     * 전체 인덱스 재구축
+     * ID 기준 배치로 필요한 컬럼만 DTO로 조회 (엔티티를 영속성 컨텍스트에 올리지 않음)
+     *
+     * 새 인덱스에 구축한 뒤 교체하며, 구축 중 반영된 변경은 교체 직전에 새 인덱스에 다시 적용
+     * (배치가 읽은 이전 행이 그 사이 삭제된 문서를 되살리거나 더 새로운 문서를 덮어쓰지 않도록)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        rebuildLock.lock();
+        try {
+            long startedAt = System.currentTimeMillis();
+            swapLock.writeLock().lock();
+            try {
+                projectChangesDuringRebuild = new ConcurrentHashMap<>();
+                userChangesDuringRebuild = new ConcurrentHashMap<>();
+            } finally {
+                swapLock.writeLock().unlock();
+            }
+
+            InvertedIndex<ProjectDto> freshProjects = new InvertedIndex<>(PROJECT_ORDER);
+            InvertedIndex<UserDto> freshUsers = new InvertedIndex<>(USER_ORDER);
+            try {
+                Long lastId = 0L;
+                List<ProjectDto> projects;
+                do {
+                    projects = projectRepository.findIndexBatch(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                    for (ProjectDto project : projects) {
+                        putProject(freshProjects, project);
+                        lastId = project.getId();
+                    }
+                } while (projects.size() == REBUILD_BATCH_SIZE);
+
+                lastId = 0L;
+                List<UserDto> users;
+                do {
+                    users = userRepository.findIndexBatch(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                    for (UserDto user : users) {
+                        putUser(freshUsers, user);
+                        lastId = user.getId();
+                    }
+                } while (users.size() == REBUILD_BATCH_SIZE);
+
+                // 구축 중 변경을 새 인덱스에 다시 적용하고 교체 (그 사이 변경 반영은 대기)
+                swapLock.writeLock().lock();
+                try {
+                    projectChangesDuringRebuild.values().forEach(event -> applyProjectChange(freshProjects, event));
+                    userChangesDuringRebuild.values().forEach(event -> applyUserChange(freshUsers, event));
+                    projectIndex = freshProjects;
+                    userIndex = freshUsers;
+                    ready = true;
+                } finally {
+                    swapLock.writeLock().unlock();
+                }
+            } finally {
+                swapLock.writeLock().lock();
+                try {
+                    projectChangesDuringRebuild = null;
+                    userChangesDuringRebuild = null;
+                } finally {
+                    swapLock.writeLock().unlock();
+                }
+            }
+
+            log.info("검색 인덱스 구축 완료: 프로젝트 {}건, 사용자 {}건, 토큰 {}개 ({}ms)",
+                    freshProjects.size(), freshUsers.size(),
+                    freshProjects.tokenCount() + freshUsers.tokenCount(),
+                    System.currentTimeMillis() - startedAt);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    /**
+     * 프로젝트 변경 반영 (커밋 이후)
+     * 검색 결과 캐시의 세대 증가보다 먼저 반영해야 새 세대에 이전 결과가 캐시되지 않음
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        swapLock.readLock().lock();
+        try {
+            applyProjectChange(projectIndex, event);
+            if (projectChangesDuringRebuild != null) {
+                projectChangesDuringRebuild.put(event.getProjectId(), event);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 사용자 변경 반영 (커밋 이후)
+     * 비활성 사용자는 검색 대상에서 제외
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onUserChanged(UserChangedEvent event) {
+        swapLock.readLock().lock();
+        try {
+            applyUserChange(userIndex, event);
+            if (userChangesDuringRebuild != null) {
+                userChangesDuringRebuild.put(event.getUserId(), event);
+            }
+        } finally {
+            swapLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 프로젝트 검색 (제목, 설명)
+     * 상위 limit개만 반환하며, 인덱스 구축 전에는 LIMIT이 적용된 페이징 쿼리로 대체
+     */
+    @Override
+    public TopHits<ProjectDto> searchProjects(String keyword, Predicate<ProjectDto> filter, int limit) {
+        if (!ready) {
+            // 인덱스 구축 전 대체 경로 (병렬 검색 스레드에서 실행되므로 별도 읽기 전용 트랜잭션)
+            return readOnlyTransaction.execute(status -> {
+                List<ProjectDto> matches = projectRepository.searchByTitleOrDescription(keyword)
+                        .stream()
+                        .filter(filter)
+                        .collect(Collectors.toList());
+                return TopHits.of(matches, limit);
+            });
+        }
+        return projectIndex.search(keyword, PROJECT_SEARCH_FIELDS, filter, limit);
+    }
+
+    @Override
+    public TopHits<ProjectDto> searchProjects(String keyword, int limit) {
+        if (!ready) {
+            return readOnlyTransaction.execute(status -> pagedHits(
+                    pageable -> projectRepository.searchByTitleOrDescription(keyword, pageable), limit));
+        }
+        return searchProjects(keyword, project -> true, limit);
+    }
+
+    /**
+     * 사용자 검색 (사용자명, 표시명, 이메일)
+     */
+    @Override
+    public TopHits<UserDto> searchUsers(String keyword, int limit) {
+        if (!ready) {
+            return readOnlyTransaction.execute(status -> pagedHits(
+                    pageable -> userRepository.searchUsers(keyword, pageable), limit));
+        }
+        return userIndex.search(keyword, USER_SEARCH_FIELDS, user -> true, limit);
+    }
+
+    /**
+     * 상태 메시지 검색
+     */
+    @Override
+    public TopHits<UserDto> searchStatusMessages(String keyword, int limit) {
+        if (!ready) {
+            return readOnlyTransaction.execute(status -> pagedHits(
+                    pageable -> userRepository.findByStatusMessageContainingIgnoreCase(keyword, pageable), limit));
+        }
+        return userIndex.search(keyword, STATUS_SEARCH_FIELDS, user -> true, limit);
+    }
+
+    /**
+     * 프로젝트 관련도 순위 검색
+     * 인덱스 구축 전에는 LIKE 검색 결과만으로 임시 인덱스를 만들어 같은 방식으로 점수 계산
+     *
+     * @param boost 프로젝트별 점수 배율 (최신성, 소유자 가중치)
+     */
+    @Override
+    public TopHits<ScoredHit<ProjectDto>> rankProjects(String keyword, Predicate<ProjectDto> filter,
+                                                       ToDoubleFunction<ProjectDto> boost,
+                                                       SearchCursor after, int limit) {
+        InvertedIndex<ProjectDto> index = projectIndex;
+        if (!ready) {
+            index = new InvertedIndex<>(PROJECT_ORDER);
+            for (ProjectDto project : searchProjects(keyword, TopHits.UNLIMITED).getHits()) {
+                putProject(index, project);
+            }
+        }
+        return index.rank(keyword, projectScorer, filter, boost, SearchSource.PROJECT, after, limit);
+    }
+
+    /**
+     * 사용자 관련도 순위 검색
+     */
+    @Override
+    public TopHits<ScoredHit<UserDto>> rankUsers(String keyword, SearchCursor after, int limit) {
+        InvertedIndex<UserDto> index = userIndex;
+        if (!ready) {
+            index = new InvertedIndex<>(USER_ORDER);
+            for (UserDto user : searchUsers(keyword, TopHits.UNLIMITED).getHits()) {
+                putUser(index, user);
+            }
+        }
+        return index.rank(keyword, userScorer, user -> true, user -> 1.0, SearchSource.USER, after, limit);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    public int getIndexedProjectCount() {
+        return projectIndex.size();
+    }
+
+    public int getIndexedUserCount() {
+        return userIndex.size();
+    }
+
+    // 대체 경로용: LIMIT이 적용된 쿼리로 상위 N개와 전체 건수 조회
+    private <T> TopHits<T> pagedHits(Function<Pageable, Page<T>> query, int limit) {
+        Pageable pageable = limit == TopHits.UNLIMITED ? Pageable.unpaged() : PageRequest.of(0, Math.max(1, limit));
+        Page<T> page = query.apply(pageable);
+        List<T> hits = page.getContent().stream()
+                .limit(limit)
+                .collect(Collectors.toList());
+        return new TopHits<>(hits, (int) page.getTotalElements());
+    }
+
+    private static void applyProjectChange(InvertedIndex<ProjectDto> index, ProjectChangedEvent event) {
+        if (event.getChangeType() == ChangeType.DELETED) {
+            index.remove(event.getProjectId());
+        } else {
+            putProject(index, event.getProject());
+        }
+    }
+
+    private static void applyUserChange(InvertedIndex<UserDto> index, UserChangedEvent event) {
+        UserDto user = event.getUser();
+        if (user == null || !Boolean.TRUE.equals(user.getIsActive())) {
+            index.remove(event.getUserId());
+        } else {
+            putUser(index, user);
+        }
+    }
+
+    // 프로젝트 점수 계산기 (제목, 설명 가중치)
+    static RelevanceScorer projectScorer(SearchProperties.Ranking ranking) {
+        SearchProperties.FieldBoosts boosts = ranking.getFieldBoosts();
+        Map<String, Double> projectBoosts = new LinkedHashMap<>();
+        projectBoosts.put(FIELD_TITLE, boosts.getTitle());
+        projectBoosts.put(FIELD_DESCRIPTION, boosts.getDescription());
+        return new RelevanceScorer(ranking.getK1(), ranking.getB(), projectBoosts);
+    }
+
+    // 사용자 점수 계산기 (사용자명, 표시명, 이메일 가중치)
+    static RelevanceScorer userScorer(SearchProperties.Ranking ranking) {
+        SearchProperties.FieldBoosts boosts = ranking.getFieldBoosts();
+        Map<String, Double> userBoosts = new LinkedHashMap<>();
+        userBoosts.put(FIELD_USERNAME, boosts.getUsername());
+        userBoosts.put(FIELD_DISPLAY_NAME, boosts.getDisplayName());
+        userBoosts.put(FIELD_EMAIL, boosts.getEmail());
+        return new RelevanceScorer(ranking.getK1(), ranking.getB(), userBoosts);
+    }
+
+    static void putProject(InvertedIndex<ProjectDto> index, ProjectDto project) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(FIELD_TITLE, project.getTitle());
+        fields.put(FIELD_DESCRIPTION, project.getDescription());
+        fields.put(FIELD_CATEGORY, project.getCategory());
+        index.put(project.getId(), project, fields);
+    }
+
+    static void putUser(InvertedIndex<UserDto> index, UserDto user) {
+        Map<String, String> fields = new HashMap<>();
+        fields.put(FIELD_USERNAME, user.getUsername());
+        fields.put(FIELD_DISPLAY_NAME, user.getDisplayName());
+        fields.put(FIELD_EMAIL, user.getEmail());
+        fields.put(FIELD_STATUS_MESSAGE, user.getStatusMessage());
+        index.put(user.getId(), user, fields);
+    }
+}
@@ -0,0 +1,79 @@
+package com.flow.pms.service;
+
+import com.flow.pms.config.SearchProperties;
+import com.flow.pms.service.search.QueryLogBuffer;
+import com.flow.pms.service.search.QueryLogEntry;
+import com.flow.pms.service.search.QueryWindow;
+import com.flow.pms.service.search.QueryWindowSnapshot;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 검색 기록 및 검색어 집계 결과 보관
+ * 검색 요청 스레드는 링 버퍼에 기록만 남기고 (잠금/DB 작업 없음),
+ * 집계기(SearchAnalyticsService)가 버퍼를 비우며 만든 윈도우별 요약을 참조 교체로 게시
+ * 인기 검색어 조회는 게시된 요약만 읽으므로 DB를 거치지 않음
+ */
+@Component
+public class SearchQueryLog {
+
+    private final QueryLogBuffer buffer;
+
+    private volatile Map<QueryWindow, QueryWindowSnapshot> snapshots;
+
+    @Autowired
+    public SearchQueryLog(SearchProperties searchProperties) {
+        this.buffer = new QueryLogBuffer(searchProperties.getAnalytics().getBufferCapacity());
+        Map<QueryWindow, QueryWindowSnapshot> empty = new EnumMap<>(QueryWindow.class);
+        for (QueryWindow window : QueryWindow.values()) {
+            empty.put(window, QueryWindowSnapshot.empty(window));
+        }
+        this.snapshots = empty;
+    }
+
+    /**
+     * 검색 한 건 기록
+     *
+     * @param startedAt 검색 시작 시각 (System.nanoTime)
+     */
+    public void record(String query, int resultCount, long startedAt) {
+        if (query == null) {
+            return;
+        }
+        long latencyMicros = (System.nanoTime() - startedAt) / 1000;
+        buffer.offer(new QueryLogEntry(query, resultCount, latencyMicros, System.currentTimeMillis()));
+    }
+
+    /**
+     * 윈도우 요약 (마지막 집계 기준)
+     */
+    public QueryWindowSnapshot getSnapshot(QueryWindow window) {
+        return snapshots.get(window);
+    }
+
+    /**
+     * 집계기가 새 요약 게시
+     */
+    void publish(Map<QueryWindow, QueryWindowSnapshot> snapshots) {
+        this.snapshots = snapshots;
+    }
+
+    QueryLogBuffer getBuffer() {
+        return buffer;
+    }
+
+    public long getRecordedCount() {
+        return buffer.getRecordedCount();
+    }
+
+    public long getDroppedCount() {
+        return buffer.getDroppedCount();
+    }
+
+    public long getPendingCount() {
+        return buffer.size();
+    }
+}
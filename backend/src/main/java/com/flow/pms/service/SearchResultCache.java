@@ -0,0 +1,226 @@
+package com.flow.pms.service;
+
+import com.flow.pms.config.SearchProperties;
+import com.flow.pms.event.ProjectChangedEvent;
+import com.flow.pms.event.UserChangedEvent;
+import com.flow.pms.service.search.FanOutResult;
+import com.flow.pms.service.search.NgramTokenizer;
+import com.flow.pms.service.search.SearchCacheKey;
+import com.flow.pms.service.search.SearchPage;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 검색 결과 캐시
+ * 정규화한 검색어 + 범위별 결과를 결과 건수 기준 가중치로 제한해 보관 (결과 없는 검색도 짧은 TTL로 보관)
+ *
+ * 무효화는 세대 번호 방식: 프로젝트/사용자 변경이 커밋되면 해당 세대를 올리고, 키에 세대가 포함되므로
+ * 이전 결과는 조회되지 않은 채 TTL/용량 제한으로 밀려남 (키를 찾아 지우지 않음)
+ * 같은 키의 동시 미스는 먼저 온 요청 하나만 검색하고 나머지는 그 결과를 기다림
+ * 일부 출처가 빠진 결과와 검색 도중 세대가 바뀐 결과는 기다리던 요청에만 전달하고 보관하지 않음
+ * 통계는 search.result.cache.* 메트릭으로도 노출
+ */
+@Component
+public class SearchResultCache implements MeterBinder {
+
+    private final boolean enabled;
+    private final AsyncCache<SearchCacheKey, Object> cache;
+    private final AtomicLong projectGeneration = new AtomicLong();
+    private final AtomicLong userGeneration = new AtomicLong();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder discarded = new LongAdder();
+
+    @Autowired
+    public SearchResultCache(SearchProperties searchProperties) {
+        SearchProperties.ResultCache properties = searchProperties.getResultCache();
+        this.enabled = properties.isEnabled() && properties.getMaximumWeight() > 0;
+        long ttlNanos = TimeUnit.MILLISECONDS.toNanos(properties.getTtlMs());
+        long negativeTtlNanos = TimeUnit.MILLISECONDS.toNanos(properties.getNegativeTtlMs());
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(Math.max(properties.getMaximumWeight(), 1))
+                .weigher((SearchCacheKey key, Object value) -> sizeOf(value) + 1)
+                .expireAfter(new Expiry<SearchCacheKey, Object>() {
+                    @Override
+                    public long expireAfterCreate(SearchCacheKey key, Object value, long currentTime) {
+                        return sizeOf(value) == 0 ? negativeTtlNanos : ttlNanos;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(SearchCacheKey key, Object value, long currentTime,
+                                                  long currentDuration) {
+                        return expireAfterCreate(key, value, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(SearchCacheKey key, Object value, long currentTime,
+                                                long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()   // 용량/만료 제거 건수 (적중/실패는 putIfAbsent 경로라 직접 집계)
+                .buildAsync();
+    }
+
+    /**
+     * 캐시된 결과 조회 (없으면 loader로 검색해 보관)
+     * 같은 키를 검색 중인 요청이 있으면 새로 검색하지 않고 그 결과를 기다림
+     *
+     * @param scope 결과 범위 (카테고리, 사용자 ID, 페이지 크기 등, 없으면 null)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(SearchCacheKey.Kind kind, String query, Object scope, Supplier<T> loader) {
+        String normalizedQuery = NgramTokenizer.normalize(query);
+        if (!enabled || normalizedQuery.isEmpty()) {
+            return loader.get();
+        }
+        SearchCacheKey key = new SearchCacheKey(kind, normalizedQuery, scope,
+                projectGeneration.get(), userGeneration.get());
+
+        CompletableFuture<Object> pending = new CompletableFuture<>();
+        CompletableFuture<Object> existing = cache.asMap().putIfAbsent(key, pending);
+        if (existing != null) {
+            hits.increment();
+            if (!existing.isDone()) {
+                coalesced.increment();
+            }
+            return (T) join(existing);
+        }
+        misses.increment();
+
+        T value;
+        try {
+            value = loader.get();
+        } catch (RuntimeException | Error e) {
+            // 실패한 future는 캐시에서 자동 제거되고, 기다리던 요청도 같은 예외를 받음
+            pending.completeExceptionally(e);
+            throw e;
+        }
+        pending.complete(value);
+        if (!isCacheable(value) || !isCurrent(key)) {
+            discarded.increment();
+            cache.asMap().remove(key, pending);
+        }
+        return value;
+    }
+
+    /**
+     * 프로젝트 변경 반영 (커밋 이후, 검색 인덱스 갱신 다음)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        projectGeneration.incrementAndGet();
+    }
+
+    /**
+     * 사용자 변경 반영 (커밋 이후, 검색 인덱스 갱신 다음)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public void onUserChanged(UserChangedEvent event) {
+        userGeneration.incrementAndGet();
+    }
+
+    /**
+     * 캐시 통계
+     */
+    public Map<String, Object> getStats() {
+        long hitCount = hits.sum();
+        long requestCount = hitCount + misses.sum();
+        Map<String, Object> result = new HashMap<>();
+        result.put("enabled", enabled);
+        result.put("size", cache.synchronous().estimatedSize());
+        result.put("hits", hitCount);
+        result.put("misses", requestCount - hitCount);
+        result.put("hitRate", requestCount == 0 ? 0.0 : (double) hitCount / requestCount);
+        result.put("evictions", cache.synchronous().stats().evictionCount());
+        result.put("coalesced", coalesced.sum());
+        result.put("discarded", discarded.sum());
+        result.put("projectGeneration", projectGeneration.get());
+        result.put("userGeneration", userGeneration.get());
+        return result;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("search.result.cache.requests", hits, LongAdder::sum)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("search.result.cache.requests", misses, LongAdder::sum)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("search.result.cache.coalesced", coalesced, LongAdder::sum)
+                .description("검색 중인 같은 키의 결과를 기다린 요청 수")
+                .register(registry);
+        FunctionCounter.builder("search.result.cache.discarded", discarded, LongAdder::sum)
+                .description("부분 결과/세대 변경으로 보관하지 않은 검색 수")
+                .register(registry);
+        Gauge.builder("search.result.cache.size", cache, c -> c.synchronous().estimatedSize())
+                .register(registry);
+    }
+
+    private boolean isCurrent(SearchCacheKey key) {
+        return (!key.getKind().dependsOnProjects() || key.getProjectGeneration() == projectGeneration.get())
+                && (!key.getKind().dependsOnUsers() || key.getUserGeneration() == userGeneration.get());
+    }
+
+    // 제한 시간을 넘겨 빠진 출처가 있는 결과는 보관하지 않음
+    private static boolean isCacheable(Object value) {
+        if (value instanceof SearchPage<?> page) {
+            return !page.isPartial();
+        }
+        if (value instanceof FanOutResult<?> result) {
+            return !result.isPartial();
+        }
+        return value != null;
+    }
+
+    private static int sizeOf(Object value) {
+        if (value instanceof SearchPage<?> page) {
+            return page.getItems().size();
+        }
+        if (value instanceof FanOutResult<?> result) {
+            return result.getResults().size();
+        }
+        if (value instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        return value != null ? 1 : 0;
+    }
+
+    private static Object join(CompletableFuture<Object> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
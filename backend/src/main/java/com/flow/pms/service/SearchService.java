@@ -0,0 +1,416 @@
+package com.flow.pms.service;
+
+import com.flow.pms.config.SearchProperties;
+import com.flow.pms.dto.ProjectDto;
+import com.flow.pms.dto.SearchResultDto;
+import com.flow.pms.dto.UserDto;
+import com.flow.pms.service.search.FanOutResult;
+import com.flow.pms.service.search.InvertedIndex;
+import com.flow.pms.service.search.NgramTokenizer;
+import com.flow.pms.service.search.PopularTerm;
+import com.flow.pms.service.search.QueryWindow;
+import com.flow.pms.service.search.RelevanceScorer;
+import com.flow.pms.service.search.ScoredHit;
+import com.flow.pms.service.search.SearchBackend;
+import com.flow.pms.service.search.SearchCacheKey;
+import com.flow.pms.service.search.SearchCursor;
+import com.flow.pms.service.search.SearchPage;
+import com.flow.pms.service.search.SearchSource;
+import com.flow.pms.service.search.TextQuery;
+import com.flow.pms.service.search.TopHits;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collectors;
+
+/**
+ * 통합 검색 서비스
+ * 프로젝트, 사용자, 메뉴 등을 통합 검색하는 비즈니스 로직
+ * 프로젝트/사용자 검색은 설정된 검색 구현(SearchBackend: 인메모리 역색인 또는 MySQL FULLTEXT)을 사용하며,
+ * 통합 검색은 출처별로 병렬 실행하여 제한 시간을 넘긴 출처는 제외하고 응답하며,
+ * 결과는 관련도 점수순으로 정렬해 커서 페이지 단위로 반환
+ * 사용자가 입력한 검색(커서 다음 페이지 제외)은 검색어, 결과 건수, 처리 시간을 SearchQueryLog에 기록
+ * 첫 페이지/목록 검색 결과는 SearchResultCache에 보관하며 (다음 페이지는 커서마다 달라 제외),
+ * 캐시에서 꺼낸 결과는 여러 요청이 공유하므로 호출자가 수정하지 않음
+ */
+@Service
+public class SearchService {
+
+    private final SearchBackend searchBackend;
+    private final SearchFanOutExecutor fanOutExecutor;
+    private final SearchQueryLog queryLog;
+    private final SearchResultCache resultCache;
+    private final int popularSize;
+    private final SearchProperties.Ranking ranking;
+    private final List<SearchResultDto> blogItems;
+    private final RelevanceScorer titleScorer;
+    private final InvertedIndex<SearchResultDto> menuIndex;
+    private final InvertedIndex<SearchResultDto> blogIndex;
+
+    // 기본 메뉴 아이템들
+    static final List<SearchResultDto> DEFAULT_MENU_ITEMS = List.of(
+        new SearchResultDto("메뉴", "대시보드", "/dashboard"),
+        new SearchResultDto("메뉴", "내 프로젝트", "/projects"),
+        new SearchResultDto("메뉴", "프로젝트 생성", "/projects/create"),
+        new SearchResultDto("메뉴", "협업툴 관심력", "/portfolio")
+    );
+
+    // 기본 인기 검색어 (집계된 검색어가 부족할 때 채움)
+    private static final List<String> POPULAR_SEARCH_TERMS = List.of(
+        "프로젝트", "대시보드", "협업툴", "진행중", "업무", "간트차트", "캘린더", "화상회의", "AI 회의요약"
+    );
+
+    @Autowired
+    public SearchService(SearchBackend searchBackend,
+                         SearchFanOutExecutor fanOutExecutor,
+                         SearchQueryLog queryLog,
+                         SearchResultCache resultCache,
+                         SearchProperties searchProperties,
+                         @Value("${app.external.blog.base-url}") String blogBaseUrl) {
+        this.searchBackend = searchBackend;
+        this.fanOutExecutor = fanOutExecutor;
+        this.queryLog = queryLog;
+        this.resultCache = resultCache;
+        this.popularSize = searchProperties.getAnalytics().getPopularSize();
+        this.ranking = searchProperties.getRanking();
+        this.blogItems = List.of(
+            new SearchResultDto("블로그", "플로우 설명회 참석 후기",
+                    blogBaseUrl + "/%ED%94%8C%EB%A1%9C%EC%9A%B0-%EC%84%A4%EB%AA%85%ED%9A%8C-%EC%B0%B8%EC%84%9D-%ED%9B%84%EA%B8%B0%EA%BF%80"),
+            new SearchResultDto("블로그", "협업툴 개발일기 2. 화상회의",
+                    blogBaseUrl + "/%ED%98%91%EC%97%85%ED%88%B4-%EA%B0%9C%EB%B0%9C%EC%9D%BC%EA%B8%B02.-%ED%99%94%EC%83%81%ED%9A%8C%EC%9D%98"),
+            new SearchResultDto("블로그", "협업툴 개발일기 3. 회의 AI요약 및 업무 분담",
+                    blogBaseUrl + "/%ED%98%91%EC%97%85%ED%88%B4-%EA%B0%9C%EB%B0%9C%EC%9D%BC%EA%B8%B0-3.-%ED%9A%8C%EC%9D%98-ai%EC%9A%94%EC%95%BD-%EB%B0%8F-%EC%97%85%EB%AC%B4-%EB%B6%84%EB%8B%B4")
+        );
+
+        // 메뉴/블로그는 제목만 색인한 고정 인덱스로 같은 점수 체계를 적용
+        this.titleScorer = new RelevanceScorer(ranking.getK1(), ranking.getB(),
+                Map.of(SearchIndexService.FIELD_TITLE, ranking.getFieldBoosts().getTitle()));
+        this.menuIndex = titleIndex(DEFAULT_MENU_ITEMS);
+        this.blogIndex = titleIndex(blogItems);
+    }
+
+    /**
+     * 통합 검색 (관련도순)
+     * 출처별로 커서 이후 상위 결과만 받아 점수순으로 병합하고 한 페이지만 반환
+     * 제한 시간을 넘긴 출처는 결과에서 빠지고 SearchPage에 표시됨
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size   페이지 크기 (null이면 기본값, 최대값으로 제한)
+     */
+    public SearchPage<SearchResultDto> searchAll(String query, String cursor, Integer size) {
+        long startedAt = System.nanoTime();
+        if (cursor != null && !cursor.isBlank()) {
+            return rankedSearch(query, null, cursor, size);
+        }
+        int pageSize = pageSizeOf(size);
+        SearchPage<SearchResultDto> page = resultCache.get(SearchCacheKey.Kind.ALL, query, pageSize,
+                () -> rankedSearch(query, null, null, pageSize));
+        queryLog.record(query, page.getTotalCount(), startedAt);
+        return page;
+    }
+
+    /**
+     * 빠른 검색 (출처별 상위 N개)
+     * 각 출처에 N개만 요청하므로 일치 건수가 많아도 N개 분량의 DTO만 생성
+     */
+    public FanOutResult<SearchResultDto> quickSearch(String query, int perTypeLimit) {
+        long startedAt = System.nanoTime();
+        FanOutResult<SearchResultDto> result = resultCache.get(SearchCacheKey.Kind.QUICK, query, perTypeLimit,
+                () -> searchAllSources(query, perTypeLimit));
+        queryLog.record(query, result.getTotalCount(), startedAt);
+        return result;
+    }
+
+    private FanOutResult<SearchResultDto> searchAllSources(String query, int perTypeLimit) {
+        Map<SearchSource, Callable<TopHits<SearchResultDto>>> tasks = new EnumMap<>(SearchSource.class);
+        tasks.put(SearchSource.PROJECT, () -> projectHits(query, perTypeLimit));
+        tasks.put(SearchSource.MENU, () -> TopHits.of(searchMenus(query), perTypeLimit));
+        tasks.put(SearchSource.USER, () -> userHits(query, perTypeLimit));
+        tasks.put(SearchSource.BLOG, () -> TopHits.of(searchBlogs(query), perTypeLimit));
+        return fanOutExecutor.execute(tasks);
+    }
+
+    /**
+     * 프로젝트 검색
+     */
+    public List<SearchResultDto> searchProjects(String query) {
+        long startedAt = System.nanoTime();
+        List<SearchResultDto> results = resultCache.get(SearchCacheKey.Kind.PROJECTS, query, null,
+                () -> Collections.unmodifiableList(projectHits(query, TopHits.UNLIMITED).getHits()));
+        queryLog.record(query, results.size(), startedAt);
+        return results;
+    }
+
+    /**
+     * 사용자 검색
+     */
+    public List<SearchResultDto> searchUsers(String query) {
+        long startedAt = System.nanoTime();
+        List<SearchResultDto> results = resultCache.get(SearchCacheKey.Kind.USERS, query, null,
+                () -> Collections.unmodifiableList(userHits(query, TopHits.UNLIMITED).getHits()));
+        queryLog.record(query, results.size(), startedAt);
+        return results;
+    }
+
+    /**
+     * 메뉴 검색
+     */
+    public List<SearchResultDto> searchMenus(String query) {
+        return filterByTitle(DEFAULT_MENU_ITEMS, query);
+    }
+
+    /**
+     * 블로그 글 검색 (외부 블로그 연동)
+     */
+    public List<SearchResultDto> searchBlogs(String query) {
+        return filterByTitle(blogItems, query);
+    }
+
+    /**
+     * 카테고리별 검색
+     */
+    public List<SearchResultDto> searchByCategory(String category, String query) {
+        long startedAt = System.nanoTime();
+        List<SearchResultDto> results = resultCache.get(SearchCacheKey.Kind.CATEGORY, query, category,
+                () -> Collections.unmodifiableList(searchBackend.searchProjects(query,
+                                project -> Objects.equals(category, project.getCategory()), TopHits.UNLIMITED)
+                        .map(project -> toProjectResult(project, "프로젝트"))
+                        .getHits()));
+        queryLog.record(query, results.size(), startedAt);
+        return results;
+    }
+
+    /**
+     * 사용자별 개인화된 검색 (관련도순)
+     * 내 프로젝트와 다른 사용자의 공개 프로젝트, 메뉴를 검색하며
+     * 내 프로젝트는 소유자 가중치를 곱해 상위에 노출
+     */
+    public SearchPage<SearchResultDto> searchForUser(String query, Long userId, String cursor, Integer size) {
+        long startedAt = System.nanoTime();
+        if (cursor != null && !cursor.isBlank()) {
+            return rankedSearch(query, userId, cursor, size);
+        }
+        int pageSize = pageSizeOf(size);
+        SearchPage<SearchResultDto> page = resultCache.get(SearchCacheKey.Kind.FOR_USER, query,
+                userId + ":" + pageSize, () -> rankedSearch(query, userId, null, pageSize));
+        queryLog.record(query, page.getTotalCount(), startedAt);
+        return page;
+    }
+
+    /**
+     * 상태 메시지 검색
+     */
+    public List<SearchResultDto> searchStatusMessages(String query) {
+        long startedAt = System.nanoTime();
+        List<SearchResultDto> results = resultCache.get(SearchCacheKey.Kind.STATUS_MESSAGES, query, null,
+                () -> Collections.unmodifiableList(searchBackend.searchStatusMessages(query, TopHits.UNLIMITED)
+                        .map(user -> new SearchResultDto("상태", user.getStatusMessage(), user.getDisplayName(),
+                                null, user.getId(), null, user.getProfileIcon()))
+                        .getHits()));
+        queryLog.record(query, results.size(), startedAt);
+        return results;
+    }
+
+    /**
+     * 인기 검색어 조회 (최근 24시간)
+     */
+    public List<String> getPopularSearchTerms() {
+        return getPopularSearchTerms(QueryWindow.DAY, popularSize);
+    }
+
+    /**
+     * 인기 검색어 조회 (마지막 집계 결과만 읽음, DB 조회 없음)
+     * 집계된 검색어가 limit개보다 적으면 기본 인기 검색어로 채움
+     */
+    public List<String> getPopularSearchTerms(QueryWindow window, int limit) {
+        List<String> terms = new ArrayList<>(limit);
+        for (PopularTerm term : queryLog.getSnapshot(window).getPopularTerms()) {
+            if (terms.size() >= limit) {
+                break;
+            }
+            terms.add(term.getTerm());
+        }
+        for (String term : POPULAR_SEARCH_TERMS) {
+            if (terms.size() >= limit) {
+                break;
+            }
+            if (!terms.contains(NgramTokenizer.normalize(term))) {
+                terms.add(term);
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * 검색 결과 캐시 통계 (적중/실패, 합쳐진 동시 미스, 세대 번호)
+     */
+    public Map<String, Object> getResultCacheStats() {
+        return resultCache.getStats();
+    }
+
+    /**
+     * 검색 통계
+     */
+    public SearchStatistics getSearchStatistics(String query) {
+        // 건수만 필요하므로 결과는 만들지 않고 전체 일치 건수만 집계
+        FanOutResult<SearchResultDto> result = searchAllSources(query, 0);
+        return new SearchStatistics(
+                result.getTotalCount(SearchSource.PROJECT),
+                result.getTotalCount(SearchSource.USER),
+                result.getTotalCount(SearchSource.MENU),
+                result.getTotalCount(SearchSource.BLOG)
+        );
+    }
+
+    private SearchPage<SearchResultDto> rankedSearch(String query, Long userId, String cursorToken, Integer size) {
+        int pageSize = pageSizeOf(size);
+        int scope = SearchCursor.scopeOf(query, userId);
+        SearchCursor cursor = cursorToken == null || cursorToken.isBlank()
+                ? SearchCursor.first(scope, Instant.now())
+                : SearchCursor.decode(cursorToken, scope);
+
+        // 다음 페이지 존재 여부를 알기 위해 출처별로 한 건 더 조회
+        int limit = pageSize + 1;
+        Map<SearchSource, Callable<TopHits<ScoredHit<SearchResultDto>>>> tasks = new EnumMap<>(SearchSource.class);
+        tasks.put(SearchSource.PROJECT, () -> rankedProjectHits(query, userId, cursor, limit));
+        tasks.put(SearchSource.MENU, () -> menuIndex.rank(query, titleScorer, item -> true, item -> 1.0,
+                SearchSource.MENU, cursor, limit));
+        if (userId == null) {
+            tasks.put(SearchSource.USER, () -> searchBackend.rankUsers(query, cursor, limit)
+                    .map(hit -> hit.withPayload(toUserResult(hit.getPayload()))));
+            tasks.put(SearchSource.BLOG, () -> blogIndex.rank(query, titleScorer, item -> true, item -> 1.0,
+                    SearchSource.BLOG, cursor, limit));
+        }
+        FanOutResult<ScoredHit<SearchResultDto>> fanOut = fanOutExecutor.execute(tasks);
+
+        List<ScoredHit<SearchResultDto>> ranked = fanOut.getResults();
+        ranked.sort(ScoredHit.RANK_ORDER);
+        boolean hasNext = ranked.size() > pageSize;
+        List<ScoredHit<SearchResultDto>> page = hasNext ? ranked.subList(0, pageSize) : ranked;
+        List<SearchResultDto> items = page.stream()
+                .map(ScoredHit::getPayload)
+                .collect(Collectors.toList());
+        String nextCursor = hasNext ? cursor.next(page.get(page.size() - 1)) : null;
+        return new SearchPage<>(items, fanOut.getTotalCount(), nextCursor, fanOut);
+    }
+
+    private int pageSizeOf(Integer size) {
+        return Math.max(1, Math.min(size != null ? size : ranking.getDefaultPageSize(), ranking.getMaxPageSize()));
+    }
+
+    // 개인화 검색이면 내 프로젝트 + 공개 프로젝트만, 점수에는 최신성과 소유자 가중치를 곱함
+    private TopHits<ScoredHit<SearchResultDto>> rankedProjectHits(String query, Long userId,
+                                                                  SearchCursor cursor, int limit) {
+        Predicate<ProjectDto> filter = userId == null
+                ? project -> true
+                : project -> Objects.equals(userId, project.getOwnerId()) || Boolean.TRUE.equals(project.getIsPublic());
+        ToDoubleFunction<ProjectDto> boost = project -> {
+            double recency = RelevanceScorer.recencyBoost(project.getUpdatedAt(), cursor.getAsOf(),
+                    ranking.getRecencyWeight(), ranking.getRecencyHalfLifeDays());
+            return isOwnedBy(project, userId) ? recency * ranking.getOwnerBoost() : recency;
+        };
+        return searchBackend.rankProjects(query, filter, boost, cursor, limit)
+                .map(hit -> hit.withPayload(toProjectResult(hit.getPayload(),
+                        isOwnedBy(hit.getPayload(), userId) ? "내 프로젝트" : "프로젝트")));
+    }
+
+    private boolean isOwnedBy(ProjectDto project, Long userId) {
+        return userId != null && Objects.equals(userId, project.getOwnerId());
+    }
+
+    private InvertedIndex<SearchResultDto> titleIndex(List<SearchResultDto> items) {
+        InvertedIndex<SearchResultDto> index = new InvertedIndex<>(Comparator.comparing(SearchResultDto::getTitle));
+        for (int i = 0; i < items.size(); i++) {
+            index.put((long) i + 1, items.get(i), Map.of(SearchIndexService.FIELD_TITLE, items.get(i).getTitle()));
+        }
+        return index;
+    }
+
+    private TopHits<SearchResultDto> projectHits(String query, int limit) {
+        return searchBackend.searchProjects(query, limit)
+                .map(project -> toProjectResult(project, "프로젝트"));
+    }
+
+    private TopHits<SearchResultDto> userHits(String query, int limit) {
+        return searchBackend.searchUsers(query, limit)
+                .map(this::toUserResult);
+    }
+
+    private SearchResultDto toProjectResult(ProjectDto project, String type) {
+        return new SearchResultDto(type, project.getTitle(), project.getCategory(),
+                project.getDescription(), project.getId(), null, null);
+    }
+
+    private SearchResultDto toUserResult(UserDto user) {
+        return new SearchResultDto("사용자", user.getDisplayName(), user.getUsername(),
+                user.getStatusMessage(), user.getId(), null, null);
+    }
+
+    // 역색인과 같은 일치 방식 (초성 검색, 원문 결과가 없으면 입력 중인 음절로 다시 검색)
+    private List<SearchResultDto> filterByTitle(List<SearchResultDto> items, String query) {
+        String normalizedQuery = NgramTokenizer.normalize(query);
+        if (normalizedQuery.isEmpty()) {
+            return new ArrayList<>();
+        }
+        TextQuery textQuery = TextQuery.parse(normalizedQuery);
+        List<SearchResultDto> results = filterByTitle(items, textQuery);
+        TextQuery fallback = textQuery.partialFallback();
+        return results.isEmpty() && fallback != null ? filterByTitle(items, fallback) : results;
+    }
+
+    private List<SearchResultDto> filterByTitle(List<SearchResultDto> items, TextQuery query) {
+        return items.stream()
+                .filter(item -> query.matches(NgramTokenizer.normalize(item.getTitle())))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 검색 통계 정보
+     */
+    public static class SearchStatistics {
+
+        private final long projectCount;
+        private final long userCount;
+        private final long menuCount;
+        private final long blogCount;
+
+        public SearchStatistics(long projectCount, long userCount, long menuCount, long blogCount) {
+            this.projectCount = projectCount;
+            this.userCount = userCount;
+            this.menuCount = menuCount;
+            this.blogCount = blogCount;
+        }
+
+        public long getProjectCount() {
+            return projectCount;
+        }
+
+        public long getUserCount() {
+            return userCount;
+        }
+
+        public long getMenuCount() {
+            return menuCount;
+        }
+
+        public long getBlogCount() {
+            return blogCount;
+        }
+
+        public long getTotalCount() {
+            return projectCount + userCount + menuCount + blogCount;
+        }
+    }
+}
@@ -0,0 +1,178 @@
+package com.flow.pms.service;
+
+import com.flow.pms.dto.StatusMessageDto;
+import com.flow.pms.entity.StatusMessage;
+import com.flow.pms.entity.User;
+import com.flow.pms.repository.StatusMessageRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 상태 메시지 기록 서비스
+ * 상태 메시지가 바뀔 때마다 기록을 추가하고 이전 기록은 비활성화 (사용자마다 현재 기록 한 건)
+ * 사용자별 기록은 최근 K건만 남기며, 기록이 추가된 사용자를 모아 두었다가 주기적으로 한꺼번에 정리
+ */
+@Service
+public class StatusMessageService {
+
+    private static final Logger log = LoggerFactory.getLogger(StatusMessageService.class);
+
+    private final StatusMessageRepository statusMessageRepository;
+    private final TransactionTemplate transaction;
+    private final int historySize;
+    private final int maxLatestUsers;
+    private final int pruneBatchSize;
+
+    // 마지막 정리 이후 기록이 추가된 사용자 (커밋 후 추가)
+    private final Set<Long> dirtyUsers = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public StatusMessageService(StatusMessageRepository statusMessageRepository,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${app.status-message.history-size:20}") int historySize,
+                                @Value("${app.status-message.max-latest-users:500}") int maxLatestUsers,
+                                @Value("${app.status-message.prune-batch-size:500}") int pruneBatchSize) {
+        if (historySize < 1) {
+            throw new IllegalArgumentException("app.status-message.history-size는 1 이상이어야 합니다: " + historySize);
+        }
+        this.statusMessageRepository = statusMessageRepository;
+        this.transaction = new TransactionTemplate(transactionManager);
+        this.historySize = historySize;
+        this.maxLatestUsers = maxLatestUsers;
+        this.pruneBatchSize = pruneBatchSize;
+    }
+
+    /**
+     * 사용자의 현재 상태를 기록 (호출한 트랜잭션 안에서)
+     * 상태 메시지가 비어 있으면 현재 기록만 비활성화
+     */
+    @Transactional
+    public void record(User user, String label) {
+        statusMessageRepository.deactivateByUserId(user.getId());
+        if (user.getStatusMessage() == null || user.getStatusMessage().isBlank()) {
+            return;
+        }
+        StatusMessage statusMessage = new StatusMessage(user,
+                user.getProfileIcon() != null ? user.getProfileIcon() : "😊", user.getStatusMessage(), label);
+        statusMessage.setIsActive(true);
+        statusMessageRepository.save(statusMessage);
+
+        // 커밋된 기록만 정리 대상 (커밋 전에 정리가 돌면 아직 보이지 않는 기록을 놓침, 롤백되면 추가하지 않음)
+        Long userId = user.getId();
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                dirtyUsers.add(userId);
+            }
+        });
+    }
+
+    /**
+     * 사용자 상태 메시지 기록 (최신순, 최대 보관 건수까지)
+     */
+    @Transactional(readOnly = true)
+    public List<StatusMessageDto> getHistory(Long userId, Integer size) {
+        int limit = size == null || size <= 0 ? historySize : Math.min(size, historySize);
+        return statusMessageRepository.findHistory(userId, PageRequest.of(0, limit));
+    }
+
+    /**
+     * 여러 사용자의 현재 상태 메시지 (인덱스 조회 한 번, 상태 메시지가 없는 사용자는 제외)
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, StatusMessageDto> getLatest(Collection<Long> userIds) {
+        Set<Long> ids = new LinkedHashSet<>(userIds);
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        if (ids.size() > maxLatestUsers) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 사용자는 최대 " + maxLatestUsers + "명입니다.");
+        }
+        Map<Long, StatusMessageDto> latest = new HashMap<>();
+        for (StatusMessageDto statusMessage : statusMessageRepository.findActiveByUserIds(ids)) {
+            latest.put(statusMessage.getUserId(), statusMessage);
+        }
+        return latest;
+    }
+
+    /**
+     * 기록 기능 도입 전 상태 메시지 보정 + 전체 기록 정리 (기동 시, 재시작으로 잃은 정리 대상 포함)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        Integer backfilled = transaction.execute(status -> statusMessageRepository.backfillActive());
+        List<Long> overLimit = transaction.execute(status -> statusMessageRepository.findUserIdsOverLimit(historySize));
+        int pruned = prune(overLimit != null ? overLimit : List.of());
+        log.info("상태 메시지 기록 초기화 완료: 보정 {}건, 정리 {}건", backfilled, pruned);
+    }
+
+    /**
+     * 기록이 추가된 사용자의 오래된 기록 정리 (최근 K건만 남김)
+     */
+    @Scheduled(initialDelayString = "${app.status-message.prune-interval-ms:60000}",
+               fixedDelayString = "${app.status-message.prune-interval-ms:60000}")
+    public void pruneDirtyUsers() {
+        if (dirtyUsers.isEmpty()) {
+            return;
+        }
+        List<Long> userIds = new ArrayList<>();
+        for (Iterator<Long> iterator = dirtyUsers.iterator(); iterator.hasNext(); ) {
+            userIds.add(iterator.next());
+            iterator.remove();
+        }
+
+        int pruned = 0;
+        for (int from = 0; from < userIds.size(); from += pruneBatchSize) {
+            List<Long> batch = userIds.subList(from, Math.min(userIds.size(), from + pruneBatchSize));
+            List<Long> overLimit = transaction.execute(status ->
+                    statusMessageRepository.findUserIdsOverLimit(batch, historySize));
+            pruned += prune(overLimit != null ? overLimit : List.of());
+        }
+        if (pruned > 0) {
+            log.debug("상태 메시지 기록 {}건 정리 (대상 사용자 {}명)", pruned, userIds.size());
+        }
+    }
+
+    // 사용자마다 K번째 이후 가장 최근 기록을 찾아 그 이하를 삭제 (묶음마다 한 트랜잭션)
+    private int prune(List<Long> userIds) {
+        int pruned = 0;
+        for (int from = 0; from < userIds.size(); from += pruneBatchSize) {
+            List<Long> batch = userIds.subList(from, Math.min(userIds.size(), from + pruneBatchSize));
+            Integer deleted = transaction.execute(status -> {
+                int count = 0;
+                for (Long userId : batch) {
+                    List<Long> cutoff = statusMessageRepository.findIdsByUserId(userId,
+                            PageRequest.of(historySize, 1));
+                    if (!cutoff.isEmpty()) {
+                        count += statusMessageRepository.deleteByUserIdUpTo(userId, cutoff.get(0));
+                    }
+                }
+                return count;
+            });
+            pruned += deleted != null ? deleted : 0;
+        }
+        return pruned;
+    }
+}
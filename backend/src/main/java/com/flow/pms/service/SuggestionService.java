@@ -0,0 +1,188 @@
+package com.flow.pms.service;
+
+import com.flow.pms.config.SearchProperties;
+import com.flow.pms.dto.ProjectDto;
+import com.flow.pms.dto.SearchResultDto;
+import com.flow.pms.dto.UserDto;
+import com.flow.pms.event.ChangeType;
+import com.flow.pms.event.ProjectChangedEvent;
+import com.flow.pms.event.UserChangedEvent;
+import com.flow.pms.repository.ProjectRepository;
+import com.flow.pms.repository.UserRepository;
+import com.flow.pms.service.search.NgramTokenizer;
+import com.flow.pms.service.search.PopularTerm;
+import com.flow.pms.service.search.QueryWindow;
+import com.flow.pms.service.search.SuggestionTrie;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 검색어 자동완성 서비스
+ * 프로젝트 제목, 사용자 표시명, 메뉴, 실제 검색어로 가중치 트라이를 구성하여 상위 K개 완성어 제공
+ * 실제 검색어 가중치는 검색어 집계(SearchQueryLog)의 최근 7일 인기 검색어 추정 횟수를 사용
+ * 실제 검색어는 최근 7일 검색 횟수가 기준(app.search.suggest.min-query-count) 이상이고
+ * 길이 제한 안인 것만 후보로 올려, 한 번 입력한 검색어가 모든 사용자에게 노출되지 않도록 함
+ *
+ * 주기적 재구축은 새 트라이를 별도로 만든 뒤 참조만 교체하므로 조회가 멈추지 않으며,
+ * 재구축 중 들어온 증분 갱신은 보관했다가 교체 직전에 새 트라이에 반영
+ */
+@Service
+public class SuggestionService {
+
+    private static final Logger log = LoggerFactory.getLogger(SuggestionService.class);
+
+    // 출처별 가중치
+    private static final long MENU_WEIGHT = 50;
+    private static final long PROJECT_WEIGHT = 10;
+    private static final long USER_WEIGHT = 5;
+    private static final long QUERY_WEIGHT = 1;
+
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final SearchQueryLog queryLog;
+    private final SearchProperties.Suggest properties;
+
+    private final List<SuggestionTrie.Suggestion> pendingDuringRebuild = new ArrayList<>();
+    private final Object writeLock = new Object();
+
+    private volatile SuggestionTrie trie = new SuggestionTrie();
+    private boolean rebuilding = false;
+
+    @Autowired
+    public SuggestionService(ProjectRepository projectRepository, UserRepository userRepository,
+                             SearchQueryLog queryLog, SearchProperties searchProperties) {
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.queryLog = queryLog;
+        this.properties = searchProperties.getSuggest();
+    }
+
+    /**
+     * 자동완성 조회 (잠금 없음)
+     */
+    public List<String> suggest(String prefix, int limit) {
+        return trie.suggest(prefix, Math.min(limit, SuggestionTrie.MAX_CACHED));
+    }
+
+    /**
+     * 실제 검색어 반영 (결과가 있는 검색만 호출)
+     * 최근 7일 집계 횟수가 기준 이상인 검색어만 후보로 올림 (집계는 약 1초 주기이므로 이번 검색은 제외될 수 있음)
+     * 누적 횟수는 다음 재구축 때 검색어 집계 결과로 다시 계산
+     */
+    public void recordQuery(String query) {
+        String normalized = NgramTokenizer.normalize(query);
+        if (!isPromotable(normalized, queryLog.getSnapshot(QueryWindow.WEEK).getCount(normalized))) {
+            return;
+        }
+        add(normalized, QUERY_WEIGHT);
+    }
+
+    /**
+     * 트라이 전체 재구축 (기동 시 및 주기적으로 수행)
+     * 삭제된 프로젝트 제목 등 증분으로 제거할 수 없는 후보를 정리
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${app.search.suggest.rebuild-interval-ms:600000}",
+               fixedDelayString = "${app.search.suggest.rebuild-interval-ms:600000}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        synchronized (writeLock) {
+            rebuilding = true;
+            pendingDuringRebuild.clear();
+        }
+
+        SuggestionTrie fresh = new SuggestionTrie();
+        try {
+            for (SearchResultDto menu : SearchService.DEFAULT_MENU_ITEMS) {
+                fresh.add(menu.getTitle(), MENU_WEIGHT);
+            }
+            for (Object[] row : projectRepository.countProjectsByTitle()) {
+                fresh.add((String) row[0], PROJECT_WEIGHT * (Long) row[1]);
+            }
+            for (String displayName : userRepository.findActiveDisplayNames()) {
+                fresh.add(displayName, USER_WEIGHT);
+            }
+            for (PopularTerm term : queryLog.getSnapshot(QueryWindow.WEEK).getPopularTerms()) {
+                if (isPromotable(term.getTerm(), term.getCount())) {
+                    fresh.add(term.getTerm(), QUERY_WEIGHT * term.getCount());
+                }
+            }
+        } finally {
+            synchronized (writeLock) {
+                for (SuggestionTrie.Suggestion pending : pendingDuringRebuild) {
+                    fresh.add(pending.getText(), pending.getWeight());
+                }
+                pendingDuringRebuild.clear();
+                trie = fresh;
+                rebuilding = false;
+            }
+        }
+
+        log.debug("자동완성 트라이 재구축: 후보 {}개 ({}ms)",
+                fresh.getTermCount(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 프로젝트 제목 변경 반영 (커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProjectChanged(ProjectChangedEvent event) {
+        ProjectDto project = event.getProject();
+        ProjectDto previous = event.getPrevious();
+        if (event.getChangeType() == ChangeType.DELETED || project == null) {
+            return;
+        }
+        if (previous == null || !Objects.equals(previous.getTitle(), project.getTitle())) {
+            add(project.getTitle(), PROJECT_WEIGHT);
+        }
+    }
+
+    /**
+     * 사용자 표시명 변경 반영 (커밋 이후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        UserDto user = event.getUser();
+        UserDto previous = event.getPrevious();
+        if (user == null || !Boolean.TRUE.equals(user.getIsActive())) {
+            return;
+        }
+        if (previous == null || !Objects.equals(previous.getDisplayName(), user.getDisplayName())) {
+            add(user.getDisplayName(), USER_WEIGHT);
+        }
+    }
+
+    // 실제 검색어를 후보로 올릴지 (정규화한 검색어, 최근 7일 추정 검색 횟수)
+    private boolean isPromotable(String term, long count) {
+        return !term.isEmpty() && term.length() <= properties.getMaxTermLength()
+                && count >= properties.getMinQueryCount();
+    }
+
+    public int getTermCount() {
+        return trie.getTermCount();
+    }
+
+    private void add(String text, long weight) {
+        if (text == null) {
+            return;
+        }
+        synchronized (writeLock) {
+            trie.add(text, weight);
+            if (rebuilding) {
+                pendingDuringRebuild.add(new SuggestionTrie.Suggestion(null, text, weight));
+            }
+        }
+    }
+}
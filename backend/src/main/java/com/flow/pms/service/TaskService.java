@@ -0,0 +1,393 @@
+package com.flow.pms.service;
+
+import com.flow.pms.dto.CursorPage;
+import com.flow.pms.dto.KeysetCursor;
+import com.flow.pms.dto.ProjectDto;
+import com.flow.pms.dto.TaskDto;
+import com.flow.pms.entity.Project;
+import com.flow.pms.entity.Task;
+import com.flow.pms.entity.User;
+import com.flow.pms.event.TaskChangedEvent;
+import com.flow.pms.repository.ProjectRepository;
+import com.flow.pms.repository.TaskRepository;
+import com.flow.pms.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * 업무 비즈니스 로직 서비스
+ * 업무 생성/수정/삭제 시 같은 트랜잭션에서 프로젝트의 상태별 업무 수를 증감
+ * 여러 상태에 걸친 목록(진행 중, 기한 지남)은 상태별 인덱스 범위 조회 결과를 병합해 키셋 페이지로 반환
+ */
+@Service
+@Transactional
+public class TaskService {
+
+    // 생성일 최신순 / 마감일 최근순 (동일하면 ID 역순)
+    private static final Comparator<TaskDto> NEWEST_FIRST =
+            Comparator.comparing(TaskDto::getCreatedAt).thenComparing(TaskDto::getId).reversed();
+    private static final Comparator<TaskDto> LATEST_DUE_FIRST =
+            Comparator.comparing(TaskDto::getDueDate).thenComparing(TaskDto::getId).reversed();
+
+    private final TaskRepository taskRepository;
+    private final ProjectRepository projectRepository;
+    private final UserRepository userRepository;
+    private final ProjectService projectService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    @Autowired
+    public TaskService(TaskRepository taskRepository,
+                       ProjectRepository projectRepository,
+                       UserRepository userRepository,
+                       ProjectService projectService,
+                       ApplicationEventPublisher eventPublisher,
+                       @Value("${app.pagination.default-size:20}") int defaultPageSize,
+                       @Value("${app.pagination.max-size:100}") int maxPageSize) {
+        this.taskRepository = taskRepository;
+        this.projectRepository = projectRepository;
+        this.userRepository = userRepository;
+        this.projectService = projectService;
+        this.eventPublisher = eventPublisher;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
+
+    /**
+     * 업무 ID로 조회
+     */
+    @Transactional(readOnly = true)
+    public Optional<TaskDto> getTaskById(Long taskId) {
+        return taskRepository.findDtoById(taskId);
+    }
+
+    /**
+     * 새 업무 생성 (공개 프로젝트는 누구나, 비공개 프로젝트는 소유자만)
+     */
+    public TaskDto createTask(TaskDto taskDto, Long userId) {
+        if (taskDto.getProjectId() == null) {
+            throw new IllegalArgumentException("업무를 추가할 프로젝트를 선택해주세요.");
+        }
+        validateTitle(taskDto.getTitle());
+        String status = taskDto.getStatus() != null ? validateStatus(taskDto.getStatus()) : Task.STATUS_SCHEDULED;
+        findUser(userId);
+        Project project = projectRepository.findById(taskDto.getProjectId())
+                .orElseThrow(() -> new RuntimeException("프로젝트를 찾을 수 없습니다: " + taskDto.getProjectId()));
+        if (!Boolean.TRUE.equals(project.getIsPublic()) && !isOwner(project, userId)) {
+            throw new RuntimeException("비공개 프로젝트에 업무를 추가할 권한이 없습니다.");
+        }
+
+        Task task = new Task();
+        task.setProject(project);
+        task.setTitle(taskDto.getTitle());
+        task.setDescription(taskDto.getDescription());
+        task.setStatus(status);
+        task.setStartDate(taskDto.getStartDate());
+        task.setDueDate(taskDto.getDueDate());
+        validateSchedule(task);
+        if (taskDto.getAssigneeId() != null) {
+            task.setAssignee(findUser(taskDto.getAssigneeId()));
+        }
+
+        // 프로젝트 행을 먼저 잠가, 같은 프로젝트에 동시에 추가할 때 외래 키 공유 잠금끼리 교착되지 않도록 함
+        adjustStatusCounts(project.getId(), null, status);
+        Task savedTask = taskRepository.save(task);
+        TaskDto created = new TaskDto(savedTask);
+        eventPublisher.publishEvent(TaskChangedEvent.created(created));
+        return created;
+    }
+
+    /**
+     * 업무 수정 (프로젝트 소유자 또는 담당자만 가능, null이 아닌 필드만 반영)
+     */
+    public TaskDto updateTask(Long taskId, TaskDto taskDto, Long userId) {
+        Task task = findEditableTask(taskId, userId);
+        TaskDto previous = new TaskDto(task);
+
+        if (taskDto.getTitle() != null) {
+            validateTitle(taskDto.getTitle());
+            task.setTitle(taskDto.getTitle());
+        }
+        if (taskDto.getDescription() != null) {
+            task.setDescription(taskDto.getDescription());
+        }
+        if (taskDto.getStartDate() != null) {
+            task.setStartDate(taskDto.getStartDate());
+        }
+        if (taskDto.getDueDate() != null) {
+            task.setDueDate(taskDto.getDueDate());
+        }
+        validateSchedule(task);
+        if (taskDto.getAssigneeId() != null && !Objects.equals(taskDto.getAssigneeId(), previous.getAssigneeId())) {
+            task.setAssignee(findUser(taskDto.getAssigneeId()));
+        }
+        if (taskDto.getStatus() != null) {
+            applyStatus(task, validateStatus(taskDto.getStatus()));
+        }
+
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        TaskDto updated = new TaskDto(updatedTask);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(updated, previous));
+        return updated;
+    }
+
+    /**
+     * 업무 상태 변경 (프로젝트 소유자 또는 담당자만 가능)
+     */
+    public TaskDto changeTaskStatus(Long taskId, String status, Long userId) {
+        String newStatus = validateStatus(status);
+        Task task = findEditableTask(taskId, userId);
+        TaskDto previous = new TaskDto(task);
+
+        applyStatus(task, newStatus);
+        Task updatedTask = taskRepository.saveAndFlush(task);
+        TaskDto updated = new TaskDto(updatedTask);
+        eventPublisher.publishEvent(TaskChangedEvent.updated(updated, previous));
+        return updated;
+    }
+
+    /**
+     * 업무 삭제 (프로젝트 소유자만 가능)
+     */
+    public void deleteTask(Long taskId, Long userId) {
+        Task task = findTask(taskId);
+        if (!isOwner(task.getProject(), userId)) {
+            throw new RuntimeException("업무를 찾을 수 없거나 권한이 없습니다: " + taskId);
+        }
+        TaskDto deleted = new TaskDto(task);
+
+        adjustStatusCounts(task.getProject().getId(), task.getStatus(), null);
+        taskRepository.delete(task);
+        eventPublisher.publishEvent(TaskChangedEvent.deleted(deleted));
+    }
+
+    /**
+     * 담당자의 완료되지 않은 업무 (생성일 최신순, 커서 페이지)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TaskDto> getOpenTasks(Long assigneeId, String cursor, Integer size) {
+        KeysetCursor after = KeysetCursor.decode(cursor, KeysetCursor.CREATED_AT);
+        if (!userRepository.existsById(assigneeId)) {
+            throw new RuntimeException("사용자를 찾을 수 없습니다: " + assigneeId);
+        }
+        int pageSize = pageSize(size);
+        List<TaskDto> rows = new ArrayList<>();
+        for (String status : Task.OPEN_STATUSES) {
+            rows.addAll(taskRepository.findAssigneePageAfter(assigneeId, status, after.getAt(), after.getId(),
+                    limitOf(pageSize)));
+        }
+        return toPage(merge(rows, NEWEST_FIRST, pageSize), pageSize, after.getKey(), TaskDto::getCreatedAt);
+    }
+
+    /**
+     * 프로젝트의 상태별 업무 보드
+     * 상태별 업무 수는 프로젝트에 비정규화된 값을 쓰고, 상태마다 첫 페이지만 인덱스 범위로 조회
+     * 캐시된 업무 수는 커밋 직후 잠시 이전 값일 수 있으므로 0이어도 목록 조회는 생략하지 않음
+     */
+    @Transactional(readOnly = true)
+    public TaskBoard getProjectTaskBoard(Long projectId, Long userId, Integer size) {
+        ProjectDto project = findVisibleProject(projectId, userId);
+        int pageSize = pageSize(size);
+
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        counts.put(Task.STATUS_SCHEDULED, orZero(project.getTaskScheduledCount()));
+        counts.put(Task.STATUS_IN_PROGRESS, orZero(project.getTaskInProgressCount()));
+        counts.put(Task.STATUS_COMPLETED, orZero(project.getTaskCompletedCount()));
+
+        KeysetCursor first = KeysetCursor.decode(null, KeysetCursor.CREATED_AT);
+        Map<String, CursorPage<TaskDto>> groups = new LinkedHashMap<>();
+        for (String status : Task.STATUSES) {
+            groups.put(status, toPage(taskRepository.findProjectPageAfter(projectId, status, first.getAt(),
+                    first.getId(), limitOf(pageSize)), pageSize, first.getKey(), TaskDto::getCreatedAt));
+        }
+        return new TaskBoard(projectId, counts, groups);
+    }
+
+    /**
+     * 프로젝트의 특정 상태 업무 (생성일 최신순, 커서 페이지, 보드의 다음 페이지 조회용)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TaskDto> getProjectTasks(Long projectId, String status, Long userId, String cursor, Integer size) {
+        KeysetCursor after = KeysetCursor.decode(cursor, KeysetCursor.CREATED_AT);
+        String taskStatus = validateStatus(status);
+        findVisibleProject(projectId, userId);
+        int pageSize = pageSize(size);
+        return toPage(taskRepository.findProjectPageAfter(projectId, taskStatus, after.getAt(), after.getId(),
+                limitOf(pageSize)), pageSize, after.getKey(), TaskDto::getCreatedAt);
+    }
+
+    /**
+     * 기한 지난 업무 (마감일 최근순, 커서 페이지)
+     *
+     * @param assigneeId 담당자 (null이면 전체)
+     */
+    @Transactional(readOnly = true)
+    public CursorPage<TaskDto> getOverdueTasks(Long assigneeId, String cursor, Integer size) {
+        KeysetCursor after = KeysetCursor.decode(cursor, KeysetCursor.DUE_DATE);
+        LocalDate today = LocalDate.now();
+        LocalDate dueDate = after.getAt().toLocalDate();
+        int pageSize = pageSize(size);
+        List<TaskDto> rows = new ArrayList<>();
+        for (String status : Task.OPEN_STATUSES) {
+            rows.addAll(assigneeId != null
+                    ? taskRepository.findAssigneeOverduePageAfter(assigneeId, status, today, dueDate, after.getId(),
+                            limitOf(pageSize))
+                    : taskRepository.findOverduePageAfter(status, today, dueDate, after.getId(), limitOf(pageSize)));
+        }
+        return toPage(merge(rows, LATEST_DUE_FIRST, pageSize), pageSize, after.getKey(),
+                task -> task.getDueDate().atStartOfDay());
+    }
+
+    private int pageSize(Integer size) {
+        return Math.max(1, Math.min(size != null ? size : defaultPageSize, maxPageSize));
+    }
+
+    // 다음 페이지 존재 여부를 알기 위해 한 행 더 조회
+    private Pageable limitOf(int pageSize) {
+        return PageRequest.of(0, pageSize + 1);
+    }
+
+    // 상태별로 정렬된 조회 결과를 합쳐 앞쪽 pageSize + 1개만 남김
+    private List<TaskDto> merge(List<TaskDto> rows, Comparator<TaskDto> order, int pageSize) {
+        rows.sort(order);
+        return rows.size() > pageSize + 1 ? rows.subList(0, pageSize + 1) : rows;
+    }
+
+    private CursorPage<TaskDto> toPage(List<TaskDto> rows, int pageSize, String key,
+                                       Function<TaskDto, LocalDateTime> sortValue) {
+        boolean hasNext = rows.size() > pageSize;
+        List<TaskDto> items = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            TaskDto last = rows.get(pageSize - 1);
+            nextCursor = new KeysetCursor(key, sortValue.apply(last), last.getId()).encode();
+        }
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    // 상태가 바뀌면 프로젝트의 상태별 업무 수를 옮김
+    private void applyStatus(Task task, String status) {
+        if (!status.equals(task.getStatus())) {
+            adjustStatusCounts(task.getProject().getId(), task.getStatus(), status);
+            task.setStatus(status);
+        }
+    }
+
+    // 프로젝트의 상태별 업무 수 증감 (UPDATE 한 번)
+    private void adjustStatusCounts(Long projectId, String removedStatus, String addedStatus) {
+        int[] delta = new int[Task.STATUSES.size()];
+        if (removedStatus != null) {
+            delta[Task.STATUSES.indexOf(removedStatus)]--;
+        }
+        if (addedStatus != null) {
+            delta[Task.STATUSES.indexOf(addedStatus)]++;
+        }
+        projectRepository.adjustTaskCounts(projectId, delta[0], delta[1], delta[2]);
+    }
+
+    private String validateStatus(String status) {
+        if (!Task.STATUSES.contains(status)) {
+            throw new IllegalArgumentException("업무 상태는 " + String.join(", ", Task.STATUSES) + " 중 하나여야 합니다.");
+        }
+        return status;
+    }
+
+    private void validateTitle(String title) {
+        if (title == null || title.isBlank()) {
+            throw new IllegalArgumentException("업무 제목을 입력해주세요.");
+        }
+        if (title.length() > 255) {
+            throw new IllegalArgumentException("업무 제목은 255자 이하로 입력해주세요.");
+        }
+    }
+
+    private void validateSchedule(Task task) {
+        if (task.getStartDate() != null && task.getDueDate() != null
+                && task.getStartDate().isAfter(task.getDueDate())) {
+            throw new IllegalArgumentException("업무 시작일은 마감일보다 늦을 수 없습니다.");
+        }
+    }
+
+    private User findUser(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
+    }
+
+    private Task findTask(Long taskId) {
+        return taskRepository.findWithProjectById(taskId)
+                .orElseThrow(() -> new RuntimeException("업무를 찾을 수 없습니다: " + taskId));
+    }
+
+    // 권한 체크: 프로젝트 소유자나 담당자가 아니면 찾을 수 없는 것으로 처리
+    private Task findEditableTask(Long taskId, Long userId) {
+        Task task = findTask(taskId);
+        boolean assignee = task.getAssignee() != null && Objects.equals(task.getAssignee().getId(), userId);
+        if (!assignee && !isOwner(task.getProject(), userId)) {
+            throw new RuntimeException("업무를 찾을 수 없거나 권한이 없습니다: " + taskId);
+        }
+        return task;
+    }
+
+    // 공개 프로젝트는 누구나, 비공개 프로젝트는 소유자만 조회
+    private ProjectDto findVisibleProject(Long projectId, Long userId) {
+        ProjectDto project = projectService.getProjectById(projectId)
+                .orElseThrow(() -> new RuntimeException("프로젝트를 찾을 수 없습니다: " + projectId));
+        if (!Boolean.TRUE.equals(project.getIsPublic()) && !Objects.equals(project.getOwnerId(), userId)) {
+            throw new RuntimeException("비공개 프로젝트의 업무를 조회할 권한이 없습니다.");
+        }
+        return project;
+    }
+
+    private static boolean isOwner(Project project, Long userId) {
+        return project.getOwner() != null && Objects.equals(project.getOwner().getId(), userId);
+    }
+
+    private static int orZero(Integer count) {
+        return count != null ? count : 0;
+    }
+
+    /**
+     * 프로젝트 업무 보드 (상태별 업무 수와 상태별 첫 페이지)
+     */
+    public static class TaskBoard {
+
+        private final Long projectId;
+        private final Map<String, Integer> counts;
+        private final Map<String, CursorPage<TaskDto>> groups;
+
+        public TaskBoard(Long projectId, Map<String, Integer> counts, Map<String, CursorPage<TaskDto>> groups) {
+            this.projectId = projectId;
+            this.counts = counts;
+            this.groups = groups;
+        }
+
+        public Long getProjectId() {
+            return projectId;
+        }
+
+        public Map<String, Integer> getCounts() {
+            return counts;
+        }
+
+        public Map<String, CursorPage<TaskDto>> getGroups() {
+            return groups;
+        }
+    }
+}
@@ -1,17 +1,22 @@
 package com.flow.pms.service;
 
+import com.flow.pms.config.CacheConfig;
 import com.flow.pms.dto.UserDto;
 import com.flow.pms.entity.StatusMessage;
 import com.flow.pms.entity.User;
+import com.flow.pms.event.UserChangedEvent;
 import com.flow.pms.repository.UserRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * 사용자 비즈니스 로직 서비스
@@ -22,10 +27,19 @@ import java.util.stream.Collectors;
 public class UserService {
 
     private final UserRepository userRepository;
+    private final ProjectStatisticsService statisticsService;
+    private final StatusMessageService statusMessageService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Autowired
-    public UserService(UserRepository userRepository) {
+    public UserService(UserRepository userRepository,
+                       ProjectStatisticsService statisticsService,
+                       StatusMessageService statusMessageService,
+                       ApplicationEventPublisher eventPublisher) {
         this.userRepository = userRepository;
+        this.statisticsService = statisticsService;
+        this.statusMessageService = statusMessageService;
+        this.eventPublisher = eventPublisher;
     }
 
     /**
@@ -33,28 +47,25 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public List<UserDto> getAllActiveUsers() {
-        return userRepository.findByIsActiveTrueOrderByCreatedAtDesc()
-                .stream()
-                .map(UserDto::new)
-                .collect(Collectors.toList());
+        return userRepository.findByIsActiveTrueOrderByCreatedAtDesc();
     }
 
     /**
      * 사용자 ID로 조회
      */
+    @Cacheable(cacheNames = CacheConfig.USERS, key = "#userId", unless = "#result == null")
     @Transactional(readOnly = true)
     public Optional<UserDto> getUserById(Long userId) {
-        return userRepository.findById(userId)
-                .map(UserDto::new);
+        return userRepository.findDtoById(userId);
     }
 
     /**
      * 사용자명으로 조회
      */
+    @Cacheable(cacheNames = CacheConfig.USERS_BY_USERNAME, key = "#username", unless = "#result == null")
     @Transactional(readOnly = true)
     public Optional<UserDto> getUserByUsername(String username) {
-        return userRepository.findByUsername(username)
-                .map(UserDto::new);
+        return userRepository.findDtoByUsername(username);
     }
 
     /**
@@ -62,8 +73,7 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public Optional<UserDto> getUserByEmail(String email) {
-        return userRepository.findByEmail(email)
-                .map(UserDto::new);
+        return userRepository.findDtoByEmail(email);
     }
 
     /**
@@ -88,7 +98,12 @@ public class UserService {
         user.setIsActive(true);
 
         User savedUser = userRepository.save(user);
-        return new UserDto(savedUser);
+        if (savedUser.getStatusMessage() != null && !savedUser.getStatusMessage().isBlank()) {
+            statusMessageService.record(savedUser, null);
+        }
+        UserDto created = new UserDto(savedUser);
+        eventPublisher.publishEvent(UserChangedEvent.created(created));
+        return created;
     }
 
     /**
@@ -97,6 +112,7 @@ public class UserService {
     public UserDto updateUser(Long userId, UserDto userDto) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
+        UserDto previous = new UserDto(user);
 
         // 중복 체크 (자신 제외)
         if (userDto.getUsername() != null && 
@@ -131,16 +147,36 @@ public class UserService {
             user.setIsActive(userDto.getIsActive());
         }
 
-        User updatedUser = userRepository.save(user);
-        return new UserDto(updatedUser);
+        User updatedUser = userRepository.saveAndFlush(user);
+        if (isStatusChanged(updatedUser, previous)) {
+            statusMessageService.record(updatedUser, null);
+        }
+        UserDto updated = new UserDto(updatedUser);
+        eventPublisher.publishEvent(UserChangedEvent.updated(updated, previous));
+        return updated;
     }
 
     /**
      * 사용자 상태 메시지 업데이트
      */
     public UserDto updateUserStatus(Long userId, String profileIcon, String statusMessage) {
+        return updateUserStatus(userId, profileIcon, statusMessage, null);
+    }
+
+    /**
+     * 사용자 상태 메시지 업데이트 (라벨 포함)
+     * 상태 메시지/아이콘/라벨이 바뀌면 상태 메시지 기록을 추가 (빈 메시지는 현재 기록만 해제)
+     */
+    public UserDto updateUserStatus(Long userId, String profileIcon, String statusMessage, String label) {
+        if (statusMessage != null && statusMessage.length() > 255) {
+            throw new IllegalArgumentException("상태 메시지는 255자 이하로 입력해주세요.");
+        }
+        if (label != null && label.length() > 50) {
+            throw new IllegalArgumentException("상태 라벨은 50자 이하로 입력해주세요.");
+        }
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
+        UserDto previous = new UserDto(user);
 
         if (profileIcon != null) {
             user.setProfileIcon(profileIcon);
@@ -149,8 +185,13 @@ public class UserService {
             user.setStatusMessage(statusMessage);
         }
 
-        User updatedUser = userRepository.save(user);
-        return new UserDto(updatedUser);
+        User updatedUser = userRepository.saveAndFlush(user);
+        if (label != null || isStatusChanged(updatedUser, previous)) {
+            statusMessageService.record(updatedUser, label);
+        }
+        UserDto updated = new UserDto(updatedUser);
+        eventPublisher.publishEvent(UserChangedEvent.updated(updated, previous));
+        return updated;
     }
 
     /**
@@ -159,9 +200,11 @@ public class UserService {
     public void deactivateUser(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
+        UserDto previous = new UserDto(user);
 
         user.setIsActive(false);
-        userRepository.save(user);
+        User updatedUser = userRepository.saveAndFlush(user);
+        eventPublisher.publishEvent(UserChangedEvent.updated(new UserDto(updatedUser), previous));
     }
 
     /**
@@ -170,10 +213,13 @@ public class UserService {
     public UserDto activateUser(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("사용자를 찾을 수 없습니다: " + userId));
+        UserDto previous = new UserDto(user);
 
         user.setIsActive(true);
-        User updatedUser = userRepository.save(user);
-        return new UserDto(updatedUser);
+        User updatedUser = userRepository.saveAndFlush(user);
+        UserDto updated = new UserDto(updatedUser);
+        eventPublisher.publishEvent(UserChangedEvent.updated(updated, previous));
+        return updated;
     }
 
     /**
@@ -181,10 +227,7 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public List<UserDto> searchUsersByDisplayName(String displayName) {
-        return userRepository.findByDisplayNameContainingIgnoreCase(displayName)
-                .stream()
-                .map(UserDto::new)
-                .collect(Collectors.toList());
+        return userRepository.findByDisplayNameContainingIgnoreCase(displayName);
     }
 
     /**
@@ -192,10 +235,7 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public List<UserDto> searchUsers(String keyword) {
-        return userRepository.searchUsers(keyword)
-                .stream()
-                .map(UserDto::new)
-                .collect(Collectors.toList());
+        return userRepository.searchUsers(keyword);
     }
 
     /**
@@ -203,10 +243,7 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public List<UserDto> getUsersByRole(String role) {
-        return userRepository.findByRoleAndIsActiveTrueOrderByCreatedAtDesc(role)
-                .stream()
-                .map(UserDto::new)
-                .collect(Collectors.toList());
+        return userRepository.findByRoleAndIsActiveTrueOrderByCreatedAtDesc(role);
     }
 
     /**
@@ -214,10 +251,7 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public List<UserDto> getUsersWithStatusMessage() {
-        return userRepository.findUsersWithStatusMessage()
-                .stream()
-                .map(UserDto::new)
-                .collect(Collectors.toList());
+        return userRepository.findUsersWithStatusMessage();
     }
 
     /**
@@ -225,10 +259,7 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public List<UserDto> searchUsersByStatusMessage(String message) {
-        return userRepository.findByStatusMessageContainingIgnoreCase(message)
-                .stream()
-                .map(UserDto::new)
-                .collect(Collectors.toList());
+        return userRepository.findByStatusMessageContainingIgnoreCase(message);
     }
 
     /**
@@ -237,10 +268,7 @@ public class UserService {
     @Transactional(readOnly = true)
     public List<UserDto> getRecentlyActiveUsers(int days) {
         LocalDateTime since = LocalDateTime.now().minusDays(days);
-        return userRepository.findRecentlyActive(since)
-                .stream()
-                .map(UserDto::new)
-                .collect(Collectors.toList());
+        return userRepository.findRecentlyActive(since);
     }
 
     /**
@@ -248,20 +276,24 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public List<UserDto> getUsersWithProjects() {
-        return userRepository.findUsersWithProjects()
-                .stream()
-                .map(UserDto::new)
-                .collect(Collectors.toList());
+        return userRepository.findUsersWithProjects();
     }
 
     /**
      * 사용자명 또는 이메일로 로그인 처리
      */
+    @Cacheable(cacheNames = CacheConfig.USER_LOGINS, key = "#identifier", unless = "#result == null")
     @Transactional(readOnly = true)
     public Optional<UserDto> authenticateUser(String identifier) {
         return userRepository.findByUsernameOrEmail(identifier)
-                .filter(User::getIsActive)
-                .map(UserDto::new);
+                .filter(user -> Boolean.TRUE.equals(user.getIsActive()));
+    }
+
+    /**
+     * 프로필 아이콘별 활성 사용자 수 (메모리 카운터)
+     */
+    public Map<String, Long> getProfileIconStatistics() {
+        return statisticsService.getProfileIconCounts();
     }
 
     /**
@@ -286,10 +318,7 @@ public class UserService {
     @Transactional(readOnly = true)
     public List<UserDto> getRecentlyRegisteredUsers(int days) {
         LocalDateTime since = LocalDateTime.now().minusDays(days);
-        return userRepository.findUsersRegisteredSince(since)
-                .stream()
-                .map(UserDto::new)
-                .collect(Collectors.toList());
+        return userRepository.findUsersRegisteredSince(since);
     }
 
     /**
@@ -313,4 +342,10 @@ public class UserService {
         }
         return getUserByUsername("LEES00").orElse(null);
     }
-}
\ No newline at end of file
+
+    // 상태 메시지 기록 대상 변경 (메시지 또는 아이콘)
+    private static boolean isStatusChanged(User user, UserDto previous) {
+        return !Objects.equals(user.getStatusMessage(), previous.getStatusMessage())
+                || !Objects.equals(user.getProfileIcon(), previous.getProfileIcon());
+    }
+}
@@ -0,0 +1,42 @@
+package com.flow.pms.service.chat;
+
+/**
+ * 채팅 메시지 ID 생성기
+ * 41비트 밀리초 + 4비트 노드 + 8비트 순번으로 구성해, DB 없이 노드 간에 겹치지 않고 시간순으로 증가하는 ID를 만듦
+ * 전체 53비트 이내라 JavaScript 숫자로도 정확히 표현됨 (노드당 밀리초 256건)
+ * 같은 밀리초에 순번을 다 쓰거나 시계가 뒤로 가면 직전 시각을 이어 써서 단조 증가를 유지
+ */
+public class ChatMessageIdGenerator {
+
+    // 2025-01-01T00:00:00Z
+    private static final long EPOCH_MS = 1735689600000L;
+    private static final int NODE_BITS = 4;
+    private static final int SEQUENCE_BITS = 8;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    private final long nodeBits;
+    private long lastMillis = -1;
+    private long sequence;
+
+    public ChatMessageIdGenerator(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("채팅 노드 ID는 0~" + MAX_NODE_ID + " 사이여야 합니다: " + nodeId);
+        }
+        this.nodeBits = (long) nodeId << SEQUENCE_BITS;
+    }
+
+    public synchronized long next() {
+        long now = Math.max(System.currentTimeMillis(), lastMillis);
+        if (now == lastMillis) {
+            sequence = (sequence + 1) & SEQUENCE_MASK;
+            if (sequence == 0) {
+                now = lastMillis + 1;
+            }
+        } else {
+            sequence = 0;
+        }
+        lastMillis = now;
+        return ((now - EPOCH_MS) << (NODE_BITS + SEQUENCE_BITS)) | nodeBits | sequence;
+    }
+}
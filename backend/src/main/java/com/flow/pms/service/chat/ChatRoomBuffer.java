@@ -0,0 +1,88 @@
+package com.flow.pms.service.chat;
+
+import com.flow.pms.dto.ChatMessageDto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 채팅방 최근 메시지 링 버퍼
+ * 마지막 N개 메시지를 ID 순서대로 보관해, 입장/재연결/최근 기록 조회가 DB를 거치지 않도록 함
+ * 메시지 추가와 방 구독자 전달은 이 객체를 잠금으로 사용해 방 안에서 순서를 보장
+ */
+public class ChatRoomBuffer {
+
+    private final ChatMessageDto[] slots;
+    private int next;       // 다음에 쓸 위치
+    private int size;
+    private boolean complete;  // 방의 전체 기록을 담고 있는지 (아직 밀려난 메시지가 없음)
+
+    /**
+     * @param capacity 보관할 메시지 수
+     * @param initial  DB에서 불러온 최근 메시지 (ID 오름차순)
+     */
+    public ChatRoomBuffer(int capacity, List<ChatMessageDto> initial) {
+        this.slots = new ChatMessageDto[capacity];
+        this.complete = initial.size() < capacity;
+        int from = Math.max(0, initial.size() - capacity);
+        for (int i = from; i < initial.size(); i++) {
+            add(initial.get(i));
+        }
+    }
+
+    /**
+     * 메시지 추가 (가득 차면 가장 오래된 메시지를 덮어씀)
+     */
+    public synchronized void add(ChatMessageDto message) {
+        if (size == slots.length) {
+            complete = false;
+        } else {
+            size++;
+        }
+        slots[next] = message;
+        next = (next + 1) % slots.length;
+    }
+
+    /**
+     * beforeId보다 이전 메시지 중 최근 limit개 (ID 오름차순, beforeId가 null이면 가장 최근부터)
+     */
+    public synchronized List<ChatMessageDto> before(Long beforeId, int limit) {
+        List<ChatMessageDto> newestFirst = new ArrayList<>(Math.min(limit, size));
+        for (int i = 0; i < size && newestFirst.size() < limit; i++) {
+            ChatMessageDto message = slots[Math.floorMod(next - 1 - i, slots.length)];
+            if (beforeId == null || message.getId() < beforeId) {
+                newestFirst.add(message);
+            }
+        }
+        List<ChatMessageDto> result = new ArrayList<>(newestFirst.size());
+        for (int i = newestFirst.size() - 1; i >= 0; i--) {
+            result.add(newestFirst.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * afterId 이후 메시지 (ID 오름차순, 재연결 시 놓친 메시지)
+     */
+    public synchronized List<ChatMessageDto> after(long afterId) {
+        List<ChatMessageDto> result = new ArrayList<>();
+        for (int i = size - 1; i >= 0; i--) {
+            ChatMessageDto message = slots[Math.floorMod(next - 1 - i, slots.length)];
+            if (message.getId() > afterId) {
+                result.add(message);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 버퍼가 방의 전체 기록인지 (true면 버퍼에 없는 이전 메시지는 존재하지 않음)
+     */
+    public synchronized boolean isComplete() {
+        return complete;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+}
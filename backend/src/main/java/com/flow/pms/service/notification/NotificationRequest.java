@@ -0,0 +1,101 @@
+package com.flow.pms.service.notification;
+
+import com.flow.pms.entity.Notification;
+
+import java.time.LocalDateTime;
+
+/**
+ * 알림 발송 요청 (수신자로 펼치기 전의 이벤트 하나)
+ * 같은 대상(종류 + 대상 ID)의 요청은 저장 전에 하나로 묶어 이벤트 수만 더함
+ */
+public class NotificationRequest {
+
+    private final String type;
+    private final Long targetId;
+    private final Long actorId;
+    private final String title;
+    private final String message;
+    private final boolean restricted;  // 비공개 대상 (구독자에게는 보내지 않음)
+    private final int eventCount;
+    private final LocalDateTime occurredAt;
+
+    public NotificationRequest(String type, Long targetId, Long actorId, String title, String message,
+                               boolean restricted, int eventCount, LocalDateTime occurredAt) {
+        this.type = type;
+        this.targetId = targetId;
+        this.actorId = actorId;
+        this.title = title;
+        this.message = message;
+        this.restricted = restricted;
+        this.eventCount = eventCount;
+        this.occurredAt = occurredAt;
+    }
+
+    public static NotificationRequest of(String type, Long targetId, Long actorId, String title, String message,
+                                         boolean restricted) {
+        return new NotificationRequest(type, targetId, actorId, title, message, restricted, 1, LocalDateTime.now());
+    }
+
+    /**
+     * 나중 요청과 합침 (내용은 나중 것, 이벤트 수는 합계)
+     */
+    public NotificationRequest merge(NotificationRequest later) {
+        return new NotificationRequest(type, targetId, later.actorId, later.title, later.message,
+                later.restricted, eventCount + later.eventCount, later.occurredAt);
+    }
+
+    /**
+     * 묶음 키 (종류 + 대상)
+     */
+    public String getDigestKey() {
+        return type + ":" + targetId;
+    }
+
+    /**
+     * 프로젝트 알림 여부 (수신자: 프로젝트 구독자와 업무 담당자, 비공개 프로젝트는 업무 담당자만)
+     */
+    public boolean isProjectNotification() {
+        return Notification.TYPE_PROJECT_STATUS.equals(type) || Notification.TYPE_PROJECT_UPDATED.equals(type);
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Long getTargetId() {
+        return targetId;
+    }
+
+    public Long getActorId() {
+        return actorId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    public boolean isRestricted() {
+        return restricted;
+    }
+
+    public int getEventCount() {
+        return eventCount;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    @Override
+    public String toString() {
+        return "NotificationRequest{" +
+                "type='" + type + '\'' +
+                ", targetId=" + targetId +
+                ", eventCount=" + eventCount +
+                '}';
+    }
+}
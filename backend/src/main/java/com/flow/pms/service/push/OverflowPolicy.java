@@ -0,0 +1,10 @@
+package com.flow.pms.service.push;
+
+/**
+ * 연결별 전송 대기열이 가득 찼을 때의 처리 방식
+ */
+public enum OverflowPolicy {
+    DROP_OLDEST,   // 가장 오래된 메시지를 버리고 새 메시지 추가 (대시보드는 최신 상태가 중요)
+    DROP_NEWEST,   // 새 메시지를 버림
+    DISCONNECT     // 연결을 끊어 클라이언트가 재연결 후 Last-Event-ID로 다시 받게 함
+}
@@ -0,0 +1,222 @@
+package com.flow.pms.service.push;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * SSE 연결 하나
+ * 발행 스레드는 제한된 대기열에 넣기만 하고, 실제 전송은 공유 전송 풀이 연결별로 한 작업씩 처리
+ * 대기 중인 연결은 스레드를 점유하지 않으며 (서블릿 비동기), 느린 연결은 대기열 정책에 따라 메시지를 잃거나 끊김
+ */
+public class PushConnection {
+
+    // 한 번의 전송 작업에서 보낼 최대 메시지 수 (다른 연결이 기다리지 않도록 나눠서 처리)
+    private static final int MAX_SENDS_PER_DRAIN = 64;
+
+    private final String id;
+    private final Long userId;
+    private final Set<PushTopic> topics;
+    private final SseEmitter emitter;
+    private final int capacity;
+    private final OverflowPolicy overflowPolicy;
+    private final Executor sender;
+    private final Consumer<PushConnection> onClose;
+
+    private final ArrayDeque<PushMessage> queue;
+    private final AtomicBoolean draining = new AtomicBoolean(false);
+    private final AtomicBoolean closed = new AtomicBoolean(false);
+    private final AtomicLong sent = new AtomicLong();
+    private final AtomicLong dropped = new AtomicLong();
+
+    public PushConnection(String id, Long userId, Set<PushTopic> topics, SseEmitter emitter, int capacity,
+                          OverflowPolicy overflowPolicy, Executor sender, Consumer<PushConnection> onClose) {
+        this.id = id;
+        this.userId = userId;
+        this.topics = topics;
+        this.emitter = emitter;
+        this.capacity = capacity;
+        this.overflowPolicy = overflowPolicy;
+        this.sender = sender;
+        this.onClose = onClose;
+        this.queue = new ArrayDeque<>(Math.min(capacity, 16));
+    }
+
+    /**
+     * 메시지 대기열 추가 (구독 주제/대상이 아니면 무시)
+     *
+     * @return 대기열에 들어갔으면 true
+     */
+    public boolean offer(PushMessage message) {
+        if (closed.get() || (!message.isHeartbeat() && !message.isVisibleTo(topics, userId))) {
+            return false;
+        }
+
+        boolean overflow = false;
+        synchronized (queue) {
+            if (queue.size() >= capacity) {
+                if (message.isHeartbeat()) {
+                    // 보낼 메시지가 밀려 있으면 연결 유지 신호는 필요 없음
+                    return false;
+                }
+                switch (overflowPolicy) {
+                    case DROP_OLDEST -> {
+                        queue.pollFirst();
+                        queue.addLast(message);
+                        dropped.incrementAndGet();
+                    }
+                    case DROP_NEWEST -> {
+                        dropped.incrementAndGet();
+                        return false;
+                    }
+                    case DISCONNECT -> overflow = true;
+                }
+            } else {
+                queue.addLast(message);
+            }
+        }
+
+        if (overflow) {
+            dropped.incrementAndGet();
+            close(null);
+            return false;
+        }
+        scheduleDrain();
+        return true;
+    }
+
+    /**
+     * 연결 종료 (오류가 있으면 오류로 완료)
+     */
+    public void close(Throwable error) {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        synchronized (queue) {
+            queue.clear();
+        }
+        try {
+            if (error != null) {
+                emitter.completeWithError(error);
+            } else {
+                emitter.complete();
+            }
+        } catch (RuntimeException ignored) {
+            // 이미 끊긴 응답
+        }
+        onClose.accept(this);
+    }
+
+    /**
+     * 서블릿 컨테이너가 연결 종료를 알린 경우 (시간 초과, 클라이언트 종료)
+     */
+    public void markClosed() {
+        if (closed.compareAndSet(false, true)) {
+            synchronized (queue) {
+                queue.clear();
+            }
+            onClose.accept(this);
+        }
+    }
+
+    private void scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            sender.execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            draining.set(false);
+            close(e);
+        }
+    }
+
+    private void drain() {
+        int sends = 0;
+        while (!closed.get()) {
+            PushMessage message;
+            synchronized (queue) {
+                message = queue.pollFirst();
+            }
+            if (message == null) {
+                draining.set(false);
+                // 해제 직전에 들어온 메시지가 있으면 다시 예약
+                boolean pending;
+                synchronized (queue) {
+                    pending = !queue.isEmpty();
+                }
+                if (pending) {
+                    scheduleDrain();
+                }
+                return;
+            }
+
+            try {
+                send(message);
+                sent.incrementAndGet();
+            } catch (IOException | IllegalStateException e) {
+                close(null);
+                return;
+            }
+
+            if (++sends >= MAX_SENDS_PER_DRAIN) {
+                draining.set(false);
+                scheduleDrain();
+                return;
+            }
+        }
+        draining.set(false);
+    }
+
+    private void send(PushMessage message) throws IOException {
+        if (message.isHeartbeat()) {
+            emitter.send(SseEmitter.event().comment("heartbeat"));
+            return;
+        }
+        emitter.send(SseEmitter.event()
+                .id(String.valueOf(message.getId()))
+                .name(message.getName())
+                .data(message.getData()));
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public Set<PushTopic> getTopics() {
+        return topics;
+    }
+
+    public SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    public boolean isClosed() {
+        return closed.get();
+    }
+
+    public int getQueuedCount() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    public long getSentCount() {
+        return sent.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+}
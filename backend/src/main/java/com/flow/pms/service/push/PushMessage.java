@@ -0,0 +1,75 @@
+package com.flow.pms.service.push;
+
+import java.util.Set;
+
+/**
+ * 푸시 메시지
+ * 데이터는 발행 시 한 번만 JSON으로 직렬화해 모든 연결이 같은 문자열을 공유
+ */
+public class PushMessage {
+
+    private static final PushMessage HEARTBEAT = new PushMessage(0, null, null, null, null);
+
+    private final long id;
+    private final PushTopic topic;
+    private final String name;         // SSE 이벤트 이름 (예: project.updated)
+    private final String data;         // JSON 문자열
+    private final Set<Long> audience;  // 받을 수 있는 사용자 ID (null이면 해당 주제 구독자 전체)
+
+    public PushMessage(long id, PushTopic topic, String name, String data, Set<Long> audience) {
+        this.id = id;
+        this.topic = topic;
+        this.name = name;
+        this.data = data;
+        this.audience = audience;
+    }
+
+    /**
+     * 연결 유지용 주석 이벤트 (끊긴 연결도 이 전송에서 감지됨)
+     */
+    public static PushMessage heartbeat() {
+        return HEARTBEAT;
+    }
+
+    public boolean isHeartbeat() {
+        return this == HEARTBEAT;
+    }
+
+    /**
+     * 해당 구독자에게 전달할 메시지인지 확인
+     */
+    public boolean isVisibleTo(Set<PushTopic> topics, Long userId) {
+        if (!topics.contains(topic)) {
+            return false;
+        }
+        return audience == null || (userId != null && audience.contains(userId));
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public PushTopic getTopic() {
+        return topic;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getData() {
+        return data;
+    }
+
+    public Set<Long> getAudience() {
+        return audience;
+    }
+
+    @Override
+    public String toString() {
+        return "PushMessage{" +
+                "id=" + id +
+                ", name='" + name + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,45 @@
+package com.flow.pms.service.push;
+
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 푸시 구독 주제
+ */
+public enum PushTopic {
+    PROJECTS,
+    USERS,
+    NOTIFICATIONS,  // 내 알림 (수신자에게만 전달)
+    CHAT;     // 채팅방 메시지 (방 단위 구독은 ChatService에서 관리)
+
+    /**
+     * 쉼표로 구분된 주제 목록 해석 (비어 있으면 변경 알림 전체)
+     */
+    public static Set<PushTopic> parse(String value) {
+        if (value == null || value.isBlank()) {
+            return EnumSet.of(PROJECTS, USERS);
+        }
+        Set<PushTopic> topics = EnumSet.noneOf(PushTopic.class);
+        for (String token : value.split(",")) {
+            if (token.isBlank()) {
+                continue;
+            }
+            PushTopic topic;
+            try {
+                topic = PushTopic.valueOf(token.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                topic = null;
+            }
+            if (topic == null || topic == CHAT) {
+                throw new IllegalArgumentException("알 수 없는 구독 주제입니다: " + token.trim());
+            }
+            topics.add(topic);
+        }
+        return topics;
+    }
+
+    public String getKey() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,168 @@
+package com.flow.pms.service.schedule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 인메모리 구간 트리 (Interval Tree)
+ * (시작, ID) 순서의 트립(treap)에 서브트리별 최대 종료값을 함께 유지해,
+ * 주어진 기간과 겹치는 구간 k개를 O(k log n)에 시작 순서대로 찾음 (겹치지 않는 서브트리는 통째로 건너뜀)
+ * 구간은 양 끝을 포함하며, 같은 ID는 한 번만 들어 있어야 함 (교체 시 먼저 삭제)
+ *
+ * @param <T> 구간에 붙여 돌려줄 payload 타입
+ */
+public class IntervalTree<T> {
+
+    private Node<T> root;
+    private int size;
+
+    /**
+     * 구간 추가
+     */
+    public synchronized void insert(long start, long end, long id, T value) {
+        if (end < start) {
+            throw new IllegalArgumentException("구간의 끝이 시작보다 앞설 수 없습니다: " + start + " ~ " + end);
+        }
+        Node<T> node = new Node<>(start, end, id, value);
+        Node<T>[] parts = split(root, start, id);
+        root = merge(merge(parts[0], node), parts[1]);
+        size++;
+    }
+
+    /**
+     * 구간 삭제 (추가할 때의 시작값과 ID로 찾음)
+     *
+     * @return 삭제했으면 true
+     */
+    public synchronized boolean remove(long start, long id) {
+        int before = size;
+        root = remove(root, start, id);
+        return size < before;
+    }
+
+    /**
+     * [from, to]와 겹치는 구간의 payload (시작 순서)
+     */
+    public synchronized List<T> overlapping(long from, long to) {
+        List<T> result = new ArrayList<>();
+        collect(root, from, to, result);
+        return result;
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    public synchronized boolean isEmpty() {
+        return size == 0;
+    }
+
+    public synchronized void clear() {
+        root = null;
+        size = 0;
+    }
+
+    // 서브트리 최대 종료값이 from보다 작으면 통째로 건너뛰고, 시작이 to보다 크면 오른쪽은 볼 필요 없음
+    private void collect(Node<T> node, long from, long to, List<T> result) {
+        if (node == null || node.maxEnd < from) {
+            return;
+        }
+        collect(node.left, from, to, result);
+        if (node.start > to) {
+            return;
+        }
+        if (node.end >= from) {
+            result.add(node.value);
+        }
+        collect(node.right, from, to, result);
+    }
+
+    private Node<T> remove(Node<T> node, long start, long id) {
+        if (node == null) {
+            return null;
+        }
+        int order = compare(start, id, node);
+        if (order == 0) {
+            size--;
+            return merge(node.left, node.right);
+        }
+        if (order < 0) {
+            node.left = remove(node.left, start, id);
+        } else {
+            node.right = remove(node.right, start, id);
+        }
+        return update(node);
+    }
+
+    // (start, id)보다 앞인 노드와 나머지로 분리
+    @SuppressWarnings("unchecked")
+    private Node<T>[] split(Node<T> node, long start, long id) {
+        if (node == null) {
+            return new Node[] {null, null};
+        }
+        if (compare(start, id, node) > 0) {
+            Node<T>[] parts = split(node.right, start, id);
+            node.right = parts[0];
+            parts[0] = update(node);
+            return parts;
+        }
+        Node<T>[] parts = split(node.left, start, id);
+        node.left = parts[1];
+        parts[1] = update(node);
+        return parts;
+    }
+
+    // left의 모든 키가 right보다 앞일 때 우선순위를 유지하며 합침
+    private Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            return update(left);
+        }
+        right.left = merge(left, right.left);
+        return update(right);
+    }
+
+    private static <T> Node<T> update(Node<T> node) {
+        long maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+        return node;
+    }
+
+    private static int compare(long start, long id, Node<?> node) {
+        int order = Long.compare(start, node.start);
+        return order != 0 ? order : Long.compare(id, node.id);
+    }
+
+    private static final class Node<T> {
+
+        private final long start;
+        private final long end;
+        private final long id;
+        private final T value;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private long maxEnd;
+        private Node<T> left;
+        private Node<T> right;
+
+        private Node(long start, long end, long id, T value) {
+            this.start = start;
+            this.end = end;
+            this.id = id;
+            this.value = value;
+            this.maxEnd = end;
+        }
+    }
+}
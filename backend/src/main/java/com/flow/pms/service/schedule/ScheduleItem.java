@@ -0,0 +1,110 @@
+package com.flow.pms.service.schedule;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.flow.pms.dto.ProjectDto;
+import com.flow.pms.dto.TaskDto;
+
+import java.time.LocalDate;
+
+/**
+ * 일정 항목 (캘린더/간트차트 한 줄)
+ * 프로젝트 또는 업무의 일정 구간으로, 시작일/마감일 중 하나만 있으면 그 날 하루짜리 일정
+ */
+public class ScheduleItem {
+
+    public static final String TYPE_PROJECT = "project";
+    public static final String TYPE_TASK = "task";
+
+    private final String type;
+    private final Long id;
+    private final Long projectId;
+    private final String title;
+    private final String status;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final Long userId;  // 일정이 보이는 사용자 (프로젝트는 소유자, 업무는 담당자)
+
+    public ScheduleItem(String type, Long id, Long projectId, String title, String status,
+                        LocalDate startDate, LocalDate endDate, Long userId) {
+        this.type = type;
+        this.id = id;
+        this.projectId = projectId;
+        this.title = title;
+        this.status = status;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.userId = userId;
+    }
+
+    /**
+     * 프로젝트 일정 (시작일/마감일이 모두 없으면 null)
+     */
+    public static ScheduleItem of(ProjectDto project) {
+        if (project.getStartDate() == null && project.getDueDate() == null) {
+            return null;
+        }
+        return new ScheduleItem(TYPE_PROJECT, project.getId(), project.getId(), project.getTitle(),
+                project.getStatus(), startOf(project.getStartDate(), project.getDueDate()),
+                endOf(project.getStartDate(), project.getDueDate()), project.getOwnerId());
+    }
+
+    /**
+     * 업무 일정 (시작일/마감일이 모두 없으면 null)
+     */
+    public static ScheduleItem of(TaskDto task) {
+        if (task.getStartDate() == null && task.getDueDate() == null) {
+            return null;
+        }
+        return new ScheduleItem(TYPE_TASK, task.getId(), task.getProjectId(), task.getTitle(), task.getStatus(),
+                startOf(task.getStartDate(), task.getDueDate()), endOf(task.getStartDate(), task.getDueDate()),
+                task.getAssigneeId());
+    }
+
+    /**
+     * 구간 트리 안에서의 ID (프로젝트와 업무의 ID가 겹치지 않도록 프로젝트는 음수)
+     */
+    @JsonIgnore
+    public long getTreeId() {
+        return TYPE_PROJECT.equals(type) ? -id : id;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    private static LocalDate startOf(LocalDate start, LocalDate due) {
+        return start != null ? start : due;
+    }
+
+    private static LocalDate endOf(LocalDate start, LocalDate due) {
+        return due != null ? due : start;
+    }
+}
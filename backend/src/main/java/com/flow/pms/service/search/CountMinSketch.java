@@ -0,0 +1,104 @@
+package com.flow.pms.service.search;
+
+import java.util.Arrays;
+
+/**
+ * Count-Min Sketch (검색어 빈도 추정)
+ * depth개의 해시 행에 각각 width개의 카운터를 두고, 추정값은 행별 카운터의 최솟값
+ * 추정값은 실제 빈도 이상이며 오차는 전체 건수의 약 e/width 이내 (확률 1 - e^-depth)
+ *
+ * 같은 크기의 스케치끼리 더하고 뺄 수 있어 시간 버킷 합계(슬라이딩 윈도우)를 증분으로 유지할 수 있음
+ * 동기화하지 않으므로 한 스레드(집계기)에서만 사용
+ */
+public class CountMinSketch {
+
+    private final int width;
+    private final int depth;
+    private final int mask;
+    private final long[] counts;
+
+    /**
+     * @param width 행당 카운터 수 (2의 거듭제곱으로 올림)
+     * @param depth 해시 행 수
+     */
+    public CountMinSketch(int width, int depth) {
+        if (width < 1 || depth < 1) {
+            throw new IllegalArgumentException("width와 depth는 1 이상이어야 합니다.");
+        }
+        this.width = width == 1 ? 1 : Integer.highestOneBit(width - 1) << 1;
+        this.depth = depth;
+        this.mask = this.width - 1;
+        this.counts = new long[this.width * depth];
+    }
+
+    public void add(String item, long count) {
+        long hash = hash(item);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        for (int row = 0; row < depth; row++) {
+            counts[row * width + ((h1 + row * h2) & mask)] += count;
+        }
+    }
+
+    public long estimate(String item) {
+        long hash = hash(item);
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32) | 1;
+        long min = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            min = Math.min(min, counts[row * width + ((h1 + row * h2) & mask)]);
+        }
+        return min;
+    }
+
+    /**
+     * 다른 스케치의 카운터를 더함 (크기가 같아야 함)
+     */
+    public void merge(CountMinSketch other) {
+        checkCompatible(other);
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+    }
+
+    /**
+     * 다른 스케치의 카운터를 뺌 (윈도우 합계에서 만료된 버킷 제거)
+     */
+    public void subtract(CountMinSketch other) {
+        checkCompatible(other);
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] -= other.counts[i];
+        }
+    }
+
+    public void clear() {
+        Arrays.fill(counts, 0L);
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public int getDepth() {
+        return depth;
+    }
+
+    private void checkCompatible(CountMinSketch other) {
+        if (other.width != width || other.depth != depth) {
+            throw new IllegalArgumentException("크기가 다른 스케치는 합칠 수 없습니다.");
+        }
+    }
+
+    // 64비트 FNV-1a + 비트 섞기 (상위/하위 32비트를 이중 해싱의 두 해시로 사용)
+    private static long hash(String item) {
+        long hash = 0xcbf29ce484222325L;
+        for (int i = 0; i < item.length(); i++) {
+            hash ^= item.charAt(i);
+            hash *= 0x100000001b3L;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+}
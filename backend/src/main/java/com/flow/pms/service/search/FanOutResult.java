@@ -0,0 +1,75 @@
+package com.flow.pms.service.search;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 출처별 병렬 검색 결과
+ * 제한 시간 안에 응답한 출처의 결과와, 시간 초과/실패로 빠진 출처 목록을 함께 보관
+ *
+ * @param <T> 출처별 결과 항목 타입
+ */
+public class FanOutResult<T> {
+
+    private final Map<SearchSource, TopHits<T>> resultsBySource = new EnumMap<>(SearchSource.class);
+    private final Set<SearchSource> timedOutSources = EnumSet.noneOf(SearchSource.class);
+    private final Set<SearchSource> failedSources = EnumSet.noneOf(SearchSource.class);
+
+    public void complete(SearchSource source, TopHits<T> results) {
+        resultsBySource.put(source, results);
+    }
+
+    public void timeout(SearchSource source) {
+        timedOutSources.add(source);
+    }
+
+    public void fail(SearchSource source) {
+        failedSources.add(source);
+    }
+
+    /**
+     * 출처 순서대로 병합한 결과
+     */
+    public List<T> getResults() {
+        List<T> merged = new ArrayList<>();
+        resultsBySource.values().forEach(hits -> merged.addAll(hits.getHits()));
+        return merged;
+    }
+
+    public List<T> getResults(SearchSource source) {
+        TopHits<T> hits = resultsBySource.get(source);
+        return hits != null ? hits.getHits() : Collections.emptyList();
+    }
+
+    /**
+     * 출처별 전체 일치 건수 (반환 개수 제한과 무관)
+     */
+    public int getTotalCount(SearchSource source) {
+        TopHits<T> hits = resultsBySource.get(source);
+        return hits != null ? hits.getTotalCount() : 0;
+    }
+
+    public int getTotalCount() {
+        return resultsBySource.values().stream().mapToInt(TopHits::getTotalCount).sum();
+    }
+
+    public Set<SearchSource> getTimedOutSources() {
+        return timedOutSources;
+    }
+
+    public Set<SearchSource> getFailedSources() {
+        return failedSources;
+    }
+
+    /**
+     * 일부 출처가 빠진 부분 결과인지 여부
+     */
+    public boolean isPartial() {
+        return !timedOutSources.isEmpty() || !failedSources.isEmpty();
+    }
+}
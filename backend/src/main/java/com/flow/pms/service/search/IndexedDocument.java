@@ -0,0 +1,87 @@
+package com.flow.pms.service.search;
+
+import com.flow.pms.util.HangulJamo;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 역색인에 저장되는 문서
+ * 검색 결과로 돌려줄 payload와 필드별 정규화 텍스트, 색인 토큰 집합을 보관
+ * 초성 검색용으로 필드별 초성 문자열과 그 토큰(자모가 포함된 토큰만)을 색인 시점에 함께 만들어 둠
+ */
+class IndexedDocument<T> {
+
+    private final Long id;
+    private final T payload;
+    private final Map<String, String> fields;
+    private final Set<String> tokens;
+    private final Map<String, String> initialsFields;
+    private final Set<String> initialsTokens;
+
+    IndexedDocument(Long id, T payload, Map<String, String> rawFields) {
+        this.id = id;
+        this.payload = payload;
+        this.fields = new HashMap<>();
+        this.tokens = new HashSet<>();
+        this.initialsFields = new HashMap<>();
+        this.initialsTokens = new HashSet<>();
+        rawFields.forEach((name, value) -> {
+            String normalized = NgramTokenizer.normalize(value);
+            if (!normalized.isEmpty()) {
+                fields.put(name, normalized);
+                tokens.addAll(NgramTokenizer.indexTokens(normalized));
+
+                String initials = HangulJamo.initials(normalized);
+                initialsFields.put(name, initials);
+                // 자모가 없는 토큰은 원문 토큰과 같으므로 원문 포스팅을 그대로 사용
+                for (String token : NgramTokenizer.indexTokens(initials)) {
+                    if (HangulJamo.containsJamo(token)) {
+                        initialsTokens.add(token);
+                    }
+                }
+            }
+        });
+    }
+
+    /**
+     * 지정한 필드 중 하나라도 검색어와 일치하는지 검증
+     * (n-gram 교집합의 false positive 제거)
+     */
+    boolean matches(TextQuery query, Collection<String> fieldNames) {
+        for (String name : fieldNames) {
+            String value = fields.get(name);
+            if (value != null && query.matches(value, initialsFields.get(name))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    Long getId() {
+        return id;
+    }
+
+    T getPayload() {
+        return payload;
+    }
+
+    Map<String, String> getFields() {
+        return fields;
+    }
+
+    Set<String> getTokens() {
+        return tokens;
+    }
+
+    Map<String, String> getInitialsFields() {
+        return initialsFields;
+    }
+
+    Set<String> getInitialsTokens() {
+        return initialsTokens;
+    }
+}
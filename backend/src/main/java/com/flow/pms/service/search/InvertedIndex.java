@@ -0,0 +1,288 @@
+package com.flow.pms.service.search;
+
+import com.flow.pms.util.HangulJamo;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 인메모리 역색인 (Inverted Index)
+ * n-gram 토큰 → 문서 ID 포스팅 목록을 유지하고, 포스팅 교집합 후 원문 부분 문자열 검증으로
+ * LIKE '%kw%'와 동일한 결과를 테이블 스캔 없이 반환
+ * 초성 문자열의 n-gram 포스팅을 따로 유지해 초성 검색("ㅎㅇㅌ")과 입력 중인 음절 검색("협ㅇ")도
+ * 같은 방식으로 처리 (일치 방식은 TextQuery, 원문 검색 결과가 없을 때만 입력 중인 음절로 다시 검색)
+ *
+ * @param <T> 검색 결과로 돌려줄 문서 payload 타입
+ */
+public class InvertedIndex<T> {
+
+    private final Map<Long, IndexedDocument<T>> documents = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> initialsPostings = new ConcurrentHashMap<>();
+    // 필드별 길이 합계 (BM25 길이 정규화용 평균 계산)
+    private final Map<String, LongAdder> fieldLengths = new ConcurrentHashMap<>();
+    private final Comparator<T> order;
+
+    public InvertedIndex(Comparator<T> order) {
+        this.order = order;
+    }
+
+    /**
+     * 문서 추가 또는 교체 (증분 색인)
+     * 같은 ID에 대한 동시 갱신은 compute로 직렬화되며, 바뀐 토큰만 포스팅에서 추가/제거
+     */
+    public void put(Long id, T payload, Map<String, String> fields) {
+        documents.compute(id, (key, previous) -> {
+            IndexedDocument<T> document = new IndexedDocument<>(id, payload, fields);
+            if (previous != null) {
+                adjustFieldLengths(previous, -1);
+                for (String token : previous.getTokens()) {
+                    if (!document.getTokens().contains(token)) {
+                        removePosting(postings, token, id);
+                    }
+                }
+                for (String token : previous.getInitialsTokens()) {
+                    if (!document.getInitialsTokens().contains(token)) {
+                        removePosting(initialsPostings, token, id);
+                    }
+                }
+            }
+            for (String token : document.getTokens()) {
+                addPosting(postings, token, id);
+            }
+            for (String token : document.getInitialsTokens()) {
+                addPosting(initialsPostings, token, id);
+            }
+            adjustFieldLengths(document, 1);
+            return document;
+        });
+    }
+
+    /**
+     * 문서 삭제
+     */
+    public void remove(Long id) {
+        documents.computeIfPresent(id, (key, previous) -> {
+            adjustFieldLengths(previous, -1);
+            for (String token : previous.getTokens()) {
+                removePosting(postings, token, id);
+            }
+            for (String token : previous.getInitialsTokens()) {
+                removePosting(initialsPostings, token, id);
+            }
+            return null;
+        });
+    }
+
+    /**
+     * 부분 문자열 검색
+     * 일치 문서는 모두 세지만, 결과는 크기 limit의 힙으로 상위 N개만 유지
+     *
+     * @param query  사용자 입력 검색어
+     * @param fields 검증할 필드 이름 목록 (하나라도 포함하면 일치)
+     * @param filter 추가 조건 (카테고리, 소유자 등)
+     * @param limit  반환할 최대 건수 (0이면 건수만 계산, TopHits.UNLIMITED 가능)
+     * @return 인덱스 정렬 기준 상위 limit개와 전체 일치 건수
+     */
+    public TopHits<T> search(String query, Collection<String> fields, Predicate<T> filter, int limit) {
+        TextQuery textQuery = TextQuery.parse(NgramTokenizer.normalize(query));
+        TopHits<T> hits = search(textQuery, fields, filter, limit);
+        TextQuery fallback = textQuery.partialFallback();
+        return hits.getTotalCount() == 0 && fallback != null ? search(fallback, fields, filter, limit) : hits;
+    }
+
+    private TopHits<T> search(TextQuery query, Collection<String> fields, Predicate<T> filter, int limit) {
+        Set<String> tokens = query.tokens();
+        if (tokens.isEmpty()) {
+            return TopHits.empty();
+        }
+
+        List<Set<Long>> lists = postingLists(tokens, query.usesInitials());
+        if (lists == null) {
+            return TopHits.empty();
+        }
+
+        // 힙의 머리에는 현재 상위 N개 중 가장 뒤 순위 문서가 위치
+        PriorityQueue<T> top = new PriorityQueue<>(Math.max(1, Math.min(limit, 64)), order.reversed());
+        int total = 0;
+        for (Long id : lists.get(0)) {
+            if (!containsInAll(lists, id)) {
+                continue;
+            }
+            IndexedDocument<T> document = documents.get(id);
+            if (document == null || !document.matches(query, fields) || !filter.test(document.getPayload())) {
+                continue;
+            }
+            total++;
+            T payload = document.getPayload();
+            if (top.size() < limit) {
+                top.add(payload);
+            } else if (limit > 0 && order.compare(payload, top.peek()) < 0) {
+                top.poll();
+                top.add(payload);
+            }
+        }
+
+        List<T> hits = new ArrayList<>(top);
+        hits.sort(order);
+        return new TopHits<>(hits, total);
+    }
+
+    /**
+     * 관련도 순위 검색
+     * 일치 문서마다 BM25F 점수에 boost를 곱해 순위를 매기고, 커서 이후 결과 중 상위 limit개만 힙으로 유지
+     *
+     * @param query  사용자 입력 검색어
+     * @param scorer 필드 가중치가 설정된 점수 계산기 (가중치가 있는 필드만 일치 검증)
+     * @param filter 추가 조건 (카테고리, 소유자 등)
+     * @param boost  문서별 점수 배율 (최신성, 소유자 등)
+     * @param source 결과에 기록할 출처 (출처 간 순위 병합용)
+     * @param after  이전 페이지 커서
+     * @param limit  반환할 최대 건수
+     * @return 점수순 상위 limit개와 전체 일치 건수 (커서와 무관)
+     */
+    public TopHits<ScoredHit<T>> rank(String query, RelevanceScorer scorer, Predicate<T> filter,
+                                      ToDoubleFunction<T> boost, SearchSource source,
+                                      SearchCursor after, int limit) {
+        TextQuery textQuery = TextQuery.parse(NgramTokenizer.normalize(query));
+        TopHits<ScoredHit<T>> hits = rank(textQuery, scorer, filter, boost, source, after, limit);
+        // 원문 일치 여부는 커서와 무관한 전체 일치 건수로 판단하므로 페이지마다 같은 방식으로 검색됨
+        TextQuery fallback = textQuery.partialFallback();
+        return hits.getTotalCount() == 0 && fallback != null
+                ? rank(fallback, scorer, filter, boost, source, after, limit)
+                : hits;
+    }
+
+    private TopHits<ScoredHit<T>> rank(TextQuery query, RelevanceScorer scorer, Predicate<T> filter,
+                                       ToDoubleFunction<T> boost, SearchSource source,
+                                       SearchCursor after, int limit) {
+        Set<String> tokens = query.tokens();
+        if (tokens.isEmpty()) {
+            return TopHits.empty();
+        }
+        boolean initials = query.usesInitials();
+        List<Set<Long>> lists = postingLists(tokens, initials);
+        if (lists == null) {
+            return TopHits.empty();
+        }
+
+        Map<String, Integer> docFreqs = new LinkedHashMap<>();
+        for (String token : tokens) {
+            Set<Long> posting = postingsOf(token, initials);
+            docFreqs.put(token, posting != null ? posting.size() : 0);
+        }
+        int docCount = documents.size();
+
+        PriorityQueue<ScoredHit<T>> top = new PriorityQueue<>(
+                Math.max(1, Math.min(limit, 64)), ScoredHit.RANK_ORDER.reversed());
+        int total = 0;
+        for (Long id : lists.get(0)) {
+            if (!containsInAll(lists, id)) {
+                continue;
+            }
+            IndexedDocument<T> document = documents.get(id);
+            if (document == null || !document.matches(query, scorer.getFields())
+                    || !filter.test(document.getPayload())) {
+                continue;
+            }
+            total++;
+            double score = scorer.score(initials ? document.getInitialsFields() : document.getFields(),
+                    docFreqs, docCount, this::averageFieldLength)
+                    * boost.applyAsDouble(document.getPayload());
+            if (!after.isBefore(source, id, score)) {
+                continue;
+            }
+            ScoredHit<T> hit = new ScoredHit<>(document.getPayload(), source, id, score);
+            if (top.size() < limit) {
+                top.add(hit);
+            } else if (limit > 0 && ScoredHit.RANK_ORDER.compare(hit, top.peek()) < 0) {
+                top.poll();
+                top.add(hit);
+            }
+        }
+
+        List<ScoredHit<T>> hits = new ArrayList<>(top);
+        hits.sort(ScoredHit.RANK_ORDER);
+        return new TopHits<>(hits, total);
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    public int tokenCount() {
+        return postings.size() + initialsPostings.size();
+    }
+
+    public void clear() {
+        documents.clear();
+        postings.clear();
+        initialsPostings.clear();
+        fieldLengths.clear();
+    }
+
+    // 검색 토큰별 포스팅 목록 (짧은 순), 하나라도 비어 있으면 null
+    private List<Set<Long>> postingLists(Set<String> tokens, boolean initials) {
+        List<Set<Long>> lists = new ArrayList<>(tokens.size());
+        for (String token : tokens) {
+            Set<Long> posting = postingsOf(token, initials);
+            if (posting == null || posting.isEmpty()) {
+                return null;
+            }
+            lists.add(posting);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+        return lists;
+    }
+
+    // 초성 토큰 중 자모가 없는 토큰(영문, 숫자)은 원문 포스팅에 있음
+    private Set<Long> postingsOf(String token, boolean initials) {
+        return initials && HangulJamo.containsJamo(token) ? initialsPostings.get(token) : postings.get(token);
+    }
+
+    private double averageFieldLength(String field) {
+        LongAdder total = fieldLengths.get(field);
+        int count = documents.size();
+        return total == null || count == 0 ? 0 : (double) total.sum() / count;
+    }
+
+    private void adjustFieldLengths(IndexedDocument<T> document, int sign) {
+        document.getFields().forEach((name, value) ->
+                fieldLengths.computeIfAbsent(name, key -> new LongAdder()).add((long) sign * value.length()));
+    }
+
+    private boolean containsInAll(List<Set<Long>> lists, Long id) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 빈 포스팅 제거와 경합하지 않도록 추가도 compute 안에서 수행
+    private static void addPosting(Map<String, Set<Long>> postings, String token, Long id) {
+        postings.compute(token, (t, ids) -> {
+            Set<Long> target = ids != null ? ids : ConcurrentHashMap.newKeySet();
+            target.add(id);
+            return target;
+        });
+    }
+
+    private static void removePosting(Map<String, Set<Long>> postings, String token, Long id) {
+        postings.computeIfPresent(token, (t, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+}
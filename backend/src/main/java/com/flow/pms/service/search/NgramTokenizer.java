@@ -0,0 +1,60 @@
+package com.flow.pms.service.search;
+
+import com.flow.pms.util.HangulJamo;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 한글 인식 n-gram 토크나이저
+ * 텍스트를 NFC 정규화 후 음절(문자) 단위 unigram/bigram으로 분해하여
+ * 한글 제목의 부분 문자열 검색("협업" → "협업툴 개발")이 가능하도록 함
+ * 초성 문자열(HangulJamo.initials)도 같은 방식으로 분해해 초성 검색 후보를 찾음
+ */
+public final class NgramTokenizer {
+
+    private NgramTokenizer() {}
+
+    /**
+     * 색인/검색 공통 정규화 (HangulJamo.normalize, 엔티티의 초성 컬럼과 같은 규칙)
+     */
+    public static String normalize(String text) {
+        return HangulJamo.normalize(text);
+    }
+
+    /**
+     * 색인용 토큰 추출
+     * 단어별 모든 unigram과 bigram을 생성 (단어 경계를 넘는 gram은 만들지 않음)
+     */
+    public static Set<String> indexTokens(String normalizedText) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : normalizedText.split(" ")) {
+            for (int i = 0; i < word.length(); i++) {
+                tokens.add(word.substring(i, i + 1));
+                if (i + 1 < word.length()) {
+                    tokens.add(word.substring(i, i + 2));
+                }
+            }
+        }
+        tokens.remove("");
+        return tokens;
+    }
+
+    /**
+     * 검색용 토큰 추출
+     * 한 글자 단어는 unigram, 그 외에는 bigram만 사용하여 후보 집합을 최소화
+     */
+    public static Set<String> queryTokens(String normalizedQuery) {
+        Set<String> tokens = new LinkedHashSet<>();
+        for (String word : normalizedQuery.split(" ")) {
+            if (word.length() == 1) {
+                tokens.add(word);
+            }
+            for (int i = 0; i + 1 < word.length(); i++) {
+                tokens.add(word.substring(i, i + 2));
+            }
+        }
+        tokens.remove("");
+        return tokens;
+    }
+}
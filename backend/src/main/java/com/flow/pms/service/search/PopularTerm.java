@@ -0,0 +1,28 @@
+package com.flow.pms.service.search;
+
+/**
+ * 인기 검색어 (정규화한 검색어와 추정 검색 횟수)
+ */
+public class PopularTerm {
+
+    private final String term;
+    private final long count;
+
+    public PopularTerm(String term, long count) {
+        this.term = term;
+        this.count = count;
+    }
+
+    public String getTerm() {
+        return term;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    @Override
+    public String toString() {
+        return term + "=" + count;
+    }
+}
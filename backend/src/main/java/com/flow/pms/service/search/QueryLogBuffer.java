@@ -0,0 +1,100 @@
+package com.flow.pms.service.search;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+/**
+ * 검색 기록 링 버퍼 (다중 생산자, 단일 소비자, 잠금 없음)
+ * 요청 스레드는 CAS로 칸 번호를 받아 기록만 하고 바로 반환하며, 가득 차면 기록을 버림 (검색 응답을 막지 않음)
+ * 집계기 한 스레드가 주기적으로 꺼내 처리
+ *
+ * 생산자가 칸 번호를 받은 뒤 아직 값을 쓰지 않은 칸에서는 꺼내기를 멈추고 다음 주기에 이어서 처리
+ * 소비자는 칸을 비운 뒤에 head를 올리므로, 생산자가 처리되지 않은 칸을 덮어쓰지 않음
+ */
+public class QueryLogBuffer {
+
+    private final AtomicReferenceArray<QueryLogEntry> slots;
+    private final int mask;
+    private final AtomicLong tail = new AtomicLong();  // 다음에 배정할 칸 번호 (생산자)
+    private final AtomicLong head = new AtomicLong();  // 다음에 꺼낼 칸 번호 (소비자만 변경)
+    private final LongAdder dropped = new LongAdder();
+
+    /**
+     * @param capacity 보관할 최대 기록 수 (2의 거듭제곱으로 올림)
+     */
+    public QueryLogBuffer(int capacity) {
+        if (capacity < 2) {
+            throw new IllegalArgumentException("capacity는 2 이상이어야 합니다.");
+        }
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        this.slots = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    /**
+     * 기록 추가 (잠금 없음)
+     *
+     * @return 버퍼가 가득 차 버렸으면 false
+     */
+    public boolean offer(QueryLogEntry entry) {
+        while (true) {
+            long position = tail.get();
+            if (position - head.get() >= slots.length()) {
+                dropped.increment();
+                return false;
+            }
+            if (tail.compareAndSet(position, position + 1)) {
+                slots.set((int) (position & mask), entry);
+                return true;
+            }
+        }
+    }
+
+    /**
+     * 쌓인 기록을 꺼내 처리 (소비자 스레드 하나에서만 호출)
+     *
+     * @param max 이번에 처리할 최대 건수
+     * @return 처리한 건수
+     */
+    public int drain(Consumer<QueryLogEntry> consumer, int max) {
+        long position = head.get();
+        int drained = 0;
+        while (drained < max) {
+            int index = (int) (position & mask);
+            QueryLogEntry entry = slots.get(index);
+            if (entry == null) {
+                break;
+            }
+            slots.lazySet(index, null);
+            position++;
+            head.lazySet(position);
+            drained++;
+            consumer.accept(entry);
+        }
+        return drained;
+    }
+
+    /**
+     * 처리 대기 중인 기록 수 (근사값)
+     */
+    public long size() {
+        return Math.max(0, tail.get() - head.get());
+    }
+
+    public int capacity() {
+        return slots.length();
+    }
+
+    /**
+     * 지금까지 기록된 건수 (버려진 기록 제외)
+     */
+    public long getRecordedCount() {
+        return tail.get();
+    }
+
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+}
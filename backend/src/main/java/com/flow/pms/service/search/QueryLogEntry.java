@@ -0,0 +1,39 @@
+package com.flow.pms.service.search;
+
+/**
+ * 검색 기록 한 건 (검색어 원문, 결과 건수, 처리 시간)
+ * 정규화는 기록하는 요청 스레드가 아니라 집계기에서 수행
+ */
+public class QueryLogEntry {
+
+    private final String query;
+    private final int resultCount;
+    private final long latencyMicros;
+    private final long recordedAt;
+
+    public QueryLogEntry(String query, int resultCount, long latencyMicros, long recordedAt) {
+        this.query = query;
+        this.resultCount = resultCount;
+        this.latencyMicros = latencyMicros;
+        this.recordedAt = recordedAt;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public int getResultCount() {
+        return resultCount;
+    }
+
+    public long getLatencyMicros() {
+        return latencyMicros;
+    }
+
+    /**
+     * 기록 시각 (epoch millis)
+     */
+    public long getRecordedAt() {
+        return recordedAt;
+    }
+}
@@ -0,0 +1,51 @@
+package com.flow.pms.service.search;
+
+import java.time.Duration;
+
+/**
+ * 검색어 집계 슬라이딩 윈도우
+ * 윈도우를 고정 길이 시간 버킷으로 나누어, 가장 오래된 버킷이 만료될 때마다 한 버킷만큼 이동
+ */
+public enum QueryWindow {
+    HOUR("1h", Duration.ofMinutes(5), 12),
+    DAY("24h", Duration.ofHours(1), 24),
+    WEEK("7d", Duration.ofHours(6), 28);
+
+    private final String label;
+    private final long bucketMillis;
+    private final int bucketCount;
+
+    QueryWindow(String label, Duration bucket, int bucketCount) {
+        this.label = label;
+        this.bucketMillis = bucket.toMillis();
+        this.bucketCount = bucketCount;
+    }
+
+    /**
+     * 라벨(1h, 24h, 7d)로 찾기
+     */
+    public static QueryWindow fromLabel(String label) {
+        for (QueryWindow window : values()) {
+            if (window.label.equalsIgnoreCase(label)) {
+                return window;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 집계 기간입니다: " + label + " (1h, 24h, 7d)");
+    }
+
+    public String getLabel() {
+        return label;
+    }
+
+    public long getBucketMillis() {
+        return bucketMillis;
+    }
+
+    public int getBucketCount() {
+        return bucketCount;
+    }
+
+    public long getLengthMillis() {
+        return bucketMillis * bucketCount;
+    }
+}
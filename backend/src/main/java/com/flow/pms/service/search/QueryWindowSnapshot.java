@@ -0,0 +1,73 @@
+package com.flow.pms.service.search;
+
+import java.util.List;
+
+/**
+ * 집계 윈도우 요약 (집계기가 주기적으로 만들어 교체하는 불변 객체)
+ */
+public class QueryWindowSnapshot {
+
+    private final QueryWindow window;
+    private final long queries;
+    private final long zeroResultQueries;
+    private final long latencyMicrosSum;
+    private final List<PopularTerm> popularTerms;
+
+    public QueryWindowSnapshot(QueryWindow window, long queries, long zeroResultQueries, long latencyMicrosSum,
+                               List<PopularTerm> popularTerms) {
+        this.window = window;
+        this.queries = queries;
+        this.zeroResultQueries = zeroResultQueries;
+        this.latencyMicrosSum = latencyMicrosSum;
+        this.popularTerms = List.copyOf(popularTerms);
+    }
+
+    public static QueryWindowSnapshot empty(QueryWindow window) {
+        return new QueryWindowSnapshot(window, 0, 0, 0, List.of());
+    }
+
+    public String getWindow() {
+        return window.getLabel();
+    }
+
+    public long getQueries() {
+        return queries;
+    }
+
+    public long getZeroResultQueries() {
+        return zeroResultQueries;
+    }
+
+    /**
+     * 결과 없는 검색 비율
+     */
+    public double getZeroResultRate() {
+        return queries == 0 ? 0.0 : (double) zeroResultQueries / queries;
+    }
+
+    /**
+     * 평균 검색 처리 시간 (ms)
+     */
+    public double getAverageLatencyMs() {
+        return queries == 0 ? 0.0 : latencyMicrosSum / 1000.0 / queries;
+    }
+
+    /**
+     * 인기 검색어 (추정 검색 횟수순, 결과가 있었던 검색만)
+     */
+    public List<PopularTerm> getPopularTerms() {
+        return popularTerms;
+    }
+
+    /**
+     * 인기 검색어 후보의 추정 검색 횟수 (정규화한 검색어, 후보가 아니면 0)
+     */
+    public long getCount(String term) {
+        for (PopularTerm popularTerm : popularTerms) {
+            if (popularTerm.getTerm().equals(term)) {
+                return popularTerm.getCount();
+            }
+        }
+        return 0;
+    }
+}
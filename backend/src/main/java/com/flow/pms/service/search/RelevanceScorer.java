@@ -0,0 +1,100 @@
+package com.flow.pms.service.search;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * BM25F 관련도 점수 계산기
+ * 필드별 가중치를 적용한 단어 빈도를 합산한 뒤 BM25 포화 함수를 적용
+ * (제목에 한 번 나온 검색어가 설명에 여러 번 나온 검색어보다 높게 평가되도록 함)
+ */
+public class RelevanceScorer {
+
+    private final double k1;
+    private final double b;
+    private final Map<String, Double> fieldBoosts;
+
+    /**
+     * @param fieldBoosts 검색 대상 필드와 가중치 (이 필드들만 일치 검증에 사용)
+     */
+    public RelevanceScorer(double k1, double b, Map<String, Double> fieldBoosts) {
+        this.k1 = k1;
+        this.b = b;
+        this.fieldBoosts = Collections.unmodifiableMap(new LinkedHashMap<>(fieldBoosts));
+    }
+
+    public Set<String> getFields() {
+        return fieldBoosts.keySet();
+    }
+
+    /**
+     * 문서 점수 계산
+     *
+     * @param fields        점수를 매길 문서의 필드별 텍스트 (초성 검색이면 초성 문자열, 원문과 길이가 같음)
+     * @param docFreqs      검색 토큰별 문서 빈도
+     * @param docCount      색인 전체 문서 수
+     * @param avgFieldLength 필드별 평균 길이
+     */
+    double score(Map<String, String> fields, Map<String, Integer> docFreqs, int docCount,
+                 ToDoubleFunction<String> avgFieldLength) {
+        double score = 0;
+        for (Map.Entry<String, Integer> entry : docFreqs.entrySet()) {
+            String token = entry.getKey();
+            double weightedTf = 0;
+            for (Map.Entry<String, Double> field : fieldBoosts.entrySet()) {
+                String value = fields.get(field.getKey());
+                if (value == null) {
+                    continue;
+                }
+                int tf = occurrences(value, token);
+                if (tf == 0) {
+                    continue;
+                }
+                double avgLength = Math.max(1.0, avgFieldLength.applyAsDouble(field.getKey()));
+                double lengthNorm = 1 - b + b * value.length() / avgLength;
+                weightedTf += field.getValue() * tf / lengthNorm;
+            }
+            if (weightedTf > 0) {
+                score += idf(docCount, entry.getValue()) * weightedTf * (k1 + 1) / (weightedTf + k1);
+            }
+        }
+        return score;
+    }
+
+    /**
+     * 최신성 가중치 (1 ~ 1 + weight)
+     * 수정 시각이 halfLifeDays 전이면 가산분이 절반으로 줄어드는 지수 감쇠
+     *
+     * @param asOf 기준 시각 (같은 커서의 페이지끼리는 동일한 값을 사용해야 순위가 유지됨)
+     */
+    public static double recencyBoost(LocalDateTime updatedAt, Instant asOf, double weight, double halfLifeDays) {
+        if (updatedAt == null || weight <= 0 || halfLifeDays <= 0) {
+            return 1.0;
+        }
+        Instant updated = updatedAt.atZone(ZoneId.systemDefault()).toInstant();
+        double ageDays = Math.max(0, Duration.between(updated, asOf).toMillis()) / 86_400_000.0;
+        return 1.0 + weight * Math.pow(0.5, ageDays / halfLifeDays);
+    }
+
+    // 드문 토큰일수록 높은 가중치 (BM25 idf, 항상 양수)
+    private static double idf(int docCount, int docFreq) {
+        return Math.log(1 + (docCount - docFreq + 0.5) / (docFreq + 0.5));
+    }
+
+    private static int occurrences(String text, String token) {
+        int count = 0;
+        int from = text.indexOf(token);
+        while (from >= 0) {
+            count++;
+            from = text.indexOf(token, from + 1);
+        }
+        return count;
+    }
+}
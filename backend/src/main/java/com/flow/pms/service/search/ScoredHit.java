@@ -0,0 +1,50 @@
+package com.flow.pms.service.search;
+
+import java.util.Comparator;
+
+/**
+ * 관련도 점수가 매겨진 검색 결과
+ * 순위는 점수 내림차순, 동점이면 출처 순서, 그 다음 ID 오름차순 (커서 페이지네이션의 전순서)
+ */
+public class ScoredHit<T> {
+
+    public static final Comparator<ScoredHit<?>> RANK_ORDER = Comparator
+            .comparingDouble((ScoredHit<?> hit) -> hit.getScore()).reversed()
+            .thenComparing(ScoredHit::getSource)
+            .thenComparingLong(ScoredHit::getId);
+
+    private final T payload;
+    private final SearchSource source;
+    private final long id;
+    private final double score;
+
+    public ScoredHit(T payload, SearchSource source, long id, double score) {
+        this.payload = payload;
+        this.source = source;
+        this.id = id;
+        this.score = score;
+    }
+
+    /**
+     * 같은 순위 위치를 유지한 채 payload만 변환
+     */
+    public <R> ScoredHit<R> withPayload(R newPayload) {
+        return new ScoredHit<>(newPayload, source, id, score);
+    }
+
+    public T getPayload() {
+        return payload;
+    }
+
+    public SearchSource getSource() {
+        return source;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public double getScore() {
+        return score;
+    }
+}
@@ -0,0 +1,53 @@
+package com.flow.pms.service.search;
+
+import com.flow.pms.dto.ProjectDto;
+import com.flow.pms.dto.UserDto;
+
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 프로젝트/사용자 검색 구현 (app.search.backend)
+ * memory: 인메모리 역색인 (SearchIndexService, 개발용 H2 기본값)
+ * fulltext: MySQL FULLTEXT(ngram) 인덱스 (FullTextSearchService, 운영 프로필)
+ *
+ * 구현과 무관하게 일치 조건(정규화한 검색어를 필드 중 하나가 포함), 결과 순서, 관련도 점수는 동일해야 함
+ */
+public interface SearchBackend {
+
+    /**
+     * 프로젝트 검색 (제목, 설명) - 생성일 최신순 상위 limit개와 전체 일치 건수
+     */
+    TopHits<ProjectDto> searchProjects(String keyword, Predicate<ProjectDto> filter, int limit);
+
+    TopHits<ProjectDto> searchProjects(String keyword, int limit);
+
+    default List<ProjectDto> searchProjects(String keyword) {
+        return searchProjects(keyword, TopHits.UNLIMITED).getHits();
+    }
+
+    /**
+     * 사용자 검색 (사용자명, 표시명, 이메일) - 표시명순
+     */
+    TopHits<UserDto> searchUsers(String keyword, int limit);
+
+    /**
+     * 상태 메시지 검색
+     */
+    TopHits<UserDto> searchStatusMessages(String keyword, int limit);
+
+    /**
+     * 프로젝트 관련도 순위 검색
+     *
+     * @param boost 프로젝트별 점수 배율 (최신성, 소유자 가중치)
+     */
+    TopHits<ScoredHit<ProjectDto>> rankProjects(String keyword, Predicate<ProjectDto> filter,
+                                                ToDoubleFunction<ProjectDto> boost,
+                                                SearchCursor after, int limit);
+
+    /**
+     * 사용자 관련도 순위 검색
+     */
+    TopHits<ScoredHit<UserDto>> rankUsers(String keyword, SearchCursor after, int limit);
+}
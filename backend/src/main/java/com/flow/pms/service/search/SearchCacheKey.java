@@ -0,0 +1,110 @@
+package com.flow.pms.service.search;
+
+import java.util.Objects;
+
+/**
+ * 검색 결과 캐시 키
+ * 정규화한 검색어 + 검색 종류 + 범위(카테고리, 사용자 ID, 페이지 크기 등)에
+ * 결과가 의존하는 데이터의 세대 번호를 포함하므로, 데이터가 바뀌면 이전 키는 더 이상 조회되지 않음
+ */
+public final class SearchCacheKey {
+
+    /**
+     * 검색 종류와 결과가 의존하는 데이터
+     */
+    public enum Kind {
+        ALL(true, true),            // 통합 검색 첫 페이지
+        FOR_USER(true, false),      // 개인화 검색 첫 페이지 (프로젝트 + 메뉴)
+        QUICK(true, true),          // 출처별 상위 N개
+        PROJECTS(true, false),
+        CATEGORY(true, false),
+        USERS(false, true),
+        STATUS_MESSAGES(false, true);
+
+        private final boolean projects;
+        private final boolean users;
+
+        Kind(boolean projects, boolean users) {
+            this.projects = projects;
+            this.users = users;
+        }
+
+        public boolean dependsOnProjects() {
+            return projects;
+        }
+
+        public boolean dependsOnUsers() {
+            return users;
+        }
+    }
+
+    private final Kind kind;
+    private final String query;
+    private final Object scope;
+    private final long projectGeneration;
+    private final long userGeneration;
+    private final int hash;
+
+    /**
+     * @param query 정규화한 검색어
+     * @param scope 결과 범위 (없으면 null)
+     */
+    public SearchCacheKey(Kind kind, String query, Object scope, long projectGeneration, long userGeneration) {
+        this.kind = kind;
+        this.query = query;
+        this.scope = scope;
+        this.projectGeneration = kind.dependsOnProjects() ? projectGeneration : 0;
+        this.userGeneration = kind.dependsOnUsers() ? userGeneration : 0;
+        this.hash = Objects.hash(kind, query, scope, this.projectGeneration, this.userGeneration);
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String getQuery() {
+        return query;
+    }
+
+    public Object getScope() {
+        return scope;
+    }
+
+    public long getProjectGeneration() {
+        return projectGeneration;
+    }
+
+    public long getUserGeneration() {
+        return userGeneration;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof SearchCacheKey other)) {
+            return false;
+        }
+        return hash == other.hash
+                && kind == other.kind
+                && projectGeneration == other.projectGeneration
+                && userGeneration == other.userGeneration
+                && query.equals(other.query)
+                && Objects.equals(scope, other.scope);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return "SearchCacheKey{" +
+                "kind=" + kind +
+                ", query='" + query + '\'' +
+                ", scope=" + scope +
+                '}';
+    }
+}
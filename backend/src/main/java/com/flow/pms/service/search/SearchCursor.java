@@ -0,0 +1,108 @@
+package com.flow.pms.service.search;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 순위 검색 커서 (불투명 문자열)
+ * 마지막으로 반환한 결과의 순위 위치(점수, 출처, ID)와 점수 계산 기준 시각을 담아
+ * 다음 페이지가 같은 순위 기준으로 이어지도록 함
+ */
+public class SearchCursor {
+
+    private static final String VERSION = "v1";
+
+    private final int scope;
+    private final Instant asOf;
+    private final Double score;
+    private final SearchSource source;
+    private final Long id;
+
+    private SearchCursor(int scope, Instant asOf, Double score, SearchSource source, Long id) {
+        this.scope = scope;
+        this.asOf = asOf;
+        this.score = score;
+        this.source = source;
+        this.id = id;
+    }
+
+    /**
+     * 첫 페이지용 커서
+     *
+     * @param scope 검색어/사용자 범위 식별값 (다른 검색에 커서를 재사용하지 못하도록 함)
+     */
+    public static SearchCursor first(int scope, Instant asOf) {
+        return new SearchCursor(scope, asOf, null, null, null);
+    }
+
+    /**
+     * 검색 범위 식별값 (정규화된 검색어 + 개인화 사용자)
+     */
+    public static int scopeOf(String query, Long userId) {
+        return (NgramTokenizer.normalize(query) + "|" + userId).hashCode();
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @throws IllegalArgumentException 형식이 잘못되었거나 다른 검색의 커서인 경우
+     */
+    public static SearchCursor decode(String token, int expectedScope) {
+        SearchCursor cursor;
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":");
+            if (parts.length != 6 || !VERSION.equals(parts[0])) {
+                throw new IllegalArgumentException(token);
+            }
+            cursor = new SearchCursor(
+                    Integer.parseInt(parts[1]),
+                    Instant.ofEpochMilli(Long.parseLong(parts[2])),
+                    Double.longBitsToDouble(Long.parseUnsignedLong(parts[3], 16)),
+                    SearchSource.valueOf(parts[4]),
+                    Long.parseLong(parts[5]));
+        } catch (IllegalArgumentException e) {
+            // Base64, 숫자, 출처 이름 해석 실패 포함
+            throw new IllegalArgumentException("잘못된 검색 커서입니다.");
+        }
+        if (cursor.scope != expectedScope) {
+            throw new IllegalArgumentException("다른 검색어의 커서입니다.");
+        }
+        return cursor;
+    }
+
+    /**
+     * 마지막 결과 다음 위치를 가리키는 커서 문자열
+     */
+    public String next(ScoredHit<?> last) {
+        String raw = String.join(":", VERSION,
+                Integer.toString(scope),
+                Long.toString(asOf.toEpochMilli()),
+                Long.toHexString(Double.doubleToLongBits(last.getScore())),
+                last.getSource().name(),
+                Long.toString(last.getId()));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 해당 위치의 결과가 커서 이후(다음 페이지 대상)인지 여부
+     */
+    public boolean isBefore(SearchSource hitSource, long hitId, double hitScore) {
+        if (score == null) {
+            return true;
+        }
+        int byScore = Double.compare(score, hitScore);
+        if (byScore != 0) {
+            return byScore > 0;
+        }
+        int bySource = source.compareTo(hitSource);
+        if (bySource != 0) {
+            return bySource < 0;
+        }
+        return id < hitId;
+    }
+
+    public Instant getAsOf() {
+        return asOf;
+    }
+}
@@ -0,0 +1,55 @@
+package com.flow.pms.service.search;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 순위 검색 한 페이지
+ * 점수순 결과와 전체 일치 건수, 다음 페이지 커서(마지막 페이지면 null), 빠진 출처 목록을 보관
+ *
+ * @param <T> 결과 항목 타입
+ */
+public class SearchPage<T> {
+
+    private final List<T> items;
+    private final int totalCount;
+    private final String nextCursor;
+    private final Set<SearchSource> timedOutSources;
+    private final Set<SearchSource> failedSources;
+
+    public SearchPage(List<T> items, int totalCount, String nextCursor, FanOutResult<?> fanOut) {
+        this.items = items;
+        this.totalCount = totalCount;
+        this.nextCursor = nextCursor;
+        this.timedOutSources = fanOut.getTimedOutSources();
+        this.failedSources = fanOut.getFailedSources();
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+
+    public Set<SearchSource> getTimedOutSources() {
+        return timedOutSources;
+    }
+
+    public Set<SearchSource> getFailedSources() {
+        return failedSources;
+    }
+
+    public boolean isPartial() {
+        return !timedOutSources.isEmpty() || !failedSources.isEmpty();
+    }
+}
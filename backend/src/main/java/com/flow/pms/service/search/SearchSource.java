@@ -0,0 +1,22 @@
+package com.flow.pms.service.search;
+
+/**
+ * 통합 검색 출처
+ * 통합 검색 결과에 노출되는 순서대로 정의
+ */
+public enum SearchSource {
+    PROJECT("프로젝트"),
+    MENU("메뉴"),
+    USER("사용자"),
+    BLOG("블로그");
+
+    private final String label;
+
+    SearchSource(String label) {
+        this.label = label;
+    }
+
+    public String getLabel() {
+        return label;
+    }
+}
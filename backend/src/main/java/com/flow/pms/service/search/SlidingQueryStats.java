@@ -0,0 +1,210 @@
+package com.flow.pms.service.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 슬라이딩 윈도우 검색어 집계
+ * 윈도우를 시간 버킷 링으로 나누고 버킷마다 Count-Min Sketch와 Space-Saving을 유지
+ * 윈도우 전체 스케치는 버킷 스케치의 합으로 증분 유지 (버킷이 만료될 때 빼고 초기화)
+ * 인기 검색어는 윈도우 안 버킷들의 Space-Saving 후보를 합친 뒤 전체 스케치 추정값으로 순위를 매김
+ *
+ * 동기화하지 않으므로 한 스레드(집계기)에서만 사용
+ */
+public class SlidingQueryStats {
+
+    private final QueryWindow window;
+    private final Bucket[] buckets;
+    private final CountMinSketch total;
+    private long currentIndex = Long.MIN_VALUE;  // 가장 최근 버킷 번호 (시각 / 버킷 길이)
+
+    // 윈도우 전체 합계
+    private long queries;
+    private long zeroResultQueries;
+    private long latencyMicrosSum;
+
+    public SlidingQueryStats(QueryWindow window, int sketchWidth, int sketchDepth, int heavyHitters) {
+        this.window = window;
+        this.buckets = new Bucket[window.getBucketCount()];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new Bucket(new CountMinSketch(sketchWidth, sketchDepth), new SpaceSaving(heavyHitters));
+        }
+        this.total = new CountMinSketch(sketchWidth, sketchDepth);
+    }
+
+    /**
+     * 검색 한 건 반영
+     *
+     * @param term 정규화한 검색어 (결과가 없는 검색이면 null, 건수만 집계)
+     * @return 윈도우보다 오래된 기록이라 버렸으면 false
+     */
+    public boolean record(String term, boolean zeroResult, long latencyMicros, long timestamp) {
+        Bucket bucket = bucketAt(timestamp);
+        if (bucket == null) {
+            return false;
+        }
+        bucket.queries++;
+        queries++;
+        bucket.latencyMicrosSum += latencyMicros;
+        latencyMicrosSum += latencyMicros;
+        if (zeroResult) {
+            bucket.zeroResultQueries++;
+            zeroResultQueries++;
+        }
+        if (term != null) {
+            addTerm(bucket, term, 1);
+        }
+        return true;
+    }
+
+    /**
+     * 저장된 집계 복원 (검색어 빈도만, 검색 건수 합계에는 반영하지 않음)
+     */
+    public void restore(String term, long count, long timestamp) {
+        Bucket bucket = bucketAt(timestamp);
+        if (bucket != null) {
+            addTerm(bucket, term, count);
+        }
+    }
+
+    /**
+     * 현재 시각까지 윈도우 이동 (만료된 버킷 제거)
+     */
+    public void advance(long now) {
+        long index = Math.floorDiv(now, window.getBucketMillis());
+        if (index <= currentIndex) {
+            return;
+        }
+        long from = currentIndex == Long.MIN_VALUE ? index : Math.max(currentIndex + 1, index - buckets.length + 1);
+        for (long i = from; i <= index; i++) {
+            Bucket bucket = buckets[slot(i)];
+            expire(bucket);
+            bucket.index = i;
+        }
+        currentIndex = index;
+    }
+
+    /**
+     * 윈도우 요약 (인기 검색어 상위 limit개)
+     */
+    public QueryWindowSnapshot snapshot(int limit) {
+        Set<String> candidates = new HashSet<>();
+        for (Bucket bucket : buckets) {
+            if (isLive(bucket)) {
+                candidates.addAll(bucket.heavyHitters.items());
+            }
+        }
+        List<PopularTerm> terms = new ArrayList<>(candidates.size());
+        for (String term : candidates) {
+            long count = total.estimate(term);
+            if (count > 0) {
+                terms.add(new PopularTerm(term, count));
+            }
+        }
+        terms.sort(Comparator.comparingLong(PopularTerm::getCount).reversed().thenComparing(PopularTerm::getTerm));
+        return new QueryWindowSnapshot(window, queries, zeroResultQueries, latencyMicrosSum,
+                terms.size() > limit ? new ArrayList<>(terms.subList(0, limit)) : terms);
+    }
+
+    /**
+     * 마지막 호출 이후 바뀐 버킷의 상위 검색어 (버킷 시작 시각별, 저장용)
+     */
+    public Map<Long, List<PopularTerm>> drainDirty() {
+        Map<Long, List<PopularTerm>> dirty = new LinkedHashMap<>();
+        for (Bucket bucket : buckets) {
+            if (!bucket.dirty || !isLive(bucket)) {
+                continue;
+            }
+            List<PopularTerm> terms = new ArrayList<>();
+            for (String term : bucket.heavyHitters.items()) {
+                terms.add(new PopularTerm(term, bucket.sketch.estimate(term)));
+            }
+            dirty.put(bucket.index * window.getBucketMillis(), terms);
+            bucket.dirty = false;
+        }
+        return dirty;
+    }
+
+    /**
+     * 저장에 실패한 버킷을 다시 저장 대상으로 표시
+     */
+    public void markDirty(Iterable<Long> bucketStarts) {
+        for (Long bucketStart : bucketStarts) {
+            Bucket bucket = buckets[slot(Math.floorDiv(bucketStart, window.getBucketMillis()))];
+            if (bucket.index * window.getBucketMillis() == bucketStart) {
+                bucket.dirty = true;
+            }
+        }
+    }
+
+    public QueryWindow getWindow() {
+        return window;
+    }
+
+    // 시각에 해당하는 버킷 (미래 시각이면 윈도우를 이동, 윈도우보다 오래되었으면 null)
+    private Bucket bucketAt(long timestamp) {
+        advance(timestamp);
+        long index = Math.floorDiv(timestamp, window.getBucketMillis());
+        if (index <= currentIndex - buckets.length) {
+            return null;
+        }
+        Bucket bucket = buckets[slot(index)];
+        if (bucket.index != index) {
+            // 윈도우 안이지만 아직 쓰인 적 없는 버킷 (기동 직후 과거 시각 복원)
+            expire(bucket);
+            bucket.index = index;
+        }
+        return bucket;
+    }
+
+    private void addTerm(Bucket bucket, String term, long count) {
+        bucket.sketch.add(term, count);
+        bucket.heavyHitters.offer(term, count);
+        total.add(term, count);
+        bucket.dirty = true;
+    }
+
+    private void expire(Bucket bucket) {
+        if (bucket.index != Long.MIN_VALUE) {
+            total.subtract(bucket.sketch);
+            queries -= bucket.queries;
+            zeroResultQueries -= bucket.zeroResultQueries;
+            latencyMicrosSum -= bucket.latencyMicrosSum;
+        }
+        bucket.sketch.clear();
+        bucket.heavyHitters.clear();
+        bucket.queries = 0;
+        bucket.zeroResultQueries = 0;
+        bucket.latencyMicrosSum = 0;
+        bucket.dirty = false;
+    }
+
+    private boolean isLive(Bucket bucket) {
+        return bucket.index != Long.MIN_VALUE && bucket.index > currentIndex - buckets.length;
+    }
+
+    private int slot(long index) {
+        return (int) Math.floorMod(index, (long) buckets.length);
+    }
+
+    private static class Bucket {
+
+        private final CountMinSketch sketch;
+        private final SpaceSaving heavyHitters;
+        private long index = Long.MIN_VALUE;
+        private long queries;
+        private long zeroResultQueries;
+        private long latencyMicrosSum;
+        private boolean dirty;
+
+        private Bucket(CountMinSketch sketch, SpaceSaving heavyHitters) {
+            this.sketch = sketch;
+            this.heavyHitters = heavyHitters;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.flow.pms.service.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving 상위 빈도 항목 추적 (Metwally et al.)
+ * 최대 capacity개의 카운터만 유지하며, 가득 찬 상태에서 새 항목이 오면 가장 작은 카운터를 넘겨받음
+ * 빈도가 전체의 1/capacity를 넘는 항목은 반드시 남아 있으므로 인기 검색어 후보 집합으로 사용
+ * (빈도 값 자체는 과대 추정될 수 있어 Count-Min Sketch 추정값과 함께 사용)
+ *
+ * 동기화하지 않으므로 한 스레드(집계기)에서만 사용
+ */
+public class SpaceSaving {
+
+    private final int capacity;
+    private final Map<String, long[]> counters;
+
+    public SpaceSaving(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("capacity는 1 이상이어야 합니다.");
+        }
+        this.capacity = capacity;
+        this.counters = new HashMap<>(capacity * 2);
+    }
+
+    public void offer(String item, long count) {
+        long[] counter = counters.get(item);
+        if (counter != null) {
+            counter[0] += count;
+            return;
+        }
+        if (counters.size() < capacity) {
+            counters.put(item, new long[] {count});
+            return;
+        }
+
+        // 가장 작은 카운터를 새 항목에 넘김 (capacity가 작아 선형 탐색)
+        String minItem = null;
+        long minCount = Long.MAX_VALUE;
+        for (Map.Entry<String, long[]> entry : counters.entrySet()) {
+            if (entry.getValue()[0] < minCount) {
+                minCount = entry.getValue()[0];
+                minItem = entry.getKey();
+            }
+        }
+        counters.remove(minItem);
+        counters.put(item, new long[] {minCount + count});
+    }
+
+    /**
+     * 추적 중인 항목 (순서 없음)
+     */
+    public List<String> items() {
+        return new ArrayList<>(counters.keySet());
+    }
+
+    public int size() {
+        return counters.size();
+    }
+
+    public void clear() {
+        counters.clear();
+    }
+}
@@ -0,0 +1,195 @@
+package com.flow.pms.service.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 가중치 기반 자동완성 트라이
+ * 각 노드가 하위 완성어 중 가중치 상위 K개를 미리 보관하므로 조회는 접두어 길이만큼만 이동
+ *
+ * 쓰기(add)는 호출자가 직렬화해야 하며, 읽기(suggest)는 잠금 없이 동시에 수행 가능
+ * (노드의 자식/상위 K 배열은 매번 새 배열로 교체되어 volatile로 공개됨)
+ */
+public class SuggestionTrie {
+
+    public static final int MAX_CACHED = 10;
+
+    private static final Comparator<Suggestion> BY_WEIGHT =
+            Comparator.comparingLong(Suggestion::getWeight).reversed()
+                    .thenComparing(Suggestion::getText);
+
+    private final Node root = new Node();
+    private int termCount = 0;
+
+    /**
+     * 완성어 가중치 누적
+     * 전체 문구와 각 단어 시작 위치를 키로 등록하여 "회의" 입력으로 "AI 회의요약"도 제안
+     */
+    public void add(String text, long weight) {
+        String normalized = NgramTokenizer.normalize(text);
+        if (normalized.isEmpty() || weight <= 0) {
+            return;
+        }
+
+        Node terminal = descend(normalized);
+        if (terminal.term == null) {
+            terminal.term = new Suggestion(normalized, text.trim(), 0);
+            termCount++;
+        }
+        Suggestion updated = new Suggestion(normalized, terminal.term.getText(), terminal.term.getWeight() + weight);
+        terminal.term = updated;
+
+        for (int start = 0; start < normalized.length(); start++) {
+            if (start == 0 || normalized.charAt(start - 1) == ' ') {
+                promote(normalized.substring(start), updated);
+            }
+        }
+    }
+
+    /**
+     * 접두어 자동완성 (가중치 내림차순)
+     */
+    public List<String> suggest(String prefix, int limit) {
+        String normalized = NgramTokenizer.normalize(prefix);
+        if (normalized.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Node node = root;
+        for (int i = 0; i < normalized.length() && node != null; i++) {
+            node = node.child(normalized.charAt(i));
+        }
+        if (node == null) {
+            return new ArrayList<>();
+        }
+
+        Suggestion[] top = node.top;
+        List<String> results = new ArrayList<>(Math.min(limit, top.length));
+        for (int i = 0; i < top.length && results.size() < limit; i++) {
+            results.add(top[i].getText());
+        }
+        return results;
+    }
+
+    public int getTermCount() {
+        return termCount;
+    }
+
+    private Node descend(String key) {
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.childOrCreate(key.charAt(i));
+        }
+        return node;
+    }
+
+    // 경로상의 모든 노드 상위 K 목록에 갱신된 완성어 반영
+    private void promote(String key, Suggestion suggestion) {
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            node = node.childOrCreate(key.charAt(i));
+            node.offer(suggestion);
+        }
+    }
+
+    /**
+     * 자동완성 후보
+     */
+    public static class Suggestion {
+
+        private final String key;
+        private final String text;
+        private final long weight;
+
+        public Suggestion(String key, String text, long weight) {
+            this.key = key;
+            this.text = text;
+            this.weight = weight;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public long getWeight() {
+            return weight;
+        }
+    }
+
+    private static class Node {
+
+        private static final char[] NO_KEYS = new char[0];
+        private static final Node[] NO_NODES = new Node[0];
+        private static final Suggestion[] NO_SUGGESTIONS = new Suggestion[0];
+
+        private volatile Children children = new Children(NO_KEYS, NO_NODES);
+        private volatile Suggestion[] top = NO_SUGGESTIONS;
+        private Suggestion term;
+
+        Node child(char c) {
+            Children current = children;
+            int index = Arrays.binarySearch(current.keys, c);
+            return index >= 0 ? current.nodes[index] : null;
+        }
+
+        Node childOrCreate(char c) {
+            Children current = children;
+            int index = Arrays.binarySearch(current.keys, c);
+            if (index >= 0) {
+                return current.nodes[index];
+            }
+
+            int insertAt = -index - 1;
+            char[] keys = new char[current.keys.length + 1];
+            Node[] nodes = new Node[current.nodes.length + 1];
+            System.arraycopy(current.keys, 0, keys, 0, insertAt);
+            System.arraycopy(current.nodes, 0, nodes, 0, insertAt);
+            System.arraycopy(current.keys, insertAt, keys, insertAt + 1, current.keys.length - insertAt);
+            System.arraycopy(current.nodes, insertAt, nodes, insertAt + 1, current.nodes.length - insertAt);
+
+            Node created = new Node();
+            keys[insertAt] = c;
+            nodes[insertAt] = created;
+            children = new Children(keys, nodes);
+            return created;
+        }
+
+        void offer(Suggestion suggestion) {
+            Suggestion[] current = top;
+            if (current.length == MAX_CACHED && BY_WEIGHT.compare(suggestion, current[MAX_CACHED - 1]) > 0
+                    && Arrays.stream(current).noneMatch(existing -> existing.getKey().equals(suggestion.getKey()))) {
+                return;  // 상위 K에 들 수 없는 후보는 배열을 새로 만들지 않음
+            }
+            List<Suggestion> merged = new ArrayList<>(current.length + 1);
+            for (Suggestion existing : current) {
+                if (!existing.getKey().equals(suggestion.getKey())) {
+                    merged.add(existing);
+                }
+            }
+            merged.add(suggestion);
+            merged.sort(BY_WEIGHT);
+            if (merged.size() > MAX_CACHED) {
+                merged = merged.subList(0, MAX_CACHED);
+            }
+            top = merged.toArray(NO_SUGGESTIONS);
+        }
+    }
+
+    // 키/노드 배열을 하나의 불변 객체로 묶어 원자적으로 교체
+    private static class Children {
+
+        private final char[] keys;
+        private final Node[] nodes;
+
+        Children(char[] keys, Node[] nodes) {
+            this.keys = keys;
+            this.nodes = nodes;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.flow.pms.service.search;
+
+import com.flow.pms.util.HangulJamo;
+
+import java.util.Set;
+
+/**
+ * 정규화한 검색어의 일치 방식
+ * - EXACT: 원문 부분 문자열 ("협업" → "협업툴 개발")
+ * - INITIALS: 음절 없이 자음을 입력한 초성 검색 ("ㅎㅇㅌ" → "협업툴", "ai ㅎㅇ" → "AI 회의요약")
+ * - PARTIAL: 마지막 글자를 입력 중인 검색 ("협ㅇ", "협어" → "협업툴")
+ *   앞 글자들은 원문 그대로, 마지막 글자는 이어지는 원문(최대 2자, 받침이 다음 음절 초성일 수 있음)의
+ *   자모 분해 앞부분과 비교
+ *
+ * INITIALS/PARTIAL 후보는 초성 문자열의 n-gram으로 찾음 (일치하는 문서의 초성 문자열은 항상 initialsKey를 포함)
+ * 자모가 섞이지 않은 검색어는 EXACT로 찾고, 일치 문서가 없으면 partialFallback()으로 다시 찾음
+ */
+public final class TextQuery {
+
+    public enum Mode {
+        EXACT,
+        INITIALS,
+        PARTIAL
+    }
+
+    private final Mode mode;
+    private final String text;
+    private final String initialsKey;
+    private final String prefix;
+    private final String lastJamo;
+
+    private TextQuery(Mode mode, String text) {
+        this.mode = mode;
+        this.text = text;
+        if (mode == Mode.PARTIAL) {
+            char last = text.charAt(text.length() - 1);
+            this.prefix = text.substring(0, text.length() - 1);
+            this.lastJamo = HangulJamo.decompose(String.valueOf(last));
+            char lastInitial = HangulJamo.initialOf(last);
+            this.initialsKey = HangulJamo.initials(prefix) + (lastInitial != 0 ? String.valueOf(lastInitial) : "");
+        } else {
+            this.prefix = null;
+            this.lastJamo = null;
+            this.initialsKey = mode == Mode.INITIALS ? text : null;
+        }
+    }
+
+    /**
+     * @param normalizedQuery NgramTokenizer.normalize를 거친 검색어
+     */
+    public static TextQuery parse(String normalizedQuery) {
+        if (isInitialsOnly(normalizedQuery)) {
+            return new TextQuery(Mode.INITIALS, normalizedQuery);
+        }
+        if (HangulJamo.containsJamo(normalizedQuery)) {
+            return new TextQuery(Mode.PARTIAL, normalizedQuery);
+        }
+        return new TextQuery(Mode.EXACT, normalizedQuery);
+    }
+
+    /**
+     * EXACT 검색 결과가 없을 때 다시 찾을 PARTIAL 검색 (마지막 글자가 한글 음절이 아니면 null)
+     */
+    public TextQuery partialFallback() {
+        if (mode != Mode.EXACT || text.isEmpty() || !HangulJamo.isSyllable(text.charAt(text.length() - 1))) {
+            return null;
+        }
+        return new TextQuery(Mode.PARTIAL, text);
+    }
+
+    public Mode getMode() {
+        return mode;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * 초성 문자열로 비교하는지 여부 (후보 조회/점수 계산에 초성 n-gram 사용)
+     */
+    public boolean usesInitials() {
+        return mode != Mode.EXACT;
+    }
+
+    /**
+     * 일치하는 문서의 초성 문자열이 반드시 포함하는 문자열 (EXACT면 null)
+     */
+    public String getInitialsKey() {
+        return initialsKey;
+    }
+
+    /**
+     * 후보 조회 토큰 (EXACT는 원문 n-gram, 그 외에는 초성 n-gram)
+     */
+    public Set<String> tokens() {
+        return NgramTokenizer.queryTokens(usesInitials() ? initialsKey : text);
+    }
+
+    /**
+     * 정규화한 필드 값과 그 초성 문자열로 일치 여부 검증
+     */
+    public boolean matches(String value, String valueInitials) {
+        return switch (mode) {
+            case INITIALS -> valueInitials.contains(initialsKey);
+            case PARTIAL -> matchesPartial(value);
+            case EXACT -> value.contains(text);
+        };
+    }
+
+    /**
+     * 초성 문자열을 미리 만들어 두지 않은 값의 일치 여부 (메뉴 등 작은 목록용)
+     */
+    public boolean matches(String value) {
+        return matches(value, mode == Mode.INITIALS ? HangulJamo.initials(value) : value);
+    }
+
+    private boolean matchesPartial(String value) {
+        int from = prefix.isEmpty() ? 0 : value.indexOf(prefix);
+        while (from >= 0 && from + prefix.length() < value.length()) {
+            if (HangulJamo.decompose(value, from + prefix.length(), 2).startsWith(lastJamo)) {
+                return true;
+            }
+            from = prefix.isEmpty() ? from + 1 : value.indexOf(prefix, from + 1);
+        }
+        return false;
+    }
+
+    // 자음이 하나 이상 있고 음절/모음이 없음 (영문, 숫자는 초성 문자열에도 그대로 남으므로 허용)
+    private static boolean isInitialsOnly(String text) {
+        boolean consonant = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (HangulJamo.isConsonant(c)) {
+                consonant = true;
+            } else if (HangulJamo.isSyllable(c) || HangulJamo.isJamo(c)) {
+                return false;
+            }
+        }
+        return consonant;
+    }
+}
@@ -0,0 +1,53 @@
+package com.flow.pms.service.search;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 상위 N개 검색 결과
+ * 제한 개수만큼의 결과와 전체 일치 건수를 함께 보관 (나머지 결과는 생성하지 않음)
+ */
+public class TopHits<T> {
+
+    public static final int UNLIMITED = Integer.MAX_VALUE;
+
+    private final List<T> hits;
+    private final int totalCount;
+
+    public TopHits(List<T> hits, int totalCount) {
+        this.hits = hits;
+        this.totalCount = totalCount;
+    }
+
+    /**
+     * 전체 결과 목록에서 앞 limit개만 남김
+     */
+    public static <T> TopHits<T> of(List<T> all, int limit) {
+        List<T> hits = all.size() > limit ? new ArrayList<>(all.subList(0, limit)) : all;
+        return new TopHits<>(hits, all.size());
+    }
+
+    public static <T> TopHits<T> empty() {
+        return new TopHits<>(new ArrayList<>(), 0);
+    }
+
+    /**
+     * 제한된 결과에만 변환 적용 (DTO 매핑 비용을 N개로 한정)
+     */
+    public <R> TopHits<R> map(Function<T, R> mapper) {
+        List<R> mapped = new ArrayList<>(hits.size());
+        for (T hit : hits) {
+            mapped.add(mapper.apply(hit));
+        }
+        return new TopHits<>(mapped, totalCount);
+    }
+
+    public List<T> getHits() {
+        return hits;
+    }
+
+    public int getTotalCount() {
+        return totalCount;
+    }
+}
@@ -0,0 +1,24 @@
+package com.flow.pms.service.sql;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * API 요청 하나가 실행할 수 있는 최대 SQL 수
+ * 컨트롤러 메서드(또는 클래스 전체)에 선언하고, 넘으면 요청 종료 시 경고 로그
+ * app.sql-monitor.fail-on-budget-exceeded=true(test 프로필)면 예산을 넘는 SQL 실행 자체를 예외로 막아
+ * 통합 테스트에서 조회 수가 늘어난 변경을 바로 드러냄
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface SqlBudget {
+
+    /**
+     * 최대 SQL 수 (배치 실행은 SQL 문장당 한 번으로 셈)
+     */
+    int value();
+}
@@ -0,0 +1,145 @@
+package com.flow.pms.service.sql;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * API 요청 하나의 SQL 실행 기록
+ * 요청 스레드에 묶어 두고(ThreadLocal), 검색 병렬 실행처럼 다른 스레드로 넘긴 작업은 wrap()으로 같은 기록을 이어 씀
+ * 같은 SQL 문장(바인딩 전 문자열)의 반복 횟수로 N+1을 찾음
+ */
+public final class SqlRequestContext {
+
+    // 요청 하나에서 구분해 세는 SQL 문장 수 상한 (넘는 문장은 전체 건수에만 포함)
+    private static final int MAX_DISTINCT_STATEMENTS = 256;
+
+    private static final ThreadLocal<SqlRequestContext> CURRENT = new ThreadLocal<>();
+
+    private final String endpoint;
+    private final int budget;
+    private final AtomicInteger statements = new AtomicInteger();
+    private final AtomicLong elapsedMs = new AtomicLong();
+    private final Map<String, AtomicInteger> repetitions = new ConcurrentHashMap<>();
+    private volatile boolean finished;
+
+    private SqlRequestContext(String endpoint, int budget) {
+        this.endpoint = endpoint;
+        this.budget = budget;
+    }
+
+    /**
+     * 현재 스레드에서 요청 기록 시작
+     *
+     * @param endpoint 로그/메트릭에 쓰는 요청 이름 (예: "GET /api/projects/{id}")
+     * @param budget   최대 SQL 수 (0이면 제한 없음)
+     */
+    public static SqlRequestContext start(String endpoint, int budget) {
+        SqlRequestContext context = new SqlRequestContext(endpoint, budget);
+        CURRENT.set(context);
+        return context;
+    }
+
+    /**
+     * 현재 스레드의 요청 기록 (API 요청 밖이면 null)
+     */
+    public static SqlRequestContext current() {
+        SqlRequestContext context = CURRENT.get();
+        return context != null && !context.finished ? context : null;
+    }
+
+    /**
+     * 현재 스레드의 요청 기록을 끝내고 반환 (이후 다른 스레드에서 실행되는 SQL은 기록하지 않음)
+     */
+    public static SqlRequestContext finish() {
+        SqlRequestContext context = CURRENT.get();
+        CURRENT.remove();
+        if (context != null) {
+            context.finished = true;
+        }
+        return context;
+    }
+
+    /**
+     * 작업을 실행하는 스레드에 현재 요청 기록을 이어 붙임 (TaskDecorator용)
+     */
+    public static Runnable wrap(Runnable task) {
+        SqlRequestContext context = current();
+        if (context == null) {
+            return task;
+        }
+        return () -> {
+            SqlRequestContext previous = CURRENT.get();
+            CURRENT.set(context);
+            try {
+                task.run();
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+
+    /**
+     * SQL 실행 한 건 기록
+     *
+     * @return 지금까지 실행한 SQL 수
+     */
+    public int record(String sql) {
+        AtomicInteger count = repetitions.get(sql);
+        if (count == null && repetitions.size() < MAX_DISTINCT_STATEMENTS) {
+            count = repetitions.computeIfAbsent(sql, key -> new AtomicInteger());
+        }
+        if (count != null) {
+            count.incrementAndGet();
+        }
+        return statements.incrementAndGet();
+    }
+
+    public void addElapsed(long millis) {
+        elapsedMs.addAndGet(millis);
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public int getBudget() {
+        return budget;
+    }
+
+    public int getStatementCount() {
+        return statements.get();
+    }
+
+    public long getElapsedMs() {
+        return elapsedMs.get();
+    }
+
+    public boolean isOverBudget() {
+        return budget > 0 && statements.get() > budget;
+    }
+
+    /**
+     * threshold번 이상 반복된 SQL 문장 (반복 횟수 내림차순)
+     */
+    public List<Map.Entry<String, Integer>> getRepeatedStatements(int threshold) {
+        List<Map.Entry<String, Integer>> repeated = new ArrayList<>();
+        if (threshold <= 0) {
+            return repeated;
+        }
+        repetitions.forEach((sql, count) -> {
+            if (count.get() >= threshold) {
+                repeated.add(Map.entry(sql, count.get()));
+            }
+        });
+        repeated.sort(Map.Entry.<String, Integer>comparingByValue().reversed());
+        return repeated;
+    }
+}
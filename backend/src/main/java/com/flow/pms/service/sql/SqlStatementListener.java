@@ -0,0 +1,112 @@
+package com.flow.pms.service.sql;
+
+import com.flow.pms.config.SqlMonitorProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+
+/**
+ * SQL 실행 감시 리스너 (datasource-proxy)
+ * - 요청 기록(SqlRequestContext)이 있으면 SQL 수와 반복 문장을 기록하고, 실패 모드에서는 예산 초과 SQL을 실행 전에 막음
+ * - 느린 SQL은 요청과 무관하게 바인딩 값과 함께 경고 로그 (sql.slow.queries 메트릭)
+ */
+public class SqlStatementListener implements QueryExecutionListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SqlStatementListener.class);
+
+    // 배치 실행은 앞쪽 몇 건의 바인딩 값만 로그에 남김
+    private static final int MAX_LOGGED_PARAMETER_SETS = 3;
+
+    private final SqlMonitorProperties properties;
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public SqlStatementListener(SqlMonitorProperties properties, ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlRequestContext context = SqlRequestContext.current();
+        if (context == null) {
+            return;
+        }
+        for (QueryInfo queryInfo : queryInfoList) {
+            context.record(queryInfo.getQuery());
+        }
+        if (properties.isFailOnBudgetExceeded() && context.isOverBudget()) {
+            throw new IllegalStateException("SQL 예산을 초과했습니다. [" + context.getEndpoint() + "] "
+                    + context.getStatementCount() + "건 (예산 " + context.getBudget() + "건): "
+                    + queryInfoList.get(0).getQuery());
+        }
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        SqlRequestContext context = SqlRequestContext.current();
+        if (context != null) {
+            context.addElapsed(execInfo.getElapsedTime());
+        }
+        if (execInfo.getElapsedTime() < properties.getSlowQueryMs()) {
+            return;
+        }
+
+        String endpoint = context != null ? context.getEndpoint() : "-";
+        for (QueryInfo queryInfo : queryInfoList) {
+            log.warn("느린 SQL {}ms [{}]: {} | 바인딩 {}", execInfo.getElapsedTime(), endpoint,
+                    queryInfo.getQuery(), formatParameters(queryInfo));
+        }
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            registry.counter("sql.slow.queries").increment();
+        }
+    }
+
+    private String formatParameters(QueryInfo queryInfo) {
+        List<List<ParameterSetOperation>> parametersList = queryInfo.getParametersList();
+        StringBuilder formatted = new StringBuilder();
+        int sets = Math.min(parametersList.size(), MAX_LOGGED_PARAMETER_SETS);
+        for (int i = 0; i < sets; i++) {
+            if (i > 0) {
+                formatted.append(", ");
+            }
+            formatted.append('[');
+            List<ParameterSetOperation> operations = parametersList.get(i);
+            for (int j = 0; j < operations.size(); j++) {
+                if (j > 0) {
+                    formatted.append(", ");
+                }
+                formatted.append(formatValue(operations.get(j)));
+            }
+            formatted.append(']');
+        }
+        if (parametersList.size() > sets) {
+            formatted.append(" 외 ").append(parametersList.size() - sets).append("건");
+        }
+        return formatted.toString();
+    }
+
+    // setXxx(index, value) 호출의 값 (setNull은 NULL, 긴 값은 잘라서 표시)
+    private String formatValue(ParameterSetOperation operation) {
+        if (ParameterSetOperation.isSetNullParameterOperation(operation)) {
+            return "NULL";
+        }
+        Object[] args = operation.getArgs();
+        if (args == null || args.length < 2) {
+            return "?";
+        }
+        String value = String.valueOf(args[1]);
+        int maxLength = properties.getMaxBindValueLength();
+        if (maxLength > 0 && value.length() > maxLength) {
+            return value.substring(0, maxLength) + "...(" + value.length() + "자)";
+        }
+        return value;
+    }
+}
@@ -0,0 +1,181 @@
+package com.flow.pms.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+/**
+ * 한글 자모 분석
+ * 완성형 음절(가-힣)을 초성/자모로 분해하고, 입력기에서 넘어온 조합형 자모(U+1100 블록)를
+ * 호환 자모(ㄱ-ㅣ)로 통일
+ *
+ * 초성 문자열은 원문과 길이가 같음 (음절은 초성 한 글자, 그 밖의 문자는 그대로)
+ * 자모 분해는 겹받침/이중모음을 기본 자모로 나눔 ("닭" → ㄷㅏㄹㄱ, "과" → ㄱㅗㅏ)
+ * 그래서 입력 중인 음절("달", "고")이 완성된 음절의 앞부분으로 비교됨
+ */
+public final class HangulJamo {
+
+    private static final char SYLLABLE_BASE = '가';
+    private static final char SYLLABLE_LAST = '힣';
+    private static final int JUNGSEONG_COUNT = 21;
+    private static final int JONGSEONG_COUNT = 28;
+
+    private static final char COMPAT_FIRST = 'ㄱ';
+    private static final char COMPAT_LAST_CONSONANT = 'ㅎ';
+    private static final char COMPAT_FIRST_VOWEL = 'ㅏ';
+    private static final char COMPAT_LAST = 'ㅣ';
+
+    // 초성 19자 (음절 인덱스 순)
+    private static final String CHOSEONG = "ㄱㄲㄴㄷㄸㄹㅁㅂㅃㅅㅆㅇㅈㅉㅊㅋㅌㅍㅎ";
+
+    // 중성 21자의 기본 자모 분해 (음절 인덱스 순, 호환 자모 ㅏ-ㅣ와 같은 순서)
+    private static final String[] JUNGSEONG = {
+            "ㅏ", "ㅐ", "ㅑ", "ㅒ", "ㅓ", "ㅔ", "ㅕ", "ㅖ", "ㅗ", "ㅗㅏ", "ㅗㅐ", "ㅗㅣ", "ㅛ",
+            "ㅜ", "ㅜㅓ", "ㅜㅔ", "ㅜㅣ", "ㅠ", "ㅡ", "ㅡㅣ", "ㅣ"
+    };
+
+    // 종성 28자(0은 받침 없음)의 호환 자모와 기본 자모 분해
+    private static final String JONGSEONG = " ㄱㄲㄳㄴㄵㄶㄷㄹㄺㄻㄼㄽㄾㄿㅀㅁㅂㅄㅅㅆㅇㅈㅊㅋㅌㅍㅎ";
+    private static final String[] JONGSEONG_JAMO = {
+            "", "ㄱ", "ㄲ", "ㄱㅅ", "ㄴ", "ㄴㅈ", "ㄴㅎ", "ㄷ", "ㄹ", "ㄹㄱ", "ㄹㅁ", "ㄹㅂ", "ㄹㅅ", "ㄹㅌ",
+            "ㄹㅍ", "ㄹㅎ", "ㅁ", "ㅂ", "ㅂㅅ", "ㅅ", "ㅆ", "ㅇ", "ㅈ", "ㅊ", "ㅋ", "ㅌ", "ㅍ", "ㅎ"
+    };
+
+    private HangulJamo() {}
+
+    public static boolean isSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST;
+    }
+
+    /**
+     * 호환 자모 여부 (ㄱ-ㅎ, ㅏ-ㅣ)
+     */
+    public static boolean isJamo(char c) {
+        return c >= COMPAT_FIRST && c <= COMPAT_LAST;
+    }
+
+    public static boolean isConsonant(char c) {
+        return c >= COMPAT_FIRST && c <= COMPAT_LAST_CONSONANT;
+    }
+
+    public static boolean containsJamo(CharSequence text) {
+        for (int i = 0; i < text.length(); i++) {
+            if (isJamo(text.charAt(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 조합형 자모(U+1100 블록의 초성/중성/종성)를 호환 자모로 변환
+     * NFC로 음절이 되지 못하고 남은 낱자(예: macOS 입력기의 "ᄒ")를 키보드 입력과 같은 문자로 맞춤
+     */
+    public static String toCompatibilityJamo(String text) {
+        StringBuilder converted = null;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            char compat = compatibilityJamo(c);
+            if (compat != c && converted == null) {
+                converted = new StringBuilder(text.length()).append(text, 0, i);
+            }
+            if (converted != null) {
+                converted.append(compat);
+            }
+        }
+        return converted != null ? converted.toString() : text;
+    }
+
+    /**
+     * 초성 문자열 ("협업툴 개발" → "ㅎㅇㅌ ㄱㅂ", 음절이 아닌 문자는 그대로)
+     */
+    public static String initials(String text) {
+        char[] chars = text.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            char initial = initialOf(chars[i]);
+            if (initial != 0) {
+                chars[i] = initial;
+            }
+        }
+        return new String(chars);
+    }
+
+    /**
+     * 검색용 초성 문자열 (정규화 후 초성 변환, null이면 null)
+     * 엔티티의 초성 컬럼(title_initials 등)에 저장하는 값
+     */
+    public static String searchInitials(String text) {
+        return text == null ? null : initials(normalize(text));
+    }
+
+    /**
+     * 색인/검색 공통 정규화
+     * NFC 정규화(분리된 자모 입력 결합), 음절이 되지 못한 조합형 자모를 호환 자모로 변환,
+     * 소문자 변환, 연속 공백 축약
+     */
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String composed = toCompatibilityJamo(Normalizer.normalize(text, Normalizer.Form.NFC));
+        return composed.toLowerCase(Locale.ROOT).trim().replaceAll("\\s+", " ");
+    }
+
+    /**
+     * 음절의 초성 (자음 자모는 자기 자신, 모음 자모는 0, 한글이 아니면 원래 문자)
+     */
+    public static char initialOf(char c) {
+        if (isSyllable(c)) {
+            return CHOSEONG.charAt((c - SYLLABLE_BASE) / (JUNGSEONG_COUNT * JONGSEONG_COUNT));
+        }
+        if (isJamo(c)) {
+            return isConsonant(c) ? c : 0;
+        }
+        return c;
+    }
+
+    /**
+     * from 위치부터 최대 count자를 기본 자모로 분해 (한글이 아닌 문자는 그대로)
+     */
+    public static String decompose(CharSequence text, int from, int count) {
+        StringBuilder jamo = new StringBuilder(count * 3);
+        int end = Math.min(text.length(), from + count);
+        for (int i = from; i < end; i++) {
+            appendJamo(jamo, text.charAt(i));
+        }
+        return jamo.toString();
+    }
+
+    public static String decompose(CharSequence text) {
+        return decompose(text, 0, text.length());
+    }
+
+    private static void appendJamo(StringBuilder jamo, char c) {
+        if (isSyllable(c)) {
+            int index = c - SYLLABLE_BASE;
+            jamo.append(CHOSEONG.charAt(index / (JUNGSEONG_COUNT * JONGSEONG_COUNT)));
+            jamo.append(JUNGSEONG[(index / JONGSEONG_COUNT) % JUNGSEONG_COUNT]);
+            jamo.append(JONGSEONG_JAMO[index % JONGSEONG_COUNT]);
+        } else if (c >= COMPAT_FIRST_VOWEL && c <= COMPAT_LAST) {
+            jamo.append(JUNGSEONG[c - COMPAT_FIRST_VOWEL]);
+        } else if (isConsonant(c)) {
+            // 겹자음 낱자(ㄳ, ㄺ 등)도 받침과 같은 방식으로 분해
+            int jongseong = JONGSEONG.indexOf(c);
+            jamo.append(jongseong > 0 ? JONGSEONG_JAMO[jongseong] : String.valueOf(c));
+        } else {
+            jamo.append(c);
+        }
+    }
+
+    private static char compatibilityJamo(char c) {
+        if (c >= 'ᄀ' && c <= 'ᄒ') {
+            return CHOSEONG.charAt(c - 'ᄀ');
+        }
+        if (c >= 'ᅡ' && c <= 'ᅵ') {
+            return (char) (COMPAT_FIRST_VOWEL + (c - 'ᅡ'));
+        }
+        if (c >= 'ᆨ' && c <= 'ᇂ') {
+            return JONGSEONG.charAt(c - 'ᆨ' + 1);
+        }
+        return c;
+    }
+}
@@ -0,0 +1,17 @@
+-- 초기 데이터 (개발용)
+-- 기본 관리자 사용자 및 샘플 프로젝트
+
+INSERT INTO users (username, email, display_name, profile_icon, status_message, role, is_active, created_at, updated_at)
+VALUES ('LEES00', 'lees00@example.com', 'LEES00', '😊', '협업툴 개발자를 꿈꿉니다', 'ADMIN', TRUE, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+
+INSERT INTO projects (id, title, category, is_public, has_admin_access, status, description, owner_id, created_at, updated_at)
+VALUES (1, '협업툴 관심력 포트폴리오', '피드', TRUE, TRUE, '진행중', 'Flow 설명회 참석 후기와 협업툴 개발 일지', 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+
+INSERT INTO projects (id, title, category, is_public, has_admin_access, status, description, owner_id, created_at, updated_at)
+VALUES (2, '화상회의 기능 개발', '업무', TRUE, TRUE, '완료', 'WebRTC와 웹소켓을 이용한 화상채팅 구현', 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+
+INSERT INTO projects (id, title, category, is_public, has_admin_access, status, description, owner_id, created_at, updated_at)
+VALUES (3, 'AI 회의요약', '간트차트', TRUE, TRUE, '진행중', 'OpenAI API를 활용한 회의 녹취록 요약 및 업무 분담', 1, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP);
+
+-- 프로젝트 ID 시퀀스를 샘플 데이터 다음 값부터 시작 (pooled-lo: 시퀀스 값이 할당 구간의 시작)
+ALTER SEQUENCE projects_seq RESTART WITH 4;
@@ -0,0 +1,18 @@
+-- 프로젝트 채팅 메시지 기록 (운영 MySQL 8)
+-- 운영은 ddl-auto: validate 이므로 배포 전에 한 번 적용 (테이블이 없으면 기동 실패)
+--
+-- id는 애플리케이션이 할당하는 시간순 ID (AUTO_INCREMENT/시퀀스 없음)
+-- 추가 전용 기록이고 방/작성자는 ID로만 참조하므로 외래 키를 두지 않음 (일괄 저장 시 잠금/검사 비용 제외)
+
+CREATE TABLE chat_messages (
+    id          BIGINT        NOT NULL,
+    project_id  BIGINT        NOT NULL,
+    sender_id   BIGINT        NOT NULL,
+    sender_name VARCHAR(100)  NULL,
+    content     VARCHAR(2000) NOT NULL,
+    created_at  DATETIME(6)   NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+-- 방별 최신순 기록 조회 (id가 시간 순서를 따름)
+CREATE INDEX idx_chat_messages_project_id ON chat_messages (project_id, id);
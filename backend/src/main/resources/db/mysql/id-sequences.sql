@@ -0,0 +1,44 @@
+-- ID 시퀀스 테이블 (운영 MySQL 8)
+-- MySQL에는 시퀀스가 없어 Hibernate가 @SequenceGenerator를 next_val 컬럼 하나짜리 테이블로 흉내 냄
+-- 운영은 ddl-auto: validate 이므로 배포 전에 한 번 적용 (테이블이 없으면 기동 실패)
+-- 대상 테이블 생성 스크립트를 먼저 적용한 뒤 실행
+--
+-- 초기값은 기존 최대 id + allocationSize (pooled-lo 최적화기는 읽은 값부터 allocationSize개를 메모리에서 할당)
+-- 이미 값이 있는 시퀀스는 건드리지 않으므로 시퀀스가 추가될 때마다 다시 실행해도 됨
+-- allocationSize를 바꾸면 엔티티의 @SequenceGenerator와 이 파일의 더하는 값을 함께 변경
+
+-- 프로젝트 (Project, allocationSize = 50)
+CREATE TABLE IF NOT EXISTS projects_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO projects_seq (next_val)
+SELECT seed.next_val FROM (SELECT COALESCE(MAX(id), 0) + 50 AS next_val FROM projects) seed
+WHERE NOT EXISTS (SELECT 1 FROM projects_seq);
+
+-- 업무 (Task, allocationSize = 50, tasks.sql 적용 후)
+CREATE TABLE IF NOT EXISTS tasks_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO tasks_seq (next_val)
+SELECT seed.next_val FROM (SELECT COALESCE(MAX(id), 0) + 50 AS next_val FROM tasks) seed
+WHERE NOT EXISTS (SELECT 1 FROM tasks_seq);
+
+-- 알림 (Notification, allocationSize = 500, notifications.sql 적용 후)
+CREATE TABLE IF NOT EXISTS notifications_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO notifications_seq (next_val)
+SELECT seed.next_val FROM (SELECT COALESCE(MAX(id), 0) + 500 AS next_val FROM notifications) seed
+WHERE NOT EXISTS (SELECT 1 FROM notifications_seq);
+
+-- 인기 검색어 집계 (SearchQueryStat, allocationSize = 100, search-query-stats.sql 적용 후)
+CREATE TABLE IF NOT EXISTS search_query_stats_seq (
+    next_val BIGINT
+) ENGINE = InnoDB;
+
+INSERT INTO search_query_stats_seq (next_val)
+SELECT seed.next_val FROM (SELECT COALESCE(MAX(id), 0) + 100 AS next_val FROM search_query_stats) seed
+WHERE NOT EXISTS (SELECT 1 FROM search_query_stats_seq);
@@ -0,0 +1,43 @@
+-- 알림함과 프로젝트 구독자 (운영 MySQL 8)
+-- 운영은 ddl-auto: validate 이므로 배포 전에 한 번 적용 (테이블이 없으면 기동 실패)
+-- 적용 후 id-sequences.sql을 다시 실행해 notifications_seq를 생성
+
+-- 수신자/대상은 ID로만 참조 (알림 저장기가 수천 행을 일괄 저장하므로 외래 키 검사를 두지 않음)
+CREATE TABLE notifications (
+    id            BIGINT       NOT NULL,
+    user_id       BIGINT       NOT NULL,
+    type          VARCHAR(30)  NOT NULL,
+    target_id     BIGINT       NOT NULL,
+    actor_id      BIGINT       NULL,
+    title         VARCHAR(255) NOT NULL,
+    message       VARCHAR(500) NOT NULL,
+    event_count   INT          NOT NULL,
+    created_at    DATETIME(6)  NOT NULL,
+    last_event_at DATETIME(6)  NOT NULL,
+    read_at       DATETIME(6)  NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+-- 알림함 최신순 조회
+CREATE INDEX idx_notifications_user_id ON notifications (user_id, id);
+
+-- 읽지 않은 알림 수
+CREATE INDEX idx_notifications_user_read ON notifications (user_id, read_at);
+
+-- 묶을 수 있는 기존 알림 조회 (대상 + 종류 + 수신자)
+CREATE INDEX idx_notifications_target_type_user ON notifications (target_id, type, user_id);
+
+-- 프로젝트 구독자 (프로젝트 삭제 시 ProjectService가 먼저 삭제)
+CREATE TABLE project_watchers (
+    id         BIGINT      NOT NULL AUTO_INCREMENT,
+    project_id BIGINT      NOT NULL,
+    user_id    BIGINT      NOT NULL,
+    created_at DATETIME(6) NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_project_watchers_project_user UNIQUE (project_id, user_id),
+    CONSTRAINT fk_project_watchers_project FOREIGN KEY (project_id) REFERENCES projects (id),
+    CONSTRAINT fk_project_watchers_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+-- 사용자가 구독한 프로젝트 조회
+CREATE INDEX idx_project_watchers_user_id ON project_watchers (user_id);
@@ -0,0 +1,25 @@
+-- 프로젝트 목록 키셋 페이지네이션 인덱스 (운영 MySQL 8)
+-- 운영은 ddl-auto: validate 이므로 배포 전에 한 번 적용 (validate는 인덱스를 확인하지 않아 빠져도 기동은 됨)
+-- 인덱스 이름과 컬럼은 Project 엔티티의 @Table(indexes = ...)와 같아야 함
+--
+-- 목록 쿼리: WHERE [조건 컬럼 = ?] AND (정렬 시각 < ? OR (정렬 시각 = ? AND id < ?))
+--           ORDER BY 정렬 시각 DESC, id DESC LIMIT n
+-- 조건 컬럼 + 정렬 시각 + id 순서여야 정렬 없이 커서 위치부터 n건만 읽음
+
+-- 전체 목록 (GET /api/projects)
+CREATE INDEX idx_projects_created_id ON projects (created_at, id);
+
+-- 공개 프로젝트 (GET /api/projects/public)
+CREATE INDEX idx_projects_public_created_id ON projects (is_public, created_at, id);
+
+-- 사용자의 프로젝트 (GET /api/projects/user/{userId})
+CREATE INDEX idx_projects_owner_created_id ON projects (owner_id, created_at, id);
+
+-- 카테고리별 (GET /api/projects/category/{category})
+CREATE INDEX idx_projects_category_created_id ON projects (category, created_at, id);
+
+-- 상태별 (GET /api/projects/status/{status})
+CREATE INDEX idx_projects_status_created_id ON projects (status, created_at, id);
+
+-- 최근 업데이트 (GET /api/projects/recent)
+CREATE INDEX idx_projects_updated_id ON projects (updated_at, id);
@@ -0,0 +1,14 @@
+-- 프로젝트/업무 일정 컬럼 (운영 MySQL 8, 캘린더/간트차트)
+-- 운영은 ddl-auto: validate 이므로 배포 전에 한 번 적용 (컬럼이 없으면 기동 실패)
+-- tasks.sql 적용 후 실행
+--
+-- 기간 조회는 애플리케이션의 구간 트리(ScheduleService)가 처리하므로 날짜 컬럼 인덱스는 두지 않음
+
+-- 둘 중 하나만 있으면 그 날 하루짜리 일정
+ALTER TABLE projects
+    ADD COLUMN start_date DATE NULL,
+    ADD COLUMN due_date DATE NULL;
+
+-- 시작일 없이 마감일만 있으면 마감일 하루짜리 일정 (due_date는 tasks.sql에서 생성)
+ALTER TABLE tasks
+    ADD COLUMN start_date DATE NULL;
@@ -0,0 +1,20 @@
+-- 검색 FULLTEXT 인덱스 (운영 MySQL 8, app.search.backend=fulltext)
+-- 운영은 ddl-auto: validate 이므로 배포 전에 한 번 적용 (FullTextSearchService가 기동 시 존재 여부 확인)
+--
+-- ngram 파서 서버 설정 (my.cnf, 변경 후 재시작 및 인덱스 재생성 필요)
+--   ngram_token_size = 2           -- app.search.full-text.min-token-length 와 같은 값
+--   innodb_ft_enable_stopword = OFF -- 불용어가 포함된 2글자 토큰이 색인에서 빠지지 않도록
+--
+-- 인덱스의 컬럼 목록은 검색 쿼리의 MATCH(...) 컬럼 목록과 정확히 같아야 함
+
+-- 프로젝트 검색 (제목, 설명)
+ALTER TABLE projects
+    ADD FULLTEXT INDEX ft_projects_title_description (title, description) WITH PARSER ngram;
+
+-- 사용자 검색 (사용자명, 표시명, 이메일)
+ALTER TABLE users
+    ADD FULLTEXT INDEX ft_users_name (username, display_name, email) WITH PARSER ngram;
+
+-- 상태 메시지 검색
+ALTER TABLE users
+    ADD FULLTEXT INDEX ft_users_status_message (status_message) WITH PARSER ngram;
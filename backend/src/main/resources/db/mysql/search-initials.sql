@@ -0,0 +1,29 @@
+-- 초성 검색 컬럼 (운영 MySQL 8)
+-- 엔티티 저장 시 자동 계산되는 프로젝트 제목/설명, 표시명, 상태 메시지의 초성 문자열 ("협업툴" → "ㅎㅇㅌ")
+-- 운영은 ddl-auto: validate 이므로 배포 전에 한 번 적용
+-- 기존 행의 값은 FullTextSearchService가 기동 시 비어 있는 행만 채움 (updated_at은 바꾸지 않음)
+
+ALTER TABLE projects
+    ADD COLUMN title_initials VARCHAR(255) NULL,
+    ADD COLUMN description_initials VARCHAR(1000) NULL;
+
+ALTER TABLE users
+    ADD COLUMN display_name_initials VARCHAR(100) NULL,
+    ADD COLUMN status_message_initials VARCHAR(255) NULL;
+
+-- 초성/입력 중인 음절 검색 후보 조회 (app.search.backend=fulltext, ngram 설정은 search-fulltext-indexes.sql 참고)
+-- 프로젝트는 원문 검색(ft_projects_title_description)과 같이 제목과 설명을 함께 찾음
+ALTER TABLE projects
+    ADD FULLTEXT INDEX ft_projects_initials (title_initials, description_initials) WITH PARSER ngram;
+
+ALTER TABLE users
+    ADD FULLTEXT INDEX ft_users_display_name_initials (display_name_initials) WITH PARSER ngram;
+
+ALTER TABLE users
+    ADD FULLTEXT INDEX ft_users_status_message_initials (status_message_initials) WITH PARSER ngram;
+
+-- 제목 초성 인덱스(ft_projects_title_initials)만 적용했던 DB는 위 projects 문장 대신 아래를 실행
+-- ALTER TABLE projects ADD COLUMN description_initials VARCHAR(1000) NULL;
+-- ALTER TABLE projects DROP INDEX ft_projects_title_initials;
+-- ALTER TABLE projects ADD FULLTEXT INDEX ft_projects_initials (title_initials, description_initials) WITH PARSER ngram;
+-- (설명 초성은 FullTextSearchService가 기동 시 채움)
@@ -0,0 +1,17 @@
+-- 시간대별 인기 검색어 집계 (운영 MySQL 8)
+-- 운영은 ddl-auto: validate 이므로 배포 전에 한 번 적용 (테이블이 없으면 기동 실패)
+-- 적용 후 id-sequences.sql을 다시 실행해 search_query_stats_seq를 생성
+--
+-- 검색어 집계기가 1시간 버킷마다 상위 검색어를 버킷 단위로 교체 저장하고, 기동 시 최근 7일분을 읽음
+
+CREATE TABLE search_query_stats (
+    id           BIGINT       NOT NULL,
+    period_start DATETIME(6)  NOT NULL,
+    query        VARCHAR(100) NOT NULL,
+    query_count  BIGINT       NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_search_query_stats_period_query UNIQUE (period_start, query)
+) ENGINE = InnoDB;
+
+-- 최근 버킷 조회와 오래된 버킷 삭제
+CREATE INDEX idx_search_query_stats_period ON search_query_stats (period_start);
@@ -0,0 +1,25 @@
+-- 상태 메시지 기록 (운영 MySQL 8)
+-- 운영은 ddl-auto: validate 이므로 배포 전에 한 번 적용
+-- 사용자마다 현재 상태 메시지 한 건만 is_active = 1이며, 오래된 기록은 최근 K건만 남기고 정리
+
+-- 기존 스키마에 테이블이 이미 있으면 건너뜀 (컬럼은 그대로)
+CREATE TABLE IF NOT EXISTS status_messages (
+    id         BIGINT       NOT NULL AUTO_INCREMENT,
+    user_id    BIGINT       NOT NULL,
+    icon       VARCHAR(10)  NOT NULL,
+    message    VARCHAR(255) NOT NULL,
+    label      VARCHAR(50)  NULL,
+    is_active  BIT          NULL,
+    created_at DATETIME(6)  NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_status_messages_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+-- 사용자별 기록 (최신순 조회, 오래된 기록 정리)
+CREATE INDEX idx_status_messages_user_id ON status_messages (user_id, id);
+
+-- 여러 사용자의 현재 상태 메시지
+CREATE INDEX idx_status_messages_user_active ON status_messages (user_id, is_active);
+
+-- 상태 메시지가 있는 사용자 (최근 설정순)
+CREATE INDEX idx_status_messages_active_created ON status_messages (is_active, created_at);
@@ -0,0 +1,33 @@
+-- 업무와 프로젝트의 상태별 업무 수 (운영 MySQL 8)
+-- 운영은 ddl-auto: validate 이므로 배포 전에 한 번 적용 (테이블/컬럼이 없으면 기동 실패)
+-- 적용 후 id-sequences.sql을 다시 실행해 tasks_seq를 생성
+
+CREATE TABLE tasks (
+    id          BIGINT        NOT NULL,
+    project_id  BIGINT        NOT NULL,
+    assignee_id BIGINT        NULL,
+    title       VARCHAR(255)  NOT NULL,
+    description VARCHAR(1000) NULL,
+    status      VARCHAR(20)   NOT NULL,
+    due_date    DATE          NULL,
+    created_at  DATETIME(6)   NULL,
+    updated_at  DATETIME(6)   NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_tasks_project FOREIGN KEY (project_id) REFERENCES projects (id),
+    CONSTRAINT fk_tasks_assignee FOREIGN KEY (assignee_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+-- 담당자/프로젝트별 상태 목록 (키셋 페이지네이션: 조건 컬럼 + 생성 시각 + id)
+CREATE INDEX idx_tasks_assignee_status_created_id ON tasks (assignee_id, status, created_at, id);
+CREATE INDEX idx_tasks_project_status_created_id ON tasks (project_id, status, created_at, id);
+
+-- 마감 지난 업무 (상태 + 마감일 범위)
+CREATE INDEX idx_tasks_status_due_id ON tasks (status, due_date, id);
+CREATE INDEX idx_tasks_assignee_status_due_id ON tasks (assignee_id, status, due_date, id);
+
+-- 상태별 업무 수 (비정규화, ProjectRepository.adjustTaskCounts로만 증감)
+-- 기존 프로젝트는 업무가 없으므로 기본값 0이 곧 정확한 값
+ALTER TABLE projects
+    ADD COLUMN task_scheduled_count INT NOT NULL DEFAULT 0,
+    ADD COLUMN task_in_progress_count INT NOT NULL DEFAULT 0,
+    ADD COLUMN task_completed_count INT NOT NULL DEFAULT 0;
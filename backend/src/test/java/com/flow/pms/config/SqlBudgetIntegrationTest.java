@@ -0,0 +1,150 @@
+package com.flow.pms.config;
+
+import com.flow.pms.dto.ProjectDto;
+import com.flow.pms.repository.ProjectRepository;
+import com.flow.pms.service.sql.SqlBudget;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * SQL 예산(@SqlBudget) 통합 테스트 (test 프로필: app.sql-monitor.fail-on-budget-exceeded = true)
+ * 프로젝트마다 단건 조회를 반복하는 N+1 API는 예산을 넘는 SQL 실행 전에 실패하고,
+ * 한 번에 조회하는 API와 실제 목록 API는 예산 안에서 성공하는지 확인
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@Import(SqlBudgetIntegrationTest.SqlBudgetProbeController.class)
+class SqlBudgetIntegrationTest {
+
+    private static final String PROBE_PATH = "/api/test/sql-budget";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    @DisplayName("N+1 조회로 예산을 넘으면 요청이 실패하고 초과 지표가 증가함")
+    void nPlusOneOverBudgetFails() throws Exception {
+        double exceededBefore = budgetExceededCount(PROBE_PATH + "/n-plus-one");
+
+        mockMvc.perform(get(PROBE_PATH + "/n-plus-one"))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value(containsString("SQL 예산을 초과했습니다")));
+
+        assertThat(budgetExceededCount(PROBE_PATH + "/n-plus-one")).isEqualTo(exceededBefore + 1);
+    }
+
+    @Test
+    @DisplayName("한 번에 조회하면 예산 안에서 성공함")
+    void batchedQueryWithinBudgetSucceeds() throws Exception {
+        mockMvc.perform(get(PROBE_PATH + "/batched"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.count").value(3));
+
+        assertThat(budgetExceededCount(PROBE_PATH + "/batched")).isZero();
+    }
+
+    @Test
+    @DisplayName("프로젝트 목록 API는 예산 안에서 성공함")
+    void projectListEndpointStaysWithinBudget() throws Exception {
+        mockMvc.perform(get("/api/projects").param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.success").value(true))
+                .andExpect(jsonPath("$.hasNext").value(true));
+
+        assertThat(budgetExceededCount("/api/projects")).isZero();
+    }
+
+    private double budgetExceededCount(String uri) {
+        Counter counter = meterRegistry.find("sql.budget.exceeded").tag("method", "GET").tag("uri", uri).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    /**
+     * 예산 확인용 API (data.sql의 샘플 프로젝트 3건 사용)
+     */
+    @RestController
+    @RequestMapping(PROBE_PATH)
+    static class SqlBudgetProbeController {
+
+        private final ProjectRepository projectRepository;
+
+        SqlBudgetProbeController(ProjectRepository projectRepository) {
+            this.projectRepository = projectRepository;
+        }
+
+        // 목록 1건 + 프로젝트마다 단건 조회 (N+1)
+        @SqlBudget(2)
+        @GetMapping("/n-plus-one")
+        public ResponseEntity<Map<String, Object>> nPlusOne() {
+            try {
+                List<ProjectDto> projects = new ArrayList<>();
+                for (ProjectDto project : projectRepository.findIndexBatch(0L, PageRequest.of(0, 100))) {
+                    projectRepository.findDtoById(project.getId()).ifPresent(projects::add);
+                }
+                return ok(projects);
+            } catch (Exception e) {
+                return error(e);
+            }
+        }
+
+        // 목록 1건 + ID 목록으로 한 번에 조회
+        @SqlBudget(2)
+        @GetMapping("/batched")
+        public ResponseEntity<Map<String, Object>> batched() {
+            try {
+                List<Long> ids = projectRepository.findIndexBatch(0L, PageRequest.of(0, 100)).stream()
+                        .map(ProjectDto::getId)
+                        .toList();
+                return ok(projectRepository.findDtosByIdIn(ids));
+            } catch (Exception e) {
+                return error(e);
+            }
+        }
+
+        private static ResponseEntity<Map<String, Object>> ok(List<ProjectDto> projects) {
+            Map<String, Object> response = new HashMap<>();
+            response.put("success", true);
+            response.put("data", projects);
+            response.put("count", projects.size());
+            return ResponseEntity.ok(response);
+        }
+
+        private static ResponseEntity<Map<String, Object>> error(Exception e) {
+            Map<String, Object> errorResponse = new HashMap<>();
+            errorResponse.put("success", false);
+            errorResponse.put("message", e.getMessage());
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(errorResponse);
+        }
+    }
+}
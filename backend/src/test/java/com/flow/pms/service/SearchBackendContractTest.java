@@ -0,0 +1,346 @@
+package com.flow.pms.service;
+
+import com.flow.pms.config.SearchProperties;
+import com.flow.pms.dto.ProjectDto;
+import com.flow.pms.dto.UserDto;
+import com.flow.pms.entity.Project;
+import com.flow.pms.entity.User;
+import com.flow.pms.repository.ProjectRepository;
+import com.flow.pms.repository.UserRepository;
+import com.flow.pms.service.search.ScoredHit;
+import com.flow.pms.service.search.SearchBackend;
+import com.flow.pms.service.search.SearchCursor;
+import com.flow.pms.service.search.TopHits;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import javax.sql.DataSource;
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.AdditionalAnswers.delegatesTo;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 검색 구현(SearchBackend) 공통 동작 테스트
+ * 인메모리 역색인(SearchIndexService)과 FULLTEXT 검색(FullTextSearchService)이 같은 데이터에서
+ * 같은 결과와 순서를 돌려주는지 확인
+ *
+ * MATCH ... AGAINST(ngram 파서)는 MySQL에서만 실행되므로 운영과 같은 서버 설정의 MySQL 8 컨테이너 사용
+ * - 테이블은 Hibernate가 엔티티로 생성하고 db/mysql의 검색 스크립트(FULLTEXT 인덱스, 초성 컬럼)를 그대로 적용
+ * - InnoDB FULLTEXT는 커밋된 행만 찾으므로 테스트 데이터는 테스트 트랜잭션 없이 저장
+ * Docker가 없는 환경에서는 건너뜀
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SearchBackendContractTest {
+
+    // 운영 my.cnf와 같은 ngram 설정 (search-fulltext-indexes.sql 참고)
+    @Container
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>(DockerImageName.parse("mysql:8.0"))
+            .withCommand("--ngram_token_size=2", "--innodb_ft_enable_stopword=OFF",
+                    "--character-set-server=utf8mb4", "--collation-server=utf8mb4_0900_ai_ci");
+
+    private static final SearchCursor FIRST = SearchCursor.first(0, Instant.parse("2024-01-01T00:00:00Z"));
+
+    @DynamicPropertySource
+    static void mysqlProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+        registry.add("spring.datasource.driver-class-name", MYSQL::getDriverClassName);
+        registry.add("spring.datasource.username", MYSQL::getUsername);
+        registry.add("spring.datasource.password", MYSQL::getPassword);
+        registry.add("spring.jpa.database-platform", () -> "org.hibernate.dialect.MySQL8Dialect");
+        // H2용 data.sql 대신 아래 테스트 데이터만 사용
+        registry.add("spring.sql.init.mode", () -> "never");
+    }
+
+    @Autowired
+    private ProjectRepository projectRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private SearchProperties searchProperties;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private SearchBackend memoryBackend;
+    private FullTextSearchService fullTextBackend;
+
+    @BeforeAll
+    void setUp() {
+        applySearchScripts();
+
+        User kim = userRepository.save(user("kim", "김민수", "kim@flow.team", "회의 중"));
+        userRepository.save(user("lee", "이서연", "lee@flow.team", "휴가"));
+        userRepository.save(user("park", "박지훈", "park@example.com", null));
+
+        // 생성일 최신순 정렬을 확인하도록 한 건씩 저장 (생성 시각 = 저장 순서)
+        projectRepository.save(project(kim, "협업툴 개발", "팀 협업을 위한 도구"));
+        projectRepository.save(project(kim, "AI 회의요약", "OpenAI API를 활용한 회의 요약"));
+        projectRepository.save(project(kim, "모바일 앱 리뉴얼", "협업 기능 개선"));
+        projectRepository.save(project(kim, "Go 서버 마이그레이션", "레거시 API 이전"));
+        projectRepository.save(project(kim, "디자인 시스템", null));
+
+        SearchIndexService memory = new SearchIndexService(projectRepository, userRepository,
+                transactionManager, searchProperties);
+        memory.rebuild();
+        memoryBackend = memory;
+
+        fullTextBackend = fullTextBackend(projectRepository, userRepository);
+        // 스크립트의 인덱스 이름이 검색 쿼리에서 쓰는 인덱스와 같은지 확인 (없으면 예외)
+        fullTextBackend.verifyIndexes();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"memory", "fulltext"})
+    @DisplayName("부분 문자열 검색은 제목과 설명에서 찾고 생성일 최신순으로 정렬")
+    void substringMatchesTitleOrDescriptionNewestFirst(String name) {
+        TopHits<ProjectDto> hits = backend(name).searchProjects("협업", 10);
+
+        assertThat(projectTitles(hits)).containsExactly("모바일 앱 리뉴얼", "협업툴 개발");
+        assertThat(hits.getTotalCount()).isEqualTo(2);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"memory", "fulltext"})
+    @DisplayName("여러 단어 검색어는 공백을 정규화한 구문 전체로 찾고 대소문자를 구분하지 않음")
+    void multiWordQueryMatchesNormalizedPhraseIgnoringCase(String name) {
+        SearchBackend backend = backend(name);
+
+        assertThat(projectTitles(backend.searchProjects("  OPENAI   api ", 10))).containsExactly("AI 회의요약");
+        assertThat(projectTitles(backend.searchProjects("API", 10)))
+                .containsExactly("Go 서버 마이그레이션", "AI 회의요약");
+        // 두 단어가 모두 있어도 이어진 구문이 아니면 일치하지 않음 (FULLTEXT 후보를 원문으로 다시 검증)
+        assertThat(projectTitles(backend.searchProjects("api 회의", 10))).isEmpty();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"memory", "fulltext"})
+    @DisplayName("ngram 토큰보다 짧은 단어도 찾음")
+    void shortWordsAreFound(String name) {
+        SearchBackend backend = backend(name);
+
+        assertThat(projectTitles(backend.searchProjects("앱", 10))).containsExactly("모바일 앱 리뉴얼");
+        assertThat(projectTitles(backend.searchProjects("G", 10))).containsExactly("Go 서버 마이그레이션");
+        assertThat(usernames(backend.searchUsers("박", 10))).containsExactly("park");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"memory", "fulltext"})
+    @DisplayName("초성과 입력 중인 음절로 찾음")
+    void hangulInitialsAndPartialSyllables(String name) {
+        SearchBackend backend = backend(name);
+
+        assertThat(projectTitles(backend.searchProjects("ㅎㅇㅌ", 10))).containsExactly("협업툴 개발");
+        assertThat(projectTitles(backend.searchProjects("모바ㅇ", 10))).containsExactly("모바일 앱 리뉴얼");
+        assertThat(projectTitles(backend.searchProjects("회ㅇ", 10))).containsExactly("AI 회의요약");
+        assertThat(projectTitles(backend.searchProjects("ai ㅎㅇ", 10))).containsExactly("AI 회의요약");
+        assertThat(usernames(backend.searchUsers("ㄱㅁㅅ", 10))).containsExactly("kim");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"memory", "fulltext"})
+    @DisplayName("프로젝트 설명도 초성과 입력 중인 음절로 찾음")
+    void hangulInitialsMatchDescriptions(String name) {
+        SearchBackend backend = backend(name);
+
+        // "레거시 API 이전", "팀 협업을 위한 도구"
+        assertThat(projectTitles(backend.searchProjects("ㄹㄱㅅ", 10))).containsExactly("Go 서버 마이그레이션");
+        assertThat(projectTitles(backend.searchProjects("레거ㅅ", 10))).containsExactly("Go 서버 마이그레이션");
+        assertThat(projectTitles(backend.searchProjects("ㅇㅎ ㄷㄱ", 10))).containsExactly("협업툴 개발");
+        // 설명이 없는 프로젝트는 제목 초성으로만 찾음
+        assertThat(projectTitles(backend.searchProjects("ㅅㅅㅌ", 10))).containsExactly("디자인 시스템");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"memory", "fulltext"})
+    @DisplayName("일치하는 문서가 없거나 검색어가 비어 있으면 빈 결과")
+    void noMatchOrBlankQueryReturnsEmpty(String name) {
+        SearchBackend backend = backend(name);
+
+        assertThat(backend.searchProjects("없는검색어", 10).getTotalCount()).isZero();
+        assertThat(backend.searchProjects("ㅋㅋㅋ", 10).getTotalCount()).isZero();
+        assertThat(backend.searchProjects("   ", 10).getHits()).isEmpty();
+        assertThat(backend.searchUsers("없는사용자", 10).getTotalCount()).isZero();
+        assertThat(backend.rankProjects("없는검색어", project -> true, project -> 1.0, FIRST, 10).getHits()).isEmpty();
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"memory", "fulltext"})
+    @DisplayName("사용자는 사용자명, 표시명, 이메일에서 찾고 표시명순으로 정렬")
+    void usersMatchNameOrEmailOrderedByDisplayName(String name) {
+        SearchBackend backend = backend(name);
+
+        assertThat(usernames(backend.searchUsers("flow.team", 10))).containsExactly("kim", "lee");
+        assertThat(usernames(backend.searchUsers("PARK", 10))).containsExactly("park");
+        assertThat(usernames(backend.searchStatusMessages("회의", 10))).containsExactly("kim");
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"memory", "fulltext"})
+    @DisplayName("결과 수 제한은 전체 일치 건수를 바꾸지 않음")
+    void limitKeepsTotalCount(String name) {
+        TopHits<ProjectDto> hits = backend(name).searchProjects("협업", 1);
+
+        assertThat(projectTitles(hits)).containsExactly("모바일 앱 리뉴얼");
+        assertThat(hits.getTotalCount()).isEqualTo(2);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @ValueSource(strings = {"memory", "fulltext"})
+    @DisplayName("관련도 순위 검색은 같은 문서를 찾고 제목 일치를 앞에 둠")
+    void rankingFindsSameDocumentsTitleFirst(String name) {
+        SearchBackend backend = backend(name);
+
+        TopHits<ScoredHit<ProjectDto>> ranked =
+                backend.rankProjects("협업", project -> true, project -> 1.0, FIRST, 10);
+
+        assertThat(ranked.getHits()).extracting(hit -> hit.getPayload().getTitle())
+                .containsExactly("협업툴 개발", "모바일 앱 리뉴얼");
+        assertThat(ranked.getHits()).allSatisfy(hit -> assertThat(hit.getScore()).isPositive());
+        assertThat(backend.rankUsers("ㄱㅁㅅ", FIRST, 10).getHits())
+                .extracting(hit -> hit.getPayload().getUsername()).containsExactly("kim");
+    }
+
+    @Test
+    @DisplayName("fulltext: 토큰 길이 이상인 단어는 MATCH로 후보를 찾음")
+    void fullTextUsesMatchForLongWords() {
+        ProjectRepository projects = mock(ProjectRepository.class, delegatesTo(projectRepository));
+        SearchBackend backend = fullTextBackend(projects, userRepository);
+
+        assertThat(projectTitles(backend.searchProjects("협업 개발", 10))).containsExactly("협업툴 개발");
+        backend.rankProjects("협업", project -> true, project -> 1.0, FIRST, 10);
+
+        verify(projects).findIdsByFullText(eq("+\"협업\" +\"개발\""), anyInt());
+        verify(projects).findIdsByFullTextRelevance(eq("+\"협업\""), anyInt());
+        verify(projects, never()).searchByTitleOrDescription(anyString(), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("fulltext: 토큰보다 짧은 단어가 있으면 LIKE로 대체")
+    void fullTextFallsBackToLikeForShortWords() {
+        ProjectRepository projects = mock(ProjectRepository.class, delegatesTo(projectRepository));
+        UserRepository users = mock(UserRepository.class, delegatesTo(userRepository));
+        SearchBackend backend = fullTextBackend(projects, users);
+
+        backend.searchProjects("앱", 10);
+        backend.searchUsers("박", 10);
+
+        verify(projects).searchByTitleOrDescription(eq("앱"), any(Pageable.class));
+        verify(users).searchUsers(eq("박"), any(Pageable.class));
+        verify(projects, never()).findIdsByFullText(anyString(), anyInt());
+        verify(users, never()).findIdsByNameFullText(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("fulltext: 초성 검색은 초성 컬럼으로 후보를 찾음")
+    void fullTextUsesInitialsColumns() {
+        ProjectRepository projects = mock(ProjectRepository.class, delegatesTo(projectRepository));
+        SearchBackend backend = fullTextBackend(projects, userRepository);
+
+        backend.searchProjects("ㅎㅇㅌ", 10);
+        backend.searchProjects("ㅎ", 10);
+
+        verify(projects).findIdsByInitialsFullText(eq("+\"ㅎㅇㅌ\""), anyInt());
+        verify(projects).findIdsByInitialsContaining(eq("ㅎ"), any(Pageable.class));
+        verify(projects, never()).findIdsByFullText(anyString(), anyInt());
+    }
+
+    @Test
+    @DisplayName("fulltext: 초성 컬럼이 비어 있는 기존 행은 기동 시 보정 후 초성으로 찾음")
+    void fullTextBackfillsMissingInitials() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        // 초성 컬럼 추가 이전에 저장된 행
+        jdbcTemplate.update("UPDATE projects SET title_initials = NULL, description_initials = NULL " +
+                "WHERE title = 'Go 서버 마이그레이션'");
+        assertThat(projectTitles(fullTextBackend.searchProjects("ㄹㄱㅅ", 10))).isEmpty();
+
+        fullTextBackend.backfillInitials();
+
+        assertThat(projectTitles(fullTextBackend.searchProjects("ㄹㄱㅅ", 10))).containsExactly("Go 서버 마이그레이션");
+        assertThat(projectTitles(fullTextBackend.searchProjects("ㅁㅇㄱㄹㅇㅅ", 10)))
+                .containsExactly("Go 서버 마이그레이션");
+    }
+
+    /**
+     * 운영 배포와 같은 순서로 검색 스크립트 적용
+     * 초성 컬럼은 search-initials.sql이 추가하므로 Hibernate가 엔티티로 만든 컬럼을 먼저 지움
+     */
+    private void applySearchScripts() {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("ALTER TABLE projects DROP COLUMN title_initials, DROP COLUMN description_initials");
+        jdbcTemplate.execute("ALTER TABLE users DROP COLUMN display_name_initials, DROP COLUMN status_message_initials");
+
+        ResourceDatabasePopulator populator = new ResourceDatabasePopulator(
+                new ClassPathResource("db/mysql/search-fulltext-indexes.sql"),
+                new ClassPathResource("db/mysql/search-initials.sql"));
+        populator.setSqlScriptEncoding("UTF-8");
+        populator.execute(dataSource);
+    }
+
+    private SearchBackend backend(String name) {
+        return "memory".equals(name) ? memoryBackend : fullTextBackend;
+    }
+
+    private FullTextSearchService fullTextBackend(ProjectRepository projects, UserRepository users) {
+        return new FullTextSearchService(projects, users, entityManager, transactionManager, searchProperties);
+    }
+
+    private static List<String> projectTitles(TopHits<ProjectDto> hits) {
+        return hits.getHits().stream().map(ProjectDto::getTitle).toList();
+    }
+
+    private static List<String> usernames(TopHits<UserDto> hits) {
+        return hits.getHits().stream().map(UserDto::getUsername).toList();
+    }
+
+    private static Project project(User owner, String title, String description) {
+        Project project = new Project(title, "기타", true, true);
+        project.setDescription(description);
+        project.setOwner(owner);
+        return project;
+    }
+
+    private static User user(String username, String displayName, String email, String statusMessage) {
+        User user = new User(username, email, displayName);
+        user.setStatusMessage(statusMessage);
+        return user;
+    }
+}
@@ -0,0 +1,66 @@
+package com.flow.pms.benchmark;
+
+import com.flow.pms.dto.ProjectDto;
+import com.flow.pms.dto.UserDto;
+import com.flow.pms.entity.Project;
+import com.flow.pms.entity.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 엔티티 → DTO 매핑 벤치마크
+ * 목록 응답 한 번 분량(1000건)의 ProjectDto/UserDto 생성 비용과 할당량 측정
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DtoMappingBenchmark {
+
+    private static final int BATCH = 1000;
+
+    private List<Project> projects;
+    private List<User> users;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticData data = new SyntheticData();
+        users = data.users(BATCH, BATCH * 5);
+        projects = data.projects(BATCH).subList(0, BATCH);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void projectDto(Blackhole blackhole) {
+        for (Project project : projects) {
+            blackhole.consume(new ProjectDto(project));
+        }
+    }
+
+    /**
+     * 소유 프로젝트 수 계산 포함
+     */
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void userDto(Blackhole blackhole) {
+        for (User user : users) {
+            blackhole.consume(new UserDto(user));
+        }
+    }
+}
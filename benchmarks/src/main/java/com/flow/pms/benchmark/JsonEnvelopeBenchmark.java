@@ -0,0 +1,89 @@
+package com.flow.pms.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.flow.pms.dto.ProjectDto;
+import com.flow.pms.dto.SearchResultDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러 응답 JSON 직렬화 벤치마크
+ * 컨트롤러와 같은 Map<String, Object> 응답 구조를 애플리케이션과 같은 Jackson 설정으로 직렬화
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JsonEnvelopeBenchmark {
+
+    @Param({"20", "100"})
+    private int pageSize;
+
+    private ObjectMapper objectMapper;
+    private Map<String, Object> projectListResponse;
+    private Map<String, Object> searchResponse;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // application.yml의 spring.jackson 설정과 동일
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .timeZone(TimeZone.getTimeZone("Asia/Seoul"))
+                .build();
+
+        List<ProjectDto> projects = new SyntheticData().projectDtos(pageSize);
+        projectListResponse = new HashMap<>();
+        projectListResponse.put("success", true);
+        projectListResponse.put("data", projects);
+        projectListResponse.put("count", projects.size());
+        projectListResponse.put("nextCursor", "Q1JFQVRFRF9BVHwyMDI1LTAxLTAxVDA5OjAwfDEwMA");
+        projectListResponse.put("hasNext", true);
+        projectListResponse.put("message", "프로젝트 목록을 성공적으로 조회했습니다.");
+
+        List<SearchResultDto> results = new ArrayList<>(projects.size());
+        for (ProjectDto project : projects) {
+            results.add(new SearchResultDto("프로젝트", project.getTitle(), project.getCategory(), project.getId()));
+        }
+        searchResponse = new HashMap<>();
+        searchResponse.put("success", true);
+        searchResponse.put("data", results);
+        searchResponse.put("count", results.size());
+        searchResponse.put("totalCount", results.size() * 10);
+        searchResponse.put("nextCursor", null);
+        searchResponse.put("hasNext", false);
+        searchResponse.put("partial", false);
+        searchResponse.put("query", "협업툴");
+        searchResponse.put("message", "통합 검색이 완료되었습니다.");
+    }
+
+    @Benchmark
+    public byte[] projectList() throws Exception {
+        return objectMapper.writeValueAsBytes(projectListResponse);
+    }
+
+    @Benchmark
+    public byte[] searchResults() throws Exception {
+        return objectMapper.writeValueAsBytes(searchResponse);
+    }
+}
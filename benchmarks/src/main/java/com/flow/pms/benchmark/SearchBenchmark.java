@@ -0,0 +1,73 @@
+package com.flow.pms.benchmark;
+
+import com.flow.pms.dto.SearchResultDto;
+import com.flow.pms.service.search.SearchPage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 통합 검색 벤치마크
+ * 합성 프로젝트 10만/100만 건 규모에서 SearchService.searchAll 한 페이지 응답 시간 측정
+ * 100만 건은 인덱스 구축에 수 GB 힙이 필요하므로 포크 JVM 힙을 크게 잡음
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx8g"})
+public class SearchBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    private int projectCount;
+
+    @Param({"20"})
+    private int pageSize;
+
+    private SearchFixture fixture;
+    private String[] queries;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        SyntheticData data = new SyntheticData();
+        fixture = new SearchFixture(data.projectDtos(projectCount),
+                data.userDtos(SyntheticData.userCountFor(projectCount)));
+        queries = data.queries(64);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        fixture.close();
+    }
+
+    /**
+     * 검색어를 돌려가며 첫 페이지 조회
+     */
+    @Benchmark
+    public SearchPage<SearchResultDto> searchAll() {
+        String query = queries[next++ & (queries.length - 1)];
+        return fixture.getSearchService().searchAll(query, null, pageSize);
+    }
+
+    /**
+     * 2글자 이상 복합 검색어 (포스팅 교집합 경로)
+     */
+    @Benchmark
+    public SearchPage<SearchResultDto> searchAllPhrase() {
+        return fixture.getSearchService().searchAll("협업툴 화상회의", null, pageSize);
+    }
+}
@@ -0,0 +1,117 @@
+package com.flow.pms.benchmark;
+
+import com.flow.pms.config.SearchConfig;
+import com.flow.pms.config.SearchProperties;
+import com.flow.pms.dto.ProjectDto;
+import com.flow.pms.dto.UserDto;
+import com.flow.pms.repository.ProjectRepository;
+import com.flow.pms.repository.UserRepository;
+import com.flow.pms.service.SearchFanOutExecutor;
+import com.flow.pms.service.SearchIndexService;
+import com.flow.pms.service.SearchQueryLog;
+import com.flow.pms.service.SearchResultCache;
+import com.flow.pms.service.SearchService;
+import com.flow.pms.service.search.SearchSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 검색 벤치마크 구성
+ * DB 없이 합성 데이터로 검색 인덱스를 구축한 SearchService를 조립
+ * 인덱스 구축은 실제와 같이 rebuild()의 ID 배치 조회 경로를 거침
+ */
+public class SearchFixture implements AutoCloseable {
+
+    // 대용량 인덱스에서도 출처가 시간 초과로 빠지지 않도록 충분히 긴 제한 시간
+    private static final long FAN_OUT_TIMEOUT_MS = 60_000;
+
+    private final SearchService searchService;
+    private final SearchIndexService searchIndexService;
+    private final AsyncTaskExecutor executor;
+
+    public SearchFixture(List<ProjectDto> projects, List<UserDto> users) {
+        SearchProperties searchProperties = new SearchProperties();
+        Map<SearchSource, Long> timeouts = new EnumMap<>(SearchSource.class);
+        for (SearchSource source : SearchSource.values()) {
+            timeouts.put(source, FAN_OUT_TIMEOUT_MS);
+        }
+        searchProperties.getFanOut().setTimeoutsMs(timeouts);
+        // 같은 검색어를 반복 측정하므로 결과 캐시는 끔
+        searchProperties.getResultCache().setEnabled(false);
+
+        this.searchIndexService = new SearchIndexService(projectRepository(projects), userRepository(users),
+                noOpTransactionManager(), searchProperties);
+        this.searchIndexService.rebuild();
+
+        this.executor = new SearchConfig().searchExecutor(searchProperties);
+        this.searchService = new SearchService(searchIndexService,
+                new SearchFanOutExecutor(executor, searchProperties, new SimpleMeterRegistry()), new SearchQueryLog(searchProperties),
+                new SearchResultCache(searchProperties), searchProperties,
+                "https://velog.io/@lco2009d");
+    }
+
+    public SearchService getSearchService() {
+        return searchService;
+    }
+
+    public SearchIndexService getSearchIndexService() {
+        return searchIndexService;
+    }
+
+    @Override
+    public void close() {
+        if (executor instanceof ThreadPoolTaskExecutor threadPool) {
+            threadPool.shutdown();
+        }
+    }
+
+    // 인덱스 구축에 쓰이는 findIndexBatch만 구현 (ID가 1부터 연속이라는 전제)
+    private static ProjectRepository projectRepository(List<ProjectDto> projects) {
+        return repository(ProjectRepository.class, projects);
+    }
+
+    private static UserRepository userRepository(List<UserDto> users) {
+        return repository(UserRepository.class, users);
+    }
+
+    private static <R> R repository(Class<R> type, List<?> rows) {
+        Object proxy = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (target, method, args) -> {
+            switch (method.getName()) {
+                case "findIndexBatch" -> {
+                    int from = Math.min(rows.size(), ((Long) args[0]).intValue());
+                    int to = Math.min(rows.size(), from + ((Pageable) args[1]).getPageSize());
+                    return new ArrayList<>(rows.subList(from, to));
+                }
+                case "toString" -> {
+                    return "InMemory" + type.getSimpleName();
+                }
+                case "hashCode" -> {
+                    return System.identityHashCode(target);
+                }
+                case "equals" -> {
+                    return target == args[0];
+                }
+                default -> throw new UnsupportedOperationException(method.getName());
+            }
+        });
+        return type.cast(proxy);
+    }
+
+    private static PlatformTransactionManager noOpTransactionManager() {
+        return (PlatformTransactionManager) Proxy.newProxyInstance(
+                PlatformTransactionManager.class.getClassLoader(),
+                new Class<?>[] {PlatformTransactionManager.class},
+                (target, method, args) -> "getTransaction".equals(method.getName())
+                        ? new SimpleTransactionStatus() : null);
+    }
+}
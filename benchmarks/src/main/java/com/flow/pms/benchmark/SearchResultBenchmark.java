@@ -0,0 +1,43 @@
+package com.flow.pms.benchmark;
+
+import com.flow.pms.dto.SearchResultDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색 결과 DTO 생성 벤치마크
+ * 생성자에서 호출되는 getDefaultIcon의 타입별 분기 비용 포함
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SearchResultBenchmark {
+
+    @Param({"프로젝트", "내 프로젝트", "사용자", "블로그", "기타"})
+    private String type;
+
+    private long id;
+
+    @Benchmark
+    public SearchResultDto projectResult() {
+        return new SearchResultDto(type, "협업툴 화상회의 기능 개발", "업무", ++id);
+    }
+
+    @Benchmark
+    public SearchResultDto menuResult() {
+        return new SearchResultDto(type, "프로젝트 홈", "/projects");
+    }
+}
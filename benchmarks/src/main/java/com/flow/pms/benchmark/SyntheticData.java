@@ -0,0 +1,160 @@
+package com.flow.pms.benchmark;
+
+import com.flow.pms.dto.ProjectDto;
+import com.flow.pms.dto.UserDto;
+import com.flow.pms.entity.Project;
+import com.flow.pms.entity.User;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * 벤치마크용 합성 데이터 생성기
+ * 같은 seed면 항상 같은 데이터를 만들어, 기능 적용 전후 측정 결과를 비교할 수 있음
+ */
+public class SyntheticData {
+
+    public static final long DEFAULT_SEED = 20250101L;
+
+    // 사용자 한 명당 평균 프로젝트 수 (소유자 분포)
+    private static final int PROJECTS_PER_USER = 50;
+
+    private static final String[] WORDS = {
+            "협업툴", "화상회의", "일정", "간트차트", "업무", "분담", "회의록", "요약", "포트폴리오", "피드",
+            "알림", "채팅", "캘린더", "칸반", "보고서", "대시보드", "검색", "모바일", "웹소켓", "배포",
+            "마케팅", "디자인", "리서치", "고객", "온보딩", "결제", "정산", "인사", "채용", "교육",
+            "Flow", "React", "Spring", "WebRTC", "OpenAI", "API", "MySQL", "Kubernetes", "Redis", "Kafka"
+    };
+    private static final String[] CATEGORIES = {"피드", "업무", "간트차트", "캘린더", "파일"};
+    private static final String[] STATUSES = {"진행중", "완료", "보류", "계획"};
+    private static final String[] FAMILY_NAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임"};
+    private static final String[] GIVEN_NAMES = {"민준", "서연", "도윤", "지우", "하준", "서윤", "시우", "하은", "지호", "수아"};
+    private static final String[] PROFILE_ICONS = {"👤", "😀", "🐱", "🚀", "🌱"};
+
+    private final long seed;
+    private final LocalDateTime baseTime = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    public SyntheticData() {
+        this(DEFAULT_SEED);
+    }
+
+    public SyntheticData(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * 프로젝트 수에 맞춘 사용자 수
+     */
+    public static int userCountFor(int projectCount) {
+        return Math.max(10, projectCount / PROJECTS_PER_USER);
+    }
+
+    /**
+     * 조회 쿼리 결과와 같은 형태의 사용자 DTO (ID 1부터 순서대로)
+     */
+    public List<UserDto> userDtos(int count) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<UserDto> users = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            String displayName = pick(random, FAMILY_NAMES) + pick(random, GIVEN_NAMES) + i;
+            LocalDateTime createdAt = baseTime.minusMinutes(random.nextInt(525_600));
+            users.add(new UserDto((long) i, "user" + i, "user" + i + "@example.com", displayName,
+                    pick(random, PROFILE_ICONS), random.nextInt(4) == 0 ? sentence(random, 3, 6) : null,
+                    i == 1 ? "ADMIN" : "USER", true, createdAt, createdAt));
+        }
+        return users;
+    }
+
+    /**
+     * 조회 쿼리 결과와 같은 형태의 프로젝트 DTO (ID 1부터 순서대로, 소유자는 사용자 ID 범위에서 선택)
+     */
+    public List<ProjectDto> projectDtos(int count) {
+        SplittableRandom random = new SplittableRandom(seed + 1);
+        List<UserDto> owners = userDtos(userCountFor(count));
+        List<ProjectDto> projects = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            UserDto owner = owners.get(random.nextInt(owners.size()));
+            LocalDateTime createdAt = baseTime.minusMinutes(random.nextInt(525_600));
+            projects.add(new ProjectDto((long) i, sentence(random, 2, 4), pick(random, CATEGORIES),
+                    random.nextInt(3) != 0, random.nextBoolean(), pick(random, STATUSES),
+                    sentence(random, 6, 12), owner.getId(), owner.getDisplayName(),
+                    createdAt, createdAt.plusMinutes(random.nextInt(43_200))));
+        }
+        return projects;
+    }
+
+    /**
+     * 영속성 컨텍스트 밖의 엔티티 그래프 (사용자마다 소유 프로젝트 목록 포함)
+     */
+    public List<User> users(int userCount, int projectCount) {
+        List<UserDto> userDtos = userDtos(userCount);
+        List<User> users = new ArrayList<>(userCount);
+        for (UserDto dto : userDtos) {
+            User user = new User(dto.getUsername(), dto.getEmail(), dto.getDisplayName());
+            user.setId(dto.getId());
+            user.setProfileIcon(dto.getProfileIcon());
+            user.setStatusMessage(dto.getStatusMessage());
+            user.setRole(dto.getRole());
+            user.setIsActive(dto.getIsActive());
+            user.setCreatedAt(dto.getCreatedAt());
+            user.setUpdatedAt(dto.getUpdatedAt());
+            users.add(user);
+        }
+
+        SplittableRandom random = new SplittableRandom(seed + 2);
+        for (int i = 1; i <= projectCount; i++) {
+            User owner = users.get(random.nextInt(users.size()));
+            Project project = new Project(sentence(random, 2, 4), pick(random, CATEGORIES),
+                    random.nextInt(3) != 0, random.nextBoolean());
+            project.setId((long) i);
+            project.setStatus(pick(random, STATUSES));
+            project.setDescription(sentence(random, 6, 12));
+            project.setOwner(owner);
+            project.setCreatedAt(baseTime.minusMinutes(random.nextInt(525_600)));
+            project.setUpdatedAt(project.getCreatedAt());
+            owner.getProjects().add(project);
+        }
+        return users;
+    }
+
+    /**
+     * 프로젝트 엔티티 목록 (소유자 포함)
+     */
+    public List<Project> projects(int projectCount) {
+        List<Project> projects = new ArrayList<>(projectCount);
+        for (User user : users(userCountFor(projectCount), projectCount)) {
+            projects.addAll(user.getProjects());
+        }
+        return projects;
+    }
+
+    /**
+     * 데이터에 실제로 등장하는 검색어 (단어 사전에서 선택)
+     */
+    public String[] queries(int count) {
+        SplittableRandom random = new SplittableRandom(seed + 3);
+        String[] queries = new String[count];
+        for (int i = 0; i < count; i++) {
+            queries[i] = pick(random, WORDS);
+        }
+        return queries;
+    }
+
+    private static String sentence(SplittableRandom random, int minWords, int maxWords) {
+        int words = minWords + random.nextInt(maxWords - minWords + 1);
+        StringBuilder builder = new StringBuilder();
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                builder.append(' ');
+            }
+            builder.append(pick(random, WORDS));
+        }
+        return builder.toString();
+    }
+
+    private static String pick(SplittableRandom random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
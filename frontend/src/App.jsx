@@ -32,6 +32,8 @@ function App() {
   // Global state
   const [currentUser, setCurrentUser] = useState(null);
   const [projects, setProjects] = useState([]);
+  const [projectsCursor, setProjectsCursor] = useState(null);
+  const [loadingMoreProjects, setLoadingMoreProjects] = useState(false);
   const [loading, setLoading] = useState(true);
   const [showMaintenanceModal, setShowMaintenanceModal] = useState(true);
   const [searchQuery, setSearchQuery] = useState('');
@@ -50,10 +52,11 @@ function App() {
       if (userData.success) {
         setCurrentUser(userData.data);
         
-        // Load user's projects
+        // Load the first page of user's projects (next pages via loadMoreProjects)
         const projectsData = await projectService.getUserProjects(userData.data.id);
         if (projectsData.success) {
           setProjects(projectsData.data);
+          setProjectsCursor(projectsData.nextCursor || null);
         }
       }
     } catch (error) {
@@ -63,6 +66,29 @@ function App() {
     }
   };
 
+  // Load the next page of user's projects using the cursor from the previous page
+  const loadMoreProjects = async () => {
+    if (!currentUser || !projectsCursor || loadingMoreProjects) {
+      return;
+    }
+
+    try {
+      setLoadingMoreProjects(true);
+      const response = await projectService.getUserProjects(currentUser.id, { cursor: projectsCursor });
+      if (response.success) {
+        setProjects(prev => {
+          const loadedIds = new Set(prev.map(project => project.id));
+          return [...prev, ...response.data.filter(project => !loadedIds.has(project.id))];
+        });
+        setProjectsCursor(response.nextCursor || null);
+      }
+    } catch (error) {
+      console.error('프로젝트 추가 조회 실패:', error);
+    } finally {
+      setLoadingMoreProjects(false);
+    }
+  };
+
   // Project management functions
   const createProject = async (projectData) => {
     try {
@@ -146,6 +172,8 @@ function App() {
     // State
     currentUser,
     projects,
+    hasMoreProjects: Boolean(projectsCursor),
+    loadingMoreProjects,
     loading,
     searchQuery,
     
@@ -158,6 +186,7 @@ function App() {
     createProject,
     updateProject,
     deleteProject,
+    loadMoreProjects,
     updateUserStatus,
     initializeApp
   };
@@ -3,18 +3,69 @@ import { Bell, ChevronDown, MoreHorizontal } from 'lucide-react';
 import { useAppContext } from '../../App';
 import { formatDistanceToNow } from 'date-fns';
 import { ko } from 'date-fns/locale';
+import { pushService } from '../../services/pushService';
+
+const PROJECT_EVENT_MESSAGES = {
+  'project.created': '생성되었습니다',
+  'project.updated': '수정되었습니다',
+  'project.deleted': '삭제되었습니다',
+};
 
 const NotificationWidget = ({ projects = [] }) => {
   const { currentUser } = useAppContext();
   const [selectedFilter, setSelectedFilter] = useState('최근 활동');
   const [showFilterDropdown, setShowFilterDropdown] = useState(false);
   const [notifications, setNotifications] = useState([]);
+  const [liveNotifications, setLiveNotifications] = useState([]);
 
   const filters = ['최근 활동', '프로젝트', '언급', '시스템', '모든 알림'];
 
   useEffect(() => {
     generateNotifications();
-  }, [projects, currentUser, selectedFilter]);
+  }, [projects, currentUser, selectedFilter, liveNotifications]);
+
+  // Subscribe to live project changes
+  useEffect(() => {
+    const handlers = {};
+    Object.entries(PROJECT_EVENT_MESSAGES).forEach(([name, action]) => {
+      handlers[name] = (project, event) => {
+        setLiveNotifications(prev => [
+          {
+            id: `live-${event.lastEventId}`,
+            type: 'project',
+            title: '프로젝트 업데이트',
+            message: `프로젝트 "${project.title}"가 ${action}.`,
+            timestamp: new Date(),
+            avatar: '🔔',
+            isRead: false,
+            priority: 'normal'
+          },
+          ...prev
+        ].slice(0, 20));
+      };
+    });
+
+    // Server-side notifications delivered to this user (status changes on watched projects, etc.)
+    handlers['notification.created'] = (notification, event) => {
+      setLiveNotifications(prev => [
+        {
+          id: `live-${event.lastEventId}`,
+          type: notification.type === 'USER_STATUS' ? 'system' : 'project',
+          title: notification.title,
+          message: notification.eventCount > 1
+            ? `${notification.message} (외 ${notification.eventCount - 1}건)`
+            : notification.message,
+          timestamp: new Date(),
+          avatar: '🔔',
+          isRead: false,
+          priority: notification.type === 'PROJECT_STATUS' ? 'high' : 'normal'
+        },
+        ...prev
+      ].slice(0, 20));
+    };
+
+    return pushService.subscribe({ userId: currentUser?.id, topics: ['projects', 'notifications'] }, handlers);
+  }, [currentUser?.id]);
 
   const generateNotifications = () => {
     const mockNotifications = [
@@ -66,6 +117,8 @@ const NotificationWidget = ({ projects = [] }) => {
       }
     });
 
+    mockNotifications.push(...liveNotifications);
+
     // Filter notifications based on selected filter
     let filteredNotifications = mockNotifications;
     if (selectedFilter !== '모든 알림') {
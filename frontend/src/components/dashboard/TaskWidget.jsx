@@ -3,7 +3,7 @@ import { useNavigate } from 'react-router-dom';
 import { ChevronDown, Plus } from 'lucide-react';
 import { useAppContext } from '../../App';
 
-const TaskWidget = ({ projects = [] }) => {
+const TaskWidget = ({ projects = [], hasMore = false, loadingMore = false, onLoadMore }) => {
   const navigate = useNavigate();
   const { currentUser } = useAppContext();
   const [selectedPeriod, setSelectedPeriod] = useState('이번 달');
@@ -24,12 +24,16 @@ const TaskWidget = ({ projects = [] }) => {
   }, [projects, selectedPeriod]);
 
   const calculateTaskStats = () => {
-    // Mock calculation based on projects
+    // Sum the per-status task counts carried on each project (no extra task queries)
+    const sum = (key) => projects.reduce((total, p) => total + (p[key] || 0), 0);
+    const scheduled = sum('taskScheduledCount');
+    const inProgress = sum('taskInProgressCount');
+    const completed = sum('taskCompletedCount');
     const stats = {
-      scheduled: projects.filter(p => p.status === '예정').length,
-      inProgress: projects.filter(p => p.status === '진행중').length,
-      completed: projects.filter(p => p.status === '완료').length,
-      total: projects.length
+      scheduled,
+      inProgress,
+      completed,
+      total: scheduled + inProgress + completed
     };
 
     setTaskStats(stats);
@@ -159,6 +163,17 @@ const TaskWidget = ({ projects = [] }) => {
           />
         ))}
         
+        {/* Load More (next cursor page) */}
+        {hasMore && onLoadMore && (
+          <button
+            className="w-full py-3 text-sm text-purple-600 hover:text-purple-700 hover:bg-purple-50 rounded-xl font-medium transition-colors disabled:opacity-50 disabled:cursor-not-allowed"
+            onClick={onLoadMore}
+            disabled={loadingMore}
+          >
+            {loadingMore ? '불러오는 중...' : '프로젝트 더 보기'}
+          </button>
+        )}
+
         {/* Empty State */}
         {allProjects.length === 0 && (
           <div className="text-center py-12">
@@ -9,7 +9,7 @@ import ChatWidget from '../components/dashboard/ChatWidget';
 
 const DashboardPage = () => {
   const navigate = useNavigate();
-  const { currentUser, projects, updateUserStatus } = useAppContext();
+  const { currentUser, projects, hasMoreProjects, loadingMoreProjects, loadMoreProjects, updateUserStatus } = useAppContext();
   
   // State for user status
   const [showStatusEdit, setShowStatusEdit] = useState(false);
@@ -203,7 +203,12 @@ const DashboardPage = () => {
         {/* Dashboard Widgets Grid */}
         <div className="grid grid-cols-1 lg:grid-cols-2 gap-8">
           {/* Task Widget */}
-          <TaskWidget projects={projects} />
+          <TaskWidget
+            projects={projects}
+            hasMore={hasMoreProjects}
+            loadingMore={loadingMoreProjects}
+            onLoadMore={loadMoreProjects}
+          />
           
           {/* Notification Widget */}
           <NotificationWidget projects={projects} />
@@ -2,7 +2,7 @@ import axios from 'axios';
 import toast from 'react-hot-toast';
 
 // API Base Configuration
-const API_BASE_URL = process.env.REACT_APP_API_URL || 'http://localhost:8080/api';
+export const API_BASE_URL = process.env.REACT_APP_API_URL || 'http://localhost:8080/api';
 
 // Create axios instance with default config
 const api = axios.create({
@@ -253,8 +253,49 @@ export const endpoints = {
     recent: '/projects/recent',
     stats: '/projects/stats',
     changeStatus: (id) => `/projects/${id}/status`,
+    bulk: '/projects/bulk',
+    bulkStatus: '/projects/bulk/status',
   },
   
+  // Tasks
+  tasks: {
+    create: '/tasks',
+    get: (id) => `/tasks/${id}`,
+    update: (id) => `/tasks/${id}`,
+    delete: (id) => `/tasks/${id}`,
+    changeStatus: (id) => `/tasks/${id}/status`,
+    open: (userId) => `/tasks/user/${userId}/open`,
+    projectBoard: (projectId) => `/tasks/project/${projectId}`,
+    projectByStatus: (projectId, status) => `/tasks/project/${projectId}/status/${status}`,
+    overdue: '/tasks/overdue',
+  },
+
+  // Status messages
+  statusMessages: {
+    update: (userId) => `/status-messages/user/${userId}`,
+    history: (userId) => `/status-messages/user/${userId}`,
+    latest: '/status-messages/latest',
+    users: '/status-messages/users',
+  },
+
+  // Notifications
+  notifications: {
+    inbox: (userId) => `/notifications/user/${userId}`,
+    unreadCount: (userId) => `/notifications/user/${userId}/unread-count`,
+    markRead: (id) => `/notifications/${id}/read`,
+    markAllRead: (userId) => `/notifications/user/${userId}/read-all`,
+    watchers: (projectId) => `/notifications/projects/${projectId}/watchers`,
+    stats: '/notifications/stats',
+  },
+
+  // Schedule (calendar / Gantt)
+  schedule: {
+    user: (userId) => `/schedule/user/${userId}`,
+    userGantt: (userId) => `/schedule/user/${userId}/gantt`,
+    project: (projectId) => `/schedule/project/${projectId}`,
+    projectGantt: (projectId) => `/schedule/project/${projectId}/gantt`,
+  },
+
   // Search
   search: {
     all: '/search',
@@ -264,10 +305,29 @@ export const endpoints = {
     forUser: (userId) => `/search/user/${userId}`,
     status: '/search/status',
     popular: '/search/popular',
+    analytics: '/search/analytics',
     stats: '/search/stats',
     suggest: '/search/suggest',
     quick: '/search/quick',
   },
+
+  // Push (Server-Sent Events)
+  push: {
+    stream: '/push/stream',
+    stats: '/push/stats',
+  },
+
+  // Chat
+  chat: {
+    stream: (projectId) => `/chat/rooms/${projectId}/stream`,
+    messages: (projectId) => `/chat/rooms/${projectId}/messages`,
+    stats: '/chat/stats',
+  },
+
+  // Admin
+  admin: {
+    perf: '/admin/perf',
+  },
 };
 
 // Error handling utilities
@@ -1,16 +1,32 @@
 import { apiHelper, endpoints, handleApiError, showSuccessMessage } from './api';
 
+/**
+ * 목록 조회의 커서 페이지 파라미터
+ * 첫 페이지는 cursor 없이 요청하고, 다음 페이지는 응답의 nextCursor를 그대로 전달
+ * (응답: data, count, nextCursor, hasNext)
+ */
+const pageParams = ({ cursor, size } = {}) => {
+  const params = {};
+  if (cursor) {
+    params.cursor = cursor;
+  }
+  if (size) {
+    params.size = size;
+  }
+  return params;
+};
+
 /**
  * 프로젝트 관련 API 서비스
  * 프로젝트 CRUD 및 관련 기능들을 처리
  */
 export const projectService = {
   /**
-   * 모든 프로젝트 조회
+   * 모든 프로젝트 조회 (커서 페이지)
    */
-  getAllProjects: async () => {
+  getAllProjects: async (page = {}) => {
     try {
-      const response = await apiHelper.get(endpoints.projects.list);
+      const response = await apiHelper.get(endpoints.projects.list, pageParams(page));
       return response;
     } catch (error) {
       handleApiError(error, '프로젝트 목록을 불러오는데 실패했습니다.');
@@ -19,11 +35,11 @@ export const projectService = {
   },
 
   /**
-   * 공개 프로젝트만 조회
+   * 공개 프로젝트만 조회 (커서 페이지)
    */
-  getPublicProjects: async () => {
+  getPublicProjects: async (page = {}) => {
     try {
-      const response = await apiHelper.get(endpoints.projects.public);
+      const response = await apiHelper.get(endpoints.projects.public, pageParams(page));
       return response;
     } catch (error) {
       handleApiError(error, '공개 프로젝트 목록을 불러오는데 실패했습니다.');
@@ -45,11 +61,11 @@ export const projectService = {
   },
 
   /**
-   * 사용자의 프로젝트 조회
+   * 사용자의 프로젝트 조회 (커서 페이지)
    */
-  getUserProjects: async (userId) => {
+  getUserProjects: async (userId, page = {}) => {
     try {
-      const response = await apiHelper.get(endpoints.projects.userProjects(userId));
+      const response = await apiHelper.get(endpoints.projects.userProjects(userId), pageParams(page));
       return response;
     } catch (error) {
       handleApiError(error, '사용자 프로젝트를 불러오는데 실패했습니다.');
@@ -136,11 +152,11 @@ export const projectService = {
   },
 
   /**
-   * 카테고리별 프로젝트 조회
+   * 카테고리별 프로젝트 조회 (커서 페이지)
    */
-  getProjectsByCategory: async (category) => {
+  getProjectsByCategory: async (category, page = {}) => {
     try {
-      const response = await apiHelper.get(endpoints.projects.byCategory(category));
+      const response = await apiHelper.get(endpoints.projects.byCategory(category), pageParams(page));
       return response;
     } catch (error) {
       handleApiError(error, `${category} 카테고리 프로젝트를 불러오는데 실패했습니다.`);
@@ -149,11 +165,11 @@ export const projectService = {
   },
 
   /**
-   * 상태별 프로젝트 조회
+   * 상태별 프로젝트 조회 (커서 페이지)
    */
-  getProjectsByStatus: async (status) => {
+  getProjectsByStatus: async (status, page = {}) => {
     try {
-      const response = await apiHelper.get(endpoints.projects.byStatus(status));
+      const response = await apiHelper.get(endpoints.projects.byStatus(status), pageParams(page));
       return response;
     } catch (error) {
       handleApiError(error, `${status} 상태 프로젝트를 불러오는데 실패했습니다.`);
@@ -162,11 +178,11 @@ export const projectService = {
   },
 
   /**
-   * 최근 업데이트된 프로젝트 조회
+   * 최근 업데이트된 프로젝트 조회 (커서 페이지)
    */
-  getRecentlyUpdatedProjects: async (days = 7) => {
+  getRecentlyUpdatedProjects: async (days = 7, page = {}) => {
     try {
-      const response = await apiHelper.get(endpoints.projects.recent, { days });
+      const response = await apiHelper.get(endpoints.projects.recent, { days, ...pageParams(page) });
       return response;
     } catch (error) {
       handleApiError(error, '최근 프로젝트를 불러오는데 실패했습니다.');
@@ -196,6 +212,72 @@ export const projectService = {
     }
   },
 
+  /**
+   * 프로젝트 일괄 생성 (요청 한 번으로 여러 프로젝트 생성)
+   */
+  createProjects: async (projectList, ownerId) => {
+    try {
+      const response = await apiHelper.post(
+        endpoints.projects.bulk,
+        projectList,
+        { params: { ownerId } }
+      );
+
+      if (response.success) {
+        showSuccessMessage(`${response.count}개의 프로젝트가 생성되었습니다.`);
+      }
+
+      return response;
+    } catch (error) {
+      handleApiError(error, '프로젝트 일괄 생성에 실패했습니다.');
+      throw error;
+    }
+  },
+
+  /**
+   * 프로젝트 일괄 업데이트 (각 항목에 id 필요)
+   */
+  updateProjects: async (projectList, userId) => {
+    try {
+      const response = await apiHelper.put(
+        endpoints.projects.bulk,
+        projectList,
+        { params: { userId } }
+      );
+
+      if (response.success) {
+        showSuccessMessage(`${response.count}개의 프로젝트가 업데이트되었습니다.`);
+      }
+
+      return response;
+    } catch (error) {
+      handleApiError(error, '프로젝트 일괄 업데이트에 실패했습니다.');
+      throw error;
+    }
+  },
+
+  /**
+   * 프로젝트 상태 일괄 변경
+   */
+  changeProjectStatuses: async (projectIds, status, userId) => {
+    try {
+      const response = await apiHelper.patch(
+        endpoints.projects.bulkStatus,
+        projectIds,
+        { params: { status, userId } }
+      );
+
+      if (response.success) {
+        showSuccessMessage(`${response.count}개 프로젝트의 상태가 ${status}로 변경되었습니다.`);
+      }
+
+      return response;
+    } catch (error) {
+      handleApiError(error, '프로젝트 상태 일괄 변경에 실패했습니다.');
+      throw error;
+    }
+  },
+
   /**
    * 프로젝트 통계 조회
    */
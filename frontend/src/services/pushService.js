@@ -0,0 +1,44 @@
+import { API_BASE_URL, endpoints } from './api';
+
+/**
+ * 실시간 푸시 서비스 (Server-Sent Events)
+ * 프로젝트/사용자 변경 알림을 구독하며, 끊기면 브라우저가 Last-Event-ID로 자동 재연결
+ */
+export const pushService = {
+  /**
+   * 변경 알림 구독
+   * @param {Object} options - { userId, topics: ['projects', 'users', 'notifications'] }
+   * @param {Object} handlers - 이벤트 이름별 콜백 (예: { 'project.created': (project) => ... })
+   * @returns {Function} 구독 해제 함수
+   */
+  subscribe: ({ userId, topics = [] } = {}, handlers = {}) => {
+    if (typeof EventSource === 'undefined') {
+      return () => {};
+    }
+
+    const params = new URLSearchParams();
+    if (userId) {
+      params.append('userId', userId);
+    }
+    if (topics.length > 0) {
+      params.append('topics', topics.join(','));
+    }
+
+    const query = params.toString();
+    const source = new EventSource(`${API_BASE_URL}${endpoints.push.stream}${query ? `?${query}` : ''}`);
+
+    Object.entries(handlers).forEach(([name, handler]) => {
+      source.addEventListener(name, (event) => {
+        try {
+          handler(JSON.parse(event.data), event);
+        } catch (error) {
+          console.error('푸시 메시지 처리 실패:', error);
+        }
+      });
+    });
+
+    return () => source.close();
+  },
+};
+
+export default pushService;